@@ -0,0 +1,45 @@
+/**
+ * File: 	BenchmarkRunner.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the same options as the JMH
+ * command line, and adds the GC profiler when no profiler is specified, such
+ * that allocation rates are reported together with throughput.<br>
+ * Example: <code>java -jar target/benchmarks.jar KDTree2D -p size=1000</code>
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+		// help and listing options are processed by JMH launcher
+		if (cmdOptions.shouldHelp() || cmdOptions.shouldList()
+				|| cmdOptions.shouldListWithParams()
+				|| cmdOptions.shouldListProfilers()
+				|| cmdOptions.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+		if (cmdOptions.getProfilers().isEmpty())
+			builder.addProfiler(GCProfiler.class);
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * File: 	BenchmarkShapes2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.Random;
+
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Generators of random curves and polygons used as benchmark input. A given
+ * seed always produces the same shape.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public final class BenchmarkShapes2D {
+
+	private BenchmarkShapes2D() {
+	}
+
+	/**
+	 * Creates a star-shaped polygon, with vertices at regularly spaced angles
+	 * around the center, and random distances between r/2 and r.
+	 */
+	public static SimplePolygon2D starPolygon(int n, double xc, double yc,
+			double r, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double rho = r * (.5 + .5 * random.nextDouble());
+			xs[i] = xc + rho * Math.cos(angle);
+			ys[i] = yc + rho * Math.sin(angle);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a polygon with a smooth wavy outline around the center, and a
+	 * random noise of the order of the distance between vertices. The
+	 * result looks like a detailed natural contour.
+	 */
+	public static SimplePolygon2D wavyPolygon(int n, double xc, double yc,
+			double r, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double step = 2 * Math.PI * r / n;
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double rho = r * (.75 + .15 * Math.sin(7 * angle)
+					+ .05 * Math.sin(31 * angle)) + step * random.nextGaussian();
+			xs[i] = xc + rho * Math.cos(angle);
+			ys[i] = yc + rho * Math.sin(angle);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a polyline by a random walk with steps of given length,
+	 * reflected on the borders of the box [0, size]x[0, size]. The polyline
+	 * usually has many self-intersections.
+	 */
+	public static Polyline2D randomWalk(int n, double size, double step,
+			long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double x = size / 2, y = size / 2;
+		double angle = 0;
+		for (int i = 0; i < n; i++) {
+			xs[i] = x;
+			ys[i] = y;
+			angle += (random.nextDouble() - .5) * Math.PI / 2;
+			x += step * Math.cos(angle);
+			y += step * Math.sin(angle);
+			if (x < 0 || x > size) {
+				x = Math.min(Math.max(x, 0), size);
+				angle = Math.PI - angle;
+			}
+			if (y < 0 || y > size) {
+				y = Math.min(Math.max(y, 0), size);
+				angle = -angle;
+			}
+		}
+		return new Polyline2D(xs, ys);
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * File: 	PointDistribution2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generators of random point sets used as benchmark input. All points lie
+ * within the box [0, 1000]x[0, 1000], and a given seed always produces the
+ * same points.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public enum PointDistribution2D {
+
+	/** Points uniformly distributed within the box */
+	UNIFORM {
+		@Override
+		void fill(Random random, double[] xs, double[] ys) {
+			for (int i = 0; i < xs.length; i++) {
+				xs[i] = random.nextDouble() * SIZE;
+				ys[i] = random.nextDouble() * SIZE;
+			}
+		}
+	},
+
+	/** Points gathered in a few dense gaussian clusters */
+	CLUSTERED {
+		@Override
+		void fill(Random random, double[] xs, double[] ys) {
+			int nClusters = 16;
+			double[] cx = new double[nClusters];
+			double[] cy = new double[nClusters];
+			for (int k = 0; k < nClusters; k++) {
+				cx[k] = 100 + random.nextDouble() * (SIZE - 200);
+				cy[k] = 100 + random.nextDouble() * (SIZE - 200);
+			}
+			for (int i = 0; i < xs.length; i++) {
+				int k = random.nextInt(nClusters);
+				xs[i] = clamp(cx[k] + random.nextGaussian() * 20);
+				ys[i] = clamp(cy[k] + random.nextGaussian() * 20);
+			}
+		}
+	},
+
+	/**
+	 * Points exactly on a single line, with repeated coordinates. This is a
+	 * degenerate input for most algorithms.
+	 */
+	COLLINEAR {
+		@Override
+		void fill(Random random, double[] xs, double[] ys) {
+			for (int i = 0; i < xs.length; i++) {
+				xs[i] = random.nextInt(1 << 16) * (SIZE / (1 << 16));
+				ys[i] = xs[i] / 2;
+			}
+		}
+	};
+
+	/** The size of the box containing the points */
+	public final static double SIZE = 1000;
+
+	abstract void fill(Random random, double[] xs, double[] ys);
+
+	/**
+	 * Returns the coordinates of n points, as an array containing the array
+	 * of x-coordinates and the array of y-coordinates.
+	 */
+	public double[][] coordinates(int n, long seed) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		fill(new Random(seed), xs, ys);
+		return new double[][] { xs, ys };
+	}
+
+	/**
+	 * Returns a list of n points.
+	 */
+	public ArrayList<Point2D> points(int n, long seed) {
+		double[][] coords = coordinates(n, seed);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			points.add(new Point2D(coords[0][i], coords[1][i]));
+		return points;
+	}
+
+	private static double clamp(double v) {
+		return Math.min(Math.max(v, 0), SIZE);
+	}
+}
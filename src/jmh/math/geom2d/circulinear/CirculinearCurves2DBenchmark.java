@@ -0,0 +1,72 @@
+/**
+ * File: 	CirculinearCurves2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+import math.geom2d.conic.Circle2D;
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Intersections between circulinear curves, using random walk polylines
+ * with many crossings.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CirculinearCurves2DBenchmark {
+
+	@Param({ "100", "10000" })
+	int vertexNumber;
+
+	Polyline2D polyline1;
+	Polyline2D polyline2;
+	Circle2D circle;
+
+	@Setup
+	public void setup() {
+		this.polyline1 = BenchmarkShapes2D.randomWalk(vertexNumber, 1000, 20, 1);
+		this.polyline2 = BenchmarkShapes2D.randomWalk(vertexNumber, 1000, 20, 2);
+		this.circle = new Circle2D(500, 500, 250);
+	}
+
+	@Benchmark
+	public Object findIntersections() {
+		return CirculinearCurves2D.findIntersections(polyline1, polyline2);
+	}
+
+	@Benchmark
+	public Object findIntersectionsCircle() {
+		return CirculinearCurves2D.findIntersections(polyline1, circle);
+	}
+
+	@Benchmark
+	public Object findSelfIntersections() {
+		return CirculinearCurves2D.findSelfIntersections(polyline1);
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * File: 	BufferCalculatorBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+import math.geom2d.Point2D;
+import math.geom2d.PointDistribution2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Buffer computation of an open self-intersecting polyline, of a closed
+ * star-shaped ring, and of a uniform point set, using the default buffer
+ * calculator. The polyline is also buffered in parallel, and split into
+ * short polylines buffered as a batch. The polyline, the ring and the
+ * star polygon are also buffered with a LinearBufferCalculator, which
+ * approximates round joins and caps by polylines.<p>
+ * Note: the buffers of the random walks with 1000 vertices currently fail
+ * when splitting intersecting contours, because of degenerated edges.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferCalculatorBenchmark {
+
+	@Param({ "100", "1000" })
+	int vertexNumber;
+
+	@Param({ "5" })
+	double distance;
+
+	BufferCalculator calculator;
+	LinearBufferCalculator linearCalculator;
+	Polyline2D polyline;
+	LinearRing2D ring;
+	Polygon2D polygon;
+	PackedPointArray2D points;
+	List<Polyline2D> segments;
+	ForkJoinPool pool;
+
+	@Setup
+	public void setup() {
+		this.calculator = BufferCalculator.getDefaultInstance();
+		this.polyline = BenchmarkShapes2D.randomWalk(vertexNumber, 1000, 20, 1);
+		this.linearCalculator = new LinearBufferCalculator(1e-2);
+		this.polygon = BenchmarkShapes2D.starPolygon(vertexNumber, 500, 500, 400, 1);
+		this.ring = BenchmarkShapes2D.starPolygon(vertexNumber, 500, 500, 400, 1)
+				.getRing();
+		double[][] coords = PointDistribution2D.UNIFORM.coordinates(
+				100 * vertexNumber, 1);
+		this.points = new PackedPointArray2D(coords[0], coords[1]);
+		
+		// split the polyline into short polylines of four edges
+		List<Point2D> vertices = new ArrayList<Point2D>(polyline.vertices());
+		this.segments = new ArrayList<Polyline2D>();
+		for (int i = 0; i + 4 < vertexNumber; i += 4)
+			segments.add(new Polyline2D(vertices.subList(i, i + 5)));
+		this.pool = new ForkJoinPool();
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public CirculinearDomain2D bufferPolyline() {
+		return calculator.computeBuffer(polyline, distance);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D bufferPolylineParallel() {
+		return calculator.computeBuffer(polyline, distance, pool);
+	}
+
+	@Benchmark
+	public List<CirculinearDomain2D> bufferSegmentsBatch() {
+		return calculator.computeBuffers(segments, distance, pool);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D bufferRing() {
+		return calculator.computeBuffer(ring, distance);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D bufferPointSet() {
+		return calculator.computeBuffer(points, distance);
+	}
+
+	@Benchmark
+	public Polygon2D linearBufferPolyline() {
+		return linearCalculator.computeBuffer(polyline, distance);
+	}
+
+	@Benchmark
+	public Polygon2D linearBufferRing() {
+		return linearCalculator.computeBuffer(ring, distance);
+	}
+
+	@Benchmark
+	public Polygon2D linearBufferPolygon() {
+		return linearCalculator.computeBuffer(polygon, distance);
+	}
+}
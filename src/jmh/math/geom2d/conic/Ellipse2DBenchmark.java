@@ -0,0 +1,75 @@
+/**
+ * File: 	Ellipse2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.conic;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.PointDistribution2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Distance from points to an ellipse. The benchmark reports the throughput
+ * of single distance computations.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Ellipse2DBenchmark {
+
+	private final static int QUERIES = 1024;
+
+	@Param({ "UNIFORM", "CLUSTERED", "COLLINEAR" })
+	PointDistribution2D distribution;
+
+	Ellipse2D ellipse;
+	Ellipse2D flatEllipse;
+	double[] xs, ys;
+
+	@Setup
+	public void setup() {
+		this.ellipse = new Ellipse2D(500, 500, 300, 200, Math.PI / 6);
+		this.flatEllipse = new Ellipse2D(500, 500, 400, 10, Math.PI / 6);
+		double[][] coords = distribution.coordinates(QUERIES, 1);
+		this.xs = coords[0];
+		this.ys = coords[1];
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void distance(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(ellipse.distance(xs[i], ys[i]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void distanceFlat(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(flatEllipse.distance(xs[i], ys[i]));
+	}
+}
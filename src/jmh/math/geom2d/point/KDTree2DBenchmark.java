@@ -0,0 +1,121 @@
+/**
+ * File: 	KDTree2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.PointDistribution2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Construction and queries of the object-based and packed KD-trees. Query
+ * benchmarks report the throughput of single queries.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KDTree2DBenchmark {
+
+	private final static int QUERIES = 1024;
+
+	@Param({ "UNIFORM", "CLUSTERED", "COLLINEAR" })
+	PointDistribution2D distribution;
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	ArrayList<Point2D> points;
+	double[] xs, ys;
+	KDTree2D tree;
+	PackedKDTree2D packedTree;
+
+	Point2D[] queries;
+	Box2D[] ranges;
+	int[] buffer;
+
+	@Setup
+	public void setup() {
+		this.points = distribution.points(size, 1);
+		double[][] coords = distribution.coordinates(size, 1);
+		this.xs = coords[0];
+		this.ys = coords[1];
+		this.tree = new KDTree2D(points);
+		this.packedTree = new PackedKDTree2D(xs, ys);
+
+		// query points follow the same distribution as the data
+		ArrayList<Point2D> queryPoints = distribution.points(QUERIES, 2);
+		this.queries = queryPoints.toArray(new Point2D[QUERIES]);
+		this.ranges = new Box2D[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			Point2D p = queries[i];
+			ranges[i] = new Box2D(p.x() - 10, p.x() + 10, p.y() - 10, p.y() + 10);
+		}
+		this.buffer = new int[size];
+	}
+
+	@Benchmark
+	public KDTree2D build() {
+		return new KDTree2D(points);
+	}
+
+	@Benchmark
+	public PackedKDTree2D buildPacked() {
+		return new PackedKDTree2D(xs, ys);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void nearestNeighbor(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(tree.nearestNeighbor(query));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void nearestPacked(Blackhole bh) {
+		for (Point2D query : queries)
+			bh.consume(packedTree.nearest(query.x(), query.y()));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void rangeSearch(Blackhole bh) {
+		for (Box2D range : ranges)
+			bh.consume(tree.rangeSearch(range));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void rangeSearchPacked(Blackhole bh) {
+		for (Box2D range : ranges)
+			bh.consume(packedTree.rangeSearch(range, buffer));
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * File: 	LinearShapesBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+import math.geom2d.PointDistribution2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point queries on a star-shaped polygon, on its boundary, and on an open
+ * random walk: membership and distance of a sequence of uniformly
+ * distributed points.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearShapesBenchmark {
+
+	@Param({ "100", "10000" })
+	int vertexNumber;
+
+	SimplePolygon2D polygon;
+	LinearRing2D ring;
+	Polyline2D polyline;
+	double[] xs, ys;
+	int index = 0;
+
+	@Setup
+	public void setup() {
+		this.polygon = BenchmarkShapes2D.starPolygon(vertexNumber, 500, 500, 400, 1);
+		this.ring = polygon.getRing();
+		this.polyline = BenchmarkShapes2D.randomWalk(vertexNumber, 1000, 20, 1);
+		double[][] coords = PointDistribution2D.UNIFORM.coordinates(1024, 2);
+		this.xs = coords[0];
+		this.ys = coords[1];
+	}
+
+	private int nextIndex() {
+		index = (index + 1) & 1023;
+		return index;
+	}
+
+	@Benchmark
+	public boolean polygonContains() {
+		int i = nextIndex();
+		return polygon.contains(xs[i], ys[i]);
+	}
+
+	@Benchmark
+	public double polygonDistance() {
+		int i = nextIndex();
+		return polygon.distance(xs[i], ys[i]);
+	}
+
+	@Benchmark
+	public double polylineDistance() {
+		int i = nextIndex();
+		return polyline.distance(xs[i], ys[i]);
+	}
+
+	@Benchmark
+	public boolean ringIsInside() {
+		int i = nextIndex();
+		return ring.isInside(xs[i], ys[i]);
+	}
+}
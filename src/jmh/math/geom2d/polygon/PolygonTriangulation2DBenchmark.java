@@ -0,0 +1,85 @@
+/**
+ * File: 	PolygonTriangulation2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+import math.geom2d.Point2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Triangulation of a polygon with a detailed wavy outline, without holes,
+ * and with a grid of 64 square holes given by an array of coordinates. Ear
+ * tests on star polygons with random spikes scan many vertices, as the long
+ * and thin ears span large ranges of the z-order curve, and are not
+ * measured here.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonTriangulation2DBenchmark {
+
+	@Param({ "10000", "100000", "1000000" })
+	int vertexNumber;
+
+	SimplePolygon2D polygon;
+	double[] coords;
+	int[] holeIndices;
+
+	@Setup
+	public void setup() {
+		this.polygon = BenchmarkShapes2D.wavyPolygon(vertexNumber, 500, 500, 400, 1);
+
+		// holes are located within the inner radius of the polygon
+		int nHoles = 64;
+		this.coords = new double[2 * (vertexNumber + 4 * nHoles)];
+		this.holeIndices = new int[nHoles];
+		int k = 0;
+		for (Point2D vertex : polygon.vertices()) {
+			coords[k++] = vertex.x();
+			coords[k++] = vertex.y();
+		}
+		for (int h = 0; h < nHoles; h++) {
+			holeIndices[h] = k / 2;
+			double x0 = 380 + (h % 8) * 30;
+			double y0 = 380 + (h / 8) * 30;
+			double[] hole = { x0, y0, x0, y0 + 20, x0 + 20, y0 + 20, x0 + 20, y0 };
+			for (double v : hole)
+				coords[k++] = v;
+		}
+	}
+
+	@Benchmark
+	public Object polygon() {
+		return new PolygonTriangulation2D(polygon);
+	}
+
+	@Benchmark
+	public Object polygonWithHoles() {
+		return new PolygonTriangulation2D(coords, holeIndices);
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * File: 	Polygons2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boolean operations on two overlapping star-shaped polygons, using the
+ * current boolean engine of Polygons2D.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Polygons2DBenchmark {
+
+	@Param({ "100", "10000" })
+	int vertexNumber;
+
+	SimplePolygon2D polygon1;
+	SimplePolygon2D polygon2;
+
+	@Setup
+	public void setup() {
+		this.polygon1 = BenchmarkShapes2D.starPolygon(vertexNumber, 400, 500, 300, 1);
+		this.polygon2 = BenchmarkShapes2D.starPolygon(vertexNumber, 600, 500, 300, 2);
+	}
+
+	@Benchmark
+	public Polygon2D union() {
+		return Polygons2D.union(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D intersection() {
+		return Polygons2D.intersection(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D difference() {
+		return Polygons2D.difference(polygon1, polygon2);
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * File: 	BoxClipper2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.BenchmarkShapes2D;
+import math.geom2d.Box2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Clipping of polygons and polylines by a box, using BoxClipper2D and the
+ * generic clip methods of the shapes.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoxClipper2DBenchmark {
+
+	@Param({ "100", "10000" })
+	int vertexNumber;
+
+	Box2D box;
+	BoxClipper2D clipper;
+	SimplePolygon2D polygon;
+	Polyline2D polyline;
+
+	@Setup
+	public void setup() {
+		this.box = new Box2D(300, 700, 300, 700);
+		this.clipper = new BoxClipper2D(box);
+		this.polygon = BenchmarkShapes2D.starPolygon(vertexNumber, 500, 500, 400, 1);
+		this.polyline = BenchmarkShapes2D.randomWalk(vertexNumber, 1000, 20, 1);
+	}
+
+	@Benchmark
+	public Object clipPolygon() {
+		return clipper.clip(polygon);
+	}
+
+	@Benchmark
+	public Object clipPolygonGrid() {
+		return clipper.clip(polygon, 4, 4);
+	}
+
+	@Benchmark
+	public Object clipPolyline() {
+		return clipper.clip(polyline);
+	}
+
+	@Benchmark
+	public Object polygonClip() {
+		return polygon.clip(box);
+	}
+
+	@Benchmark
+	public Object polylineClip() {
+		return polyline.clip(box);
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * File: 	ConvexHull2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Point2D;
+import math.geom2d.PointDistribution2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Convex hull of point sets, using the different algorithms of the package.
+ * GrahamScan2D does not manage colinear points yet, and fails on the
+ * COLLINEAR distribution.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexHull2DBenchmark {
+
+	@Param({ "UNIFORM", "CLUSTERED", "COLLINEAR" })
+	PointDistribution2D distribution;
+
+	@Param({ "1000", "100000" })
+	int size;
+
+	ArrayList<Point2D> points;
+	double[] xs, ys;
+
+	@Setup
+	public void setup() {
+		this.points = distribution.points(size, 1);
+		double[][] coords = distribution.coordinates(size, 1);
+		this.xs = coords[0];
+		this.ys = coords[1];
+	}
+
+	@Benchmark
+	public Object grahamScan() {
+		return new GrahamScan2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Object jarvisMarch() {
+		return new JarvisMarch2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Object monotoneChain() {
+		return new MonotoneChain2D(false).convexHull(points);
+	}
+
+	@Benchmark
+	public Object monotoneChainArrays() {
+		return new MonotoneChain2D(false).hullCoordinates(xs, ys);
+	}
+
+	@Benchmark
+	public Object monotoneChainParallel() {
+		return new MonotoneChain2D(true).hullCoordinates(xs, ys);
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * File: 	Predicates2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.predicates;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.PointDistribution2D;
+import math.geom2d.point.DelaunayTriangulation2D;
+import math.geom2d.polygon.convhull.MonotoneChain2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the robust predicates compared to the naive floating point
+ * determinants, on batches of 1024 point triples or quadruples, and on the
+ * algorithms that use them. The COLLINEAR distribution makes the filter
+ * fail for most orientation tests.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Predicates2DBenchmark {
+
+	@Param({ "UNIFORM", "COLLINEAR" })
+	PointDistribution2D distribution;
+
+	double[] xs, ys;
+	double[] hullXs, hullYs;
+
+	@Setup
+	public void setup() {
+		double[][] coords = distribution.coordinates(1027, 1);
+		this.xs = coords[0];
+		this.ys = coords[1];
+		coords = distribution.coordinates(100000, 1);
+		this.hullXs = coords[0];
+		this.hullYs = coords[1];
+	}
+
+	@Benchmark
+	public int orient2dNaive() {
+		int sum = 0;
+		for (int i = 0; i < 1024; i++) {
+			double det = (xs[i + 1] - xs[i]) * (ys[i + 2] - ys[i])
+					- (ys[i + 1] - ys[i]) * (xs[i + 2] - xs[i]);
+			sum += det > 0 ? 1 : (det < 0 ? -1 : 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int orient2dRobust() {
+		int sum = 0;
+		for (int i = 0; i < 1024; i++) {
+			double det = Predicates2D.orient2d(xs[i], ys[i], xs[i + 1],
+					ys[i + 1], xs[i + 2], ys[i + 2]);
+			sum += det > 0 ? 1 : (det < 0 ? -1 : 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int incircleNaive() {
+		int sum = 0;
+		for (int i = 0; i < 1024; i++) {
+			double adx = xs[i] - xs[i + 3], ady = ys[i] - ys[i + 3];
+			double bdx = xs[i + 1] - xs[i + 3], bdy = ys[i + 1] - ys[i + 3];
+			double cdx = xs[i + 2] - xs[i + 3], cdy = ys[i + 2] - ys[i + 3];
+			double det = (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy)
+					+ (bdx * bdx + bdy * bdy) * (cdx * ady - adx * cdy)
+					+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
+			sum += det > 0 ? 1 : (det < 0 ? -1 : 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int incircleRobust() {
+		int sum = 0;
+		for (int i = 0; i < 1024; i++) {
+			double det = Predicates2D.incircle(xs[i], ys[i], xs[i + 1],
+					ys[i + 1], xs[i + 2], ys[i + 2], xs[i + 3], ys[i + 3]);
+			sum += det > 0 ? 1 : (det < 0 ? -1 : 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Object delaunay() {
+		if (distribution == PointDistribution2D.COLLINEAR)
+			return null;
+		return new DelaunayTriangulation2D(xs, ys);
+	}
+
+	@Benchmark
+	public Object monotoneChain() {
+		return new MonotoneChain2D(false).hullCoordinates(hullXs, hullYs);
+	}
+}
@@ -26,6 +26,9 @@
 package math.geom2d;
 
 // Imports
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+
 import math.geom2d.Shape2D;
 import math.geom2d.Angle2D;
 import math.geom2d.Point2D;
@@ -701,6 +704,116 @@ public class AffineTransform2D implements Bijection2D, GeometricObject2D,
 		return dst;
 	}
 
+	/**
+	 * Transforms an array of coordinates stored as interleaved (x, y)
+	 * couples. Source and destination arrays may be the same array, with
+	 * possibly overlapping ranges.
+	 *
+	 * @param src the array containing the coordinates of source points
+	 * @param srcOff the offset of the first source point in src
+	 * @param dst the array for storing coordinates of transformed points
+	 * @param dstOff the offset of the first transformed point in dst
+	 * @param count the number of points to transform
+	 * @since 0.11.3
+	 */
+	public void transform(double[] src, int srcOff, double[] dst, int dstOff,
+			int count) {
+		double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		double x, y;
+
+		// iterate backward if destination range overlaps source range
+		if (src == dst && dstOff > srcOff && dstOff < srcOff + count * 2) {
+			for (int i = count - 1; i >= 0; i--) {
+				x = src[srcOff + 2 * i];
+				y = src[srcOff + 2 * i + 1];
+				dst[dstOff + 2 * i] = x * m00 + y * m01 + m02;
+				dst[dstOff + 2 * i + 1] = x * m10 + y * m11 + m12;
+			}
+			return;
+		}
+
+		for (int i = 0; i < count; i++) {
+			x = src[srcOff++];
+			y = src[srcOff++];
+			dst[dstOff++] = x * m00 + y * m01 + m02;
+			dst[dstOff++] = x * m10 + y * m11 + m12;
+		}
+	}
+
+	/**
+	 * Transforms the coordinates of points stored in two separate arrays.
+	 * Source and destination arrays may be the same arrays, with possibly
+	 * overlapping ranges.
+	 *
+	 * @param srcX the array containing the x-coordinates of source points
+	 * @param srcY the array containing the y-coordinates of source points
+	 * @param srcOff the index of the first source point
+	 * @param dstX the array for storing x-coordinates of transformed points
+	 * @param dstY the array for storing y-coordinates of transformed points
+	 * @param dstOff the index of the first transformed point
+	 * @param count the number of points to transform
+	 * @since 0.11.3
+	 */
+	public void transform(double[] srcX, double[] srcY, int srcOff,
+			double[] dstX, double[] dstY, int dstOff, int count) {
+		double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		double x, y;
+
+		// iterate backward if destination range overlaps source range
+		if ((srcX == dstX || srcY == dstY)
+				&& dstOff > srcOff && dstOff < srcOff + count) {
+			for (int i = count - 1; i >= 0; i--) {
+				x = srcX[srcOff + i];
+				y = srcY[srcOff + i];
+				dstX[dstOff + i] = x * m00 + y * m01 + m02;
+				dstY[dstOff + i] = x * m10 + y * m11 + m12;
+			}
+			return;
+		}
+
+		for (int i = 0; i < count; i++) {
+			x = srcX[srcOff + i];
+			y = srcY[srcOff + i];
+			dstX[dstOff + i] = x * m00 + y * m01 + m02;
+			dstY[dstOff + i] = x * m10 + y * m11 + m12;
+		}
+	}
+
+	/**
+	 * Transforms the coordinates stored as interleaved (x, y) couples in
+	 * the remaining part of the source buffer, and puts the result into the
+	 * destination buffer. The positions of both buffers are advanced by the
+	 * number of transformed coordinates. The buffers must not share their
+	 * content, unless they are the same buffer.
+	 *
+	 * @param src the buffer containing the coordinates of source points
+	 * @param dst the buffer for storing coordinates of transformed points
+	 * @since 0.11.3
+	 */
+	public void transform(DoubleBuffer src, DoubleBuffer dst) {
+		double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+
+		int count = src.remaining() / 2;
+		if (dst.remaining() < count * 2)
+			throw new BufferOverflowException();
+
+		// use absolute indexing, to transform the buffer in place
+		int srcPos = src.position();
+		int dstPos = dst.position();
+		double x, y;
+		for (int i = 0; i < count; i++) {
+			x = src.get(srcPos + 2 * i);
+			y = src.get(srcPos + 2 * i + 1);
+			dst.put(dstPos + 2 * i, x * m00 + y * m01 + m02);
+			dst.put(dstPos + 2 * i + 1, x * m10 + y * m11 + m12);
+		}
+		src.position(srcPos + count * 2);
+		dst.position(dstPos + count * 2);
+	}
+
 	// ===================================================================
 	// implements the GeometricObject2D interface
 
@@ -518,13 +518,18 @@ public class Box2D implements GeometricObject2D, Cloneable {
     	double ymin = POSITIVE_INFINITY;
     	double ymax = NEGATIVE_INFINITY;
 
+    	// transform the coordinates of box vertices
+    	double[] coords = new double[] {
+    			this.xmin, this.ymin, this.xmax, this.ymin,
+    			this.xmax, this.ymax, this.xmin, this.ymax};
+    	trans.transform(coords, 0, coords, 0, 4);
+
     	// update bounds with coordinates of transformed box vertices
-    	for (Point2D point : this.vertices()) {
-    		point = point.transform(trans);
-    		xmin = Math.min(xmin, point.x());
-    		ymin = Math.min(ymin, point.y());
-    		xmax = Math.max(xmax, point.x());
-    		ymax = Math.max(ymax, point.y());
+    	for (int i = 0; i < 8; i += 2) {
+    		xmin = Math.min(xmin, coords[i]);
+    		ymin = Math.min(ymin, coords[i + 1]);
+    		xmax = Math.max(xmax, coords[i]);
+    		ymax = Math.max(ymax, coords[i + 1]);
     	}
     	
     	// create the resulting box
@@ -37,6 +37,7 @@ import math.geom2d.conic.Circle2D;
 import math.geom2d.point.PointArray2D;
 import math.geom2d.point.PointSet2D;
 import math.geom2d.point.PointShape2D;
+import math.geom2d.predicates.Predicates2D;
 import math.geom2d.transform.CircleInversion2D;
 import math.utils.EqualUtils;
 
@@ -163,7 +164,8 @@ implements GeometricObject2D, PointShape2D, Cloneable, CirculinearShape2D {
 	 * Computes the orientation of the 3 points: returns +1 is the path
 	 * P0->P1->P2 turns Counter-Clockwise, -1 if the path turns Clockwise, and 0
 	 * if the point P2 is located on the line segment [P0 P1]. Algorithm taken
-	 * from Sedgewick.
+	 * from Sedgewick. The orientation is computed with robust predicates, so
+	 * the result is not affected by rounding errors.
 	 * 
 	 * @param p0 the initial point
 	 * @param p1 the middle point
@@ -178,10 +180,9 @@ implements GeometricObject2D, PointShape2D, Cloneable, CirculinearShape2D {
 		double dx2 = p2.x - x0;
 		double dy2 = p2.y - y0;
 
-		if (dx1 * dy2 > dy1 * dx2)
-			return +1;
-		if (dx1 * dy2 < dy1 * dx2)
-			return -1;
+		int orient = Predicates2D.orientation(x0, y0, p1.x, p1.y, p2.x, p2.y);
+		if (orient != 0)
+			return orient;
 		if ((dx1 * dx2 < 0) || (dy1 * dy2 < 0))
 			return -1;
 		if (hypot(dx1, dy1) < hypot(dx2, dy2))
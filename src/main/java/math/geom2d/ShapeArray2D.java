@@ -41,6 +41,9 @@ implements ShapeSet2D<T>, Cloneable {
     /** The inner array of curves */
     protected ArrayList<T> shapes;
 
+    /** The spatial index of shapes, or null if the set is not indexed */
+    protected SpatialIndex2D<T> index = null;
+
     
     // ===================================================================
     // Constructors
@@ -74,13 +77,17 @@ implements ShapeSet2D<T>, Cloneable {
      * @param shape the shape to add
      */
     public boolean add(T shape) {
-        if(shapes.contains(shape))
+        if(this.contains(shape))
         	return false;
+        if (this.index != null)
+        	this.index.insert(shape);
         return shapes.add(shape);
     }
 
 	public void add(int index, T shape) {
 		this.shapes.add(index, shape);
+		if (this.index != null)
+			this.index.insert(shape);
 	}
 
     /**
@@ -99,17 +106,26 @@ implements ShapeSet2D<T>, Cloneable {
      * @param shape the shape to remove
      */
     public boolean remove(T shape) {
-    	return shapes.remove(shape);
+    	if (!shapes.remove(shape))
+    		return false;
+    	if (this.index != null)
+    		this.index.remove(shape);
+    	return true;
     }
 
 	public T remove(int index) {
-		return this.shapes.remove(index);
+		T shape = this.shapes.remove(index);
+		if (this.index != null)
+			this.index.remove(shape);
+		return shape;
 	}
 
     /**
      * Checks if the shape set contains the given shape.
      */
     public boolean contains(T shape) {
+    	if (this.index != null)
+    		return this.index.contains(shape);
     	return shapes.contains(shape);
     }
 
@@ -122,6 +138,8 @@ implements ShapeSet2D<T>, Cloneable {
      */
     public void clear() {
     	shapes.clear();
+    	if (this.index != null)
+    		this.index.clear();
     }
 
 	public int size() {
@@ -138,6 +156,44 @@ implements ShapeSet2D<T>, Cloneable {
     }
 
     
+    // ===================================================================
+    // Management of spatial index
+
+    /**
+     * Activates or deactivates the indexed mode of this shape set. In
+     * indexed mode, the shapes are stored within a spatial index, updated
+     * when shapes are added or removed, and used to compute distance,
+     * containment, bounding box and clipping without iterating over all the
+     * shapes. In that case, the result of clipping does not contain the
+     * shapes whose bounding box does not intersect the clipping box.
+     * 
+     * @param indexed true to build a spatial index of the shapes, false to
+     *            discard it
+     */
+    public void setIndexed(boolean indexed) {
+    	if (!indexed)
+    		this.index = null;
+    	else if (this.index == null)
+    		this.index = new SpatialIndex2D<T>(shapes);
+    }
+
+    /**
+     * Returns true if this shape set is in indexed mode.
+     */
+    public boolean isIndexed() {
+    	return this.index != null;
+    }
+
+    /**
+     * Returns the spatial index of the shapes, that can be used for window
+     * or nearest neighbor queries, or null if the set is not indexed. The
+     * returned index should not be modified.
+     */
+    public SpatialIndex2D<T> spatialIndex() {
+    	return this.index;
+    }
+
+    
     // ===================================================================
     // Methods implementing the Shape2D interface
 
@@ -145,7 +201,8 @@ implements ShapeSet2D<T>, Cloneable {
 	 * @see math.geom2d.Shape2D#clip(math.geom2d.Box2D)
 	 */
 	public Shape2D clip(Box2D box) {
-		ArrayList<Shape2D> clippedShapes = new ArrayList<Shape2D>(this.size());
+		Collection<T> shapes = this.index != null ? index.query(box) : this.shapes;
+		ArrayList<Shape2D> clippedShapes = new ArrayList<Shape2D>(shapes.size());
 		for (T shape : shapes)
 			clippedShapes.add(shape.clip(box));
 		return new ShapeArray2D<Shape2D>(clippedShapes);
@@ -155,6 +212,8 @@ implements ShapeSet2D<T>, Cloneable {
 	 * @see math.geom2d.Shape2D#contains(double, double)
 	 */
 	public boolean contains(double x, double y) {
+		if (this.index != null)
+			return this.index.contains(x, y);
         for (Shape2D shape : shapes) {
             if (shape.contains(x, y))
                 return true;
@@ -181,6 +240,9 @@ implements ShapeSet2D<T>, Cloneable {
 	 * @see math.geom2d.Shape2D#getBoundingBox()
 	 */
 	public Box2D boundingBox() {
+		if (this.index != null && !this.shapes.isEmpty())
+			return this.index.boundingBox();
+
         double xmin = Double.MAX_VALUE;
         double ymin = Double.MAX_VALUE;
         double xmax = Double.MIN_VALUE;
@@ -210,6 +272,8 @@ implements ShapeSet2D<T>, Cloneable {
 	 * @see math.geom2d.Shape2D#getDistance(double, double)
 	 */
 	public double distance(double x, double y) {
+		if (this.index != null)
+			return this.index.distance(x, y);
         double dist = Double.POSITIVE_INFINITY;
         for (Shape2D shape : shapes)
             dist = Math.min(dist, shape.distance(x, y));
@@ -284,7 +348,31 @@ implements ShapeSet2D<T>, Cloneable {
 	 * @see java.lang.Iterable#iterator()
 	 */
 	public Iterator<T> iterator() {
-		return shapes.iterator();
+		if (this.index == null)
+			return shapes.iterator();
+
+		// in indexed mode, shapes removed through the iterator must also be
+		// removed from the spatial index
+		final Iterator<T> iter = shapes.iterator();
+		return new Iterator<T>() {
+			T current = null;
+
+			public boolean hasNext() {
+				return iter.hasNext();
+			}
+
+			public T next() {
+				current = iter.next();
+				return current;
+			}
+
+			public void remove() {
+				iter.remove();
+				if (index != null)
+					index.remove(current);
+				current = null;
+			}
+		};
 	}
 
     // ===================================================================
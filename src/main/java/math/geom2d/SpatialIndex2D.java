@@ -0,0 +1,853 @@
+/**
+ * File: 	SpatialIndex2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A spatial index of shapes, based on a R-tree bulk loaded with the
+ * Sort-Tile-Recursive (STR) algorithm. The index allows to retrieve the
+ * shapes whose bounding box intersect a window, the shapes containing a
+ * point, or the shapes closest to a point, without iterating over all the
+ * shapes.<br>
+ *
+ * Nodes of the tree are stored within flat arrays: each node is described by
+ * its bounding box and by the range of its children, the children of a node
+ * being stored contiguously. Leaf nodes reference the shapes, whose bounding
+ * boxes are computed once and stored within another array.<br>
+ *
+ * Shapes inserted after construction are kept in a small buffer that is
+ * scanned at each query, and removed shapes are simply marked within the
+ * tree. The tree is rebuilt when the buffer becomes large, or when removed
+ * shapes represent half of the tree, resulting in an amortized logarithmic
+ * cost for insertion and removal. Shapes that are not bounded are never
+ * stored within the tree, and are always scanned.<br>
+ *
+ * Queries do not modify the index, so concurrent queries from several
+ * threads are safe as long as no shape is inserted or removed.
+ *
+ * @see ShapeArray2D#setIndexed(boolean)
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class SpatialIndex2D<T extends Shape2D> {
+
+	// ===================================================================
+	// Constants
+
+	/** The default maximum number of children of each node */
+	public final static int DEFAULT_NODE_CAPACITY = 16;
+
+	/** The minimum number of buffered shapes that triggers a rebuild */
+	private final static int MIN_PENDING_SIZE = 64;
+
+	/** Kinds of entries within the priority queue of nearest searches */
+	private final static int NODE = 0;
+	private final static int ITEM_BOX = 1;
+	private final static int ITEM = 2;
+	private final static int EXTRA = 3;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The maximum number of children of each node */
+	private final int nodeCapacity;
+
+	/** The shapes stored in the tree, in leaf order, or null if removed */
+	private Object[] items;
+
+	/** The bounding boxes of items, as (xmin, ymin, xmax, ymax) */
+	private double[] itemBoxes;
+
+	/** The number of items referenced by the tree, including removed ones */
+	private int itemCount;
+
+	/** The number of items removed from the tree since last build */
+	private int removedCount;
+
+	/** The bounding boxes of nodes, as (xmin, ymin, xmax, ymax) */
+	private double[] nodeBoxes;
+
+	/** The index of the first child of each node */
+	private int[] firstChild;
+
+	/** The index after the last child of each node */
+	private int[] lastChild;
+
+	/**
+	 * The number of leaf nodes. Leaf nodes are stored first, and their
+	 * children are items. The root is the last node, or -1 if tree is empty.
+	 */
+	private int leafCount;
+
+	/** The index of the root node, or -1 if the tree is empty */
+	private int root;
+
+	/** The bounded shapes added since last build */
+	private ArrayList<T> pending;
+
+	/** The bounding boxes of pending shapes */
+	private double[] pendingBoxes;
+
+	/** The shapes that are not bounded, and that are never indexed */
+	private ArrayList<T> unbounded;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new empty spatial index.
+	 */
+	public SpatialIndex2D() {
+		this(new ArrayList<T>(0), DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Creates a new spatial index containing the given shapes.
+	 */
+	public SpatialIndex2D(Collection<? extends T> shapes) {
+		this(shapes, DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Creates a new spatial index containing the given shapes, by specifying
+	 * the maximum number of children of each node.
+	 */
+	public SpatialIndex2D(Collection<? extends T> shapes, int nodeCapacity) {
+		if (nodeCapacity < 2)
+			throw new IllegalArgumentException(
+					"Node capacity must be at least 2");
+		this.nodeCapacity = nodeCapacity;
+		this.pending = new ArrayList<T>();
+		this.pendingBoxes = new double[4 * MIN_PENDING_SIZE];
+		this.unbounded = new ArrayList<T>();
+		build(shapes);
+	}
+
+
+	// ===================================================================
+	// Construction of the tree
+
+	/**
+	 * Builds the tree from the given shapes, and clears buffered shapes.
+	 */
+	private void build(Collection<? extends T> shapes) {
+		// compute the bounding boxes of shapes
+		int n = shapes.size();
+		Object[] items = new Object[n];
+		double[] boxes = new double[4 * n];
+		this.unbounded.clear();
+		int count = 0;
+		for (T shape : shapes) {
+			Box2D box = shape.boundingBox();
+			if (!isFinite(box)) {
+				unbounded.add(shape);
+				continue;
+			}
+			items[count] = shape;
+			setBox(boxes, count++, box);
+		}
+		this.pending.clear();
+		this.itemCount = count;
+		this.removedCount = 0;
+
+		if (count == 0) {
+			this.items = new Object[0];
+			this.itemBoxes = new double[0];
+			this.nodeBoxes = new double[0];
+			this.firstChild = new int[0];
+			this.lastChild = new int[0];
+			this.leafCount = 0;
+			this.root = -1;
+			return;
+		}
+
+		// sort items, and create leaf nodes
+		int[] order = new int[count];
+		int[] starts = pack(boxes, count, order);
+		this.items = new Object[count];
+		this.itemBoxes = new double[4 * count];
+		for (int i = 0; i < count; i++) {
+			this.items[i] = items[order[i]];
+			System.arraycopy(boxes, 4 * order[i], this.itemBoxes, 4 * i, 4);
+		}
+		int m = starts.length - 1;
+		double[] levelBoxes = new double[4 * m];
+		int[] levelFirst = new int[m];
+		int[] levelLast = new int[m];
+		group(this.itemBoxes, starts, 0, levelBoxes, levelFirst, levelLast);
+		this.leafCount = m;
+
+		// pack nodes of each level, until a single node remains
+		ArrayList<double[]> allBoxes = new ArrayList<double[]>();
+		ArrayList<int[]> allFirst = new ArrayList<int[]>();
+		ArrayList<int[]> allLast = new ArrayList<int[]>();
+		int offset = 0;
+		while (m > 1) {
+			order = new int[m];
+			starts = pack(levelBoxes, m, order);
+
+			// reorder nodes of current level
+			double[] sortedBoxes = new double[4 * m];
+			int[] sortedFirst = new int[m];
+			int[] sortedLast = new int[m];
+			for (int i = 0; i < m; i++) {
+				System.arraycopy(levelBoxes, 4 * order[i], sortedBoxes, 4 * i, 4);
+				sortedFirst[i] = levelFirst[order[i]];
+				sortedLast[i] = levelLast[order[i]];
+			}
+			allBoxes.add(sortedBoxes);
+			allFirst.add(sortedFirst);
+			allLast.add(sortedLast);
+
+			// create nodes of the parent level
+			int m2 = starts.length - 1;
+			levelBoxes = new double[4 * m2];
+			levelFirst = new int[m2];
+			levelLast = new int[m2];
+			group(sortedBoxes, starts, offset, levelBoxes, levelFirst, levelLast);
+			offset += m;
+			m = m2;
+		}
+		allBoxes.add(levelBoxes);
+		allFirst.add(levelFirst);
+		allLast.add(levelLast);
+
+		// concatenate the levels into flat arrays
+		int nNodes = offset + 1;
+		this.nodeBoxes = new double[4 * nNodes];
+		this.firstChild = new int[nNodes];
+		this.lastChild = new int[nNodes];
+		offset = 0;
+		for (int k = 0; k < allFirst.size(); k++) {
+			int size = allFirst.get(k).length;
+			System.arraycopy(allBoxes.get(k), 0, nodeBoxes, 4 * offset, 4 * size);
+			System.arraycopy(allFirst.get(k), 0, firstChild, offset, size);
+			System.arraycopy(allLast.get(k), 0, lastChild, offset, size);
+			offset += size;
+		}
+		this.root = nNodes - 1;
+	}
+
+	/**
+	 * Computes the order of the entries following the Sort-Tile-Recursive
+	 * algorithm: entries are sorted by x-coordinate of their center, split
+	 * into vertical slices, and each slice is sorted by y-coordinate of the
+	 * centers. Returns the start index of each group of entries that will
+	 * form a node, followed by the number of entries.
+	 */
+	private int[] pack(double[] boxes, int n, int[] order) {
+		int cap = this.nodeCapacity;
+		int nGroups = (n + cap - 1) / cap;
+		int nSlices = (int) Math.ceil(Math.sqrt(nGroups));
+		int sliceSize = cap * ((nGroups + nSlices - 1) / nSlices);
+
+		// sort by x-coordinate of centers
+		double[] keys = new double[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+			keys[i] = boxes[4 * i] + boxes[4 * i + 2];
+		}
+		sort(keys, order, 0, n);
+
+		// sort each slice by y-coordinate of centers, and split into groups
+		int[] starts = new int[nGroups + nSlices + 1];
+		int count = 0;
+		for (int slice = 0; slice < n; slice += sliceSize) {
+			int end = Math.min(n, slice + sliceSize);
+			for (int i = slice; i < end; i++)
+				keys[i] = boxes[4 * order[i] + 1] + boxes[4 * order[i] + 3];
+			sort(keys, order, slice, end);
+			for (int i = slice; i < end; i += cap)
+				starts[count++] = i;
+		}
+		starts[count++] = n;
+		return Arrays.copyOf(starts, count);
+	}
+
+	/**
+	 * Creates the nodes containing each group of consecutive entries, by
+	 * computing their bounding box and the range of their children.
+	 */
+	private static void group(double[] boxes, int[] starts, int offset,
+			double[] groupBoxes, int[] first, int[] last) {
+		for (int g = 0; g < starts.length - 1; g++) {
+			double xmin = Double.POSITIVE_INFINITY;
+			double ymin = Double.POSITIVE_INFINITY;
+			double xmax = Double.NEGATIVE_INFINITY;
+			double ymax = Double.NEGATIVE_INFINITY;
+			for (int i = starts[g]; i < starts[g + 1]; i++) {
+				xmin = Math.min(xmin, boxes[4 * i]);
+				ymin = Math.min(ymin, boxes[4 * i + 1]);
+				xmax = Math.max(xmax, boxes[4 * i + 2]);
+				ymax = Math.max(ymax, boxes[4 * i + 3]);
+			}
+			groupBoxes[4 * g] = xmin;
+			groupBoxes[4 * g + 1] = ymin;
+			groupBoxes[4 * g + 2] = xmax;
+			groupBoxes[4 * g + 3] = ymax;
+			first[g] = offset + starts[g];
+			last[g] = offset + starts[g + 1];
+		}
+	}
+
+	/**
+	 * Rebuilds the tree from the current content of the index. This is
+	 * performed automatically after insertions and removals, but may be
+	 * called explicitly to restore optimal query performances.
+	 */
+	public void rebuild() {
+		ArrayList<T> shapes = shapes();
+		build(shapes);
+	}
+
+
+	// ===================================================================
+	// Management of shapes
+
+	/**
+	 * Returns the number of shapes within the index.
+	 */
+	public int size() {
+		return itemCount - removedCount + pending.size() + unbounded.size();
+	}
+
+	/**
+	 * Returns true if the index does not contain any shape.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns a new collection containing all the shapes of the index.
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayList<T> shapes() {
+		ArrayList<T> shapes = new ArrayList<T>(size());
+		for (int i = 0; i < itemCount; i++) {
+			if (items[i] != null)
+				shapes.add((T) items[i]);
+		}
+		shapes.addAll(pending);
+		shapes.addAll(unbounded);
+		return shapes;
+	}
+
+	/**
+	 * Adds a shape to the index. The same shape may be added several times.
+	 */
+	public void insert(T shape) {
+		Box2D box = shape.boundingBox();
+		if (!isFinite(box)) {
+			unbounded.add(shape);
+			return;
+		}
+
+		int n = pending.size();
+		if (4 * n + 4 > pendingBoxes.length)
+			pendingBoxes = Arrays.copyOf(pendingBoxes, 8 * n + 4);
+		pending.add(shape);
+		setBox(pendingBoxes, n, box);
+
+		if (n + 1 > Math.max(MIN_PENDING_SIZE, (itemCount - removedCount) / 64))
+			rebuild();
+	}
+
+	/**
+	 * Removes one occurrence of the given shape from the index.
+	 *
+	 * @return true if the shape was found within the index
+	 */
+	public boolean remove(T shape) {
+		int i = pending.indexOf(shape);
+		if (i >= 0) {
+			int n = pending.size();
+			pending.remove(i);
+			System.arraycopy(pendingBoxes, 4 * i + 4, pendingBoxes, 4 * i,
+					4 * (n - i - 1));
+			return true;
+		}
+		if (unbounded.remove(shape))
+			return true;
+
+		int pos = find(shape);
+		if (pos < 0)
+			return false;
+		items[pos] = null;
+		removedCount++;
+		if (2 * removedCount > itemCount)
+			rebuild();
+		return true;
+	}
+
+	/**
+	 * Checks if the index contains the given shape.
+	 */
+	public boolean contains(T shape) {
+		return find(shape) >= 0 || pending.contains(shape)
+				|| unbounded.contains(shape);
+	}
+
+	/**
+	 * Removes all the shapes from the index.
+	 */
+	public void clear() {
+		build(new ArrayList<T>(0));
+	}
+
+	/**
+	 * Returns the position of the given shape within the items of the tree,
+	 * or -1 if the shape is not found.
+	 */
+	private int find(T shape) {
+		if (root < 0)
+			return -1;
+		Box2D box = shape.boundingBox();
+		if (!isFinite(box))
+			return -1;
+		double xmin = box.getMinX(), ymin = box.getMinY();
+		double xmax = box.getMaxX(), ymax = box.getMaxY();
+
+		int[] stack = new int[64];
+		int size = 0;
+		stack[size++] = root;
+		while (size > 0) {
+			int node = stack[--size];
+			if (!intersects(nodeBoxes, node, xmin, ymin, xmax, ymax))
+				continue;
+			if (node < leafCount) {
+				for (int i = firstChild[node]; i < lastChild[node]; i++) {
+					if (items[i] != null && shape.equals(items[i]))
+						return i;
+				}
+				continue;
+			}
+			int first = firstChild[node], last = lastChild[node];
+			if (size + last - first > stack.length)
+				stack = Arrays.copyOf(stack, 2 * (size + last - first));
+			for (int child = first; child < last; child++)
+				stack[size++] = child;
+		}
+		return -1;
+	}
+
+
+	// ===================================================================
+	// Window and point queries
+
+	/**
+	 * Returns the shapes whose bounding box intersects the given box,
+	 * boundary included.
+	 */
+	public ArrayList<T> query(Box2D box) {
+		ArrayList<T> result = new ArrayList<T>();
+		query(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(),
+				result);
+		return result;
+	}
+
+	/**
+	 * Returns the shapes that contain the given point.
+	 */
+	public ArrayList<T> containing(double x, double y) {
+		ArrayList<T> candidates = new ArrayList<T>();
+		double eps = Shape2D.ACCURACY;
+		query(x - eps, y - eps, x + eps, y + eps, candidates);
+
+		ArrayList<T> result = new ArrayList<T>(candidates.size());
+		for (T shape : candidates) {
+			if (shape.contains(x, y))
+				result.add(shape);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the shapes that contain the given point.
+	 */
+	public ArrayList<T> containing(Point2D point) {
+		return containing(point.x(), point.y());
+	}
+
+	/**
+	 * Returns true if at least one shape of the index contains the given
+	 * point.
+	 */
+	public boolean contains(double x, double y) {
+		ArrayList<T> candidates = new ArrayList<T>();
+		double eps = Shape2D.ACCURACY;
+		query(x - eps, y - eps, x + eps, y + eps, candidates);
+		for (T shape : candidates) {
+			if (shape.contains(x, y))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds to the result the shapes whose bounding box intersects the window.
+	 */
+	@SuppressWarnings("unchecked")
+	private void query(double xmin, double ymin, double xmax, double ymax,
+			ArrayList<T> result) {
+		if (root >= 0) {
+			int[] stack = new int[64];
+			int size = 0;
+			if (intersects(nodeBoxes, root, xmin, ymin, xmax, ymax))
+				stack[size++] = root;
+			while (size > 0) {
+				int node = stack[--size];
+				int first = firstChild[node], last = lastChild[node];
+				if (node < leafCount) {
+					for (int i = first; i < last; i++) {
+						if (items[i] != null
+								&& intersects(itemBoxes, i, xmin, ymin, xmax, ymax))
+							result.add((T) items[i]);
+					}
+					continue;
+				}
+				if (size + last - first > stack.length)
+					stack = Arrays.copyOf(stack, 2 * (size + last - first));
+				for (int child = first; child < last; child++) {
+					if (intersects(nodeBoxes, child, xmin, ymin, xmax, ymax))
+						stack[size++] = child;
+				}
+			}
+		}
+
+		for (int i = 0; i < pending.size(); i++) {
+			if (intersects(pendingBoxes, i, xmin, ymin, xmax, ymax))
+				result.add(pending.get(i));
+		}
+		for (T shape : unbounded) {
+			Box2D box = shape.boundingBox();
+			if (box.getMinX() <= xmax && box.getMaxX() >= xmin
+					&& box.getMinY() <= ymax && box.getMaxY() >= ymin)
+				result.add(shape);
+		}
+	}
+
+
+	// ===================================================================
+	// Nearest neighbor searches
+
+	/**
+	 * Returns the shape closest to the given point, or null if the index is
+	 * empty.
+	 */
+	public T nearest(double x, double y) {
+		ArrayList<T> result = new ArrayList<T>(1);
+		search(x, y, 1, result);
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/**
+	 * Returns the shape closest to the given point, or null if the index is
+	 * empty.
+	 */
+	public T nearest(Point2D point) {
+		return nearest(point.x(), point.y());
+	}
+
+	/**
+	 * Returns the k shapes closest to the given point, sorted by increasing
+	 * distance. If the index contains less than k shapes, all the shapes are
+	 * returned.
+	 */
+	public ArrayList<T> nearest(Point2D point, int k) {
+		ArrayList<T> result = new ArrayList<T>(Math.max(k, 0));
+		if (k > 0)
+			search(point.x(), point.y(), k, result);
+		return result;
+	}
+
+	/**
+	 * Returns the distance from the given point to the closest shape, or
+	 * positive infinity if the index is empty.
+	 */
+	public double distance(double x, double y) {
+		return search(x, y, 1, new ArrayList<T>(1));
+	}
+
+	/**
+	 * Returns the distance from the given point to the closest shape, or
+	 * positive infinity if the index is empty.
+	 */
+	public double distance(Point2D point) {
+		return distance(point.x(), point.y());
+	}
+
+	/**
+	 * Best-first search of the k shapes closest to the query point. Nodes and
+	 * shapes are processed by increasing distance of their bounding box, the
+	 * exact distance to a shape being computed only when its bounding box
+	 * becomes the closest entry of the queue.
+	 *
+	 * @return the distance to the last shape added to the result, or
+	 *         positive infinity if no shape was found
+	 */
+	@SuppressWarnings("unchecked")
+	private double search(double x, double y, int k, ArrayList<T> result) {
+		PriorityQueue queue = new PriorityQueue();
+
+		// buffered and unbounded shapes are processed with exact distance
+		int nPending = pending.size();
+		for (int i = 0; i < nPending; i++)
+			queue.add(pending.get(i).distance(x, y), i, EXTRA);
+		for (int i = 0; i < unbounded.size(); i++)
+			queue.add(unbounded.get(i).distance(x, y), nPending + i, EXTRA);
+
+		if (root >= 0)
+			queue.add(boxDistance(nodeBoxes, root, x, y), root, NODE);
+
+		while (!queue.isEmpty()) {
+			double dist = queue.firstKey();
+			int code = queue.removeFirst();
+			int id = code >>> 2;
+			switch (code & 3) {
+			case NODE:
+				int first = firstChild[id], last = lastChild[id];
+				if (id < leafCount) {
+					for (int i = first; i < last; i++) {
+						if (items[i] != null)
+							queue.add(boxDistance(itemBoxes, i, x, y), i,
+									ITEM_BOX);
+					}
+				} else {
+					for (int child = first; child < last; child++)
+						queue.add(boxDistance(nodeBoxes, child, x, y), child,
+								NODE);
+				}
+				break;
+			case ITEM_BOX:
+				queue.add(((T) items[id]).distance(x, y), id, ITEM);
+				break;
+			case ITEM:
+				result.add((T) items[id]);
+				break;
+			case EXTRA:
+				result.add(id < nPending ? pending.get(id)
+						: unbounded.get(id - nPending));
+				break;
+			}
+
+			if (result.size() == k)
+				return dist;
+		}
+		return result.isEmpty() ? Double.POSITIVE_INFINITY
+				: result.get(result.size() - 1).distance(x, y);
+	}
+
+
+	// ===================================================================
+	// Global properties
+
+	/**
+	 * Returns the bounding box of the shapes within the index, or null if
+	 * the index is empty.
+	 */
+	public Box2D boundingBox() {
+		if (isEmpty())
+			return null;
+
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+
+		// use the box of the root if no item was removed
+		double[] boxes = removedCount == 0 ? nodeBoxes : itemBoxes;
+		int first = removedCount == 0 ? Math.max(root, 0) : 0;
+		int last = removedCount == 0 ? root + 1 : itemCount;
+		for (int i = first; i < last; i++) {
+			if (removedCount > 0 && items[i] == null)
+				continue;
+			xmin = Math.min(xmin, boxes[4 * i]);
+			ymin = Math.min(ymin, boxes[4 * i + 1]);
+			xmax = Math.max(xmax, boxes[4 * i + 2]);
+			ymax = Math.max(ymax, boxes[4 * i + 3]);
+		}
+		for (int i = 0; i < pending.size(); i++) {
+			xmin = Math.min(xmin, pendingBoxes[4 * i]);
+			ymin = Math.min(ymin, pendingBoxes[4 * i + 1]);
+			xmax = Math.max(xmax, pendingBoxes[4 * i + 2]);
+			ymax = Math.max(ymax, pendingBoxes[4 * i + 3]);
+		}
+		for (T shape : unbounded) {
+			Box2D box = shape.boundingBox();
+			xmin = Math.min(xmin, box.getMinX());
+			ymin = Math.min(ymin, box.getMinY());
+			xmax = Math.max(xmax, box.getMaxX());
+			ymax = Math.max(ymax, box.getMaxY());
+		}
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+
+	// ===================================================================
+	// Utility methods
+
+	private static boolean isFinite(Box2D box) {
+		return box.getMinX() > Double.NEGATIVE_INFINITY
+				&& box.getMaxX() < Double.POSITIVE_INFINITY
+				&& box.getMinY() > Double.NEGATIVE_INFINITY
+				&& box.getMaxY() < Double.POSITIVE_INFINITY;
+	}
+
+	private static void setBox(double[] boxes, int i, Box2D box) {
+		boxes[4 * i] = box.getMinX();
+		boxes[4 * i + 1] = box.getMinY();
+		boxes[4 * i + 2] = box.getMaxX();
+		boxes[4 * i + 3] = box.getMaxY();
+	}
+
+	private static boolean intersects(double[] boxes, int i, double xmin,
+			double ymin, double xmax, double ymax) {
+		return boxes[4 * i] <= xmax && boxes[4 * i + 2] >= xmin
+				&& boxes[4 * i + 1] <= ymax && boxes[4 * i + 3] >= ymin;
+	}
+
+	private static double boxDistance(double[] boxes, int i, double x,
+			double y) {
+		double dx = Math.max(Math.max(boxes[4 * i] - x, x - boxes[4 * i + 2]), 0);
+		double dy = Math.max(Math.max(boxes[4 * i + 1] - y, y - boxes[4 * i + 3]), 0);
+		return Math.hypot(dx, dy);
+	}
+
+	/**
+	 * Sorts the range [from, to) of the keys by increasing values, and
+	 * applies the same permutation to the order array. Uses a quick sort
+	 * with three-way partition.
+	 */
+	private static void sort(double[] keys, int[] order, int from, int to) {
+		while (to - from > 16) {
+			// choose pivot as median of three values
+			int mid = (from + to) >>> 1;
+			double a = keys[from], b = keys[mid], c = keys[to - 1];
+			double pivot = a < b ? (b < c ? b : (a < c ? c : a))
+					: (a < c ? a : (b < c ? c : b));
+
+			// partition into lower, equal and greater values
+			int lt = from, i = from, gt = to - 1;
+			while (i <= gt) {
+				if (keys[i] < pivot)
+					swap(keys, order, lt++, i++);
+				else if (keys[i] > pivot)
+					swap(keys, order, i, gt--);
+				else
+					i++;
+			}
+
+			// recurse on smaller part, and iterate on larger one
+			if (lt - from < to - gt - 1) {
+				sort(keys, order, from, lt);
+				from = gt + 1;
+			} else {
+				sort(keys, order, gt + 1, to);
+				to = lt;
+			}
+		}
+
+		// insertion sort for small ranges
+		for (int i = from + 1; i < to; i++) {
+			double key = keys[i];
+			int index = order[i];
+			int j = i - 1;
+			while (j >= from && keys[j] > key) {
+				keys[j + 1] = keys[j];
+				order[j + 1] = order[j];
+				j--;
+			}
+			keys[j + 1] = key;
+			order[j + 1] = index;
+		}
+	}
+
+	private static void swap(double[] keys, int[] order, int i, int j) {
+		double tmp = keys[i];
+		keys[i] = keys[j];
+		keys[j] = tmp;
+		int tmp2 = order[i];
+		order[i] = order[j];
+		order[j] = tmp2;
+	}
+
+
+	// ===================================================================
+	// Inner class for nearest neighbor searches
+
+	/**
+	 * A binary min-heap of entries identified by an integer code, encoding
+	 * both the index of the entry and its kind.
+	 */
+	private static class PriorityQueue {
+		double[] keys = new double[64];
+		int[] codes = new int[64];
+		int size = 0;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		double firstKey() {
+			return keys[0];
+		}
+
+		void add(double key, int id, int kind) {
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, 2 * size);
+				codes = Arrays.copyOf(codes, 2 * size);
+			}
+			int code = (id << 2) | kind;
+
+			// sift up
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (keys[parent] <= key)
+					break;
+				keys[i] = keys[parent];
+				codes[i] = codes[parent];
+				i = parent;
+			}
+			keys[i] = key;
+			codes[i] = code;
+		}
+
+		int removeFirst() {
+			int first = codes[0];
+			double key = keys[--size];
+			int code = codes[size];
+
+			// sift down
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size)
+					break;
+				if (child + 1 < size && keys[child + 1] < keys[child])
+					child++;
+				if (key <= keys[child])
+					break;
+				keys[i] = keys[child];
+				codes[i] = codes[child];
+				i = child;
+			}
+			keys[i] = key;
+			codes[i] = code;
+			return first;
+		}
+	}
+}
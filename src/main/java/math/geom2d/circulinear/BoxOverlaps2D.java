@@ -0,0 +1,292 @@
+/**
+ * File: 	BoxOverlaps2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear;
+
+import java.util.Arrays;
+import java.util.List;
+
+import math.geom2d.Box2D;
+import math.geom2d.Shape2D;
+
+/**
+ * Broad phase for intersection computations. Identifies the couples of
+ * shapes whose bounding boxes overlap, using a sort-and-sweep algorithm on
+ * the x-extent of the boxes. Only these couples need to be processed by
+ * exact intersection routines.<br>
+ *
+ * Boxes are stored in flat arrays of double, with four values (xmin, xmax,
+ * ymin, ymax) for each shape. Couples are returned as sorted arrays of long
+ * keys, so that they can be processed in the same order as nested loops.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+class BoxOverlaps2D {
+
+	/**
+	 * Computes the bounding boxes of the given shapes, slightly enlarged to
+	 * detect shapes that touch. Unbounded shapes are associated with an
+	 * infinite box.
+	 *
+	 * @return an array containing xmin, xmax, ymin and ymax for each shape
+	 */
+	static double[] boxes(List<? extends Shape2D> shapes) {
+		int n = shapes.size();
+		double[] boxes = new double[4 * n];
+
+		int i = 0;
+		for (Shape2D shape : shapes) {
+			double xmin = Double.NaN, xmax = 0, ymin = 0, ymax = 0;
+			if (shape.isBounded()) {
+				Box2D box = shape.boundingBox();
+				xmin = box.getMinX();
+				xmax = box.getMaxX();
+				ymin = box.getMinY();
+				ymax = box.getMaxY();
+			}
+
+			// unbounded shapes, or shapes with undefined box
+			if (Double.isNaN(xmin + xmax + ymin + ymax)) {
+				boxes[i++] = Double.NEGATIVE_INFINITY;
+				boxes[i++] = Double.POSITIVE_INFINITY;
+				boxes[i++] = Double.NEGATIVE_INFINITY;
+				boxes[i++] = Double.POSITIVE_INFINITY;
+				continue;
+			}
+
+			double eps = Shape2D.ACCURACY * (1 + Math.max(
+					Math.max(Math.abs(xmin), Math.abs(xmax)),
+					Math.max(Math.abs(ymin), Math.abs(ymax))));
+			boxes[i++] = xmin - eps;
+			boxes[i++] = xmax + eps;
+			boxes[i++] = ymin - eps;
+			boxes[i++] = ymax + eps;
+		}
+
+		return boxes;
+	}
+
+	/**
+	 * Computes the couples of overlapping boxes from two sets. Each couple
+	 * (i, j) is encoded as the key i*n2+j, where n2 is the number of boxes in
+	 * the second set.
+	 *
+	 * @return the sorted keys of the overlapping couples
+	 */
+	static long[] overlappingPairs(double[] boxes1, double[] boxes2) {
+		int n1 = boxes1.length / 4;
+		int n2 = boxes2.length / 4;
+
+		int[] order1 = sortByMinX(boxes1);
+		int[] order2 = sortByMinX(boxes2);
+
+		int[] active1 = new int[Math.max(n1, 1)];
+		int[] active2 = new int[Math.max(n2, 1)];
+		int nActive1 = 0, nActive2 = 0;
+
+		long[] keys = new long[16];
+		int nKeys = 0;
+
+		int i1 = 0, i2 = 0;
+		while (i1 < n1 && i2 < n2) {
+			int ind1 = order1[i1];
+			int ind2 = order2[i2];
+			if (boxes1[4 * ind1] <= boxes2[4 * ind2]) {
+				// process a box of first set
+				double xmin = boxes1[4 * ind1];
+				nActive2 = prune(boxes2, active2, nActive2, xmin);
+				for (int k = 0; k < nActive2; k++) {
+					int j = active2[k];
+					if (overlapsY(boxes1, ind1, boxes2, j)) {
+						if (nKeys == keys.length)
+							keys = Arrays.copyOf(keys, nKeys * 2);
+						keys[nKeys++] = ((long) ind1) * n2 + j;
+					}
+				}
+				active1[nActive1++] = ind1;
+				i1++;
+			} else {
+				// process a box of second set
+				double xmin = boxes2[4 * ind2];
+				nActive1 = prune(boxes1, active1, nActive1, xmin);
+				for (int k = 0; k < nActive1; k++) {
+					int i = active1[k];
+					if (overlapsY(boxes1, i, boxes2, ind2)) {
+						if (nKeys == keys.length)
+							keys = Arrays.copyOf(keys, nKeys * 2);
+						keys[nKeys++] = ((long) i) * n2 + ind2;
+					}
+				}
+				active2[nActive2++] = ind2;
+				i2++;
+			}
+		}
+
+		// remaining boxes can only overlap active boxes of the other set
+		for (; i1 < n1; i1++) {
+			int ind1 = order1[i1];
+			nActive2 = prune(boxes2, active2, nActive2, boxes1[4 * ind1]);
+			for (int k = 0; k < nActive2; k++) {
+				int j = active2[k];
+				if (overlapsY(boxes1, ind1, boxes2, j)) {
+					if (nKeys == keys.length)
+						keys = Arrays.copyOf(keys, nKeys * 2);
+					keys[nKeys++] = ((long) ind1) * n2 + j;
+				}
+			}
+		}
+		for (; i2 < n2; i2++) {
+			int ind2 = order2[i2];
+			nActive1 = prune(boxes1, active1, nActive1, boxes2[4 * ind2]);
+			for (int k = 0; k < nActive1; k++) {
+				int i = active1[k];
+				if (overlapsY(boxes1, i, boxes2, ind2)) {
+					if (nKeys == keys.length)
+						keys = Arrays.copyOf(keys, nKeys * 2);
+					keys[nKeys++] = ((long) i) * n2 + ind2;
+				}
+			}
+		}
+
+		keys = Arrays.copyOf(keys, nKeys);
+		Arrays.sort(keys);
+		return keys;
+	}
+
+	/**
+	 * Computes the couples of overlapping boxes within a set of boxes. Each
+	 * couple (i, j), with i &lt; j, is encoded as the key i*n+j, where n is
+	 * the number of boxes.
+	 *
+	 * @return the sorted keys of the overlapping couples
+	 */
+	static long[] overlappingPairs(double[] boxes) {
+		int n = boxes.length / 4;
+		int[] order = sortByMinX(boxes);
+
+		int[] active = new int[Math.max(n, 1)];
+		int nActive = 0;
+
+		long[] keys = new long[16];
+		int nKeys = 0;
+
+		for (int k = 0; k < n; k++) {
+			int ind = order[k];
+			nActive = prune(boxes, active, nActive, boxes[4 * ind]);
+			for (int k2 = 0; k2 < nActive; k2++) {
+				int ind2 = active[k2];
+				if (overlapsY(boxes, ind, boxes, ind2)) {
+					if (nKeys == keys.length)
+						keys = Arrays.copyOf(keys, nKeys * 2);
+					keys[nKeys++] = ind < ind2 ? ((long) ind) * n + ind2
+							: ((long) ind2) * n + ind;
+				}
+			}
+			active[nActive++] = ind;
+		}
+
+		keys = Arrays.copyOf(keys, nKeys);
+		Arrays.sort(keys);
+		return keys;
+	}
+
+	/**
+	 * Removes from the list of active boxes the boxes located on the left
+	 * of the sweep line, and returns the new number of active boxes.
+	 */
+	private static int prune(double[] boxes, int[] active, int nActive,
+			double x) {
+		int n = 0;
+		for (int k = 0; k < nActive; k++) {
+			if (boxes[4 * active[k] + 1] >= x)
+				active[n++] = active[k];
+		}
+		return n;
+	}
+
+	private static boolean overlapsY(double[] boxes1, int i, double[] boxes2,
+			int j) {
+		return boxes1[4 * i + 2] <= boxes2[4 * j + 3]
+				&& boxes2[4 * j + 2] <= boxes1[4 * i + 3];
+	}
+
+	/**
+	 * Returns the indices of the boxes, sorted by increasing xmin.
+	 */
+	private static int[] sortByMinX(double[] boxes) {
+		int n = boxes.length / 4;
+		int[] order = new int[n];
+		double[] keys = new double[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+			keys[i] = boxes[4 * i];
+		}
+		sort(keys, order, 0, n - 1);
+		return order;
+	}
+
+	/**
+	 * Sorts the keys and the associated indices, using quick sort.
+	 */
+	private static void sort(double[] keys, int[] inds, int lo, int hi) {
+		while (hi - lo > 16) {
+			// median of three pivot
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < keys[lo])
+				swap(keys, inds, mid, lo);
+			if (keys[hi] < keys[lo])
+				swap(keys, inds, hi, lo);
+			if (keys[hi] < keys[mid])
+				swap(keys, inds, hi, mid);
+			double pivot = keys[mid];
+
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (keys[i] < pivot)
+					i++;
+				while (keys[j] > pivot)
+					j--;
+				if (i <= j)
+					swap(keys, inds, i++, j--);
+			}
+
+			// recurse on smaller part, iterate on larger one
+			if (j - lo < hi - i) {
+				sort(keys, inds, lo, j);
+				lo = i;
+			} else {
+				sort(keys, inds, i, hi);
+				hi = j;
+			}
+		}
+
+		// insertion sort for small ranges
+		for (int i = lo + 1; i <= hi; i++) {
+			double key = keys[i];
+			int ind = inds[i];
+			int j = i - 1;
+			while (j >= lo && keys[j] > key) {
+				keys[j + 1] = keys[j];
+				inds[j + 1] = inds[j];
+				j--;
+			}
+			keys[j + 1] = key;
+			inds[j + 1] = ind;
+		}
+	}
+
+	private static void swap(double[] keys, int[] inds, int i, int j) {
+		double tmp = keys[i];
+		keys[i] = keys[j];
+		keys[j] = tmp;
+		int tmp2 = inds[i];
+		inds[i] = inds[j];
+		inds[j] = tmp2;
+	}
+}
@@ -9,6 +9,7 @@
 package math.geom2d.circulinear;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -159,37 +160,34 @@ public class CirculinearCurves2D {
 
 	/**
 	 * Computes intersection point of a single curve, by iterating on pair of
-	 * Circulinear elements composing the curve.
+	 * Circulinear elements composing the curve. Only the couples of elements
+	 * whose bounding boxes overlap are processed.
 	 * 
 	 * @return the set of self-intersection points
 	 */
 	public static Collection<Point2D> findSelfIntersections(
 			CirculinearCurve2D curve) {
 
-		// create array of circulinear elements
-		ArrayList<CirculinearElement2D> elements = new ArrayList<CirculinearElement2D>();
-
 		// extract all circulinear elements of the curve
-		for (CirculinearContinuousCurve2D cont : curve.continuousCurves())
-			elements.addAll(cont.smoothPieces());
+		ArrayList<CirculinearElement2D> elements = elements(curve);
 
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
-		// iterate on each couple of elements
+		// iterate on each couple of elements with overlapping boxes
 		int n = elements.size();
-		for (int i = 0; i < n - 1; i++) {
-			CirculinearElement2D elem1 = elements.get(i);
-			for (int j = i; j < n; j++) {
-				CirculinearElement2D elem2 = elements.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					result.add(inter);
-				}
+		long[] pairs = BoxOverlaps2D.overlappingPairs(
+				BoxOverlaps2D.boxes(elements));
+		for (long key : pairs) {
+			CirculinearElement2D elem1 = elements.get((int) (key / n));
+			CirculinearElement2D elem2 = elements.get((int) (key % n));
+			// iterate on intersections between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// do not keep extremities
+				if (isCommonVertex(inter, elem1, elem2))
+					continue;
+
+				result.add(inter);
 			}
 		}
 
@@ -200,45 +198,46 @@ public class CirculinearCurves2D {
 	public static double[][] locateSelfIntersections(
 			CurveSet2D<? extends CirculinearElement2D> curve) {
 
-		// create array for storing result
-		ArrayList<Double> list1 = new ArrayList<Double>(0);
-		ArrayList<Double> list2 = new ArrayList<Double>(0);
+		// create buffer for storing positions on each element
+		double[] positions = new double[16];
+		int np = 0;
 		double dt;
 
-		// iterate on each couple of elements
-		int n = curve.size();
-		for (int i = 0; i < n - 1; i++) {
-			CirculinearElement2D elem1 = curve.get(i);
-			for (int j = i + 1; j < n; j++) {
-				CirculinearElement2D elem2 = curve.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					// add the intersection if we keep it
-					dt = Curves2D.toUnitSegment(elem1.position(inter),
-							elem1.t0(), elem1.t1());
-					list1.add(2 * i + dt);
-
-					dt = Curves2D.toUnitSegment(elem2.position(inter),
-							elem2.t0(), elem2.t1());
-					list2.add(2 * j + dt);
-				}
-			}
-		}
+		// extract elements of the curve
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>(curve.curves());
 
-		// convert the 2 lists into a n*2 array
-		int np = list1.size();
-		double[][] result = new double[np][2];
-		for (int i = 0; i < np; i++) {
-			result[i][0] = list1.get(i);
-			result[i][1] = list2.get(i);
+		// iterate on each couple of elements with overlapping boxes
+		int n = elements.size();
+		long[] pairs = BoxOverlaps2D.overlappingPairs(
+				BoxOverlaps2D.boxes(elements));
+		for (long key : pairs) {
+			int i = (int) (key / n);
+			int j = (int) (key % n);
+			CirculinearElement2D elem1 = elements.get(i);
+			CirculinearElement2D elem2 = elements.get(j);
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// do not keep extremities
+				if (isCommonVertex(inter, elem1, elem2))
+					continue;
+
+				// add the intersection if we keep it
+				if (2 * np + 2 > positions.length)
+					positions = Arrays.copyOf(positions, positions.length * 2);
+				dt = Curves2D.toUnitSegment(elem1.position(inter),
+						elem1.t0(), elem1.t1());
+				positions[2 * np] = 2 * i + dt;
+
+				dt = Curves2D.toUnitSegment(elem2.position(inter),
+						elem2.t0(), elem2.t1());
+				positions[2 * np + 1] = 2 * j + dt;
+				np++;
+			}
 		}
 
-		// return the array of positions
-		return result;
+		// convert the buffer into a n*2 array
+		return toPositionArray(positions, np);
 	}
 
 	/**
@@ -267,38 +266,32 @@ public class CirculinearCurves2D {
 	}
 
 	/**
-	 * Compute the set of intersection points between the two curves.
+	 * Compute the set of intersection points between the two curves. Only
+	 * the couples of elements whose bounding boxes overlap are processed.
 	 * 
 	 * @return a collection of intersection points
 	 */
 	public static Collection<Point2D> findIntersections(
 			CirculinearCurve2D curve1, CirculinearCurve2D curve2) {
 
-		// create array of circulinear elements
-		ArrayList<CirculinearElement2D> elements1 = new ArrayList<CirculinearElement2D>();
-		ArrayList<CirculinearElement2D> elements2 = new ArrayList<CirculinearElement2D>();
-
-		// extract all circulinear elements of the curve
-		for (CirculinearContinuousCurve2D cont : curve1.continuousCurves())
-			elements1.addAll(cont.smoothPieces());
-		for (CirculinearContinuousCurve2D cont : curve2.continuousCurves())
-			elements2.addAll(cont.smoothPieces());
+		// extract all circulinear elements of the curves
+		ArrayList<CirculinearElement2D> elements1 = elements(curve1);
+		ArrayList<CirculinearElement2D> elements2 = elements(curve2);
 
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
-		// iterate on each couple of elements
-		int n1 = elements1.size();
+		// iterate on each couple of elements with overlapping boxes
 		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// add the intersection if we keep it
-					result.add(inter);
-				}
+		long[] pairs = BoxOverlaps2D.overlappingPairs(
+				BoxOverlaps2D.boxes(elements1), BoxOverlaps2D.boxes(elements2));
+		for (long key : pairs) {
+			CirculinearElement2D elem1 = elements1.get((int) (key / n2));
+			CirculinearElement2D elem2 = elements2.get((int) (key % n2));
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// add the intersection if we keep it
+				result.add(inter);
 			}
 		}
 
@@ -315,49 +308,61 @@ public class CirculinearCurves2D {
 	public static double[][] locateIntersections(CirculinearCurve2D curve1,
 			CirculinearCurve2D curve2) {
 
-		// create array for storing result
-		ArrayList<Double> list1 = new ArrayList<Double>(0);
-		ArrayList<Double> list2 = new ArrayList<Double>(0);
-
-		// create array of circulinear elements
-		ArrayList<CirculinearElement2D> elements1 = new ArrayList<CirculinearElement2D>();
-		ArrayList<CirculinearElement2D> elements2 = new ArrayList<CirculinearElement2D>();
+		// create buffer for storing positions on each curve
+		double[] positions = new double[16];
+		int np = 0;
 
-		// extract all circulinear elements of the curve
-		for (CirculinearContinuousCurve2D cont : curve1.continuousCurves())
-			elements1.addAll(cont.smoothPieces());
-		for (CirculinearContinuousCurve2D cont : curve2.continuousCurves())
-			elements2.addAll(cont.smoothPieces());
+		// extract all circulinear elements of the curves
+		ArrayList<CirculinearElement2D> elements1 = elements(curve1);
+		ArrayList<CirculinearElement2D> elements2 = elements(curve2);
 
-		// iterate on each couple of elements
-		int n1 = elements1.size();
+		// iterate on each couple of elements with overlapping boxes
 		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					double pos1 = curve1.position(inter);
-					double pos2 = curve2.position(inter);
-					if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
-						continue;
-					// add the intersection if we keep it
-					list1.add(pos1);
-					list2.add(pos2);
-				}
+		long[] pairs = BoxOverlaps2D.overlappingPairs(
+				BoxOverlaps2D.boxes(elements1), BoxOverlaps2D.boxes(elements2));
+		for (long key : pairs) {
+			CirculinearElement2D elem1 = elements1.get((int) (key / n2));
+			CirculinearElement2D elem2 = elements2.get((int) (key % n2));
+			// iterate on intersections between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				double pos1 = curve1.position(inter);
+				double pos2 = curve2.position(inter);
+				if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
+					continue;
+				// add the intersection if we keep it
+				if (2 * np + 2 > positions.length)
+					positions = Arrays.copyOf(positions, positions.length * 2);
+				positions[2 * np] = pos1;
+				positions[2 * np + 1] = pos2;
+				np++;
 			}
 		}
 
-		// convert the 2 lists into a n*2 array
-		int np = list1.size();
+		// convert the buffer into a n*2 array
+		return toPositionArray(positions, np);
+	}
+
+	/**
+	 * Extracts all the circulinear elements of the given curve.
+	 */
+	private static ArrayList<CirculinearElement2D> elements(
+			CirculinearCurve2D curve) {
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>();
+		for (CirculinearContinuousCurve2D cont : curve.continuousCurves())
+			elements.addAll(cont.smoothPieces());
+		return elements;
+	}
+
+	/**
+	 * Converts a buffer of interleaved positions into a N-by-2 array.
+	 */
+	private static double[][] toPositionArray(double[] positions, int np) {
 		double[][] result = new double[np][2];
 		for (int i = 0; i < np; i++) {
-			result[i][0] = list1.get(i);
-			result[i][1] = list2.get(i);
+			result[i][0] = positions[2 * i];
+			result[i][1] = positions[2 * i + 1];
 		}
-
-		// return the array of positions
 		return result;
 	}
 
@@ -669,32 +674,33 @@ public class CirculinearCurves2D {
 		}
 
 		// identify couples of intersections on each couple (i,j) of curves
-		for (int i = 0; i < nCurves - 1; i++) {
-			CirculinearContour2D curve1 = curveArray[i];
-
-			for (int j = i + 1; j < nCurves; j++) {
-				CirculinearContour2D curve2 = curveArray[j];
-				double[][] couples = locateIntersections(curve1, curve2);
-
-				// iterate on intersections to populate the data
-				for (int k = 0; k < couples.length; k++) {
-					// position on each curve
-					pos1 = couples[k][0];
-					pos2 = couples[k][1];
-
-					// add positions in their tree sets
-					positions.get(i).add(pos1);
-					positions.get(j).add(pos2);
-
-					// store indices of corresponding intersecting curves
-					twinIndices.get(i).put(pos1, j);
-					twinIndices.get(j).put(pos2, i);
-
-					// store positions of intersection point on the
-					// corresponding curve
-					twinPositions.get(i).put(pos1, pos2);
-					twinPositions.get(j).put(pos2, pos1);
-				}
+		// whose bounding boxes overlap
+		long[] pairs = BoxOverlaps2D.overlappingPairs(
+				BoxOverlaps2D.boxes(Arrays.asList(curveArray)));
+		for (long key : pairs) {
+			int i = (int) (key / nCurves);
+			int j = (int) (key % nCurves);
+			double[][] couples = locateIntersections(curveArray[i], 
+					curveArray[j]);
+
+			// iterate on intersections to populate the data
+			for (int k = 0; k < couples.length; k++) {
+				// position on each curve
+				pos1 = couples[k][0];
+				pos2 = couples[k][1];
+
+				// add positions in their tree sets
+				positions.get(i).add(pos1);
+				positions.get(j).add(pos2);
+
+				// store indices of corresponding intersecting curves
+				twinIndices.get(i).put(pos1, j);
+				twinIndices.get(j).put(pos2, i);
+
+				// store positions of intersection point on the
+				// corresponding curve
+				twinPositions.get(i).put(pos1, pos2);
+				twinPositions.get(j).put(pos2, pos1);
 			}
 		}
 
@@ -767,25 +773,26 @@ public class CirculinearCurves2D {
 			contours.add(BoundaryPolyCirculinearCurve2D.create(elements.toArray(new CirculinearElement2D[0]), true));
 		}
 
-		// Process other curves, while there are intersections left
-		while (!isAllEmpty(twinPositions)) {
+		// Process other curves, while there are intersections left. As
+		// intersections are only removed, curves before the first curve with
+		// unprocessed intersections do not need to be checked again.
+		int first = 0;
+		while (true) {
+			// find a curve with unprocessed intersections
+			while (first < nCurves && twinPositions.get(first).isEmpty())
+				first++;
+			if (first == nCurves)
+				break;
+
 			// create new empty array of elements for current contour
 			ArrayList<CirculinearElement2D> elements = new ArrayList<CirculinearElement2D>();
 
 			// indices of the two considered curves.
-			int ind0 = 0, ind;
-
-			// get first intersection
-			for (int i = 0; i < nCurves; i++) {
-				// find a curve with unprocessed intersections
-				if (twinPositions.get(i).isEmpty())
-					continue;
+			int ind0, ind;
 
-				// find first unprocessed intersection
-				pos0 = twinPositions.get(i).firstEntry().getValue();
-				ind0 = twinIndices.get(i).firstEntry().getValue();
-				break;
-			}
+			// find first unprocessed intersection
+			pos0 = twinPositions.get(first).firstEntry().getValue();
+			ind0 = twinIndices.get(first).firstEntry().getValue();
 
 			if (ind0 == 0) {
 				System.out.println("No more intersections, but was not detected");
@@ -822,14 +829,6 @@ public class CirculinearCurves2D {
 		elements.addAll(curve.smoothPieces());
 	}
 
-	private static boolean isAllEmpty(Collection<TreeMap<Double, Double>> coll) {
-		for (TreeMap<?, ?> map : coll) {
-			if (!map.isEmpty())
-				return false;
-		}
-		return true;
-	}
-
 	/**
 	 * Returns either the next value, or the first value of the tree if the
 	 * given value is the last one of the tree.
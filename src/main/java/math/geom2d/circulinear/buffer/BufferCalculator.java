@@ -9,8 +9,13 @@
 package math.geom2d.circulinear.buffer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
@@ -19,6 +24,7 @@ import math.geom2d.conic.Circle2D;
 import math.geom2d.curve.Curves2D;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.point.PointSet2D;
+import math.utils.ParallelUtils;
 
 
 /**
@@ -39,6 +45,18 @@ public class BufferCalculator {
 
 	private static BufferCalculator defaultInstance = null;
 	
+	/**
+	 * The number of curve pieces or contours below which the buffer of a
+	 * curve is computed sequentially.
+	 */
+	private final static int PARALLEL_THRESHOLD = 4;
+	
+	/**
+	 * The number of curves below which a batch of buffers is computed
+	 * sequentially.
+	 */
+	private final static int BATCH_THRESHOLD = 16;
+	
 	/**
 	 * Returns the default instance of bufferCalculator.
 	 */
@@ -243,9 +261,93 @@ public class BufferCalculator {
 	 */
 	public CirculinearDomain2D computeBuffer(
 			CirculinearCurve2D curve, double dist) {
+		return computeBuffer(curve, dist,
+				new ArrayList<CirculinearContour2D>());
+	}
+	
+	/**
+	 * Compute the buffer of a circulinear curve, using the specified
+	 * fork-join pool for computing the buffers of the pieces of the curve,
+	 * and for filtering the contours, in parallel. Splitting the contours
+	 * that intersect each other is still performed sequentially.
+	 * @see #computeBuffer(CirculinearCurve2D, double)
+	 * @since 0.11.3
+	 */
+	public CirculinearDomain2D computeBuffer(CirculinearCurve2D curve,
+			double dist, ForkJoinPool pool) {
+		
+		// split the curve into a set of non self-intersecting curves
+		ArrayList<CirculinearContinuousCurve2D> pieces = 
+			new ArrayList<CirculinearContinuousCurve2D>();
+		for (CirculinearContinuousCurve2D cont : curve.continuousCurves())
+			pieces.addAll(CirculinearCurves2D.splitContinuousCurve(cont));
+		
+		// compute the rings composing the buffer of each simple curve
+		PieceBufferTask pieceTask = 
+			new PieceBufferTask(pieces, dist, 0, pieces.size());
+		ArrayList<CirculinearContour2D> contours = 
+			pieces.size() <= PARALLEL_THRESHOLD ? 
+					pieceTask.compute() : pool.invoke(pieceTask);
 		
-		ArrayList<CirculinearContour2D> contours =
-			new ArrayList<CirculinearContour2D>();
+		// split contours which intersect each others
+		contours = new ArrayList<CirculinearContour2D>(
+				CirculinearCurves2D.splitIntersectingContours(contours));
+		
+		// Remove contours that cross or that are too close from base curve
+		ContourFilterTask filterTask = new ContourFilterTask(curve, 
+				curve.vertices(), contours, dist, 0, contours.size());
+		ArrayList<CirculinearContour2D> contours2 = 
+			contours.size() <= PARALLEL_THRESHOLD ? 
+					filterTask.compute() : pool.invoke(filterTask);
+		
+		return new GenericCirculinearDomain2D(
+				CirculinearContourArray2D.create(contours2.toArray(new CirculinearContour2D[0])));
+	}
+	
+	/**
+	 * Compute the buffers of a list of circulinear curves, using the same
+	 * distance for each curve. The buffers are computed in parallel using
+	 * a default fork-join pool, and are returned in the order of the
+	 * curves.
+	 * @see #computeBuffer(CirculinearCurve2D, double)
+	 * @since 0.11.3
+	 */
+	public List<CirculinearDomain2D> computeBuffers(
+			List<? extends CirculinearCurve2D> curves, double dist) {
+		return computeBuffers(curves, dist, ParallelUtils.defaultPool());
+	}
+	
+	/**
+	 * Compute the buffers of a list of circulinear curves, using the 
+	 * specified fork-join pool for processing the curves in parallel. Each
+	 * curve is processed sequentially, and the buffers are returned in the
+	 * order of the curves.
+	 * @see #computeBuffers(List, double)
+	 * @since 0.11.3
+	 */
+	public List<CirculinearDomain2D> computeBuffers(
+			List<? extends CirculinearCurve2D> curves, double dist,
+			ForkJoinPool pool) {
+		CirculinearCurve2D[] array = 
+			curves.toArray(new CirculinearCurve2D[curves.size()]);
+		CirculinearDomain2D[] buffers = new CirculinearDomain2D[array.length];
+		
+		BatchBufferTask task = 
+			new BatchBufferTask(array, buffers, dist, 0, array.length);
+		if (array.length <= BATCH_THRESHOLD)
+			task.compute();
+		else
+			pool.invoke(task);
+		return Arrays.asList(buffers);
+	}
+	
+	/**
+	 * Compute the buffer of a circulinear curve, using the given list for
+	 * storing intermediate contours. The list is empty after the call.
+	 */
+	private CirculinearDomain2D computeBuffer(CirculinearCurve2D curve,
+			double dist, ArrayList<CirculinearContour2D> contours) {
+		contours.clear();
 		
 		// iterate on all continuous curves
 		for (CirculinearContinuousCurve2D cont : curve.continuousCurves()) {
@@ -258,50 +360,62 @@ public class BufferCalculator {
 		}
 		
 		// split contours which intersect each others
-		contours = new ArrayList<CirculinearContour2D>(
-				CirculinearCurves2D.splitIntersectingContours(contours));		
+		Collection<CirculinearContour2D> splitted = 
+			CirculinearCurves2D.splitIntersectingContours(contours);
+		contours.clear();
 		
 		// Remove contours that cross or that are too close from base curve
-		ArrayList<CirculinearContour2D> contours2 = 
-			new ArrayList<CirculinearContour2D>(contours.size());
-		Collection<Point2D> intersects;
-		Collection<Point2D> vertices;
-		
-		for (CirculinearContour2D contour : contours) {
-			
-			// do not keep contours which cross original curve
-			intersects = CirculinearCurves2D.findIntersections(curve, contour);
-			
-			// remove intersection points that are vertices of the reference curve
-			vertices = curve.singularPoints();
-			vertices = curve.vertices();
-			intersects.removeAll(vertices);
-			
-			if (intersects.size() > 0)
-				continue;
-			
-			// check that vertices of contour are not too close from original
-			// curve
-			double distCurves = 
-				getDistanceCurveSingularPoints(curve, contour);
-			if(distCurves < dist-Shape2D.ACCURACY)
-				continue;
-			
-			// keep the contours that meet the above conditions
-			contours2.add(contour);
+		Collection<Point2D> vertices = curve.vertices();
+		for (CirculinearContour2D contour : splitted) {
+			if (isBufferContour(curve, vertices, contour, dist))
+				contours.add(contour);
 		}
 		
 		// All the rings are created, we can now create a new domain with the
 		// set of rings
-		return new GenericCirculinearDomain2D(
-				CirculinearContourArray2D.create(contours2.toArray(new CirculinearContour2D[0])));
+		CirculinearDomain2D buffer = new GenericCirculinearDomain2D(
+				CirculinearContourArray2D.create(contours.toArray(new CirculinearContour2D[0])));
+		contours.clear();
+		return buffer;
+	}
+	
+	/**
+	 * Checks if a contour computed from a curve belongs to the boundary of
+	 * the buffer of the curve, that is, if it does not cross the curve, and
+	 * if it is not too close from it. 
+	 */
+	private boolean isBufferContour(CirculinearCurve2D curve, 
+			Collection<Point2D> vertices, CirculinearContour2D contour,
+			double dist) {
+		
+		// do not keep contours which cross original curve
+		Collection<Point2D> intersects = 
+			CirculinearCurves2D.findIntersections(curve, contour);
+		
+		// remove intersection points that are vertices of the reference curve
+		intersects.removeAll(vertices);
+		
+		if (intersects.size() > 0)
+			return false;
+		
+		// check that vertices of contour are not too close from original
+		// curve
+		double distCurves = getDistanceCurveSingularPoints(curve, contour);
+		return distCurves >= dist - Shape2D.ACCURACY;
 	}
 	
 	/**
-	 * Compute buffer of a point set.
+	 * Compute buffer of a point set.<p>
+	 * For positive distances, points are bucketed in a uniform grid with
+	 * cells of size 2*dist, such that only circles around neighbor points
+	 * are intersected. Groups of intersecting circles are processed in
+	 * parallel, using a default fork-join pool.
 	 */
 	public CirculinearDomain2D computeBuffer(PointSet2D set, 
 			double dist) {
+		if (dist > 0)
+			return computeBuffer(set, dist, ParallelUtils.defaultPool());
+		
 		// create array for storing result
 		Collection<CirculinearContour2D> contours = 
 			new ArrayList<CirculinearContour2D>(set.size());
@@ -334,6 +448,31 @@ public class BufferCalculator {
 				CirculinearContourArray2D.create(contours2.toArray(new CirculinearContour2D[0])));
 	}
 
+	/**
+	 * Compute buffer of a point set, for a positive distance, using the
+	 * specified fork-join pool for processing groups of intersecting
+	 * circles in parallel.
+	 * @see #computeBuffer(PointSet2D, double)
+	 * @since 0.11.3
+	 */
+	public CirculinearDomain2D computeBuffer(PointSet2D set, double dist,
+			ForkJoinPool pool) {
+		if (dist <= 0)
+			throw new IllegalArgumentException(
+					"Buffer distance must be positive: " + dist);
+		
+		Collection<CirculinearContour2D> contours = set.size() == 0 ?
+				new ArrayList<CirculinearContour2D>(0) :
+				new PointSetBuffer2D(set, dist).contours(pool);
+		
+		// contours are all distinct: avoid the equality test of add(T)
+		CirculinearContourArray2D<CirculinearContour2D> array = 
+			new CirculinearContourArray2D<CirculinearContour2D>(contours.size());
+		for (CirculinearContour2D contour : contours)
+			array.add(array.size(), contour);
+		return new GenericCirculinearDomain2D(array);
+	}
+
 	/**
 	 * Computes the buffer of a simple curve.
 	 * This method should replace the method 'computeBufferSimpleContour'.
@@ -526,5 +665,142 @@ public class BufferCalculator {
 			minDist = Math.min(minDist, ref.distance(point));
 		}
 		return minDist;
+	}	
+	
+    // ===================================================================
+    // Parallel processing
+
+	/**
+	 * Computes the buffer contours of a range of simple curve pieces,
+	 * splitting the range until it is small enough.
+	 */
+	private class PieceBufferTask 
+	extends RecursiveTask<ArrayList<CirculinearContour2D>> {
+		private static final long serialVersionUID = 1L;
+		
+		private List<CirculinearContinuousCurve2D> pieces;
+		private double dist;
+		private int from;
+		private int to;
+		
+		public PieceBufferTask(List<CirculinearContinuousCurve2D> pieces,
+				double dist, int from, int to) {
+			this.pieces = pieces;
+			this.dist = dist;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected ArrayList<CirculinearContour2D> compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				ArrayList<CirculinearContour2D> contours = 
+					new ArrayList<CirculinearContour2D>();
+				for (int i = from; i < to; i++)
+					contours.addAll(computeBufferSimpleCurve(pieces.get(i), dist));
+				return contours;
+			}
+			
+			int mid = (from + to) >>> 1;
+			PieceBufferTask left = new PieceBufferTask(pieces, dist, from, mid);
+			PieceBufferTask right = new PieceBufferTask(pieces, dist, mid, to);
+			left.fork();
+			ArrayList<CirculinearContour2D> rightResult = right.compute();
+			ArrayList<CirculinearContour2D> result = left.join();
+			result.addAll(rightResult);
+			return result;
+		}
+	}
+	
+	/**
+	 * Selects the contours of a range that belong to the buffer of a curve,
+	 * splitting the range until it is small enough.
+	 */
+	private class ContourFilterTask 
+	extends RecursiveTask<ArrayList<CirculinearContour2D>> {
+		private static final long serialVersionUID = 1L;
+		
+		private CirculinearCurve2D curve;
+		private Collection<Point2D> vertices;
+		private List<CirculinearContour2D> contours;
+		private double dist;
+		private int from;
+		private int to;
+		
+		public ContourFilterTask(CirculinearCurve2D curve, 
+				Collection<Point2D> vertices,
+				List<CirculinearContour2D> contours, double dist,
+				int from, int to) {
+			this.curve = curve;
+			this.vertices = vertices;
+			this.contours = contours;
+			this.dist = dist;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected ArrayList<CirculinearContour2D> compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				ArrayList<CirculinearContour2D> result = 
+					new ArrayList<CirculinearContour2D>(to - from);
+				for (int i = from; i < to; i++) {
+					CirculinearContour2D contour = contours.get(i);
+					if (isBufferContour(curve, vertices, contour, dist))
+						result.add(contour);
+				}
+				return result;
+			}
+			
+			int mid = (from + to) >>> 1;
+			ContourFilterTask left = new ContourFilterTask(curve, vertices, 
+					contours, dist, from, mid);
+			ContourFilterTask right = new ContourFilterTask(curve, vertices,
+					contours, dist, mid, to);
+			left.fork();
+			ArrayList<CirculinearContour2D> rightResult = right.compute();
+			ArrayList<CirculinearContour2D> result = left.join();
+			result.addAll(rightResult);
+			return result;
+		}
+	}
+	
+	/**
+	 * Computes the buffers of a range of curves, splitting the range until
+	 * it is small enough. The curves of a range are processed sequentially,
+	 * reusing the same list of intermediate contours.
+	 */
+	private class BatchBufferTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private CirculinearCurve2D[] curves;
+		private CirculinearDomain2D[] buffers;
+		private double dist;
+		private int from;
+		private int to;
+		
+		public BatchBufferTask(CirculinearCurve2D[] curves, 
+				CirculinearDomain2D[] buffers, double dist, int from, int to) {
+			this.curves = curves;
+			this.buffers = buffers;
+			this.dist = dist;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_THRESHOLD) {
+				ArrayList<CirculinearContour2D> contours = 
+					new ArrayList<CirculinearContour2D>();
+				for (int i = from; i < to; i++)
+					buffers[i] = computeBuffer(curves[i], dist, contours);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(
+					new BatchBufferTask(curves, buffers, dist, from, mid),
+					new BatchBufferTask(curves, buffers, dist, mid, to));
+		}
 	}
 }
@@ -0,0 +1,588 @@
+/**
+ * File: 	LinearBufferCalculator.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.circulinear.CirculinearContinuousCurve2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.polygon.clip.SweepBooleanEngine;
+import math.geom2d.polygon.clip.PolygonBooleanEngine.FillRule;
+import math.geom2d.polygon.clip.PolygonBooleanEngine.Operation;
+
+/**
+ * Computes polygonal approximations of the buffers of polylines, linear
+ * rings and polygons.<p>
+ * Contrary to BufferCalculator, the result is a polygon, and circle arcs of
+ * joins and caps are approximated by polylines whose vertices are located
+ * on the arcs, with a deviation lower than the value given at construction.
+ * The algorithm works on arrays of coordinates:
+ * <ol>
+ * <li> each ring or path is offset vertex by vertex, adding joins at
+ * salient vertices, and the original vertex at re-entrant vertices</li>
+ * <li> paths are closed by a cap at each extremity</li>
+ * <li> the resulting rings, that may overlap, are merged by keeping the
+ * regions with positive winding number, using a SweepBooleanEngine</li>
+ * </ol>
+ * The joins and caps of the built-in factories are computed directly on
+ * coordinates. Other factories are called with the line segments around
+ * the vertex, and the result is converted to a polyline.<p>
+ * Instances do not keep any state between computations, and can be shared
+ * between threads.
+ *
+ * @see BufferCalculator
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class LinearBufferCalculator {
+
+    // ===================================================================
+    // Constants
+
+	private enum JoinType {
+		ROUND, MITER, BEVEL, OTHER
+	}
+
+	private enum CapType {
+		ROUND, BUTT, SQUARE, TRIANGLE, OTHER
+	}
+
+	/** The engine used for merging overlapping rings */
+	private final static SweepBooleanEngine engine =
+		new SweepBooleanEngine(FillRule.POSITIVE);
+
+
+    // ===================================================================
+    // Class variables
+
+	private final JoinFactory joinFactory;
+	private final CapFactory capFactory;
+	private final JoinType joinType;
+	private final CapType capType;
+
+	/** The maximal distance between arcs and their approximations */
+	private final double maxDeviation;
+
+
+    // ===================================================================
+    // Constructors
+
+	/**
+	 * Creates a new buffer calculator with round joins and caps.
+	 * @param maxDeviation the maximal distance between circle arcs and the
+	 *            polylines approximating them
+	 */
+	public LinearBufferCalculator(double maxDeviation) {
+		this(new RoundJoinFactory(), new RoundCapFactory(), maxDeviation);
+	}
+
+	/**
+	 * Creates a new buffer calculator with specific join and cap factories.
+	 * @param maxDeviation the maximal distance between circle arcs and the
+	 *            polylines approximating them
+	 */
+	public LinearBufferCalculator(JoinFactory joinFactory,
+			CapFactory capFactory, double maxDeviation) {
+		if (!(maxDeviation > 0))
+			throw new IllegalArgumentException(
+					"Maximal deviation must be positive: " + maxDeviation);
+		this.joinFactory = joinFactory;
+		this.capFactory = capFactory;
+		this.maxDeviation = maxDeviation;
+
+		// identify built-in factories, but not their subclasses
+		Class<?> joinClass = joinFactory.getClass();
+		if (joinClass == RoundJoinFactory.class)
+			this.joinType = JoinType.ROUND;
+		else if (joinClass == MiterJoinFactory.class)
+			this.joinType = JoinType.MITER;
+		else if (joinClass == BevelJoinFactory.class)
+			this.joinType = JoinType.BEVEL;
+		else
+			this.joinType = JoinType.OTHER;
+
+		Class<?> capClass = capFactory.getClass();
+		if (capClass == RoundCapFactory.class)
+			this.capType = CapType.ROUND;
+		else if (capClass == ButtCapFactory.class)
+			this.capType = CapType.BUTT;
+		else if (capClass == SquareCapFactory.class)
+			this.capType = CapType.SQUARE;
+		else if (capClass == TriangleCapFactory.class)
+			this.capType = CapType.TRIANGLE;
+		else
+			this.capType = CapType.OTHER;
+	}
+
+
+    // ===================================================================
+    // Accessors
+
+	public JoinFactory getJoinFactory() {
+		return joinFactory;
+	}
+
+	public CapFactory getCapFactory() {
+		return capFactory;
+	}
+
+	public double getMaxDeviation() {
+		return maxDeviation;
+	}
+
+
+    // ===================================================================
+    // Buffer of shapes
+
+	/**
+	 * Computes the buffer of a polyline or of a linear ring. The sign of the
+	 * distance is ignored.
+	 */
+	public Polygon2D computeBuffer(LinearCurve2D curve, double dist) {
+		double[][] paths = new double[][] { convertVertices(curve.vertices()) };
+		return createPolygon(computeCurveBuffer(paths, curve.isClosed(), dist));
+	}
+
+	/**
+	 * Computes the buffer of a polygon. The buffer is a dilation of the
+	 * polygon for positive distances, and an erosion for negative distances.
+	 */
+	public Polygon2D computeBuffer(Polygon2D polygon, double dist) {
+		// dilation of an unbounded polygon is the complement of the
+		// erosion of its complement
+		if (polygon.area() < 0)
+			return computeBuffer(polygon.complement(), -dist).complement();
+
+		Collection<? extends LinearRing2D> contours = polygon.contours();
+		double[][] rings = new double[contours.size()][];
+		int i = 0;
+		for (LinearRing2D ring : contours)
+			rings[i++] = convertVertices(ring.vertices());
+		return createPolygon(computePolygonBuffer(rings, dist));
+	}
+
+
+    // ===================================================================
+    // Buffer of coordinate arrays
+
+	/**
+	 * Computes the buffer of a polygon given as an array of rings. Each ring
+	 * is given by the sequence of the x and y coordinates of its vertices,
+	 * and must be oriented counter-clockwise for outer boundaries, and
+	 * clockwise for holes. The result has the same format.
+	 */
+	public double[][] computePolygonBuffer(double[][] rings, double dist) {
+		ArrayList<double[]> offsets = new ArrayList<double[]>(rings.length);
+		for (double[] ring : rings) {
+			double[] coords = removeMultipleVertices(ring, true);
+			if (coords.length >= 6)
+				offsets.add(offsetRing(coords, dist));
+		}
+		return merge(offsets);
+	}
+
+	/**
+	 * Computes the buffer of a set of paths, given by the sequences of the x
+	 * and y coordinates of their vertices. The sign of the distance is
+	 * ignored. The result is an array of rings, oriented counter-clockwise
+	 * for outer boundaries, and clockwise for holes.
+	 *
+	 * @param paths the coordinates of the paths
+	 * @param closed true if the last vertex of each path is connected to
+	 *            the first one
+	 * @param dist the buffer distance
+	 */
+	public double[][] computeCurveBuffer(double[][] paths, boolean closed,
+			double dist) {
+		dist = Math.abs(dist);
+		ArrayList<double[]> offsets = new ArrayList<double[]>(2 * paths.length);
+		if (dist == 0)
+			return new double[0][];
+
+		for (double[] path : paths) {
+			double[] coords = removeMultipleVertices(path, closed);
+			int n = coords.length / 2;
+			if (n == 0)
+				continue;
+			if (closed && n > 2) {
+				// offset each side of the ring, the inner side being reversed
+				offsets.add(offsetRing(coords, dist));
+				offsets.add(reverse(offsetRing(coords, -dist)));
+			} else {
+				offsets.add(offsetPath(coords, dist));
+			}
+		}
+		return merge(offsets);
+	}
+
+
+    // ===================================================================
+    // Offset of individual rings and paths
+
+	/**
+	 * Offsets each edge of a ring by the given signed distance on its right
+	 * side, and adds joins between consecutive edges.
+	 */
+	private double[] offsetRing(double[] coords, double dist) {
+		int n = coords.length / 2;
+		double[] normals = computeNormals(coords, true);
+		CoordinateBuffer buffer = new CoordinateBuffer(2 * n);
+		for (int i = 0; i < n; i++) {
+			int k = (i + n - 1) % n;
+			offsetVertex(buffer, coords, normals, i, k, i, dist);
+		}
+		return buffer.toArray();
+	}
+
+	/**
+	 * Offsets an open path on both sides, and closes the result with caps.
+	 * The distance is positive.
+	 */
+	private double[] offsetPath(double[] coords, double dist) {
+		int n = coords.length / 2;
+		CoordinateBuffer buffer = new CoordinateBuffer(4 * n);
+
+		// a single point is closed by two caps in opposite directions
+		if (n == 1) {
+			double x = coords[0], y = coords[1];
+			buffer.add(x, y - dist);
+			addCap(buffer, x, y, 1, 0, dist);
+			buffer.add(x, y + dist);
+			addCap(buffer, x, y, -1, 0, dist);
+			return buffer.toArray();
+		}
+
+		// right side, from first to last vertex
+		double[] normals = computeNormals(coords, false);
+		int m = n - 1;
+		buffer.add(coords[0] + dist * normals[0], coords[1] + dist * normals[1]);
+		for (int i = 1; i < m; i++)
+			offsetVertex(buffer, coords, normals, i, i - 1, i, dist);
+		double nx = normals[2 * m - 2], ny = normals[2 * m - 1];
+		double x = coords[2 * m], y = coords[2 * m + 1];
+		buffer.add(x + dist * nx, y + dist * ny);
+
+		// cap at last vertex
+		addCap(buffer, x, y, -ny, nx, dist);
+		buffer.add(x - dist * nx, y - dist * ny);
+
+		// left side, from last to first vertex, as the right side of the
+		// reversed path
+		for (int i = 0; i < normals.length; i++)
+			normals[i] = -normals[i];
+		for (int i = m - 1; i > 0; i--)
+			offsetVertex(buffer, coords, normals, i, i, i - 1, dist);
+		nx = normals[0];
+		ny = normals[1];
+		x = coords[0];
+		y = coords[1];
+		buffer.add(x + dist * nx, y + dist * ny);
+
+		// cap at first vertex
+		addCap(buffer, x, y, -ny, nx, dist);
+		return buffer.toArray();
+	}
+
+	/**
+	 * Adds the offset of the i-th vertex, located between the edges with
+	 * indices k and j. The normals array contains the unit normal on the
+	 * right side of each edge.
+	 */
+	private void offsetVertex(CoordinateBuffer buffer, double[] coords,
+			double[] normals, int i, int k, int j, double dist) {
+		double x = coords[2 * i], y = coords[2 * i + 1];
+		double n1x = normals[2 * k], n1y = normals[2 * k + 1];
+		double n2x = normals[2 * j], n2y = normals[2 * j + 1];
+		double sinA = n1x * n2y - n2x * n1y;
+		double cosA = n1x * n2x + n1y * n2y;
+
+		// almost colinear edges: the gap between offsets is negligible
+		if (cosA > 0 && Math.abs(sinA * dist) < maxDeviation) {
+			buffer.add(x + dist * n1x, y + dist * n1y);
+			return;
+		}
+
+		// re-entrant vertex: connect the offsets through the vertex, such
+		// that overlapping parts are removed when rings are merged
+		if (sinA * dist < 0) {
+			buffer.add(x + dist * n1x, y + dist * n1y);
+			buffer.add(x, y);
+			buffer.add(x + dist * n2x, y + dist * n2y);
+			return;
+		}
+
+		switch (joinType) {
+		case ROUND:
+			double angle = sinA == 0 ? Math.copySign(Math.PI, dist)
+					: Math.atan2(sinA, cosA);
+			addArc(buffer, x, y, dist * n1x, dist * n1y, angle,
+					Math.abs(dist));
+			break;
+		case MITER:
+			double denom = 1 + cosA;
+			if (denom < 1e-12) {
+				addBevel(buffer, x, y, n1x, n1y, n2x, n2y, dist);
+				break;
+			}
+			double f = dist / denom;
+			buffer.add(x + f * (n1x + n2x), y + f * (n1y + n2y));
+			break;
+		case BEVEL:
+			addBevel(buffer, x, y, n1x, n1y, n2x, n2y, dist);
+			break;
+		default:
+			addJoin(buffer, coords, i, k, j, dist);
+		}
+	}
+
+	private static void addBevel(CoordinateBuffer buffer, double x, double y,
+			double n1x, double n1y, double n2x, double n2y, double dist) {
+		buffer.add(x + dist * n1x, y + dist * n1y);
+		buffer.add(x + dist * n2x, y + dist * n2y);
+	}
+
+	/**
+	 * Adds the vertices of a join created by the join factory, using the
+	 * line segments around the vertex.
+	 */
+	private void addJoin(CoordinateBuffer buffer, double[] coords, int i,
+			int k, int j, double dist) {
+		// recover the original edges, whose orientation may be reversed
+		int n = coords.length / 2;
+		int ip = k == i ? (i + 1) % n : k;
+		int in = j == i ? (i + 1) % n : j;
+		LineSegment2D previous = new LineSegment2D(
+				coords[2 * ip], coords[2 * ip + 1], coords[2 * i], coords[2 * i + 1]);
+		LineSegment2D next = new LineSegment2D(
+				coords[2 * i], coords[2 * i + 1], coords[2 * in], coords[2 * in + 1]);
+		addCurve(buffer, joinFactory.createJoin(previous, next, dist), true);
+	}
+
+	/**
+	 * Adds the vertices of the cap at the extremity (x,y) of a path, in the
+	 * direction given by the unit vector (dx,dy), excluding the extremities
+	 * of the cap.
+	 */
+	private void addCap(CoordinateBuffer buffer, double x, double y,
+			double dx, double dy, double dist) {
+		// unit normal on the right side of the direction
+		double nx = dy, ny = -dx;
+		switch (capType) {
+		case ROUND:
+			int nPoints = buffer.size();
+			addArc(buffer, x, y, dist * nx, dist * ny, Math.PI, dist);
+			buffer.remove(nPoints);
+			buffer.removeLast();
+			break;
+		case BUTT:
+			break;
+		case SQUARE:
+			buffer.add(x + dist * (nx + dx), y + dist * (ny + dy));
+			buffer.add(x + dist * (dx - nx), y + dist * (dy - ny));
+			break;
+		case TRIANGLE:
+			buffer.add(x + dist * dx, y + dist * dy);
+			break;
+		default:
+			Point2D p1 = new Point2D(x + dist * nx, y + dist * ny);
+			Point2D p2 = new Point2D(x - dist * nx, y - dist * ny);
+			int nPoints2 = buffer.size();
+			addCurve(buffer, capFactory.createCap(p1, p2), false);
+			buffer.remove(nPoints2);
+			buffer.removeLast();
+		}
+	}
+
+	/**
+	 * Adds the vertices of the polyline approximating a circle arc, starting
+	 * at the point (x+vx,y+vy), and turning by the given angle around the
+	 * point (x,y).
+	 */
+	private void addArc(CoordinateBuffer buffer, double x, double y,
+			double vx, double vy, double angle, double radius) {
+		double maxAngle = maxDeviation < radius ?
+				2 * Math.acos(1 - maxDeviation / radius) : Math.PI;
+		int n = (int) Math.max(1, Math.ceil(Math.abs(angle) / maxAngle));
+		double cos = Math.cos(angle / n);
+		double sin = Math.sin(angle / n);
+		buffer.add(x + vx, y + vy);
+		for (int k = 0; k < n; k++) {
+			double vx2 = vx * cos - vy * sin;
+			vy = vx * sin + vy * cos;
+			vx = vx2;
+			buffer.add(x + vx, y + vy);
+		}
+	}
+
+	/**
+	 * Adds the vertices of the polyline approximating a curve created by a
+	 * factory.
+	 */
+	private void addCurve(CoordinateBuffer buffer,
+			CirculinearContinuousCurve2D curve, boolean skipEmpty) {
+		if (skipEmpty && curve.length() == 0)
+			return;
+		for (Point2D vertex : curve.asPolyline(maxDeviation).vertices())
+			buffer.add(vertex.x(), vertex.y());
+	}
+
+
+    // ===================================================================
+    // Utility methods
+
+	/**
+	 * Merges the offset rings, by keeping the regions with positive winding
+	 * number.
+	 */
+	private static double[][] merge(ArrayList<double[]> rings) {
+		return engine.compute(rings.toArray(new double[rings.size()][]),
+				new double[0][], Operation.UNION);
+	}
+
+	/**
+	 * Computes the unit normal on the right side of each edge.
+	 */
+	private static double[] computeNormals(double[] coords, boolean closed) {
+		int n = coords.length / 2;
+		int nEdges = closed ? n : n - 1;
+		double[] normals = new double[2 * nEdges];
+		for (int i = 0; i < nEdges; i++) {
+			int j = (i + 1) % n;
+			double dx = coords[2 * j] - coords[2 * i];
+			double dy = coords[2 * j + 1] - coords[2 * i + 1];
+			double len = Math.hypot(dx, dy);
+			normals[2 * i] = dy / len;
+			normals[2 * i + 1] = -dx / len;
+		}
+		return normals;
+	}
+
+	/**
+	 * Removes consecutive vertices with the same coordinates, as well as
+	 * the last vertex of closed paths if it equals the first one.
+	 */
+	private static double[] removeMultipleVertices(double[] coords,
+			boolean closed) {
+		int n = coords.length / 2;
+		double[] result = new double[2 * n];
+		int m = 0;
+		for (int i = 0; i < n; i++) {
+			double x = coords[2 * i], y = coords[2 * i + 1];
+			if (m > 0 && x == result[2 * m - 2] && y == result[2 * m - 1])
+				continue;
+			result[2 * m] = x;
+			result[2 * m + 1] = y;
+			m++;
+		}
+		if (closed && m > 1 && result[0] == result[2 * m - 2]
+				&& result[1] == result[2 * m - 1])
+			m--;
+		return Arrays.copyOf(result, 2 * m);
+	}
+
+	private static double[] reverse(double[] coords) {
+		int n = coords.length / 2;
+		double[] result = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			result[2 * i] = coords[2 * (n - 1 - i)];
+			result[2 * i + 1] = coords[2 * (n - 1 - i) + 1];
+		}
+		return result;
+	}
+
+	private static double[] convertVertices(Collection<Point2D> vertices) {
+		double[] coords = new double[2 * vertices.size()];
+		int i = 0;
+		for (Point2D vertex : vertices) {
+			coords[i++] = vertex.x();
+			coords[i++] = vertex.y();
+		}
+		return coords;
+	}
+
+	/**
+	 * Converts the rings to a SimplePolygon2D if there is only one ring, or
+	 * to a MultiPolygon2D otherwise.
+	 */
+	private static Polygon2D createPolygon(double[][] rings) {
+		if (rings.length == 1) {
+			double[][] xy = splitCoordinates(rings[0]);
+			return new SimplePolygon2D(xy[0], xy[1]);
+		}
+
+		LinearRing2D[] result = new LinearRing2D[rings.length];
+		for (int i = 0; i < rings.length; i++) {
+			double[][] xy = splitCoordinates(rings[i]);
+			result[i] = new LinearRing2D(xy[0], xy[1]);
+		}
+		return MultiPolygon2D.create(result);
+	}
+
+	private static double[][] splitCoordinates(double[] coords) {
+		int n = coords.length / 2;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = coords[2 * i];
+			ys[i] = coords[2 * i + 1];
+		}
+		return new double[][] { xs, ys };
+	}
+
+
+    // ===================================================================
+    // Inner class for storing coordinates
+
+	/**
+	 * A growable array of interleaved x and y coordinates.
+	 */
+	private static class CoordinateBuffer {
+		double[] coords;
+		int n = 0;
+
+		CoordinateBuffer(int capacity) {
+			this.coords = new double[Math.max(2 * capacity, 16)];
+		}
+
+		void add(double x, double y) {
+			if (2 * n + 2 > coords.length)
+				coords = Arrays.copyOf(coords, 2 * coords.length);
+			coords[2 * n] = x;
+			coords[2 * n + 1] = y;
+			n++;
+		}
+
+		int size() {
+			return n;
+		}
+
+		/** Removes the point at the given index, shifting next points */
+		void remove(int index) {
+			System.arraycopy(coords, 2 * index + 2, coords, 2 * index,
+					2 * (n - index - 1));
+			n--;
+		}
+
+		void removeLast() {
+			n--;
+		}
+
+		double[] toArray() {
+			return Arrays.copyOf(coords, 2 * n);
+		}
+	}
+}
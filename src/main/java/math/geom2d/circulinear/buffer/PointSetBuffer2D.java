@@ -0,0 +1,378 @@
+/**
+ * File: 	PointSetBuffer2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.circulinear.CirculinearContour2D;
+import math.geom2d.circulinear.CirculinearCurves2D;
+import math.geom2d.circulinear.CirculinearElement2D;
+import math.geom2d.conic.Circle2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.point.PointSet2D;
+
+/**
+ * Computes the contours of the buffer of a large point set. Points are
+ * bucketed in a uniform grid with cells of size 2*dist, such that the
+ * circle around a point can only intersect the circles around points of the
+ * neighbor cells. The points are grouped into connected components of
+ * intersecting circles, and the circles of each component are split and
+ * filtered independently of the other components.
+ *
+ * @author dlegland
+ */
+final class PointSetBuffer2D {
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The maximum number of points processed sequentially by a task.
+	 */
+	private final static int THRESHOLD = 256;
+
+	/**
+	 * The maximum number of grid cells in each direction, such that cell
+	 * indices can be packed into a single long key.
+	 */
+	private final static int MAX_CELLS = 1 << 30;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The coordinates of the points */
+	private final double[] xs, ys;
+
+	/** The buffer distance, positive */
+	private final double dist;
+
+	/** Origin and size of grid cells */
+	private final double x0, y0, cellSize;
+
+	/** The sorted keys of non empty cells */
+	private long[] cellKeys;
+
+	/** Start of each cell within cellPoints, and total number of points */
+	private int[] cellStarts;
+
+	/** Indices of the points, sorted by cell */
+	private int[] cellPoints;
+
+
+	// ===================================================================
+	// Constructor
+
+	PointSetBuffer2D(PointSet2D set, double dist) {
+		int n = set.size();
+		if (set instanceof PackedPointArray2D) {
+			PackedPointArray2D array = (PackedPointArray2D) set;
+			this.xs = array.xCoords();
+			this.ys = array.yCoords();
+		} else {
+			this.xs = new double[n];
+			this.ys = new double[n];
+			int i = 0;
+			for (Point2D point : set) {
+				xs[i] = point.x();
+				ys[i] = point.y();
+				i++;
+			}
+		}
+		this.dist = dist;
+
+		// compute grid extent
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			xmin = Math.min(xmin, xs[i]);
+			ymin = Math.min(ymin, ys[i]);
+			xmax = Math.max(xmax, xs[i]);
+			ymax = Math.max(ymax, ys[i]);
+		}
+		this.x0 = xmin;
+		this.y0 = ymin;
+
+		// cells must be large enough to contain intersecting circles in
+		// neighbor cells, and few enough to be indexed by integers
+		double extent = Math.max(xmax - xmin, ymax - ymin);
+		this.cellSize = Math.max(2 * dist + Shape2D.ACCURACY,
+				extent / (MAX_CELLS - 2));
+
+		createGrid(n);
+	}
+
+	/**
+	 * Sorts point indices by grid cells.
+	 */
+	private void createGrid(int n) {
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++)
+			keys[i] = cellKey(cellX(xs[i]), cellY(ys[i]));
+
+		// keys of non empty cells
+		long[] sorted = Arrays.copyOf(keys, n);
+		Arrays.sort(sorted);
+		int nCells = 0;
+		for (int i = 0; i < n; i++) {
+			if (nCells == 0 || sorted[i] != sorted[nCells - 1])
+				sorted[nCells++] = sorted[i];
+		}
+		this.cellKeys = Arrays.copyOf(sorted, nCells);
+
+		// counting sort of the points
+		int[] pointCells = new int[n];
+		this.cellStarts = new int[nCells + 1];
+		for (int i = 0; i < n; i++) {
+			int c = Arrays.binarySearch(cellKeys, keys[i]);
+			pointCells[i] = c;
+			cellStarts[c + 1]++;
+		}
+		for (int c = 0; c < nCells; c++)
+			cellStarts[c + 1] += cellStarts[c];
+		this.cellPoints = new int[n];
+		int[] pos = Arrays.copyOf(cellStarts, nCells);
+		for (int i = 0; i < n; i++)
+			cellPoints[pos[pointCells[i]]++] = i;
+	}
+
+
+	// ===================================================================
+	// Buffer computation
+
+	/**
+	 * Computes the contours of the buffer, processing connected components
+	 * in parallel with the given pool.
+	 */
+	Collection<CirculinearContour2D> contours(ForkJoinPool pool) {
+		int n = xs.length;
+
+		// group points into connected components of intersecting circles,
+		// and identify duplicate points
+		int[] parents = new int[n];
+		for (int i = 0; i < n; i++)
+			parents[i] = i;
+		boolean[] duplicate = new boolean[n];
+		double maxDist = 2 * dist + Shape2D.ACCURACY;
+		double maxDist2 = maxDist * maxDist;
+		for (int i = 0; i < n; i++) {
+			int ix = cellX(xs[i]);
+			int iy = cellY(ys[i]);
+			for (int dy = -1; dy <= 1; dy++) {
+				for (int dx = -1; dx <= 1; dx++) {
+					int c = cellIndex(ix + dx, iy + dy);
+					if (c < 0)
+						continue;
+					for (int k = cellStarts[c]; k < cellStarts[c + 1]; k++) {
+						int j = cellPoints[k];
+						if (j <= i)
+							continue;
+						double dxp = xs[j] - xs[i];
+						double dyp = ys[j] - ys[i];
+						double d2 = dxp * dxp + dyp * dyp;
+						if (d2 > maxDist2)
+							continue;
+						if (d2 == 0)
+							duplicate[j] = true;
+						union(parents, i, j);
+					}
+				}
+			}
+		}
+
+		// sort points by component, ordered by their first point
+		int[] componentIndex = new int[n];
+		Arrays.fill(componentIndex, -1);
+		int[] sizes = new int[n + 1];
+		int nComponents = 0;
+		for (int i = 0; i < n; i++) {
+			if (duplicate[i])
+				continue;
+			int root = find(parents, i);
+			if (componentIndex[root] == -1)
+				componentIndex[root] = nComponents++;
+			sizes[componentIndex[root] + 1]++;
+		}
+		int[] starts = Arrays.copyOf(sizes, nComponents + 1);
+		for (int c = 0; c < nComponents; c++)
+			starts[c + 1] += starts[c];
+		int[] points = new int[starts[nComponents]];
+		int[] pos = Arrays.copyOf(starts, nComponents);
+		for (int i = 0; i < n; i++) {
+			if (!duplicate[i])
+				points[pos[componentIndex[find(parents, i)]]++] = i;
+		}
+
+		ComponentTask task = new ComponentTask(points, starts, 0, nComponents);
+		if (points.length <= THRESHOLD)
+			return task.compute();
+		return pool.invoke(task);
+	}
+
+	/**
+	 * Computes the contours of the buffer of the points of a connected
+	 * component.
+	 */
+	private Collection<CirculinearContour2D> componentContours(int[] points,
+			int from, int to) {
+		ArrayList<CirculinearContour2D> circles =
+			new ArrayList<CirculinearContour2D>(to - from);
+		for (int k = from; k < to; k++) {
+			int i = points[k];
+			circles.add(new Circle2D(xs[i], ys[i], dist, true));
+		}
+		if (circles.size() == 1)
+			return circles;
+
+		// split the circles, and remove the contours that are within the
+		// circle of another point
+		ArrayList<CirculinearContour2D> result =
+			new ArrayList<CirculinearContour2D>();
+		for (CirculinearContour2D contour :
+			CirculinearCurves2D.splitIntersectingContours(circles)) {
+			if (!isTooClose(contour))
+				result.add(contour);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if the contour is closer than the buffer distance to one of the
+	 * points. As contours are made of circle arcs delimited by intersections
+	 * of circles, the middle point of each arc is either inside or outside
+	 * each other circle, and only middle points need to be tested.
+	 */
+	private boolean isTooClose(CirculinearContour2D contour) {
+		double minDist = dist - Shape2D.ACCURACY;
+		double minDist2 = minDist * minDist;
+		for (CirculinearElement2D elem : contour.smoothPieces()) {
+			Point2D mid = elem.point((elem.t0() + elem.t1()) / 2);
+			double x = mid.x(), y = mid.y();
+			int ix = cellX(x);
+			int iy = cellY(y);
+			for (int dy = -1; dy <= 1; dy++) {
+				for (int dx = -1; dx <= 1; dx++) {
+					int c = cellIndex(ix + dx, iy + dy);
+					if (c < 0)
+						continue;
+					for (int k = cellStarts[c]; k < cellStarts[c + 1]; k++) {
+						int j = cellPoints[k];
+						double dxp = xs[j] - x;
+						double dyp = ys[j] - y;
+						if (dxp * dxp + dyp * dyp < minDist2)
+							return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+
+	// ===================================================================
+	// Grid management
+
+	private int cellX(double x) {
+		return (int) Math.floor((x - x0) / cellSize);
+	}
+
+	private int cellY(double y) {
+		return (int) Math.floor((y - y0) / cellSize);
+	}
+
+	private static long cellKey(int ix, int iy) {
+		return ((long) iy << 31) | ix;
+	}
+
+	/**
+	 * Returns the index of the cell with the given indices, or -1 if the
+	 * cell is empty.
+	 */
+	private int cellIndex(int ix, int iy) {
+		if (ix < 0 || iy < 0)
+			return -1;
+		int c = Arrays.binarySearch(cellKeys, cellKey(ix, iy));
+		return c < 0 ? -1 : c;
+	}
+
+
+	// ===================================================================
+	// Union-find of connected components
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] parents, int i, int j) {
+		int ri = find(parents, i);
+		int rj = find(parents, j);
+		if (ri < rj)
+			parents[rj] = ri;
+		else if (rj < ri)
+			parents[ri] = rj;
+	}
+
+
+	// ===================================================================
+	// Parallel processing of components
+
+	/**
+	 * Computes the contours of a range of components, splitting the range
+	 * until it contains a single component or few points.
+	 */
+	private class ComponentTask
+	extends RecursiveTask<Collection<CirculinearContour2D>> {
+		private static final long serialVersionUID = 1L;
+
+		private int[] points;
+		private int[] starts;
+		private int from;
+		private int to;
+
+		public ComponentTask(int[] points, int[] starts, int from, int to) {
+			this.points = points;
+			this.starts = starts;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Collection<CirculinearContour2D> compute() {
+			if (to - from <= 1 || starts[to] - starts[from] <= THRESHOLD) {
+				ArrayList<CirculinearContour2D> contours =
+					new ArrayList<CirculinearContour2D>(to - from);
+				for (int c = from; c < to; c++)
+					contours.addAll(componentContours(points, starts[c],
+							starts[c + 1]));
+				return contours;
+			}
+
+			int mid = (from + to) >>> 1;
+			ComponentTask left = new ComponentTask(points, starts, from, mid);
+			ComponentTask right = new ComponentTask(points, starts, mid, to);
+			left.fork();
+			Collection<CirculinearContour2D> rightResult = right.compute();
+			Collection<CirculinearContour2D> result = left.join();
+			result.addAll(rightResult);
+			return result;
+		}
+	}
+}
@@ -754,6 +754,25 @@ Cloneable {
 	public LinearRing2D asPolyline(int n) {
         return this.asPolylineClosed(n);
 	}
+
+	/**
+	 * Converts this circle into a linear ring with regularly spaced
+	 * vertices. The number of edges is computed such that the sagitta of
+	 * each edge is lower than the given deviation. The number of edges is
+	 * limited to Curves2D.MAX_FLATTEN_VERTICES.
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 * @throws IllegalArgumentException if the deviation is not positive
+	 * @since 0.11.3
+	 */
+	public LinearRing2D asPolyline(double maxDeviation) {
+		if (!(maxDeviation > 0))
+			throw new IllegalArgumentException(
+					"Maximal deviation must be positive: " + maxDeviation);
+		double maxAngle = maxDeviation < r ? 2 * acos(1 - maxDeviation / r) : PI;
+		int n = (int) max(3, min(ceil(2 * PI / maxAngle),
+				Curves2D.MAX_FLATTEN_VERTICES));
+		return asPolyline(n);
+	}
 	
 
 	// ===================================================================
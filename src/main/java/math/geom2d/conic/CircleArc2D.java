@@ -495,6 +495,26 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this arc into a polyline with regularly spaced vertices.
+	 * The number of edges is computed such that the sagitta of each edge
+	 * is lower than the given deviation. The number of edges is limited to
+	 * Curves2D.MAX_FLATTEN_VERTICES.
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 * @throws IllegalArgumentException if the deviation is not positive
+	 * @since 0.11.3
+	 */
+	public Polyline2D asPolyline(double maxDeviation) {
+		if (!(maxDeviation > 0))
+			throw new IllegalArgumentException(
+					"Maximal deviation must be positive: " + maxDeviation);
+		double r = this.circle.radius();
+		double maxAngle = maxDeviation < r ? 2 * acos(1 - maxDeviation / r) : PI;
+		int n = (int) max(1, min(ceil(abs(this.angleExtent) / maxAngle),
+				Curves2D.MAX_FLATTEN_VERTICES - 1));
+		return asPolyline(n);
+	}
+
 
     // ====================================================================
     // methods from interface Curve2D
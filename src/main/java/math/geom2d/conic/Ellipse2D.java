@@ -760,25 +760,28 @@ implements EllipseShape2D, Cloneable {
      * direction, then computing distance to origin.
      */
     public boolean isInside(Point2D point) {
-		AffineTransform2D rot = AffineTransform2D.createRotation(this.xc,
-				this.yc, -this.theta);
-		Point2D pt = rot.transform(point);
-		double xp = (pt.x() - this.xc) / this.r1;
-		double yp = (pt.y() - this.yc) / this.r2;
+		return isInside(point.x(), point.y());
+    }
+
+    private boolean isInside(double x, double y) {
+		double cot = cos(theta);
+		double sit = sin(theta);
+		double xp = ((x - xc) * cot + (y - yc) * sit) / this.r1;
+		double yp = (-(x - xc) * sit + (y - yc) * cot) / this.r2;
 		return (xp * xp + yp * yp < 1) ^ !direct;
     }
 
     /**
-     * Returns an approximation of the signed distance to the ellipse.
-     * In the current implementation, the ellipse is converted to a polyline.
+     * Returns the signed distance to the ellipse, negative if the point is
+     * inside the ellipse.
      */
     public double signedDistance(Point2D point) {
-    	double dist = this.asPolyline(180).distance(point);
-    	return isInside(point) ? -dist : dist;
+    	return signedDistance(point.x(), point.y());
     }
 
     public double signedDistance(double x, double y) {
-        return signedDistance(new Point2D(x, y));
+    	double dist = distance(x, y);
+    	return isInside(x, y) ? -dist : dist;
     }
 
     // ===================================================================
@@ -828,6 +831,13 @@ implements EllipseShape2D, Cloneable {
 	public LinearRing2D asPolyline(int n) {
         return this.asPolylineClosed(n);
 	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 */
+	public LinearRing2D asPolyline(double maxDeviation) {
+        return this.asPolylineClosed(maxDeviation);
+	}
 	
 	
     /** Always returns true. */
@@ -956,19 +966,127 @@ implements EllipseShape2D, Cloneable {
     }
 
     /**
-     * Computes the approximate projection position of the point on the ellipse.
-     * The ellipse is first converted to a unit circle, then the angular
-     * position of the point is computed in the transformed basis.
+     * Computes the position of the point of the ellipse closest to the given
+     * point.
      */
     public double project(Point2D point) {
-        Point2D p2 = toUnitCircle(point);
-        double xp = p2.x();
-        double yp = p2.y();
+        return project(point.x(), point.y());
+    }
 
-        // compute angle
-        double angle = Angle2D.horizontalAngle(xp, yp);
+    /**
+     * Computes the position of the point of the ellipse closest to the point
+     * with coordinates (x, y), without creating intermediate objects.
+     */
+    double project(double x, double y) {
+		double cot = cos(theta);
+		double sit = sin(theta);
+		double xp = (x - xc) * cot + (y - yc) * sit;
+		double yp = -(x - xc) * sit + (y - yc) * cot;
 
-        return angle;
+		double t = closestAngle(r1, r2, xp, yp);
+		return direct ? t : Angle2D.formatAngle(-t);
+    }
+
+    /**
+     * Computes the angle of the point of the axis-aligned ellipse centered
+     * at origin with semi-axes a and b, that is closest to the point (x, y).
+     * The closest point is computed in the first quadrant by bisection on
+     * the function given by D. Eberly in "Distance from a Point to an
+     * Ellipse, an Ellipsoid, or a Hyperellipsoid", then symmetries are
+     * applied. The result is between 0 and 2*PI.
+     */
+    private static double closestAngle(double a, double b, double x, double y) {
+		// the algorithm requires the first semi-axis to be the largest one
+		if (a < b)
+			return Angle2D.formatAngle(PI / 2 - closestAngle(b, a, y, x));
+
+		double x0 = abs(x);
+		double y0 = abs(y);
+
+		// compute closest point in the first quadrant
+		double px, py;
+		if (b == 0) {
+			// degenerate ellipse, reduced to a line segment
+			if (a == 0)
+				return 0;
+			px = min(x0, a);
+			py = 0;
+			double t = acos(px / a);
+			return y < 0 ? 2 * PI - t : t;
+		} else if (y0 > 0) {
+			if (x0 > 0) {
+				double z0 = x0 / a;
+				double z1 = y0 / b;
+				double g = z0 * z0 + z1 * z1 - 1;
+				if (g != 0) {
+					double r0 = (a / b) * (a / b);
+					double s = ellipseRoot(r0, z0, z1, g);
+					px = r0 * x0 / (s + r0);
+					py = y0 / (s + 1);
+				} else {
+					px = x0;
+					py = y0;
+				}
+			} else {
+				px = 0;
+				py = b;
+			}
+		} else {
+			double num = a * x0;
+			double den = a * a - b * b;
+			if (num < den) {
+				double xa = num / den;
+				px = a * xa;
+				py = b * sqrt(1 - xa * xa);
+			} else {
+				px = a;
+				py = 0;
+			}
+		}
+
+		// convert to angle, and apply symmetries
+		double t = atan2(py / b, px / a);
+		if (x < 0)
+			t = PI - t;
+		if (y < 0)
+			t = 2 * PI - t;
+		return Angle2D.formatAngle(t);
+    }
+
+    /**
+     * Finds the root of the function
+     * F(s) = (r0*z0/(s+r0))^2 + (z1/(s+1))^2 - 1 by bisection, g being the
+     * value of F(0). The iteration stops when the middle of the interval can
+     * not be distinguished from its bounds.
+     */
+    private static double ellipseRoot(double r0, double z0, double z1, 
+    		double g) {
+		double n0 = r0 * z0;
+		double s0 = z1 - 1;
+		double s1 = 0;
+		if (g > 0) {
+			double m = max(n0, z1);
+			double q = min(n0, z1) / m;
+			s1 = m * sqrt(1 + q * q) - 1;
+		}
+
+		double s = 0;
+		// bisection on doubles converges in less than 1100 iterations
+		for (int i = 0; i < 1100; i++) {
+			s = (s0 + s1) / 2;
+			if (s == s0 || s == s1)
+				break;
+			double ratio0 = n0 / (s + r0);
+			double ratio1 = z1 / (s + 1);
+			g = ratio0 * ratio0 + ratio1 * ratio1 - 1;
+			if (g > 0)
+				s0 = s;
+			else if (g < 0)
+				s1 = s;
+			else
+				break;
+		}
+		return s;
     }
 
     /**
@@ -1004,16 +1122,26 @@ implements EllipseShape2D, Cloneable {
     // methods of Shape2D interface
 
     /**
-     * Computes distance using a polyline approximation.
+     * Computes the distance to the closest point of the ellipse.
      */
     public double distance(Point2D point) {
-        // PolarVector2D vector = this.getProjectedVector(point, 1e-10);
-        // return abs(vector.getRho());
-        return this.asPolyline(180).distance(point);
+        return distance(point.x(), point.y());
     }
 
+    /**
+     * Computes the distance to the closest point of the ellipse, without
+     * creating intermediate objects.
+     */
     public double distance(double x, double y) {
-        return distance(new Point2D(x, y));
+		double cot = cos(theta);
+		double sit = sin(theta);
+		double xp = (x - xc) * cot + (y - yc) * sit;
+		double yp = -(x - xc) * sit + (y - yc) * cot;
+
+		double t = closestAngle(r1, r2, xp, yp);
+		double dx = xp - r1 * cos(t);
+		double dy = yp - r2 * sin(t);
+		return sqrt(dx * dx + dy * dy);
     }
 
     /**
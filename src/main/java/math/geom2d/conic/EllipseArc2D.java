@@ -365,6 +365,13 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
         return new Polyline2D(points);
 	}
 
+	/* (non-Javadoc)
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 */
+	public Polyline2D asPolyline(double maxDeviation) {
+        return this.asPolylineOpen(maxDeviation);
+	}
+
     // ====================================================================
     // methods from interface Curve2D
 
@@ -432,7 +439,7 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
     }
 
     public double project(Point2D point) {
-        double angle = ellipse.project(point);
+        double angle = ellipse.project(point.x(), point.y());
 
         // Case of an angle contained in the ellipse arc
 		if (this.containsAngle(angle)) {
@@ -442,10 +449,94 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
 				return Angle2D.formatAngle(startAngle - angle);
         }
 
-        // return either 0 or T1, depending on which extremity is closer.
-        double d1 = this.firstPoint().distance(point);
-        double d2 = this.lastPoint().distance(point);
-		return d1 < d2 ? 0 : abs(angleExtent);
+        // otherwise, search closest point among extremities and local minima
+		return closestPosition(point.x(), point.y());
+    }
+
+    /**
+     * Computes the position of the point of the arc closest to the point
+     * (x, y), when the closest point of the parent ellipse is not contained
+     * in the arc. Candidates are the arc extremities, and the local minimum
+     * of the distance within the arc, if any, found by bisection on the
+     * sign changes of the derivative of the squared distance.
+     */
+    private double closestPosition(double x, double y) {
+		// coordinates of the point in the basis of the ellipse
+		double a = ellipse.r1;
+		double b = ellipse.r2;
+		double cot = cos(ellipse.theta);
+		double sit = sin(ellipse.theta);
+		double xp = (x - ellipse.xc) * cot + (y - ellipse.yc) * sit;
+		double yp = -(x - ellipse.xc) * sit + (y - ellipse.yc) * cot;
+
+		// the angle in the ellipse basis is given by phi0 + k * pos
+		double k = ellipse.direct ? 1 : -1;
+		double phi0 = k * startAngle;
+		if (angleExtent < 0)
+			k = -k;
+		double ext = abs(angleExtent);
+
+		// distances to arc extremities
+		double bestPos = 0;
+		double bestDist = squaredDistance(a, b, xp, yp, phi0);
+		double dist = squaredDistance(a, b, xp, yp, phi0 + k * ext);
+		if (dist < bestDist) {
+			bestDist = dist;
+			bestPos = ext;
+		}
+
+		// search sign changes of the derivative along the arc
+		int n = 32;
+		double p0 = 0;
+		double g0 = k * distanceDerivative(a, b, xp, yp, phi0);
+		for (int i = 1; i <= n; i++) {
+			double p1 = ext * i / n;
+			double g1 = k * distanceDerivative(a, b, xp, yp, phi0 + k * p1);
+			if (g0 < 0 && g1 > 0) {
+				double lo = p0;
+				double hi = p1;
+				for (int j = 0; j < 60; j++) {
+					double mid = (lo + hi) / 2;
+					if (k * distanceDerivative(a, b, xp, yp, phi0 + k * mid) < 0)
+						lo = mid;
+					else
+						hi = mid;
+				}
+				double pos = (lo + hi) / 2;
+				dist = squaredDistance(a, b, xp, yp, phi0 + k * pos);
+				if (dist < bestDist) {
+					bestDist = dist;
+					bestPos = pos;
+				}
+			}
+			p0 = p1;
+			g0 = g1;
+		}
+
+		return bestPos;
+    }
+
+    /**
+     * Squared distance between the point (x, y) and the point of the
+     * axis-aligned ellipse with semi-axes a and b at angle phi.
+     */
+    private static double squaredDistance(double a, double b, double x,
+    		double y, double phi) {
+		double dx = x - a * cos(phi);
+		double dy = y - b * sin(phi);
+		return dx * dx + dy * dy;
+    }
+
+    /**
+     * Derivative with respect to phi of half the squared distance between
+     * the point (x, y) and the point of the axis-aligned ellipse with
+     * semi-axes a and b at angle phi.
+     */
+    private static double distanceDerivative(double a, double b, double x,
+    		double y, double phi) {
+		double c = cos(phi);
+		double s = sin(phi);
+		return a * x * s - b * y * c + (b * b - a * a) * s * c;
     }
     
     /*
@@ -516,8 +607,22 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        Point2D p = point(project(new Point2D(x, y)));
-        return p.distance(x, y);
+        // Case of a closest point contained in the ellipse arc
+        double angle = ellipse.project(x, y);
+		if (!this.containsAngle(angle)) {
+			// otherwise, use the closest point of the arc
+			double pos = closestPosition(x, y);
+			angle = angleExtent < 0 ? startAngle - pos : startAngle + pos;
+		}
+
+		// compute distance in the basis of the ellipse, without creating
+		// intermediate objects
+		double cot = cos(ellipse.theta);
+		double sit = sin(ellipse.theta);
+		double xp = (x - ellipse.xc) * cot + (y - ellipse.yc) * sit;
+		double yp = -(x - ellipse.xc) * sit + (y - ellipse.yc) * cot;
+		double phi = ellipse.direct ? angle : -angle;
+		return sqrt(squaredDistance(ellipse.r1, ellipse.r2, xp, yp, phi));
     }
 
     /** Always return true: an ellipse arc is bounded by definition */
@@ -10,6 +10,7 @@ import math.geom2d.*;
 import math.geom2d.curve.*;
 import math.geom2d.domain.SmoothOrientedCurve2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.polygon.Polyline2D;
 import math.utils.EqualUtils;
 
 /**
@@ -111,6 +112,13 @@ implements SmoothOrientedCurve2D, Cloneable {
         return false;
     }
 
+	/* (non-Javadoc)
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 */
+	public Polyline2D asPolyline(double maxDeviation) {
+        return this.asPolylineOpen(maxDeviation);
+	}
+
     // ===================================================================
     // methods inherited from Curve2D interface
 
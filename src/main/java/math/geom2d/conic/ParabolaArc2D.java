@@ -203,6 +203,13 @@ implements SmoothOrientedCurve2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/* (non-Javadoc)
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 */
+	public Polyline2D asPolyline(double maxDeviation) {
+        return this.asPolylineOpen(maxDeviation);
+	}
+
 	// ====================================================================
     // methods implementing the Curve2D interface
 
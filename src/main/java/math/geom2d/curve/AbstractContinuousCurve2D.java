@@ -15,6 +15,7 @@ import java.util.Collection;
 
 import math.geom2d.Point2D;
 import math.geom2d.UnboundedShape2DException;
+import math.geom2d.point.PackedPointArray2D;
 import math.geom2d.polygon.LinearCurve2D;
 import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
@@ -56,6 +57,74 @@ implements ContinuousCurve2D, Cloneable {
 		}
 	}
 	
+	/**
+	 * Converts this continuous curve to an instance of LinearCurve2D, such
+	 * that the distance between each edge and the curve is lower than the
+	 * given deviation. Returns either an instance of Polyline2D or
+	 * LinearRing2D, depending on the curve is closed or not.
+	 * This method can be overridden to return the correct type.
+	 * 
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 * @throws IllegalArgumentException if the deviation is not positive
+	 * @since 0.11.3
+	 */
+	public LinearCurve2D asPolyline(double maxDeviation) {
+		if (!(maxDeviation > 0))
+			throw new IllegalArgumentException(
+					"Maximal deviation must be positive: " + maxDeviation);
+		if (this.isClosed()) {
+			return asPolylineClosed(maxDeviation);
+		} else {
+			return asPolylineOpen(maxDeviation);
+		}
+	}
+
+	/**
+	 * Assumes the curve is open, and returns an instance of Polyline2D whose
+	 * edges are closer to the curve than the given deviation.
+	 * @since 0.11.3
+	 */
+	protected Polyline2D asPolylineOpen(double maxDeviation) {
+		PackedPointArray2D buffer = flatten(maxDeviation);
+		return new Polyline2D(buffer.xCoords(), buffer.yCoords());
+	}
+
+	/**
+	 * Assumes the curve is closed, and returns an instance of LinearRing2D
+	 * whose edges are closer to the curve than the given deviation.
+	 * @since 0.11.3
+	 */
+	protected LinearRing2D asPolylineClosed(double maxDeviation) {
+		// the last point is removed, as it is the same as the first one
+		PackedPointArray2D buffer = flatten(maxDeviation);
+		buffer.remove(buffer.size() - 1);
+		return new LinearRing2D(buffer.xCoords(), buffer.yCoords());
+	}
+
+	/**
+	 * Computes the vertices of a polyline approximating the curve, such that
+	 * the distance between each edge and the curve is lower than the given
+	 * deviation. The result contains the first and the last points of the
+	 * curve. The default implementation performs a recursive subdivision of
+	 * the curve, and can be overridden by curves with more information.
+	 * 
+	 * @param maxDeviation the maximal distance between the curve and the
+	 *            polyline
+	 * @return the vertices of the polyline
+	 * @since 0.11.3
+	 */
+	protected PackedPointArray2D flatten(double maxDeviation) {
+		// Check that the curve is bounded
+        if (!this.isBounded())
+            throw new UnboundedShape2DException(this);
+
+        PackedPointArray2D buffer = new PackedPointArray2D();
+        Point2D p0 = this.firstPoint();
+        buffer.add(p0.x(), p0.y());
+        Curves2D.flatten(this, this.t0(), this.t1(), maxDeviation, buffer);
+        return buffer;
+	}
+
 	/**
 	 * Assumes the curve is open, and returns an instance of Polyline2D.
 	 * @param n the number of edges of the resulting polyline
@@ -12,7 +12,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import math.geom2d.Point2D;
+import math.geom2d.UnboundedShape2DException;
 import math.geom2d.Vector2D;
+import math.geom2d.point.PackedPointArray2D;
 
 
 /**
@@ -82,6 +84,27 @@ implements SmoothCurve2D, Cloneable {
 	public boolean isSingular(double pos) {
 		return false;
 	}
+
+	/**
+	 * Computes the vertices of a polyline approximating the curve, using
+	 * steps adapted to the local curvature.
+	 * @see Curves2D#flattenSmooth(SmoothCurve2D, double, double, double,
+	 *      PackedPointArray2D)
+	 * @since 0.11.3
+	 */
+	@Override
+	protected PackedPointArray2D flatten(double maxDeviation) {
+		// Check that the curve is bounded
+        if (!this.isBounded())
+            throw new UnboundedShape2DException(this);
+
+        PackedPointArray2D buffer = new PackedPointArray2D();
+        Point2D p0 = this.firstPoint();
+        buffer.add(p0.x(), p0.y());
+        Curves2D.flattenSmooth(this, this.t0(), this.t1(), maxDeviation,
+        		buffer);
+        return buffer;
+	}
 	
 	/**
 	 * @deprecated use copy constructor instead (0.11.2)
@@ -111,6 +111,21 @@ public interface ContinuousCurve2D extends Curve2D {
      */
     public abstract LinearCurve2D asPolyline(int n);
 
+    /**
+     * Returns an approximation of the curve as a polyline, such that the
+     * distance between each edge of the polyline and the curve is lower
+     * than the given deviation. The number of edges adapts to the shape of
+     * the curve. If the curve is closed, the method should return an
+     * instance of LinearRing2D. Otherwise, it returns an instance of
+     * Polyline2D.
+     * 
+     * @param maxDeviation the maximal distance between the curve and the
+     *            polyline
+     * @return a polyline approximating the curve
+     * @since 0.11.3
+     */
+    public abstract LinearCurve2D asPolyline(double maxDeviation);
+
     /**
      * Append the path of the curve to the given path.
      * 
@@ -21,6 +21,7 @@ import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PackedPointArray2D;
 
 /**
  * Collects some useful methods for clipping curves.
@@ -29,6 +30,15 @@ import math.geom2d.line.LinearShape2D;
  */
 public abstract class Curves2D {
 
+	/**
+	 * The maximal number of vertices of the polylines computed by the
+	 * flattening methods. When it is reached, the remaining portion of the
+	 * curve is not subdivided any more. This avoids exhausting memory for
+	 * deviations too small with respect to the precision of coordinates.
+	 * @since 0.11.3
+	 */
+	public final static int MAX_FLATTEN_VERTICES = 1 << 20;
+
 	// ===================================================================
 	// static methods
 
@@ -630,6 +640,220 @@ public abstract class Curves2D {
 		throw new RuntimeException("Could not determine junction type");
     }
     
+    /**
+     * Appends to the buffer the vertices of a polyline approximating the
+     * portion of the curve between positions t0 and t1, such that the
+     * distance between each edge and the curve is lower than the given
+     * deviation. The point at position t0 is assumed to be already in the
+     * buffer, and the point at position t1 is added. The interval is split
+     * into a few sub-intervals, that are recursively subdivided until the
+     * points at the middle and at the quarters are close enough to the edge.
+     * @throws IllegalArgumentException if the deviation is not positive
+     * @since 0.11.3
+     */
+    public static void flatten(ContinuousCurve2D curve, double t0, double t1,
+    		double maxDeviation, PackedPointArray2D buffer) {
+    	if (!(maxDeviation > 0))
+    		throw new IllegalArgumentException(
+    				"Maximal deviation must be positive: " + maxDeviation);
+    	int n = 8;
+    	Point2D p0 = curve.point(t0);
+    	for (int i = 1; i <= n; i++) {
+    		double ta = t0 + (t1 - t0) * (i - 1) / n;
+    		double tb = i == n ? t1 : t0 + (t1 - t0) * i / n;
+    		Point2D p1 = curve.point(tb);
+    		flattenInterval(curve, ta, p0.x(), p0.y(), tb, p1.x(), p1.y(),
+    				maxDeviation, buffer, 0);
+    		p0 = p1;
+    	}
+    }
+
+    private static void flattenInterval(ContinuousCurve2D curve, double ta,
+    		double xa, double ya, double tb, double xb, double yb,
+    		double maxDeviation, PackedPointArray2D buffer, int depth) {
+    	double tm = (ta + tb) / 2;
+    	Point2D pm = curve.point(tm);
+    	if (depth < 30 && buffer.size() < MAX_FLATTEN_VERTICES) {
+    		boolean flat = segmentDistance(pm.x(), pm.y(), xa, ya, xb, yb) 
+    				<= maxDeviation;
+    		if (flat) {
+    			Point2D q1 = curve.point((ta + tm) / 2);
+    			Point2D q3 = curve.point((tm + tb) / 2);
+    			flat = segmentDistance(q1.x(), q1.y(), xa, ya, xb, yb) <= maxDeviation
+    					&& segmentDistance(q3.x(), q3.y(), xa, ya, xb, yb) <= maxDeviation;
+    		}
+    		if (!flat) {
+    			flattenInterval(curve, ta, xa, ya, tm, pm.x(), pm.y(),
+    					maxDeviation, buffer, depth + 1);
+    			flattenInterval(curve, tm, pm.x(), pm.y(), tb, xb, yb,
+    					maxDeviation, buffer, depth + 1);
+    			return;
+    		}
+    	}
+    	buffer.add(xb, yb);
+    }
+
+    /**
+     * Appends to the buffer the vertices of a polyline approximating the
+     * portion of the smooth curve between positions t0 and t1, such that
+     * the distance between each edge and the curve is lower than the given
+     * deviation. The point at position t0 is assumed to be already in the
+     * buffer, and the point at position t1 is added.<br>
+     * The step at each vertex is computed from the local curvature, such
+     * that an arc of circle with the same curvature deviates from its chord
+     * by the given amount. The curvature is evaluated at both extremities of
+     * the step. The step is then reduced while the points at the quarters of
+     * the step are too far from the edge.<br>
+     * As the deviation is only checked at sample points, the bound is
+     * approximate, and may be exceeded when the curvature has a sharp
+     * extremum within a step. Bezier curves use the method
+     * {@link #flattenBezier(double[], double[], double, PackedPointArray2D)}
+     * instead, that guarantees the bound.
+     * @throws IllegalArgumentException if the deviation is not positive
+     * @since 0.11.3
+     */
+    public static void flattenSmooth(SmoothCurve2D curve, double t0, 
+    		double t1, double maxDeviation, PackedPointArray2D buffer) {
+    	if (!(maxDeviation > 0))
+    		throw new IllegalArgumentException(
+    				"Maximal deviation must be positive: " + maxDeviation);
+    	double dtMin = (t1 - t0) * 1e-9;
+    	double t = t0;
+    	Point2D p0 = curve.point(t0);
+    	while (t < t1) {
+    		if (buffer.size() >= MAX_FLATTEN_VERTICES) {
+    			Point2D p1 = curve.point(t1);
+    			buffer.add(p1.x(), p1.y());
+    			return;
+    		}
+
+    		// compute the step from curvature and speed of the curve
+    		double dt = min(t1 - t, curvatureStep(curve, t, maxDeviation));
+    		dt = min(dt, curvatureStep(curve, t + dt, maxDeviation));
+    		dt = max(dt, min(dtMin, t1 - t));
+
+    		// reduce the step until the curve is close enough to the edge
+    		boolean last = dt >= t1 - t;
+    		Point2D p1 = curve.point(last ? t1 : t + dt);
+    		while (dt > dtMin) {
+    			boolean flat = true;
+    			for (int i = 1; i < 4 && flat; i++) {
+    				Point2D pm = curve.point(t + dt * i / 4);
+    				flat = segmentDistance(pm.x(), pm.y(), p0.x(), p0.y(), 
+    						p1.x(), p1.y()) <= maxDeviation;
+    			}
+    			if (flat)
+    				break;
+    			dt *= .8;
+    			last = false;
+    			p1 = curve.point(t + dt);
+    		}
+
+    		t = last ? t1 : t + dt;
+    		buffer.add(p1.x(), p1.y());
+    		p0 = p1;
+    	}
+    }
+
+    /**
+     * Appends to the buffer the vertices of a polyline approximating the
+     * Bezier curve with the given control points, such that the distance
+     * between each edge and the curve is lower than the given deviation.
+     * The first control point is assumed to be already in the buffer, and
+     * the last control point is added.<br>
+     * The curve is recursively split until the control points are close
+     * enough to the segment joining the extremities. As the curve is
+     * contained in the convex hull of its control points, the bound is
+     * guaranteed. When all control points project onto the segment, the
+     * distance of the curve is at most 1 - 2^(1-n) times the largest
+     * distance of the inner control points, n being the degree.
+     * @throws IllegalArgumentException if the deviation is not positive
+     * @since 0.11.3
+     */
+    public static void flattenBezier(double[] xs, double[] ys,
+    		double maxDeviation, PackedPointArray2D buffer) {
+    	if (!(maxDeviation > 0))
+    		throw new IllegalArgumentException(
+    				"Maximal deviation must be positive: " + maxDeviation);
+    	flattenBezier(xs, ys, maxDeviation, buffer, 0);
+    }
+
+    private static void flattenBezier(double[] xs, double[] ys,
+    		double maxDeviation, PackedPointArray2D buffer, int depth) {
+    	int n = xs.length - 1;
+    	double dx = xs[n] - xs[0];
+    	double dy = ys[n] - ys[0];
+    	double d2 = dx * dx + dy * dy;
+    	boolean inside = d2 > 0;
+    	double maxDist = 0;
+    	for (int i = 1; i < n; i++) {
+    		double u = ((xs[i] - xs[0]) * dx + (ys[i] - ys[0]) * dy) / d2;
+    		inside = inside && u >= 0 && u <= 1;
+    		maxDist = max(maxDist, segmentDistance(xs[i], ys[i], xs[0], ys[0],
+    				xs[n], ys[n]));
+    	}
+    	if (inside)
+    		maxDist *= 1 - pow(2, 1 - n);
+    	if (maxDist <= maxDeviation || depth >= 30
+    			|| buffer.size() >= MAX_FLATTEN_VERTICES) {
+    		buffer.add(xs[n], ys[n]);
+    		return;
+    	}
+
+    	// the deviation decreases with the square of the number of pieces
+    	double ratio = sqrt(maxDist / maxDeviation);
+    	int nPieces = (int) min(16, max(2, ceil(ratio)));
+
+    	// split the remaining control polygon using de Casteljau algorithm
+    	double[] xs2 = xs.clone();
+    	double[] ys2 = ys.clone();
+    	for (int p = nPieces; p > 1; p--) {
+    		double t = 1.0 / p;
+    		double[] xs1 = new double[n + 1], ys1 = new double[n + 1];
+    		for (int k = 0; k <= n; k++) {
+    			xs1[k] = xs2[0];
+    			ys1[k] = ys2[0];
+    			for (int i = 0; i < n - k; i++) {
+    				xs2[i] += (xs2[i + 1] - xs2[i]) * t;
+    				ys2[i] += (ys2[i + 1] - ys2[i]) * t;
+    			}
+    		}
+    		flattenBezier(xs1, ys1, maxDeviation, buffer, depth + 1);
+    	}
+    	flattenBezier(xs2, ys2, maxDeviation, buffer, depth + 1);
+    }
+
+    /**
+     * Computes the parameter step such that the arc of the osculating circle
+     * at the given position deviates from its chord by the given amount.
+     * Returns positive infinity if the curve is locally straight.
+     */
+    private static double curvatureStep(SmoothCurve2D curve, double t,
+    		double maxDeviation) {
+    	double kappa = abs(curve.curvature(t));
+    	double speed = curve.tangent(t).norm();
+    	if (kappa == 0 || speed == 0)
+    		return Double.POSITIVE_INFINITY;
+    	double angle = PI / 2;
+    	if (maxDeviation * kappa < 1)
+    		angle = min(angle, 2 * acos(1 - maxDeviation * kappa));
+    	return angle / (kappa * speed);
+    }
+
+    /**
+     * Computes the distance between the point (x, y) and the line segment
+     * joining (x1, y1) and (x2, y2).
+     */
+    private static double segmentDistance(double x, double y, double x1,
+    		double y1, double x2, double y2) {
+    	double dx = x2 - x1;
+    	double dy = y2 - y1;
+    	double d2 = dx * dx + dy * dy;
+    	double u = d2 > 0 ? ((x - x1) * dx + (y - y1) * dy) / d2 : 0;
+    	u = max(0, min(u, 1));
+    	return hypot(x - x1 - u * dx, y - y1 - u * dy);
+    }
+
     /**
      * Computes the tangent of the curve at the given position.
      */
@@ -35,6 +35,9 @@ import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
 
 /**
@@ -245,6 +248,39 @@ public class PolyCurve2D<T extends ContinuousCurve2D> extends CurveArray2D<T>
 		return new Polyline2D(points);
 	}
 
+    /**
+     * Converts this PolyCurve2D into a polyline, by concatenating the
+     * approximations of each curve with the given deviation. Returns a
+     * LinearRing2D if the curve is closed, and a Polyline2D otherwise.
+     * @param maxDeviation the maximal distance between the curve and the
+     *            polyline
+     * @since 0.11.3
+     */
+    public LinearCurve2D asPolyline(double maxDeviation) {
+    	PackedPointArray2D buffer = new PackedPointArray2D();
+    	for (T curve : this.curves) {
+    		LinearCurve2D poly = curve.asPolyline(maxDeviation);
+    		
+    		// avoid duplicating vertices at junctions between curves
+    		int i = 0;
+    		for (Point2D vertex : poly.vertices()) {
+    			if (i++ > 0 || buffer.size() == 0)
+    				buffer.add(vertex.x(), vertex.y());
+    		}
+    		if (poly.isClosed() && i > 0) {
+    			Point2D p0 = poly.firstPoint();
+    			buffer.add(p0.x(), p0.y());
+    		}
+    	}
+    	
+    	if (this.closed) {
+    		if (buffer.size() > 1)
+    			buffer.remove(buffer.size() - 1);
+    		return new LinearRing2D(buffer.xCoords(), buffer.yCoords());
+    	}
+    	return new Polyline2D(buffer.xCoords(), buffer.yCoords());
+    }
+
     /**
      * Returns a collection containing only instances of SmoothCurve2D.
      * 
@@ -131,10 +131,11 @@ implements Boundary2D {
      */
     public double signedDistance(double x, double y) {
         double minDist = Double.POSITIVE_INFINITY;
-        double dist = Double.POSITIVE_INFINITY;
 
+        // keep the signed distance to the closest curve, independently of
+        // the order of the curves
         for (OrientedCurve2D curve : this.curves()) {
-            dist = Math.min(dist, curve.signedDistance(x, y));
+            double dist = curve.signedDistance(x, y);
             if (Math.abs(dist)<Math.abs(minDist))
                 minDist = dist;
         }
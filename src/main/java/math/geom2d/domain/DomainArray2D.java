@@ -156,7 +156,8 @@ implements DomainSet2D<T> {
 	 */
 	public Domain2D clip(Box2D box) {
 		ArrayList<Domain2D> clippedShapes = new ArrayList<Domain2D>();
-		for (T domain : this)
+		Iterable<T> domains = this.index != null ? index.query(box) : this;
+		for (T domain : domains)
 			clippedShapes.add(domain.clip(box));
 		return new DomainArray2D<Domain2D>(clippedShapes);
 	}
@@ -0,0 +1,195 @@
+/**
+ * File: 	Codecs2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeSet2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.curve.CurveSet2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.point.PointSet2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Geometry type codes and conversions between javaGeom shapes and the
+ * simple feature model, shared by the WKB and WKT codecs.
+ *
+ * @author dlegland
+ */
+final class Codecs2D {
+
+	// ===================================================================
+	// Geometry types
+
+	static final int POINT = 1;
+	static final int LINESTRING = 2;
+	static final int POLYGON = 3;
+	static final int MULTIPOINT = 4;
+	static final int MULTILINESTRING = 5;
+	static final int MULTIPOLYGON = 6;
+	static final int GEOMETRYCOLLECTION = 7;
+
+	/** The WKT tag of each geometry type */
+	static final String[] TAGS = { null, "POINT", "LINESTRING", "POLYGON",
+			"MULTIPOINT", "MULTILINESTRING", "MULTIPOLYGON",
+			"GEOMETRYCOLLECTION" };
+
+	private Codecs2D() {
+	}
+
+
+	// ===================================================================
+	// Decoding
+
+	/**
+	 * Prepares the n first vertices of a decoded ring: removes the closing
+	 * vertex if it is equal to the first one, and reverses the vertices if
+	 * the ring does not have the requested orientation.
+	 *
+	 * @return the number of vertices of the ring
+	 */
+	static int normalizeRing(double[] xs, double[] ys, int n, boolean ccw) {
+		if (n > 1 && xs[0] == xs[n - 1] && ys[0] == ys[n - 1])
+			n--;
+
+		double area = 0;
+		for (int i = 0, j = n - 1; i < n; j = i++)
+			area += xs[j] * ys[i] - ys[j] * xs[i];
+		if (area != 0 && (area > 0) != ccw) {
+			for (int i = 0, j = n - 1; i < j; i++, j--) {
+				double tmp = xs[i];
+				xs[i] = xs[j];
+				xs[j] = tmp;
+				tmp = ys[i];
+				ys[i] = ys[j];
+				ys[j] = tmp;
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * Creates a polygon from decoded rings, the first one being the outer
+	 * ring: a SimplePolygon2D if there is only one ring, or a MultiPolygon2D
+	 * otherwise.
+	 */
+	static Polygon2D createPolygon(ArrayList<LinearRing2D> rings) {
+		if (rings.size() == 1)
+			return new SimplePolygon2D(rings.get(0).vertices());
+		return new MultiPolygon2D(rings);
+	}
+
+	static double[] trim(double[] array, int n) {
+		return array.length == n ? array : Arrays.copyOf(array, n);
+	}
+
+
+	// ===================================================================
+	// Encoding
+
+	/**
+	 * Returns the geometry type used for encoding the given shape.
+	 *
+	 * @throws IllegalArgumentException if the shape can not be encoded
+	 */
+	static int geometryType(Shape2D shape) {
+		if (shape instanceof Point2D)
+			return POINT;
+		if (shape instanceof PointSet2D)
+			return MULTIPOINT;
+		if (shape instanceof LinearCurve2D || shape instanceof LineSegment2D)
+			return LINESTRING;
+		if (shape instanceof SimplePolygon2D)
+			return POLYGON;
+		if (shape instanceof Polygon2D)
+			return MULTIPOLYGON;
+		if (shape instanceof CurveSet2D<?>) {
+			boolean linear = true;
+			for (Curve2D curve : ((CurveSet2D<?>) shape).curves())
+				linear &= curve instanceof LinearCurve2D
+						|| curve instanceof LineSegment2D;
+			if (linear)
+				return MULTILINESTRING;
+		}
+		if (shape instanceof ShapeSet2D<?>)
+			return GEOMETRYCOLLECTION;
+		throw new IllegalArgumentException("Can not encode shape of class "
+				+ shape.getClass().getName());
+	}
+
+	/**
+	 * Returns the vertices of a linear shape, without the closing vertex for
+	 * rings.
+	 */
+	static Collection<Point2D> vertices(Shape2D shape) {
+		if (shape instanceof LineSegment2D) {
+			LineSegment2D seg = (LineSegment2D) shape;
+			return Arrays.asList(seg.firstPoint(), seg.lastPoint());
+		}
+		return ((LinearCurve2D) shape).vertices();
+	}
+
+	/**
+	 * Groups the rings of a polygon into simple feature polygons. Each
+	 * counter-clockwise ring is the outer ring of a polygon, and each
+	 * clockwise ring is a hole of the smallest polygon containing it. Holes
+	 * that are not contained in any outer ring form a polygon on their own.
+	 */
+	static ArrayList<ArrayList<LinearRing2D>> polygons(Polygon2D polygon) {
+		ArrayList<ArrayList<LinearRing2D>> polygons =
+			new ArrayList<ArrayList<LinearRing2D>>();
+		ArrayList<LinearRing2D> holes = new ArrayList<LinearRing2D>();
+		ArrayList<Double> areas = new ArrayList<Double>();
+		for (LinearRing2D ring : polygon.contours()) {
+			if (ring.vertexNumber() == 0)
+				continue;
+			double area = ring.area();
+			if (area >= 0) {
+				ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>(1);
+				rings.add(ring);
+				polygons.add(rings);
+				areas.add(area);
+			} else {
+				holes.add(ring);
+			}
+		}
+
+		int nShells = polygons.size();
+		for (LinearRing2D hole : holes) {
+			Point2D point = hole.vertex(0);
+			int best = -1;
+			for (int i = 0; i < nShells; i++) {
+				LinearRing2D shell = polygons.get(i).get(0);
+				if (best >= 0 && areas.get(i) >= areas.get(best))
+					continue;
+				if (Polygons2D.windingNumber(shell.vertices(), point) != 0)
+					best = i;
+			}
+
+			if (best >= 0) {
+				polygons.get(best).add(hole);
+			} else {
+				ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>(1);
+				rings.add(hole);
+				polygons.add(rings);
+			}
+		}
+		return polygons;
+	}
+}
@@ -0,0 +1,25 @@
+/**
+ * File: 	GeometryFormatException.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+/**
+ * Exception thrown when an encoded geometry is malformed, or uses a
+ * geometry type that is not supported.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class GeometryFormatException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public GeometryFormatException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,408 @@
+/**
+ * File: 	WKBReader.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeArray2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polyline2D;
+
+/**
+ * Decodes geometries in Well-Known Binary (WKB) format. Geometries are read
+ * one after the other, either from a byte buffer, that may be a memory-mapped
+ * file, or from a channel, that is read by blocks.<br>
+ *
+ * Geometries are converted as follows:
+ * <ul>
+ * <li>Point: Point2D, empty points having NaN coordinates</li>
+ * <li>LineString: Polyline2D</li>
+ * <li>Polygon: SimplePolygon2D if the polygon has only one ring, or
+ * MultiPolygon2D otherwise</li>
+ * <li>MultiPoint: PackedPointArray2D</li>
+ * <li>MultiLineString: CurveArray2D of Polyline2D</li>
+ * <li>MultiPolygon: MultiPolygon2D containing the rings of all polygons</li>
+ * <li>GeometryCollection: ShapeArray2D</li>
+ * </ul>
+ * The closing vertex of polygon rings is removed, and rings are oriented
+ * such that outer rings are counter-clockwise, and holes are clockwise.<br>
+ *
+ * Both byte orders are supported, as well as the extended WKB format of
+ * PostGIS: z and m coordinates are skipped, and SRID are ignored.
+ * Coordinates are decoded directly into primitive arrays.
+ *
+ * @see WKBWriter
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class WKBReader {
+
+	// ===================================================================
+	// Constants
+
+	/** The size of the buffer used for reading channels */
+	private final static int BUFFER_SIZE = 1 << 16;
+
+	/** Flags of the extended WKB format */
+	private final static int EWKB_Z = 0x80000000;
+	private final static int EWKB_M = 0x40000000;
+	private final static int EWKB_SRID = 0x20000000;
+
+
+	// ===================================================================
+	// Static methods
+
+	/**
+	 * Decodes the geometry encoded in the given array.
+	 */
+	public static Shape2D read(byte[] bytes) {
+		return read(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Decodes the geometry starting at the current position of the buffer,
+	 * and moves the position of the buffer after the geometry.
+	 */
+	public static Shape2D read(ByteBuffer buffer) {
+		WKBReader reader = new WKBReader(buffer.slice());
+		Shape2D shape;
+		try {
+			shape = reader.read();
+		} catch (IOException ex) {
+			// can not happen, as no channel is read
+			throw new IllegalStateException(ex);
+		}
+		buffer.position(buffer.position() + reader.buffer.position());
+		return shape;
+	}
+
+	/**
+	 * Creates a reader for the geometries stored within a file, by mapping
+	 * the file into memory.
+	 */
+	public static WKBReader open(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			return new WKBReader(channel.map(FileChannel.MapMode.READ_ONLY,
+					0, channel.size()));
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The buffer containing the data to decode */
+	private ByteBuffer buffer;
+
+	/** The channel used for refilling the buffer, or null */
+	private ReadableByteChannel channel;
+
+	/** The number of coordinates of the geometry being decoded */
+	private int dimension;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new reader for the geometries stored in the given buffer,
+	 * starting at its current position. The content of the buffer is not
+	 * copied, and the position of the buffer is advanced while reading.
+	 */
+	public WKBReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+		this.channel = null;
+	}
+
+	/**
+	 * Creates a new reader for the geometries read from the given channel.
+	 */
+	public WKBReader(ReadableByteChannel channel) {
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		this.buffer.limit(0);
+		this.channel = channel;
+	}
+
+
+	// ===================================================================
+	// Reading methods
+
+	/**
+	 * Returns true if the input contains another geometry.
+	 */
+	public boolean hasNext() throws IOException {
+		return fill(1);
+	}
+
+	/**
+	 * Decodes the next geometry.
+	 *
+	 * @throws GeometryFormatException if the input is malformed, or if the
+	 *             end of input is reached
+	 */
+	public Shape2D read() throws IOException {
+		int type = readHeader();
+		switch (type) {
+		case Codecs2D.POINT:
+			return readPoint();
+
+		case Codecs2D.LINESTRING: {
+			double[][] coords = readCoordinates(readCount());
+			return new Polyline2D(coords[0], coords[1]);
+		}
+
+		case Codecs2D.POLYGON: {
+			int nRings = readCount();
+			ArrayList<LinearRing2D> rings =
+				new ArrayList<LinearRing2D>(capacity(nRings));
+			for (int i = 0; i < nRings; i++)
+				rings.add(readRing(i == 0));
+			if (nRings == 0)
+				return new MultiPolygon2D();
+			return Codecs2D.createPolygon(rings);
+		}
+
+		case Codecs2D.MULTIPOINT: {
+			int n = readCount();
+			double[] xs = new double[capacity(n)];
+			double[] ys = new double[xs.length];
+			for (int i = 0; i < n; i++) {
+				if (readHeader() != Codecs2D.POINT)
+					throw new GeometryFormatException(
+							"MultiPoint must contain only points");
+				if (i == xs.length) {
+					xs = Arrays.copyOf(xs, (int) Math.min(n, 2L * i));
+					ys = Arrays.copyOf(ys, xs.length);
+				}
+				readCoordinates(xs, ys, i, 1);
+			}
+			return new PackedPointArray2D(xs, ys);
+		}
+
+		case Codecs2D.MULTILINESTRING: {
+			int n = readCount();
+			CurveArray2D<Polyline2D> curves =
+				new CurveArray2D<Polyline2D>(capacity(n));
+			for (int i = 0; i < n; i++) {
+				Shape2D shape = read();
+				if (!(shape instanceof Polyline2D))
+					throw new GeometryFormatException(
+							"MultiLineString must contain only line strings");
+				curves.add(curves.size(), (Polyline2D) shape);
+			}
+			return curves;
+		}
+
+		case Codecs2D.MULTIPOLYGON: {
+			int n = readCount();
+			MultiPolygon2D polygon = new MultiPolygon2D(capacity(n));
+			for (int i = 0; i < n; i++) {
+				if (readHeader() != Codecs2D.POLYGON)
+					throw new GeometryFormatException(
+							"MultiPolygon must contain only polygons");
+				int nRings = readCount();
+				for (int j = 0; j < nRings; j++)
+					polygon.addRing(readRing(j == 0));
+			}
+			return polygon;
+		}
+
+		case Codecs2D.GEOMETRYCOLLECTION: {
+			int n = readCount();
+			ShapeArray2D<Shape2D> shapes =
+				new ShapeArray2D<Shape2D>(capacity(n));
+			for (int i = 0; i < n; i++)
+				shapes.add(shapes.size(), read());
+			return shapes;
+		}
+
+		default:
+			throw new GeometryFormatException("Unsupported WKB geometry type: "
+					+ type);
+		}
+	}
+
+	/**
+	 * Reads the byte order and the type of a geometry, and returns the code
+	 * of the geometry type.
+	 */
+	private int readHeader() throws IOException {
+		require(5);
+		byte order = buffer.get();
+		if (order == 0)
+			buffer.order(ByteOrder.BIG_ENDIAN);
+		else if (order == 1)
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+		else
+			throw new GeometryFormatException("Invalid WKB byte order: "
+					+ order);
+
+		int type = buffer.getInt();
+		int dim = 2;
+		if ((type & EWKB_Z) != 0)
+			dim++;
+		if ((type & EWKB_M) != 0)
+			dim++;
+		if ((type & EWKB_SRID) != 0) {
+			require(4);
+			buffer.getInt();
+		}
+		type &= 0x0FFFFFFF;
+
+		// ISO types use thousands for z and m coordinates
+		int iso = type / 1000;
+		if (iso == 1 || iso == 2)
+			dim++;
+		else if (iso == 3)
+			dim += 2;
+		this.dimension = dim;
+		return type % 1000;
+	}
+
+	/**
+	 * Reads a number of elements. As each element requires at least one
+	 * byte, the count is checked against the remaining bytes when reading a
+	 * buffer. The size of a channel is not known, and the memory for the
+	 * elements is allocated while they are read.
+	 */
+	private int readCount() throws IOException {
+		require(4);
+		int n = buffer.getInt();
+		if (n < 0 || (channel == null && n > buffer.remaining()))
+			throw new GeometryFormatException("Invalid WKB element count: " + n);
+		return n;
+	}
+
+	/**
+	 * Returns the initial capacity for storing the given number of
+	 * elements. When reading a channel, the capacity is bounded by the size
+	 * of the buffer, and the storage grows while elements are read.
+	 */
+	private int capacity(int n) {
+		return channel == null ? n : Math.min(n, BUFFER_SIZE);
+	}
+
+	private Point2D readPoint() throws IOException {
+		require(8 * dimension);
+		double x = buffer.getDouble();
+		double y = buffer.getDouble();
+		buffer.position(buffer.position() + 8 * (dimension - 2));
+		return new Point2D(x, y);
+	}
+
+	/**
+	 * Reads a polygon ring, and orients it counter-clockwise if it is an
+	 * outer ring, or clockwise otherwise.
+	 */
+	private LinearRing2D readRing(boolean outer) throws IOException {
+		int n = readCount();
+		double[][] coords = readCoordinates(n);
+		double[] xs = coords[0];
+		double[] ys = coords[1];
+		n = Codecs2D.normalizeRing(xs, ys, n, outer);
+		return new LinearRing2D(Codecs2D.trim(xs, n), Codecs2D.trim(ys, n));
+	}
+
+	/**
+	 * Reads n consecutive coordinates, and returns the arrays of x and y
+	 * coordinates. The arrays grow while blocks are read, so that an invalid
+	 * count read from a channel fails at the end of input instead of
+	 * allocating too much memory.
+	 */
+	private double[][] readCoordinates(int n) throws IOException {
+		double[] xs = new double[capacity(n)];
+		double[] ys = new double[xs.length];
+		int i = 0;
+		while (i < n) {
+			if (i == xs.length) {
+				xs = Arrays.copyOf(xs, (int) Math.min(n, 2L * i));
+				ys = Arrays.copyOf(ys, xs.length);
+			}
+			int count = xs.length - i;
+			readCoordinates(xs, ys, i, count);
+			i += count;
+		}
+		return new double[][] { xs, ys };
+	}
+
+	/**
+	 * Reads n consecutive coordinates, and stores them within the arrays
+	 * starting from the given index. Coordinates are read by blocks fitting
+	 * into the buffer.
+	 */
+	private void readCoordinates(double[] xs, double[] ys, int start, int n)
+	throws IOException {
+		int stride = 8 * dimension;
+		int skip = stride - 16;
+		ByteBuffer buffer = this.buffer;
+		int i = start, end = start + n;
+		while (i < end) {
+			require(stride);
+			int count = Math.min(end - i, buffer.remaining() / stride);
+			int pos = buffer.position();
+			for (int k = 0; k < count; k++, i++) {
+				xs[i] = buffer.getDouble(pos);
+				ys[i] = buffer.getDouble(pos + 8);
+				pos += 16 + skip;
+			}
+			buffer.position(pos);
+		}
+	}
+
+	/**
+	 * Ensures the buffer contains at least n remaining bytes, by reading
+	 * the channel if necessary.
+	 *
+	 * @throws GeometryFormatException if the end of input is reached
+	 */
+	private void require(int n) throws IOException {
+		if (!fill(n))
+			throw new GeometryFormatException("Unexpected end of WKB data");
+	}
+
+	/**
+	 * Tries to read the channel until the buffer contains at least n
+	 * remaining bytes, and returns false if the end of input is reached
+	 * before.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (buffer.remaining() >= n)
+			return true;
+		if (channel == null)
+			return false;
+
+		buffer.compact();
+		try {
+			while (buffer.position() < n) {
+				if (channel.read(buffer) < 0)
+					return false;
+			}
+		} finally {
+			buffer.flip();
+		}
+		return true;
+	}
+}
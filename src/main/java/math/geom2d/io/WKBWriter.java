@@ -0,0 +1,340 @@
+/**
+ * File: 	WKBWriter.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeSet2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.curve.CurveSet2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.point.PointSet2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Encodes geometries in Well-Known Binary (WKB) format. Geometries can be
+ * encoded into byte arrays, into byte buffers, or written to a channel
+ * through an inner buffer.<br>
+ *
+ * Shapes are converted as follows:
+ * <ul>
+ * <li>Point2D: Point</li>
+ * <li>PointSet2D: MultiPoint</li>
+ * <li>Polyline2D, LinearRing2D and LineSegment2D: LineString, the first
+ * vertex of rings being repeated at the end</li>
+ * <li>SimplePolygon2D: Polygon</li>
+ * <li>other polygons: Polygon or MultiPolygon, each counter-clockwise ring
+ * being an outer ring, and each clockwise ring being a hole of the smallest
+ * outer ring containing it</li>
+ * <li>curve sets of linear curves: MultiLineString</li>
+ * <li>other shape sets: GeometryCollection</li>
+ * </ul>
+ *
+ * @see WKBReader
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class WKBWriter {
+
+	// ===================================================================
+	// Constants
+
+	/** The size of the buffer used for writing channels */
+	private final static int BUFFER_SIZE = 1 << 16;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The byte order used for encoding */
+	private final ByteOrder order;
+
+	/** The channel the geometries are written to, or null */
+	private final WritableByteChannel channel;
+
+	/** The buffer used for writing the channel */
+	private final ByteBuffer channelBuffer;
+
+	/** The buffer geometries are currently encoded into */
+	private ByteBuffer out;
+
+	/** Indicates whether the current buffer can be reallocated */
+	private boolean growable;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new writer using little endian byte order.
+	 */
+	public WKBWriter() {
+		this(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new writer using the specified byte order.
+	 */
+	public WKBWriter(ByteOrder order) {
+		this.order = order;
+		this.channel = null;
+		this.channelBuffer = null;
+	}
+
+	/**
+	 * Creates a new writer to the given channel, using little endian byte
+	 * order.
+	 */
+	public WKBWriter(WritableByteChannel channel) {
+		this(channel, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new writer to the given channel, using the specified byte
+	 * order.
+	 */
+	public WKBWriter(WritableByteChannel channel, ByteOrder order) {
+		this.order = order;
+		this.channel = channel;
+		this.channelBuffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+	}
+
+
+	// ===================================================================
+	// Writing methods
+
+	/**
+	 * Encodes the given shape into a new byte array.
+	 */
+	public byte[] toBytes(Shape2D shape) {
+		this.out = ByteBuffer.allocate(256).order(order);
+		this.growable = true;
+		try {
+			writeShape(shape);
+		} catch (IOException ex) {
+			// can not happen, as no channel is written
+			throw new IllegalStateException(ex);
+		}
+		byte[] bytes = new byte[out.position()];
+		out.flip();
+		out.get(bytes);
+		this.out = null;
+		return bytes;
+	}
+
+	/**
+	 * Encodes the given shape into the buffer, starting at its current
+	 * position. The byte order of the buffer is modified.
+	 *
+	 * @throws BufferOverflowException if the buffer is too small
+	 */
+	public void write(Shape2D shape, ByteBuffer buffer) {
+		this.out = buffer.order(order);
+		this.growable = false;
+		try {
+			writeShape(shape);
+		} catch (IOException ex) {
+			// can not happen, as no channel is written
+			throw new IllegalStateException(ex);
+		} finally {
+			this.out = null;
+		}
+	}
+
+	/**
+	 * Encodes the given shape, and writes it to the channel. Data may be
+	 * kept in an inner buffer until the writer is flushed.
+	 *
+	 * @throws IllegalStateException if the writer was not created with a
+	 *             channel
+	 */
+	public void write(Shape2D shape) throws IOException {
+		if (channel == null)
+			throw new IllegalStateException("No channel to write to");
+		this.out = channelBuffer;
+		this.growable = false;
+		writeShape(shape);
+	}
+
+	/**
+	 * Writes the buffered data to the channel.
+	 */
+	public void flush() throws IOException {
+		if (channel == null)
+			return;
+		channelBuffer.flip();
+		while (channelBuffer.hasRemaining())
+			channel.write(channelBuffer);
+		channelBuffer.clear();
+	}
+
+
+	// ===================================================================
+	// Encoding of shapes
+
+	private void writeShape(Shape2D shape) throws IOException {
+		int type = Codecs2D.geometryType(shape);
+		switch (type) {
+		case Codecs2D.POINT: {
+			Point2D point = (Point2D) shape;
+			writeHeader(Codecs2D.POINT);
+			ensure(16);
+			out.putDouble(point.x());
+			out.putDouble(point.y());
+			break;
+		}
+
+		case Codecs2D.MULTIPOINT:
+			writeMultiPoint((PointSet2D) shape);
+			break;
+
+		case Codecs2D.LINESTRING:
+			writeHeader(Codecs2D.LINESTRING);
+			writeVertices(Codecs2D.vertices(shape),
+					shape instanceof LinearRing2D);
+			break;
+
+		case Codecs2D.POLYGON:
+			writeHeader(Codecs2D.POLYGON);
+			writeInt(1);
+			writeVertices(((SimplePolygon2D) shape).vertices(), true);
+			break;
+
+		case Codecs2D.MULTIPOLYGON: {
+			ArrayList<ArrayList<LinearRing2D>> polygons =
+				Codecs2D.polygons((Polygon2D) shape);
+			if (polygons.size() == 1) {
+				writePolygon(polygons.get(0));
+			} else {
+				writeHeader(Codecs2D.MULTIPOLYGON);
+				writeInt(polygons.size());
+				for (ArrayList<LinearRing2D> rings : polygons)
+					writePolygon(rings);
+			}
+			break;
+		}
+
+		case Codecs2D.MULTILINESTRING: {
+			CurveSet2D<?> set = (CurveSet2D<?>) shape;
+			writeHeader(Codecs2D.MULTILINESTRING);
+			writeInt(set.size());
+			for (Curve2D curve : set.curves()) {
+				writeHeader(Codecs2D.LINESTRING);
+				writeVertices(Codecs2D.vertices(curve),
+						curve instanceof LinearRing2D);
+			}
+			break;
+		}
+
+		case Codecs2D.GEOMETRYCOLLECTION: {
+			ShapeSet2D<?> set = (ShapeSet2D<?>) shape;
+			writeHeader(Codecs2D.GEOMETRYCOLLECTION);
+			writeInt(set.size());
+			for (Shape2D item : set)
+				writeShape(item);
+			break;
+		}
+		}
+	}
+
+	private void writeMultiPoint(PointSet2D set) throws IOException {
+		writeHeader(Codecs2D.MULTIPOINT);
+		writeInt(set.size());
+		if (set instanceof PackedPointArray2D) {
+			PackedPointArray2D array = (PackedPointArray2D) set;
+			double[] xs = array.xCoords();
+			double[] ys = array.yCoords();
+			for (int i = 0; i < array.size(); i++) {
+				writeHeader(Codecs2D.POINT);
+				ensure(16);
+				out.putDouble(xs[i]);
+				out.putDouble(ys[i]);
+			}
+		} else {
+			for (Point2D point : set) {
+				writeHeader(Codecs2D.POINT);
+				ensure(16);
+				out.putDouble(point.x());
+				out.putDouble(point.y());
+			}
+		}
+	}
+
+	private void writePolygon(ArrayList<LinearRing2D> rings)
+	throws IOException {
+		writeHeader(Codecs2D.POLYGON);
+		writeInt(rings.size());
+		for (LinearRing2D ring : rings)
+			writeVertices(ring.vertices(), true);
+	}
+
+	private void writeHeader(int type) throws IOException {
+		ensure(5);
+		out.put((byte) (order == ByteOrder.LITTLE_ENDIAN ? 1 : 0));
+		out.putInt(type);
+	}
+
+	private void writeInt(int value) throws IOException {
+		ensure(4);
+		out.putInt(value);
+	}
+
+	/**
+	 * Writes the number of vertices followed by their coordinates. If the
+	 * vertices form a ring, the first vertex is repeated at the end.
+	 */
+	private void writeVertices(Collection<Point2D> vertices, boolean closed)
+	throws IOException {
+		int n = vertices.size();
+		boolean close = closed && n > 0;
+		writeInt(close ? n + 1 : n);
+		for (Point2D vertex : vertices) {
+			ensure(16);
+			out.putDouble(vertex.x());
+			out.putDouble(vertex.y());
+		}
+		if (close) {
+			Point2D first = vertices.iterator().next();
+			ensure(16);
+			out.putDouble(first.x());
+			out.putDouble(first.y());
+		}
+	}
+
+	/**
+	 * Ensures the current buffer can receive n more bytes, by writing the
+	 * channel or by reallocating the buffer.
+	 */
+	private void ensure(int n) throws IOException {
+		if (out.remaining() >= n)
+			return;
+		if (out == channelBuffer) {
+			flush();
+		} else if (growable) {
+			ByteBuffer buffer = ByteBuffer.allocate(
+					Math.max(2 * out.capacity(), out.position() + n))
+					.order(order);
+			out.flip();
+			buffer.put(out);
+			out = buffer;
+		} else {
+			throw new BufferOverflowException();
+		}
+	}
+}
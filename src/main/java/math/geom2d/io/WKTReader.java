@@ -0,0 +1,521 @@
+/**
+ * File: 	WKTReader.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeArray2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polyline2D;
+
+/**
+ * Decodes geometries in Well-Known Text (WKT) format. Geometries are read
+ * one after the other from a character stream, and may be separated by
+ * white spaces or semicolons. Shapes are created as for WKBReader, and the
+ * LinearRing tag is also accepted, resulting in a LinearRing2D.<br>
+ *
+ * The extended WKT format of PostGIS is supported: SRID prefixes are
+ * ignored, as well as z and m coordinates. Numbers are parsed directly from
+ * the stream, without creating intermediate strings in most cases.
+ *
+ * @see WKTWriter
+ * @see WKBReader
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class WKTReader {
+
+	// ===================================================================
+	// Constants
+
+	/** The size of the buffer used for reading characters */
+	private final static int BUFFER_SIZE = 1 << 13;
+
+	/** Geometry type of linear rings, not part of simple features */
+	private final static int LINEARRING = 0;
+
+	/** Powers of ten that can be represented exactly by doubles */
+	private final static double[] POWERS_OF_TEN = new double[23];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+	}
+
+
+	// ===================================================================
+	// Static methods
+
+	/**
+	 * Decodes the geometry represented by the given text.
+	 */
+	public static Shape2D read(CharSequence text) {
+		try {
+			return new WKTReader(new StringReader(text.toString())).read();
+		} catch (IOException ex) {
+			// can not happen with a string reader
+			throw new IllegalStateException(ex);
+		}
+	}
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The source of characters */
+	private final Reader reader;
+
+	/** The buffer of characters, with current position and limit */
+	private final char[] chars = new char[BUFFER_SIZE];
+	private int pos = 0;
+	private int limit = 0;
+
+	/** The characters of the current number, used for slow parsing */
+	private char[] token = new char[32];
+
+	/** Buffers for decoding coordinates */
+	private double[] xs = new double[64];
+	private double[] ys = new double[64];
+
+
+	// ===================================================================
+	// Constructor
+
+	/**
+	 * Creates a new reader for the geometries read from the given character
+	 * stream.
+	 */
+	public WKTReader(Reader reader) {
+		this.reader = reader;
+	}
+
+
+	// ===================================================================
+	// Reading methods
+
+	/**
+	 * Returns true if the input contains another geometry.
+	 */
+	public boolean hasNext() throws IOException {
+		skipSeparators();
+		return peek() >= 0;
+	}
+
+	/**
+	 * Decodes the next geometry.
+	 *
+	 * @throws GeometryFormatException if the input is malformed, or if the
+	 *             end of input is reached
+	 */
+	public Shape2D read() throws IOException {
+		skipSeparators();
+
+		// skip SRID prefix of extended WKT
+		String tag = readWord();
+		if (tag.equals("SRID")) {
+			expect('=');
+			readNumber();
+			expect(';');
+			tag = readWord();
+		}
+		return readGeometry(geometryType(tag));
+	}
+
+	private Shape2D readGeometry(int type) throws IOException {
+		// skip dimension qualifier, and check empty geometries
+		skipWhitespaces();
+		if (peek() != '(') {
+			String word = readWord();
+			if (word.equals("Z") || word.equals("M") || word.equals("ZM")) {
+				skipWhitespaces();
+				word = peek() == '(' ? null : readWord();
+			}
+			if (word != null) {
+				if (!word.equals("EMPTY"))
+					throw error("Expected EMPTY or '(' but found " + word);
+				return emptyGeometry(type);
+			}
+		}
+
+		switch (type) {
+		case Codecs2D.POINT: {
+			expect('(');
+			readCoordinates(0);
+			expect(')');
+			return new Point2D(xs[0], ys[0]);
+		}
+
+		case Codecs2D.LINESTRING: {
+			int n = readCoordinateList();
+			return new Polyline2D(Arrays.copyOf(xs, n), Arrays.copyOf(ys, n));
+		}
+
+		case LINEARRING:
+			return readRing(true);
+
+		case Codecs2D.POLYGON: {
+			ArrayList<LinearRing2D> rings = readRings();
+			return Codecs2D.createPolygon(rings);
+		}
+
+		case Codecs2D.MULTIPOINT: {
+			// points may be enclosed within parentheses or not
+			expect('(');
+			int n = 0;
+			do {
+				skipWhitespaces();
+				boolean enclosed = peek() == '(';
+				if (enclosed)
+					next();
+				ensureCapacity(n + 1);
+				readCoordinates(n++);
+				if (enclosed)
+					expect(')');
+			} while (nextElement());
+			return new PackedPointArray2D(Arrays.copyOf(xs, n),
+					Arrays.copyOf(ys, n));
+		}
+
+		case Codecs2D.MULTILINESTRING: {
+			expect('(');
+			CurveArray2D<Polyline2D> curves = new CurveArray2D<Polyline2D>();
+			do {
+				int n = readCoordinateList();
+				curves.add(curves.size(), new Polyline2D(
+						Arrays.copyOf(xs, n), Arrays.copyOf(ys, n)));
+			} while (nextElement());
+			return curves;
+		}
+
+		case Codecs2D.MULTIPOLYGON: {
+			expect('(');
+			MultiPolygon2D polygon = new MultiPolygon2D();
+			do {
+				for (LinearRing2D ring : readRings())
+					polygon.addRing(ring);
+			} while (nextElement());
+			return polygon;
+		}
+
+		case Codecs2D.GEOMETRYCOLLECTION: {
+			expect('(');
+			ShapeArray2D<Shape2D> shapes = new ShapeArray2D<Shape2D>();
+			do {
+				skipWhitespaces();
+				shapes.add(shapes.size(), readGeometry(geometryType(readWord())));
+			} while (nextElement());
+			return shapes;
+		}
+		}
+		throw error("Unsupported geometry type");
+	}
+
+	private Shape2D emptyGeometry(int type) {
+		switch (type) {
+		case Codecs2D.POINT:
+			return new Point2D(Double.NaN, Double.NaN);
+		case Codecs2D.LINESTRING:
+			return new Polyline2D();
+		case LINEARRING:
+			return new LinearRing2D();
+		case Codecs2D.POLYGON:
+		case Codecs2D.MULTIPOLYGON:
+			return new MultiPolygon2D();
+		case Codecs2D.MULTIPOINT:
+			return new PackedPointArray2D();
+		case Codecs2D.MULTILINESTRING:
+			return new CurveArray2D<Polyline2D>();
+		default:
+			return new ShapeArray2D<Shape2D>();
+		}
+	}
+
+	private int geometryType(String tag) {
+		if (tag.equals("LINEARRING"))
+			return LINEARRING;
+		for (int type = 1; type < Codecs2D.TAGS.length; type++) {
+			if (Codecs2D.TAGS[type].equals(tag))
+				return type;
+		}
+
+		// tags with dimension suffix, such as POINTZ or POINTM
+		for (int type = 1; type < Codecs2D.TAGS.length; type++) {
+			String prefix = Codecs2D.TAGS[type];
+			if (tag.startsWith(prefix)) {
+				String suffix = tag.substring(prefix.length());
+				if (suffix.equals("Z") || suffix.equals("M")
+						|| suffix.equals("ZM"))
+					return type;
+			}
+		}
+		throw error("Unsupported geometry type: " + tag);
+	}
+
+
+	// ===================================================================
+	// Decoding coordinates
+
+	/**
+	 * Reads the rings of a polygon, the first one being oriented
+	 * counter-clockwise and the other ones clockwise.
+	 */
+	private ArrayList<LinearRing2D> readRings() throws IOException {
+		skipWhitespaces();
+		ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>(1);
+		if (peek() != '(') {
+			// empty polygon within a multi-polygon
+			String word = readWord();
+			if (!word.equals("EMPTY"))
+				throw error("Expected EMPTY or '(' but found " + word);
+			return rings;
+		}
+		expect('(');
+		do {
+			rings.add(readRing(rings.isEmpty()));
+		} while (nextElement());
+		return rings;
+	}
+
+	private LinearRing2D readRing(boolean outer) throws IOException {
+		int n = readCoordinateList();
+		n = Codecs2D.normalizeRing(xs, ys, n, outer);
+		return new LinearRing2D(Arrays.copyOf(xs, n), Arrays.copyOf(ys, n));
+	}
+
+	/**
+	 * Reads a list of coordinates enclosed within parentheses into the
+	 * coordinate buffers, and returns the number of vertices.
+	 */
+	private int readCoordinateList() throws IOException {
+		expect('(');
+		int n = 0;
+		do {
+			ensureCapacity(n + 1);
+			readCoordinates(n++);
+		} while (nextElement());
+		return n;
+	}
+
+	/**
+	 * Reads the coordinates of a vertex, and stores them at the given index
+	 * of the coordinate buffers. The z and m coordinates are skipped.
+	 */
+	private void readCoordinates(int index) throws IOException {
+		xs[index] = readNumber();
+		ys[index] = readNumber();
+		while (true) {
+			skipWhitespaces();
+			int c = peek();
+			if (c == ',' || c == ')' || c < 0)
+				return;
+			readNumber();
+		}
+	}
+
+	private void ensureCapacity(int n) {
+		if (n > xs.length) {
+			xs = Arrays.copyOf(xs, Math.max(n, 2 * xs.length));
+			ys = Arrays.copyOf(ys, Math.max(n, 2 * ys.length));
+		}
+	}
+
+	/**
+	 * Reads a number. Numbers with at most 18 significant digits and a
+	 * small exponent are computed directly, as the quotient or the product
+	 * of two exactly represented doubles is correctly rounded. Other numbers
+	 * are parsed by the Double class.
+	 */
+	private double readNumber() throws IOException {
+		skipWhitespaces();
+		int length = 0;
+		boolean negative = false;
+		int c = peek();
+		if (c == '-' || c == '+') {
+			negative = c == '-';
+			length = append(length, next());
+			c = peek();
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean exact = true;
+		boolean any = false;
+		while (c >= '0' && c <= '9') {
+			if (digits < 18) {
+				mantissa = mantissa * 10 + (c - '0');
+				if (mantissa != 0)
+					digits++;
+			} else {
+				exponent++;
+				exact &= c == '0';
+			}
+			any = true;
+			length = append(length, next());
+			c = peek();
+		}
+		if (c == '.') {
+			length = append(length, next());
+			c = peek();
+			while (c >= '0' && c <= '9') {
+				if (digits < 18) {
+					mantissa = mantissa * 10 + (c - '0');
+					if (mantissa != 0)
+						digits++;
+					exponent--;
+				} else {
+					exact &= c == '0';
+				}
+				any = true;
+				length = append(length, next());
+				c = peek();
+			}
+		}
+		if (!any) {
+			// also accept special values, such as NaN
+			String word = readWord();
+			if (word.equals("NAN"))
+				return Double.NaN;
+			if (word.equals("INF") || word.equals("INFINITY"))
+				return negative ? Double.NEGATIVE_INFINITY
+						: Double.POSITIVE_INFINITY;
+			throw error("Expected a number");
+		}
+		if (c == 'e' || c == 'E') {
+			length = append(length, next());
+			c = peek();
+			boolean negExp = false;
+			if (c == '-' || c == '+') {
+				negExp = c == '-';
+				length = append(length, next());
+				c = peek();
+			}
+			int exp = 0;
+			boolean anyExp = false;
+			while (c >= '0' && c <= '9') {
+				if (exp < 100000)
+					exp = exp * 10 + (c - '0');
+				anyExp = true;
+				length = append(length, next());
+				c = peek();
+			}
+			if (!anyExp)
+				throw error("Invalid exponent");
+			exponent += negExp ? -exp : exp;
+		}
+
+		// fast path for numbers that can be computed exactly
+		if (mantissa == 0)
+			return negative ? -0.0 : 0.0;
+		if (exact && mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+			double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent]
+					: mantissa / POWERS_OF_TEN[-exponent];
+			return negative ? -value : value;
+		}
+		return Double.parseDouble(new String(token, 0, length));
+	}
+
+	private int append(int length, int c) {
+		if (length == token.length)
+			token = Arrays.copyOf(token, 2 * length);
+		token[length] = (char) c;
+		return length + 1;
+	}
+
+
+	// ===================================================================
+	// Lexical analysis
+
+	/**
+	 * Reads a word made of letters, and returns it in upper case.
+	 */
+	private String readWord() throws IOException {
+		skipWhitespaces();
+		StringBuilder builder = new StringBuilder();
+		int c = peek();
+		while (Character.isLetter(c)) {
+			builder.append((char) Character.toUpperCase(next()));
+			c = peek();
+		}
+		if (builder.length() == 0)
+			throw error(c < 0 ? "Unexpected end of WKT data"
+					: "Unexpected character '" + (char) c + "'");
+		return builder.toString();
+	}
+
+	/**
+	 * Skips the comma separating two elements of a list, and returns true,
+	 * or skips the closing parenthesis of the list, and returns false.
+	 */
+	private boolean nextElement() throws IOException {
+		skipWhitespaces();
+		int c = next();
+		if (c == ',')
+			return true;
+		if (c == ')')
+			return false;
+		throw error("Expected ',' or ')'");
+	}
+
+	private void expect(char expected) throws IOException {
+		skipWhitespaces();
+		int c = next();
+		if (c != expected)
+			throw error("Expected '" + expected + "'");
+	}
+
+	private void skipWhitespaces() throws IOException {
+		while (Character.isWhitespace(peek()))
+			pos++;
+	}
+
+	private void skipSeparators() throws IOException {
+		int c = peek();
+		while (Character.isWhitespace(c) || c == ';') {
+			pos++;
+			c = peek();
+		}
+	}
+
+	/**
+	 * Returns the next character without consuming it, or -1 at the end of
+	 * input.
+	 */
+	private int peek() throws IOException {
+		if (pos == limit) {
+			limit = reader.read(chars, 0, chars.length);
+			pos = 0;
+			if (limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		return chars[pos];
+	}
+
+	private int next() throws IOException {
+		int c = peek();
+		if (c >= 0)
+			pos++;
+		return c;
+	}
+
+	private GeometryFormatException error(String message) {
+		return new GeometryFormatException(message);
+	}
+}
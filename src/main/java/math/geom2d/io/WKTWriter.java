@@ -0,0 +1,267 @@
+/**
+ * File: 	WKTWriter.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeSet2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.curve.CurveSet2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.point.PointSet2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Encodes geometries in Well-Known Text (WKT) format. Shapes are converted
+ * as for WKBWriter, and can be written to any Appendable, such as a
+ * StringBuilder or a Writer. Coordinates are written with the shortest
+ * representation that allows to decode the same values.
+ *
+ * @see WKTReader
+ * @see WKBWriter
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class WKTWriter {
+
+	// ===================================================================
+	// Static methods
+
+	/**
+	 * Returns the WKT representation of the given shape.
+	 */
+	public static String toString(Shape2D shape) {
+		StringBuilder builder = new StringBuilder();
+		try {
+			new WKTWriter().write(shape, builder);
+		} catch (IOException ex) {
+			// can not happen with a string builder
+			throw new IllegalStateException(ex);
+		}
+		return builder.toString();
+	}
+
+
+	// ===================================================================
+	// Constructor
+
+	/**
+	 * Creates a new WKT writer.
+	 */
+	public WKTWriter() {
+	}
+
+
+	// ===================================================================
+	// Writing methods
+
+	/**
+	 * Appends the WKT representation of the given shape.
+	 */
+	public void write(Shape2D shape, Appendable out) throws IOException {
+		int type = Codecs2D.geometryType(shape);
+		switch (type) {
+		case Codecs2D.POINT: {
+			Point2D point = (Point2D) shape;
+			out.append("POINT ");
+			if (Double.isNaN(point.x()) && Double.isNaN(point.y())) {
+				out.append("EMPTY");
+			} else {
+				out.append('(');
+				writeCoordinates(point.x(), point.y(), out);
+				out.append(')');
+			}
+			break;
+		}
+
+		case Codecs2D.MULTIPOINT:
+			out.append("MULTIPOINT ");
+			writeMultiPoint((PointSet2D) shape, out);
+			break;
+
+		case Codecs2D.LINESTRING:
+			out.append("LINESTRING ");
+			writeVertices(Codecs2D.vertices(shape),
+					shape instanceof LinearRing2D, out);
+			break;
+
+		case Codecs2D.POLYGON: {
+			Collection<Point2D> vertices = ((SimplePolygon2D) shape).vertices();
+			out.append("POLYGON ");
+			if (vertices.isEmpty()) {
+				out.append("EMPTY");
+			} else {
+				out.append('(');
+				writeVertices(vertices, true, out);
+				out.append(')');
+			}
+			break;
+		}
+
+		case Codecs2D.MULTIPOLYGON: {
+			ArrayList<ArrayList<LinearRing2D>> polygons =
+				Codecs2D.polygons((Polygon2D) shape);
+			if (polygons.size() == 1) {
+				out.append("POLYGON ");
+				writePolygon(polygons.get(0), out);
+			} else {
+				out.append("MULTIPOLYGON ");
+				if (polygons.isEmpty()) {
+					out.append("EMPTY");
+					break;
+				}
+				out.append('(');
+				for (int i = 0; i < polygons.size(); i++) {
+					if (i > 0)
+						out.append(", ");
+					writePolygon(polygons.get(i), out);
+				}
+				out.append(')');
+			}
+			break;
+		}
+
+		case Codecs2D.MULTILINESTRING: {
+			CurveSet2D<?> set = (CurveSet2D<?>) shape;
+			out.append("MULTILINESTRING ");
+			if (set.isEmpty()) {
+				out.append("EMPTY");
+				break;
+			}
+			out.append('(');
+			Iterator<?> iter = set.curves().iterator();
+			while (iter.hasNext()) {
+				Curve2D curve = (Curve2D) iter.next();
+				writeVertices(Codecs2D.vertices(curve),
+						curve instanceof LinearRing2D, out);
+				if (iter.hasNext())
+					out.append(", ");
+			}
+			out.append(')');
+			break;
+		}
+
+		case Codecs2D.GEOMETRYCOLLECTION: {
+			ShapeSet2D<?> set = (ShapeSet2D<?>) shape;
+			out.append("GEOMETRYCOLLECTION ");
+			if (set.size() == 0) {
+				out.append("EMPTY");
+				break;
+			}
+			out.append('(');
+			Iterator<?> iter = set.iterator();
+			while (iter.hasNext()) {
+				write((Shape2D) iter.next(), out);
+				if (iter.hasNext())
+					out.append(", ");
+			}
+			out.append(')');
+			break;
+		}
+		}
+	}
+
+	private void writeMultiPoint(PointSet2D set, Appendable out)
+	throws IOException {
+		int n = set.size();
+		if (n == 0) {
+			out.append("EMPTY");
+			return;
+		}
+		out.append('(');
+		if (set instanceof PackedPointArray2D) {
+			PackedPointArray2D array = (PackedPointArray2D) set;
+			double[] xs = array.xCoords();
+			double[] ys = array.yCoords();
+			for (int i = 0; i < n; i++) {
+				if (i > 0)
+					out.append(", ");
+				writeCoordinates(xs[i], ys[i], out);
+			}
+		} else {
+			boolean first = true;
+			for (Point2D point : set) {
+				if (!first)
+					out.append(", ");
+				writeCoordinates(point.x(), point.y(), out);
+				first = false;
+			}
+		}
+		out.append(')');
+	}
+
+	private void writePolygon(ArrayList<LinearRing2D> rings, Appendable out)
+	throws IOException {
+		if (rings.isEmpty()) {
+			out.append("EMPTY");
+			return;
+		}
+		out.append('(');
+		for (int i = 0; i < rings.size(); i++) {
+			if (i > 0)
+				out.append(", ");
+			writeVertices(rings.get(i).vertices(), true, out);
+		}
+		out.append(')');
+	}
+
+	/**
+	 * Writes a list of vertices within parentheses. If the vertices form a
+	 * ring, the first vertex is repeated at the end.
+	 */
+	private void writeVertices(Collection<Point2D> vertices, boolean closed,
+			Appendable out) throws IOException {
+		if (vertices.isEmpty()) {
+			out.append("EMPTY");
+			return;
+		}
+		out.append('(');
+		boolean first = true;
+		for (Point2D vertex : vertices) {
+			if (!first)
+				out.append(", ");
+			writeCoordinates(vertex.x(), vertex.y(), out);
+			first = false;
+		}
+		if (closed) {
+			Point2D vertex = vertices.iterator().next();
+			out.append(", ");
+			writeCoordinates(vertex.x(), vertex.y(), out);
+		}
+		out.append(')');
+	}
+
+	private void writeCoordinates(double x, double y, Appendable out)
+	throws IOException {
+		writeNumber(x, out);
+		out.append(' ');
+		writeNumber(y, out);
+	}
+
+	/**
+	 * Writes a number, integer values being written without decimal part.
+	 */
+	private static void writeNumber(double value, Appendable out)
+	throws IOException {
+		if (value == (long) value && Math.abs(value) < 1e15) {
+			if (value == 0 && 1 / value < 0)
+				out.append('-');
+			out.append(Long.toString((long) value));
+		} else {
+			out.append(Double.toString(value));
+		}
+	}
+}
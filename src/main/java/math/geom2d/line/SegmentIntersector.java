@@ -0,0 +1,630 @@
+/**
+ * File: 	SegmentIntersector.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.line;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import math.geom2d.Shape2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.predicates.Predicates2D;
+
+/**
+ * Computes all the pairs of intersecting line segments within a set of
+ * segments, using a sweep-line algorithm adapted from Bentley and Ottmann.
+ * The cost for processing n segments with k intersecting pairs is
+ * O((n+k) log n), instead of the O(n^2) required for testing all segment
+ * couples.<br>
+ *
+ * Segments are stored as primitive coordinates, and identified by their
+ * insertion index. The segments sharing an extremity, as well as colinear
+ * overlapping segments, are also reported as intersecting pairs.
+ * Degenerate cases are processed by using the tolerance given by
+ * Shape2D.ACCURACY.<br>
+ *
+ * Example:
+ * <pre><code>
+ * SegmentIntersector si = new SegmentIntersector();
+ * si.addCurve(polyline1);
+ * si.addCurve(polyline2);
+ * int[] pairs = si.intersectingPairs();
+ * </code></pre>
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class SegmentIntersector {
+
+	// ===================================================================
+	// Inner classes
+
+	/**
+	 * An event of the sweep line, located either at a segment extremity,
+	 * or at the intersection of two segments.
+	 */
+	private static class Event implements Comparable<Event> {
+		double x, y;
+		int[] starts = null;
+		int nStarts = 0;
+		int[] ends = null;
+		int nEnds = 0;
+		int[] crossings = null;
+		int nCrossings = 0;
+		int[] touches = null;
+		int nTouches = 0;
+
+		Event(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		void addStart(int index) {
+			if (starts == null)
+				starts = new int[2];
+			else if (nStarts == starts.length)
+				starts = Arrays.copyOf(starts, nStarts * 2);
+			starts[nStarts++] = index;
+		}
+
+		void addEnd(int index) {
+			if (ends == null)
+				ends = new int[2];
+			else if (nEnds == ends.length)
+				ends = Arrays.copyOf(ends, nEnds * 2);
+			ends[nEnds++] = index;
+		}
+
+		void addCrossing(int index) {
+			if (crossings == null)
+				crossings = new int[4];
+			else if (nCrossings == crossings.length)
+				crossings = Arrays.copyOf(crossings, nCrossings * 2);
+			crossings[nCrossings++] = index;
+		}
+
+		void addTouch(int index) {
+			if (touches == null)
+				touches = new int[2];
+			else if (nTouches == touches.length)
+				touches = Arrays.copyOf(touches, nTouches * 2);
+			touches[nTouches++] = index;
+		}
+
+		/**
+		 * Events are sorted by increasing x, then by increasing y.
+		 */
+		public int compareTo(Event that) {
+			if (this.x < that.x)
+				return -1;
+			if (this.x > that.x)
+				return +1;
+			if (this.y < that.y)
+				return -1;
+			if (this.y > that.y)
+				return +1;
+			return 0;
+		}
+	}
+
+	/**
+	 * Compares two segments by their position on the sweep line. Segments
+	 * with the same position are ordered as they appear just after the
+	 * current event, that is by increasing slope.
+	 */
+	private class StatusComparator implements Comparator<Integer> {
+		public int compare(Integer index1, Integer index2) {
+			int i1 = index1.intValue();
+			int i2 = index2.intValue();
+			if (i1 == i2)
+				return 0;
+
+			// the probe is located just below segments containing sweep point
+			if (i1 == PROBE)
+				return yAtSweep(i2) < sweepY - tols[i2] ? +1 : -1;
+			if (i2 == PROBE)
+				return yAtSweep(i1) < sweepY - tols[i1] ? -1 : +1;
+
+			double y1 = yAtSweep(i1);
+			double y2 = yAtSweep(i2);
+			if (Math.abs(y1 - y2) > tols[i1] + tols[i2])
+				return y1 < y2 ? -1 : +1;
+
+			double slope1 = slopes[i1];
+			double slope2 = slopes[i2];
+			if (slope1 < slope2)
+				return -1;
+			if (slope1 > slope2)
+				return +1;
+			return i1 < i2 ? -1 : +1;
+		}
+	}
+
+
+	// ===================================================================
+	// Constants
+
+	/** Index used for locating a position within the sweep status */
+	private final static int PROBE = -1;
+
+
+	// ===================================================================
+	// Class variables
+
+	/**
+	 * Coordinates of segment extremities. Extremities are sorted such that
+	 * first extremity is the lowest one by x, then by y.
+	 */
+	private double[] xs1, ys1, xs2, ys2;
+
+	/** The number of segments */
+	private int n = 0;
+
+	/** Current position of the sweep line */
+	private double sweepX, sweepY;
+
+	/**
+	 * Slope of each segment, and tolerance on the ordinate of each segment
+	 * at the sweep line position.
+	 */
+	private double[] slopes, tols;
+
+	/**
+	 * Coordinates of segment extremities used by the sweep. They are the
+	 * same as the segment extremities, except for segments whose extent
+	 * along x is below tolerance, which are processed as vertical segments.
+	 */
+	private double[] sx1, sy1, sx2, sy2;
+
+	/** Indices of intersecting segments */
+	private int[] pairs;
+	private int nPairs;
+	private HashSet<Long> pairKeys;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new empty segment intersector.
+	 */
+	public SegmentIntersector() {
+		this(16);
+	}
+
+	/**
+	 * Creates a new segment intersector by allocating enough memory for
+	 * the specified number of segments.
+	 */
+	public SegmentIntersector(int nSegments) {
+		nSegments = Math.max(nSegments, 1);
+		this.xs1 = new double[nSegments];
+		this.ys1 = new double[nSegments];
+		this.xs2 = new double[nSegments];
+		this.ys2 = new double[nSegments];
+	}
+
+
+	// ===================================================================
+	// Management of segments
+
+	/**
+	 * Adds a segment defined by the coordinates of its extremities.
+	 * @return the index of the new segment
+	 */
+	public int addSegment(double x1, double y1, double x2, double y2) {
+		if (n == xs1.length) {
+			int n2 = n * 2;
+			xs1 = Arrays.copyOf(xs1, n2);
+			ys1 = Arrays.copyOf(ys1, n2);
+			xs2 = Arrays.copyOf(xs2, n2);
+			ys2 = Arrays.copyOf(ys2, n2);
+		}
+
+		// store extremities sorted by x, then by y
+		if (x1 < x2 || (x1 == x2 && y1 <= y2)) {
+			xs1[n] = x1; ys1[n] = y1; xs2[n] = x2; ys2[n] = y2;
+		} else {
+			xs1[n] = x2; ys1[n] = y2; xs2[n] = x1; ys2[n] = y1;
+		}
+		return n++;
+	}
+
+	/**
+	 * Adds a line segment.
+	 * @return the index of the new segment
+	 */
+	public int addSegment(LineSegment2D segment) {
+		return addSegment(segment.x0, segment.y0,
+				segment.x0 + segment.dx, segment.y0 + segment.dy);
+	}
+
+	/**
+	 * Adds all the edges of the given linear curve, in the order given by
+	 * the <code>edges()</code> method.
+	 * @return the index of the first edge of the curve
+	 */
+	public int addCurve(LinearCurve2D curve) {
+		int first = n;
+		for (LineSegment2D edge : curve.edges())
+			addSegment(edge);
+		return first;
+	}
+
+	/**
+	 * Returns the number of segments.
+	 */
+	public int segmentNumber() {
+		return n;
+	}
+
+
+	// ===================================================================
+	// Computation of intersections
+
+	/**
+	 * Computes the pairs of intersecting segments. The result is an array
+	 * with 2*k elements, where k is the number of intersecting pairs.
+	 * Elements 2*i and 2*i+1 contain the indices of the segments of the
+	 * i-th pair, the first index being always the smallest one. Pairs are
+	 * returned in no particular order.
+	 *
+	 * @return the indices of intersecting segments, stored by couples
+	 */
+	public int[] intersectingPairs() {
+		this.pairs = new int[Math.max(2 * n, 16)];
+		this.nPairs = 0;
+		this.pairKeys = new HashSet<Long>();
+		computeSlopesAndTolerances();
+
+		// create one event for each segment extremity
+		TreeMap<Event, Event> queue = new TreeMap<Event, Event>();
+		for (int i = 0; i < n; i++) {
+			findEvent(queue, sx1[i], sy1[i]).addStart(i);
+			findEvent(queue, sx2[i], sy2[i]).addEnd(i);
+
+			// extremities of nearly vertical segments that are not located
+			// on the sweep vertical line are used for detecting contacts
+			if (xs2[i] != sx2[i])
+				findEvent(queue, xs2[i], ys2[i]).addTouch(i);
+		}
+
+		// sweep status, and pre-computed boxed indices
+		TreeSet<Integer> status = new TreeSet<Integer>(new StatusComparator());
+		Integer[] indices = new Integer[n];
+		for (int i = 0; i < n; i++)
+			indices[i] = i;
+		final Integer probe = PROBE;
+
+		boolean[] active = new boolean[n];
+		int[] group = new int[16];
+		int[] inserted = new int[16];
+
+		while (!queue.isEmpty()) {
+			Event event = queue.pollFirstEntry().getKey();
+			this.sweepX = event.x;
+			this.sweepY = event.y;
+
+			// remove the segments that contain the event point. As they are
+			// consecutive in the sweep status, they are identified by
+			// iterating from the position of the event point.
+			int nGroup = 0;
+			Iterator<Integer> iter = status.tailSet(probe, true).iterator();
+			while (iter.hasNext()) {
+				int index = iter.next();
+				if (yAtSweep(index) > sweepY + tols[index])
+					break;
+				iter.remove();
+				active[index] = false;
+				if (nGroup == group.length)
+					group = Arrays.copyOf(group, nGroup * 2);
+				group[nGroup++] = index;
+			}
+
+			// ensure ending and crossing segments are removed, even if not
+			// found by search
+			for (int k = 0; k < event.nEnds + event.nCrossings; k++) {
+				int index = k < event.nEnds ? event.ends[k]
+						: event.crossings[k - event.nEnds];
+				if (active[index]) {
+					removeFromStatus(status, indices[index]);
+					active[index] = false;
+					if (nGroup == group.length)
+						group = Arrays.copyOf(group, nGroup * 2);
+					group[nGroup++] = index;
+				}
+			}
+
+			// add segments starting at the event point
+			for (int k = 0; k < event.nStarts; k++) {
+				if (nGroup == group.length)
+					group = Arrays.copyOf(group, nGroup * 2);
+				group[nGroup++] = event.starts[k];
+			}
+
+			// all segments containing the event point intersect each other
+			for (int k = 0; k < nGroup; k++)
+				for (int k2 = k + 1; k2 < nGroup; k2++)
+					addPair(group[k], group[k2]);
+			for (int k = 0; k < event.nTouches; k++)
+				for (int k2 = 0; k2 < nGroup; k2++)
+					addPair(event.touches[k], group[k2]);
+
+			// insert segments that continue after the event point
+			int nInserted = 0;
+			for (int k = 0; k < nGroup; k++) {
+				int index = group[k];
+				if (endsAt(index, event))
+					continue;
+				status.add(indices[index]);
+				active[index] = true;
+				if (nInserted == inserted.length)
+					inserted = Arrays.copyOf(inserted, nInserted * 2);
+				inserted[nInserted++] = index;
+			}
+
+			if (nInserted == 0) {
+				// the neighbors of the event point become adjacent
+				Integer below = status.lower(probe);
+				Integer above = status.ceiling(probe);
+				if (below != null && above != null)
+					checkPair(queue, below, above);
+				continue;
+			}
+
+			// check intersections with the new neighbors. Due to tolerance
+			// on steep segments, inserted segments may not be contiguous in
+			// the status, so the neighbors of each one are checked.
+			for (int k = 0; k < nInserted; k++) {
+				Integer index = indices[inserted[k]];
+				Integer below = status.lower(index);
+				if (below != null)
+					checkPair(queue, below, index);
+				Integer above = status.higher(index);
+				if (above != null)
+					checkPair(queue, index, above);
+			}
+		}
+
+		checkNearlyVerticalSegments();
+
+		int[] res = Arrays.copyOf(this.pairs, this.nPairs);
+		this.pairs = null;
+		this.pairKeys = null;
+		this.slopes = null;
+		this.tols = null;
+		this.sx1 = this.sy1 = this.sx2 = this.sy2 = null;
+		return res;
+	}
+
+	/**
+	 * Returns the event located at the given position, creating it if
+	 * necessary.
+	 */
+	private static Event findEvent(TreeMap<Event, Event> queue, double x,
+			double y) {
+		Event event = new Event(x, y);
+		Event existing = queue.get(event);
+		if (existing != null)
+			return existing;
+		queue.put(event, event);
+		return event;
+	}
+
+	/**
+	 * Removes a segment from the status. In case of inconsistent ordering
+	 * due to numerical errors, the segment is searched linearly.
+	 */
+	private static void removeFromStatus(TreeSet<Integer> status,
+			Integer index) {
+		if (status.remove(index))
+			return;
+		Iterator<Integer> iter = status.iterator();
+		while (iter.hasNext()) {
+			if (iter.next().intValue() == index.intValue()) {
+				iter.remove();
+				return;
+			}
+		}
+	}
+
+	private boolean endsAt(int index, Event event) {
+		return sx2[index] == event.x && sy2[index] == event.y;
+	}
+
+	/**
+	 * Checks if two segments adjacent in sweep status intersect. If their
+	 * intersection is located after the sweep line, a new event is created.
+	 */
+	private void checkPair(TreeMap<Event, Event> queue, int i1, int i2) {
+		if (!intersect(i1, i2))
+			return;
+		addPair(i1, i2);
+
+		double x11 = xs1[i1], y11 = ys1[i1], x12 = xs2[i1], y12 = ys2[i1];
+		double x21 = xs1[i2], y21 = ys1[i2], x22 = xs2[i2], y22 = ys2[i2];
+
+		// colinear segments do not cross
+		double dx1 = x12 - x11, dy1 = y12 - y11;
+		double dx2 = x22 - x21, dy2 = y22 - y21;
+		double denom = dx1 * dy2 - dy1 * dx2;
+		if (denom == 0)
+			return;
+
+		// compute intersection point, and keep it only if after sweep line
+		double t = ((y11 - y21) * dx2 - (x11 - x21) * dy2) / denom;
+		t = Math.max(0, Math.min(1, t));
+		double x = x11 + t * dx1;
+		double y = y11 + t * dy1;
+
+		// crossings with (nearly) vertical segments are located on the
+		// vertical line used by the sweep
+		if (sx1[i1] == sx2[i1]) {
+			x = sx1[i1];
+		} else if (sx1[i2] == sx2[i2]) {
+			x = sx1[i2];
+			y = Math.max(sy1[i2], Math.min(sy2[i2], y));
+		}
+		if (x > sweepX || (x == sweepX && y > sweepY)) {
+			Event event = findEvent(queue, x, y);
+			event.addCrossing(i1);
+			event.addCrossing(i2);
+		}
+	}
+
+	/**
+	 * Checks if two segments intersect, using their original extremities.
+	 */
+	private boolean intersect(int i1, int i2) {
+		double x11 = xs1[i1], y11 = ys1[i1], x12 = xs2[i1], y12 = ys2[i1];
+		double x21 = xs1[i2], y21 = ys1[i2], x22 = xs2[i2], y22 = ys2[i2];
+
+		// quick rejection by bounding boxes
+		if (x12 < x21 || x22 < x11)
+			return false;
+		if (Math.max(y11, y12) < Math.min(y21, y22)
+				|| Math.max(y21, y22) < Math.min(y11, y12))
+			return false;
+
+		// orientation of each extremity with respect to the other segment
+		double d1 = Predicates2D.orient2d(x11, y11, x12, y12, x21, y21);
+		double d2 = Predicates2D.orient2d(x11, y11, x12, y12, x22, y22);
+		double d3 = Predicates2D.orient2d(x21, y21, x22, y22, x11, y11);
+		double d4 = Predicates2D.orient2d(x21, y21, x22, y22, x12, y12);
+
+		if ((d1 > 0 && d2 > 0) || (d1 < 0 && d2 < 0))
+			return false;
+		if ((d3 > 0 && d4 > 0) || (d3 < 0 && d4 < 0))
+			return false;
+		return true;
+	}
+
+	/**
+	 * Nearly vertical segments are processed by the sweep on the vertical
+	 * line of their first extremity, and miss the segments that start
+	 * between their extremities. Such segments are found by a binary search
+	 * within the segments sorted by their first abscissa.
+	 */
+	private void checkNearlyVerticalSegments() {
+		Integer[] order = null;
+		double[] starts = null;
+		for (int i = 0; i < n; i++) {
+			if (sx2[i] == xs2[i])
+				continue;
+
+			if (order == null) {
+				order = new Integer[n];
+				for (int k = 0; k < n; k++)
+					order[k] = k;
+				Arrays.sort(order, new Comparator<Integer>() {
+					public int compare(Integer index1, Integer index2) {
+						return Double.compare(xs1[index1], xs1[index2]);
+					}
+				});
+				starts = new double[n];
+				for (int k = 0; k < n; k++)
+					starts[k] = xs1[order[k]];
+			}
+
+			// first segment starting strictly after the current one
+			int lo = 0, hi = n;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (starts[mid] <= xs1[i])
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+
+			for (int k = lo; k < n && starts[k] <= xs2[i]; k++) {
+				int j = order[k];
+				if (intersect(i, j))
+					addPair(i, j);
+			}
+		}
+	}
+
+	/**
+	 * Adds a pair of intersecting segments, if it was not already found.
+	 */
+	private void addPair(int i1, int i2) {
+		if (i1 > i2) {
+			int tmp = i1;
+			i1 = i2;
+			i2 = tmp;
+		}
+		if (!pairKeys.add(((long) i1) * n + i2))
+			return;
+
+		if (nPairs + 2 > pairs.length)
+			pairs = Arrays.copyOf(pairs, pairs.length * 2);
+		pairs[nPairs++] = i1;
+		pairs[nPairs++] = i2;
+	}
+
+	/**
+	 * Computes the ordinate of the segment at the current position of the
+	 * sweep line. For vertical segments, the ordinate of the sweep point is
+	 * returned, clamped by the segment extremities.
+	 */
+	private double yAtSweep(int index) {
+		double x1 = sx1[index];
+		double x2 = sx2[index];
+		if (x1 == x2)
+			return Math.max(sy1[index], Math.min(sy2[index], sweepY));
+		if (sweepX <= x1)
+			return sy1[index];
+		if (sweepX >= x2)
+			return sy2[index];
+		double t = (sweepX - x1) / (x2 - x1);
+		return sy1[index] + t * (sy2[index] - sy1[index]);
+	}
+
+	/**
+	 * Computes the slope of each segment, using positive infinity for
+	 * vertical segments, and the tolerance on the ordinate of segments at
+	 * the sweep line. The tolerance accounts for the magnitude of the
+	 * coordinates, and for the bad conditioning of steep segments. Segments
+	 * whose extent along x is below the tolerance are considered as
+	 * vertical, as their ordinate at the sweep line is meaningless.
+	 */
+	private void computeSlopesAndTolerances() {
+		double maxCoord = 0;
+		for (int i = 0; i < n; i++) {
+			maxCoord = Math.max(maxCoord, Math.max(
+					Math.max(Math.abs(xs1[i]), Math.abs(xs2[i])),
+					Math.max(Math.abs(ys1[i]), Math.abs(ys2[i]))));
+		}
+		double eps = Math.max(Shape2D.ACCURACY, 64 * Math.ulp(maxCoord));
+
+		this.slopes = new double[n];
+		this.tols = new double[n];
+		this.sx1 = Arrays.copyOf(xs1, n);
+		this.sy1 = Arrays.copyOf(ys1, n);
+		this.sx2 = Arrays.copyOf(xs2, n);
+		this.sy2 = Arrays.copyOf(ys2, n);
+		for (int i = 0; i < n; i++) {
+			double dx = xs2[i] - xs1[i];
+			double dy = ys2[i] - ys1[i];
+			if (dx <= eps) {
+				slopes[i] = Double.POSITIVE_INFINITY;
+				tols[i] = eps;
+				sx2[i] = xs1[i];
+				sy1[i] = Math.min(ys1[i], ys2[i]);
+				sy2[i] = Math.max(ys1[i], ys2[i]);
+			} else {
+				slopes[i] = dy / dx;
+				tols[i] = eps + Math.min(Math.abs(dy), eps * Math.abs(slopes[i]));
+			}
+		}
+	}
+}
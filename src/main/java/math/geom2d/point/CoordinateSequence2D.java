@@ -0,0 +1,38 @@
+/**
+ * File: 	CoordinateSequence2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+/**
+ * An indexed sequence of planar coordinates. Coordinates are accessed by the
+ * index of the point, without creating Point2D instances, which makes the
+ * sequence suitable for the inner loops of geometric algorithms.
+ *
+ * @see PackedCoordinateSequence2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public interface CoordinateSequence2D {
+
+	/**
+	 * Returns the number of points in the sequence.
+	 */
+	public int size();
+
+	/**
+	 * Returns the x-coordinate of the i-th point.
+	 * @param i the index of the point, between 0 and size()-1
+	 */
+	public double x(int i);
+
+	/**
+	 * Returns the y-coordinate of the i-th point.
+	 * @param i the index of the point, between 0 and size()-1
+	 */
+	public double y(int i);
+}
@@ -0,0 +1,799 @@
+/**
+ * File: 	DelaunayTriangulation2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.predicates.Predicates2D;
+
+/**
+ * Delaunay triangulation of a set of points, stored within compact arrays of
+ * half-edges.<br>
+ *
+ * The triangulation is computed with a sweep-hull algorithm: points are
+ * inserted by increasing distance to the circumcenter of a seed triangle,
+ * such that each new point lies outside of the convex hull of the previous
+ * ones. Each point is connected to the visible edges of the hull, found
+ * using a hash of the hull vertices by angle, and the Delaunay condition is
+ * restored by edge flips. The expected complexity is O(n log n).<br>
+ *
+ * Triangles are stored in an array of vertex indices, three consecutive
+ * values for each triangle, in counter-clockwise order. The half-edge with
+ * index e goes from vertex <code>triangles[e]</code> to the next vertex of
+ * the same triangle, and <code>halfedges[e]</code> is the index of the
+ * opposite half-edge in the adjacent triangle, or -1 if the half-edge is on
+ * the convex hull.<br>
+ *
+ * Duplicate points are not triangulated, and have no neighbor. If all the
+ * points are colinear, the triangulation is empty, and the hull contains the
+ * points sorted along their line.
+ *
+ * @see VoronoiDiagram2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class DelaunayTriangulation2D {
+
+	// ===================================================================
+	// Constants
+
+	/** Tolerance for detecting duplicate points */
+	private final static double EPSILON = Math.ulp(1.0);
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The coordinates of the points */
+	private final double[] xs, ys;
+
+	/** The vertex indices of each triangle, three for each triangle */
+	private int[] triangles;
+
+	/** The index of the opposite half-edge, or -1 on the hull */
+	private int[] halfedges;
+
+	/** The indices of the vertices of the convex hull, counter-clockwise */
+	private int[] hull;
+
+	/**
+	 * For each vertex, the index of a half-edge ending at the vertex, chosen
+	 * on the convex hull if possible, or -1 if the vertex is not
+	 * triangulated.
+	 */
+	private int[] inedges;
+
+	// temporary arrays used during triangulation
+	private int trianglesLen;
+	private int[] hullPrev, hullNext, hullTri, hullHash;
+	private int hullStart;
+	private double cx, cy;
+	private int[] edgeStack = new int[512];
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Computes the Delaunay triangulation of the points given by two arrays
+	 * of coordinates.
+	 */
+	public DelaunayTriangulation2D(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.xs = Arrays.copyOf(xs, xs.length);
+		this.ys = Arrays.copyOf(ys, ys.length);
+		triangulate();
+	}
+
+	/**
+	 * Computes the Delaunay triangulation of a collection of points. Vertex
+	 * indices correspond to the iteration order of the collection.
+	 */
+	public DelaunayTriangulation2D(Collection<? extends Point2D> points) {
+		int n = points.size();
+		this.xs = new double[n];
+		this.ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			xs[i] = point.x();
+			ys[i] = point.y();
+			i++;
+		}
+		triangulate();
+	}
+
+	/**
+	 * Computes the Delaunay triangulation of a point set.
+	 */
+	public DelaunayTriangulation2D(PointSet2D points) {
+		int n = points.size();
+		if (points instanceof PackedPointArray2D) {
+			PackedPointArray2D array = (PackedPointArray2D) points;
+			this.xs = Arrays.copyOf(array.xCoords(), n);
+			this.ys = Arrays.copyOf(array.yCoords(), n);
+		} else {
+			this.xs = new double[n];
+			this.ys = new double[n];
+			int i = 0;
+			for (Point2D point : points) {
+				xs[i] = point.x();
+				ys[i] = point.y();
+				i++;
+			}
+		}
+		triangulate();
+	}
+
+
+	// ===================================================================
+	// Computation of the triangulation
+
+	private void triangulate() {
+		int n = xs.length;
+		int maxTriangles = Math.max(2 * n - 5, 0);
+		this.triangles = new int[3 * maxTriangles];
+		this.halfedges = new int[3 * maxTriangles];
+		this.trianglesLen = 0;
+
+		int hashSize = (int) Math.ceil(Math.sqrt(n));
+		this.hullPrev = new int[n];
+		this.hullNext = new int[n];
+		this.hullTri = new int[n];
+		this.hullHash = new int[Math.max(hashSize, 1)];
+		Arrays.fill(hullHash, -1);
+
+		if (n > 0)
+			sweep(n);
+
+		// trim arrays
+		this.triangles = Arrays.copyOf(triangles, trianglesLen);
+		this.halfedges = Arrays.copyOf(halfedges, trianglesLen);
+
+		// compute incoming half-edges, choosing hull edges if possible
+		this.inedges = new int[n];
+		Arrays.fill(inedges, -1);
+		for (int e = 0; e < trianglesLen; e++) {
+			int p = triangles[next(e)];
+			if (halfedges[e] == -1 || inedges[p] == -1)
+				inedges[p] = e;
+		}
+
+		// release temporary arrays
+		this.hullPrev = null;
+		this.hullNext = null;
+		this.hullTri = null;
+		this.hullHash = null;
+		this.edgeStack = null;
+	}
+
+	private void sweep(int n) {
+		double[] xs = this.xs;
+		double[] ys = this.ys;
+
+		// center of the bounding box
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, xs[i]);
+			minY = Math.min(minY, ys[i]);
+			maxX = Math.max(maxX, xs[i]);
+			maxY = Math.max(maxY, ys[i]);
+		}
+		double bcx = (minX + maxX) / 2;
+		double bcy = (minY + maxY) / 2;
+
+		// seed point closest to the center
+		int i0 = 0;
+		double minDist = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			double d = dist2(bcx, bcy, xs[i], ys[i]);
+			if (d < minDist) {
+				i0 = i;
+				minDist = d;
+			}
+		}
+		double i0x = xs[i0], i0y = ys[i0];
+
+		// point closest to the seed
+		int i1 = -1;
+		minDist = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			if (i == i0)
+				continue;
+			double d = dist2(i0x, i0y, xs[i], ys[i]);
+			if (d < minDist && d > 0) {
+				i1 = i;
+				minDist = d;
+			}
+		}
+
+		// third point forming the smallest circumcircle
+		int i2 = -1;
+		double minRadius = Double.POSITIVE_INFINITY;
+		if (i1 >= 0) {
+			double i1x = xs[i1], i1y = ys[i1];
+			for (int i = 0; i < n; i++) {
+				if (i == i0 || i == i1)
+					continue;
+				double r = circumradius2(i0x, i0y, i1x, i1y, xs[i], ys[i]);
+				if (r < minRadius) {
+					i2 = i;
+					minRadius = r;
+				}
+			}
+		}
+
+		int[] ids = new int[n];
+		double[] dists = new double[n];
+		if (i2 < 0) {
+			// all points are colinear: sort them along their line
+			double dx = i1 >= 0 ? xs[i1] - i0x : 1;
+			double dy = i1 >= 0 ? ys[i1] - i0y : 0;
+			for (int i = 0; i < n; i++) {
+				ids[i] = i;
+				dists[i] = (xs[i] - i0x) * dx + (ys[i] - i0y) * dy;
+			}
+			sort(dists, ids, 0, n);
+			int[] hull = new int[n];
+			int j = 0;
+			double d0 = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < n; i++) {
+				if (dists[i] > d0) {
+					hull[j++] = ids[i];
+					d0 = dists[i];
+				}
+			}
+			this.hull = Arrays.copyOf(hull, j);
+			return;
+		}
+
+		// orient the seed triangle counter-clockwise
+		if (orient(i0x, i0y, xs[i1], ys[i1], xs[i2], ys[i2]) < 0) {
+			int tmp = i1;
+			i1 = i2;
+			i2 = tmp;
+		}
+		double i1x = xs[i1], i1y = ys[i1];
+		double i2x = xs[i2], i2y = ys[i2];
+		circumcenter(i0x, i0y, i1x, i1y, i2x, i2y);
+
+		// sort points by distance to the circumcenter of the seed triangle
+		for (int i = 0; i < n; i++) {
+			ids[i] = i;
+			dists[i] = dist2(xs[i], ys[i], cx, cy);
+		}
+		sort(dists, ids, 0, n);
+		dists = null;
+
+		// initialize the hull with the seed triangle
+		int[] hullPrev = this.hullPrev;
+		int[] hullNext = this.hullNext;
+		int[] hullTri = this.hullTri;
+		int[] hullHash = this.hullHash;
+		hullStart = i0;
+		int hullSize = 3;
+		hullNext[i0] = hullPrev[i2] = i1;
+		hullNext[i1] = hullPrev[i0] = i2;
+		hullNext[i2] = hullPrev[i1] = i0;
+		hullTri[i0] = 0;
+		hullTri[i1] = 1;
+		hullTri[i2] = 2;
+		hullHash[hashKey(i0x, i0y)] = i0;
+		hullHash[hashKey(i1x, i1y)] = i1;
+		hullHash[hashKey(i2x, i2y)] = i2;
+		addTriangle(i0, i1, i2, -1, -1, -1);
+
+		double xp = 0, yp = 0;
+		for (int k = 0; k < n; k++) {
+			int i = ids[k];
+			double x = xs[i];
+			double y = ys[i];
+
+			// skip near-duplicate points, and seed points
+			if (k > 0 && Math.abs(x - xp) <= EPSILON
+					&& Math.abs(y - yp) <= EPSILON)
+				continue;
+			xp = x;
+			yp = y;
+			if (i == i0 || i == i1 || i == i2)
+				continue;
+
+			// find a visible edge of the hull using the hash
+			int start = 0;
+			int key = hashKey(x, y);
+			for (int j = 0; j < hullHash.length; j++) {
+				start = hullHash[(key + j) % hullHash.length];
+				if (start != -1 && start != hullNext[start])
+					break;
+			}
+
+			start = hullPrev[start];
+			int e = start, q;
+			while (true) {
+				q = hullNext[e];
+				if (orient(xs[e], ys[e], xs[q], ys[q], x, y) < 0)
+					break;
+				e = q;
+				if (e == start) {
+					e = -1;
+					break;
+				}
+			}
+			// point within the hull, due to numerical errors: skip it
+			if (e == -1)
+				continue;
+
+			// add the first triangle from the point
+			int t = addTriangle(e, i, hullNext[e], -1, -1, hullTri[e]);
+
+			// flip triangles until they satisfy the Delaunay condition
+			hullTri[i] = legalize(t + 2);
+			hullTri[e] = t;
+			hullSize++;
+
+			// walk forward through the hull, adding more triangles
+			int nxt = hullNext[e];
+			while (true) {
+				q = hullNext[nxt];
+				if (orient(xs[nxt], ys[nxt], xs[q], ys[q], x, y) >= 0)
+					break;
+				t = addTriangle(nxt, i, q, hullTri[i], -1, hullTri[nxt]);
+				hullTri[i] = legalize(t + 2);
+				hullNext[nxt] = nxt; // mark as removed
+				hullSize--;
+				nxt = q;
+			}
+
+			// walk backward from the other side, adding more triangles
+			if (e == start) {
+				while (true) {
+					q = hullPrev[e];
+					if (orient(xs[q], ys[q], xs[e], ys[e], x, y) >= 0)
+						break;
+					t = addTriangle(q, i, e, -1, hullTri[e], hullTri[q]);
+					legalize(t + 2);
+					hullTri[q] = t;
+					hullNext[e] = e; // mark as removed
+					hullSize--;
+					e = q;
+				}
+			}
+
+			// update the hull
+			hullStart = hullPrev[i] = e;
+			hullNext[e] = hullPrev[nxt] = i;
+			hullNext[i] = nxt;
+
+			// save the two new edges in the hash table
+			hullHash[hashKey(x, y)] = i;
+			hullHash[hashKey(xs[e], ys[e])] = e;
+		}
+
+		// extract the hull
+		this.hull = new int[hullSize];
+		int e = hullStart;
+		for (int i = 0; i < hullSize; i++) {
+			hull[i] = e;
+			e = hullNext[e];
+		}
+	}
+
+	/**
+	 * Flips the edge with the given index, and recursively the edges of the
+	 * resulting triangles, until the Delaunay condition is satisfied. The
+	 * half-edge is opposite to the point that was just inserted.
+	 *
+	 * @return the half-edge starting from the inserted point along the hull
+	 */
+	private int legalize(int a) {
+		int[] triangles = this.triangles;
+		int[] halfedges = this.halfedges;
+		int i = 0;
+		int ar = 0;
+
+		while (true) {
+			int b = halfedges[a];
+
+			/*
+			 * If the pair of triangles does not satisfy the Delaunay condition
+			 * (p1 within the circumcircle of [p0, pr, pl]), flip them, and
+			 * check recursively the new pair of triangles.
+			 *
+			 *           pl                    pl
+			 *          /||\                  /  \
+			 *       al/ || \bl            al/    \a
+			 *        /  ||  \              /      \
+			 *       /  a||b  \    flip    /___ar___\
+			 *     p0\   ||   /p1   =>   p0\---bl---/p1
+			 *        \  ||  /              \      /
+			 *       ar\ || /br             b\    /br
+			 *          \||/                  \  /
+			 *           pr                    pr
+			 */
+			int a0 = a - a % 3;
+			ar = a0 + (a + 2) % 3;
+
+			if (b == -1) {
+				// convex hull edge
+				if (i == 0)
+					break;
+				a = edgeStack[--i];
+				continue;
+			}
+
+			int b0 = b - b % 3;
+			int al = a0 + (a + 1) % 3;
+			int bl = b0 + (b + 2) % 3;
+
+			int p0 = triangles[ar];
+			int pr = triangles[a];
+			int pl = triangles[al];
+			int p1 = triangles[bl];
+
+			if (inCircle(xs[p0], ys[p0], xs[pr], ys[pr], xs[pl], ys[pl],
+					xs[p1], ys[p1])) {
+				triangles[a] = p1;
+				triangles[b] = p0;
+
+				int hbl = halfedges[bl];
+
+				// edge swapped on the other side of the hull: fix reference
+				if (hbl == -1) {
+					int e = hullStart;
+					do {
+						if (hullTri[e] == bl) {
+							hullTri[e] = a;
+							break;
+						}
+						e = hullPrev[e];
+					} while (e != hullStart);
+				}
+				link(a, hbl);
+				link(b, halfedges[ar]);
+				link(ar, bl);
+
+				int br = b0 + (b + 1) % 3;
+				if (i == edgeStack.length)
+					edgeStack = Arrays.copyOf(edgeStack, 2 * i);
+				edgeStack[i++] = br;
+			} else {
+				if (i == 0)
+					break;
+				a = edgeStack[--i];
+			}
+		}
+		return ar;
+	}
+
+	private void link(int a, int b) {
+		halfedges[a] = b;
+		if (b != -1)
+			halfedges[b] = a;
+	}
+
+	/**
+	 * Adds a triangle given by its vertices, and the indices of the
+	 * half-edges opposite to its three edges.
+	 */
+	private int addTriangle(int i0, int i1, int i2, int a, int b, int c) {
+		int t = trianglesLen;
+		triangles[t] = i0;
+		triangles[t + 1] = i1;
+		triangles[t + 2] = i2;
+		link(t, a);
+		link(t + 1, b);
+		link(t + 2, c);
+		trianglesLen += 3;
+		return t;
+	}
+
+	/**
+	 * Computes a key for the hull hash, that increases with the angle of the
+	 * point around the center.
+	 */
+	private int hashKey(double x, double y) {
+		int size = hullHash.length;
+		return (int) Math.floor(pseudoAngle(x - cx, y - cy) * size) % size;
+	}
+
+	/**
+	 * Monotonic function of the angle of a vector, with values in [0, 1).
+	 */
+	private static double pseudoAngle(double dx, double dy) {
+		double p = dx / (Math.abs(dx) + Math.abs(dy));
+		return (dy > 0 ? 3 - p : 1 + p) / 4;
+	}
+
+	private void circumcenter(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double ex = cx - ax;
+		double ey = cy - ay;
+		double bl = dx * dx + dy * dy;
+		double cl = ex * ex + ey * ey;
+		double d = .5 / (dx * ey - dy * ex);
+		this.cx = ax + (ey * bl - dy * cl) * d;
+		this.cy = ay + (dx * cl - ex * bl) * d;
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the number of points of the triangulation, including
+	 * duplicate points.
+	 */
+	public int vertexNumber() {
+		return xs.length;
+	}
+
+	/**
+	 * Returns the i-th point of the triangulation.
+	 */
+	public Point2D vertex(int i) {
+		return new Point2D(xs[i], ys[i]);
+	}
+
+	public double x(int i) {
+		return xs[i];
+	}
+
+	public double y(int i) {
+		return ys[i];
+	}
+
+	/**
+	 * Returns the number of triangles.
+	 */
+	public int triangleNumber() {
+		return triangles.length / 3;
+	}
+
+	/**
+	 * Returns the vertex indices of the triangles, three consecutive values
+	 * for each triangle, in counter-clockwise order. The returned array
+	 * should not be modified.
+	 */
+	public int[] triangles() {
+		return triangles;
+	}
+
+	/**
+	 * Returns the index of the half-edge opposite to each half-edge, or -1
+	 * for half-edges on the convex hull. The returned array should not be
+	 * modified.
+	 */
+	public int[] halfedges() {
+		return halfedges;
+	}
+
+	/**
+	 * Returns the indices of the vertices of the convex hull, in
+	 * counter-clockwise order. The returned array should not be modified.
+	 */
+	public int[] hull() {
+		return hull;
+	}
+
+	/**
+	 * Returns, for each vertex, the index of a half-edge ending at the
+	 * vertex, or -1 if the vertex is not triangulated. For vertices of the
+	 * hull, the half-edge is on the hull.
+	 */
+	int[] inedges() {
+		return inedges;
+	}
+
+	/**
+	 * Returns the i-th triangle as a polygon.
+	 */
+	public SimplePolygon2D triangle(int i) {
+		int t = 3 * i;
+		return new SimplePolygon2D(vertex(triangles[t]),
+				vertex(triangles[t + 1]), vertex(triangles[t + 2]));
+	}
+
+	/**
+	 * Returns the edges of the triangulation, each edge being returned once.
+	 */
+	public Collection<LineSegment2D> edges() {
+		ArrayList<LineSegment2D> edges =
+			new ArrayList<LineSegment2D>(triangles.length / 2 + hull.length);
+		for (int e = 0; e < triangles.length; e++) {
+			if (e > halfedges[e]) {
+				int p = triangles[e];
+				int q = triangles[next(e)];
+				edges.add(new LineSegment2D(xs[p], ys[p], xs[q], ys[q]));
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * Returns the indices of the vertices connected to the given vertex by
+	 * an edge of the triangulation. The nearest neighbor of a point is always
+	 * one of its Delaunay neighbors.
+	 */
+	public int[] neighbors(int i) {
+		int e0 = inedges[i];
+		if (e0 == -1) {
+			// colinear points are connected to their neighbors on the line
+			if (triangles.length > 0)
+				return new int[0];
+			for (int k = 0; k < hull.length; k++) {
+				if (hull[k] != i)
+					continue;
+				if (hull.length == 1)
+					return new int[0];
+				if (k == 0)
+					return new int[] { hull[1] };
+				if (k == hull.length - 1)
+					return new int[] { hull[k - 1] };
+				return new int[] { hull[k - 1], hull[k + 1] };
+			}
+			return new int[0];
+		}
+
+		int[] neighbors = new int[8];
+		int count = 0;
+		int e = e0;
+		do {
+			if (count + 2 > neighbors.length)
+				neighbors = Arrays.copyOf(neighbors, 2 * neighbors.length);
+			neighbors[count++] = triangles[e];
+			e = next(e);
+			if (halfedges[e] == -1) {
+				// hull vertex: add the end of the last outgoing edge
+				neighbors[count++] = triangles[next(e)];
+				break;
+			}
+			e = halfedges[e];
+		} while (e != e0);
+		return Arrays.copyOf(neighbors, count);
+	}
+
+	/**
+	 * Returns the bounding box of the points.
+	 */
+	public Box2D boundingBox() {
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < xs.length; i++) {
+			xmin = Math.min(xmin, xs[i]);
+			ymin = Math.min(ymin, ys[i]);
+			xmax = Math.max(xmax, xs[i]);
+			ymax = Math.max(ymax, ys[i]);
+		}
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+	/**
+	 * Computes the Voronoi diagram dual to this triangulation, with cells
+	 * clipped by the given box.
+	 */
+	public VoronoiDiagram2D voronoi(Box2D box) {
+		return new VoronoiDiagram2D(this, box);
+	}
+
+
+	// ===================================================================
+	// Utility methods
+
+	static int next(int e) {
+		return e % 3 == 2 ? e - 2 : e + 1;
+	}
+
+	private static double dist2(double ax, double ay, double bx, double by) {
+		double dx = ax - bx;
+		double dy = ay - by;
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Returns a positive value if the points are in counter-clockwise order,
+	 * a negative value if they are in clockwise order, and zero if they are
+	 * colinear. The sign is computed exactly.
+	 */
+	private static double orient(double ax, double ay, double bx, double by,
+			double px, double py) {
+		return Predicates2D.orient2d(ax, ay, bx, by, px, py);
+	}
+
+	/**
+	 * Checks if point p is strictly within the circumcircle of the
+	 * counter-clockwise triangle abc. Cocircular points are not considered
+	 * as inside, so the result does not depend on rounding errors.
+	 */
+	private static boolean inCircle(double ax, double ay, double bx,
+			double by, double cx, double cy, double px, double py) {
+		return Predicates2D.incircle(ax, ay, bx, by, cx, cy, px, py) > 0;
+	}
+
+	private static double circumradius2(double ax, double ay, double bx,
+			double by, double cx, double cy) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double ex = cx - ax;
+		double ey = cy - ay;
+		double bl = dx * dx + dy * dy;
+		double cl = ex * ex + ey * ey;
+		double d = .5 / (dx * ey - dy * ex);
+		double x = (ey * bl - dy * cl) * d;
+		double y = (dx * cl - ex * bl) * d;
+		return x * x + y * y;
+	}
+
+	/**
+	 * Sorts the range [from, to) of the keys by increasing values, and
+	 * applies the same permutation to the ids. Uses a quick sort with
+	 * three-way partition.
+	 */
+	private static void sort(double[] keys, int[] ids, int from, int to) {
+		while (to - from > 16) {
+			int mid = (from + to) >>> 1;
+			double a = keys[from], b = keys[mid], c = keys[to - 1];
+			double pivot = a < b ? (b < c ? b : (a < c ? c : a))
+					: (a < c ? a : (b < c ? c : b));
+
+			int lt = from, i = from, gt = to - 1;
+			while (i <= gt) {
+				if (keys[i] < pivot)
+					swap(keys, ids, lt++, i++);
+				else if (keys[i] > pivot)
+					swap(keys, ids, i, gt--);
+				else
+					i++;
+			}
+
+			if (lt - from < to - gt - 1) {
+				sort(keys, ids, from, lt);
+				from = gt + 1;
+			} else {
+				sort(keys, ids, gt + 1, to);
+				to = lt;
+			}
+		}
+
+		for (int i = from + 1; i < to; i++) {
+			double key = keys[i];
+			int id = ids[i];
+			int j = i - 1;
+			while (j >= from && keys[j] > key) {
+				keys[j + 1] = keys[j];
+				ids[j + 1] = ids[j];
+				j--;
+			}
+			keys[j + 1] = key;
+			ids[j + 1] = id;
+		}
+	}
+
+	private static void swap(double[] keys, int[] ids, int i, int j) {
+		double tmp = keys[i];
+		keys[i] = keys[j];
+		keys[j] = tmp;
+		int tmp2 = ids[i];
+		ids[i] = ids[j];
+		ids[j] = tmp2;
+	}
+}
@@ -10,11 +10,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Vector2D;
 import math.geom2d.line.StraightLine2D;
+import math.utils.ParallelUtils;
 
 
 /**
@@ -25,7 +28,11 @@ import math.geom2d.line.StraightLine2D;
  * The cost for building the tree is O(n log^2 n), that can take some time for
  * large points sets.<br>
  * This implementation is semi-dynamic: points can be added, but can not be
- * removed.
+ * removed.<br>
+ * Each point is associated with an index, corresponding to its position in
+ * the list used for construction, or to its order of addition. Query methods
+ * do not modify the tree, and can be called concurrently from several
+ * threads, as long as no point is added at the same time.
  * @author dlegland
  *
  */
@@ -33,6 +40,7 @@ public class KDTree2D {
     //TODO: make KDTree2D implements PointSet2D
     public class Node{
         private Point2D point;
+        private int index = -1;
         private Node left;
         private Node right;
         
@@ -52,6 +60,15 @@ public class KDTree2D {
             return point;
         }
         
+        /**
+         * Returns the index of the point, or -1 if the node was not created
+         * by the tree.
+         * @since 0.11.3
+         */
+        public int getIndex() {
+            return index;
+        }
+        
         public Node getLeftChild() {
             return left;
         }
@@ -91,20 +108,93 @@ public class KDTree2D {
         }
     }
    
+    private class NodeComparator implements Comparator<Node> {
+        private Comparator<Point2D> comparator;
+        
+        public NodeComparator(Comparator<Point2D> comparator) {
+            this.comparator = comparator;
+        }
+        
+        public int compare(Node n1, Node n2){
+            return comparator.compare(n1.point, n2.point);
+        }
+    }
+    
+    /**
+     * Computes nearest neighbors of a subset of query points, splitting the
+     * subset until it is small enough.
+     */
+    private class NearestNeighborsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private double[] coords;
+        private int[] indices;
+        private double[] distances;
+        private int from;
+        private int to;
+        
+        public NearestNeighborsTask(double[] coords, int[] indices,
+                double[] distances, int from, int to) {
+            this.coords = coords;
+            this.indices = indices;
+            this.distances = distances;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_THRESHOLD) {
+                nearestNeighbors(coords, indices, distances, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new NearestNeighborsTask(coords, indices, distances, from, mid),
+                    new NearestNeighborsTask(coords, indices, distances, mid, to));
+        }
+    }
+    
+    /** 
+     * The number of query points below which a batch query is processed
+     * sequentially.
+     */
+    private final static int BATCH_THRESHOLD = 1024;
+   
     private Node root;
     
+    /** The number of points in the tree */
+    private int size = 0;
+    
     private Comparator<Point2D> xComparator;
     private Comparator<Point2D> yComparator;
     
+    /**
+     * Creates a new tree from a list of points. The index of each point
+     * corresponds to its position within the list.
+     */
     public KDTree2D(ArrayList<Point2D> points) {
         this.xComparator = new XComparator();
         this.yComparator = new YComparator();
-        root = makeTree(points, 0);
+        
+        // create the nodes, keeping the original index of each point
+        ArrayList<Node> nodes = new ArrayList<Node>(points.size());
+        for (Point2D point : points) {
+            Node node = new Node(point);
+            node.index = size++;
+            nodes.add(node);
+        }
+        
+        root = makeTree(nodes, 0, 
+                new NodeComparator(xComparator), 
+                new NodeComparator(yComparator));
     }
         
-    private Node makeTree(List<Point2D> points, int depth) {
+    private Node makeTree(List<Node> nodes, int depth, 
+            Comparator<Node> xNodeComparator, 
+            Comparator<Node> yNodeComparator) {
         // Add a leaf
-        if(points.size() == 0)
+        if(nodes.size() == 0)
             return null;
         
         // select direction
@@ -113,19 +203,21 @@ public class KDTree2D {
         // sort points according to i-th dimension
 		if (dir == 0) {
 			// Compare points based on their x-coordinate
-			Collections.sort(points, xComparator);
+			Collections.sort(nodes, xNodeComparator);
 		} else {
-			// Compare points based on their x-coordinate
-            Collections.sort(points, yComparator);
+			// Compare points based on their y-coordinate
+            Collections.sort(nodes, yNodeComparator);
         }
         
-        int n = points.size();
+        int n = nodes.size();
         int med = n/2;    // compute median
         
-        return new Node(
-                points.get(med),
-                makeTree(points.subList(0, med), depth+1),
-                makeTree(points.subList(med+1, n), depth+1));
+        Node node = nodes.get(med);
+        node.left = makeTree(nodes.subList(0, med), depth+1,
+                xNodeComparator, yNodeComparator);
+        node.right = makeTree(nodes.subList(med+1, n), depth+1,
+                xNodeComparator, yNodeComparator);
+        return node;
     }
 
     public Node getRoot() {
@@ -207,17 +299,23 @@ public class KDTree2D {
         
         if(res<0){
             if(node.left==null)
-                node.left = new Node(point);
+                node.left = createNode(point);
             else
                 add(point, node.left, depth+1);
         }
         if(res>0)
             if(node.right==null)
-                node.right = new Node(point);
+                node.right = createNode(point);
             else
                 add(point, node.right, depth+1);
     }
     
+    private Node createNode(Point2D point) {
+        Node node = new Node(point);
+        node.index = size++;
+        return node;
+    }
+    
     public Collection<Point2D> rangeSearch(Box2D range) {
         ArrayList<Point2D> points = new ArrayList<Point2D>();
         rangeSearch(range, points, root, 0);
@@ -313,6 +411,111 @@ public class KDTree2D {
     }
     
     
+    /**
+     * Computes the nearest neighbor of each query point, using the default
+     * fork-join pool to process the queries in parallel.
+     * 
+     * @param coords the coordinates of the query points, as a sequence of
+     *            x and y values
+     * @param indices the array filled with the index of the nearest
+     *            neighbor of each query point
+     * @param distances the array filled with the distance between each query
+     *            point and its nearest neighbor
+     * @since 0.11.3
+     */
+    public void nearestNeighbors(double[] coords, int[] indices,
+            double[] distances) {
+        nearestNeighbors(coords, indices, distances,
+                ParallelUtils.defaultPool());
+    }
+    
+    /**
+     * Computes the nearest neighbor of each query point, using the specified
+     * fork-join pool to process the queries in parallel. If the tree is
+     * empty, indices are set to -1, and distances to positive infinity.
+     * 
+     * @param coords the coordinates of the query points, as a sequence of
+     *            x and y values
+     * @param indices the array filled with the index of the nearest
+     *            neighbor of each query point
+     * @param distances the array filled with the distance between each query
+     *            point and its nearest neighbor
+     * @param pool the pool used for processing the queries
+     * @since 0.11.3
+     */
+    public void nearestNeighbors(double[] coords, int[] indices,
+            double[] distances, ForkJoinPool pool) {
+        if (coords.length % 2 != 0)
+            throw new IllegalArgumentException(
+                    "Query array must contain an even number of values");
+        int n = coords.length / 2;
+        if (indices.length < n || distances.length < n)
+            throw new IllegalArgumentException(
+                    "Result arrays must contain at least one element per query point");
+        
+        if (n <= BATCH_THRESHOLD) {
+            nearestNeighbors(coords, indices, distances, 0, n);
+            return;
+        }
+        pool.invoke(new NearestNeighborsTask(coords, indices, distances, 0, n));
+    }
+    
+    /**
+     * Computes the nearest neighbors of the query points between indices 
+     * from (inclusive) and to (exclusive).
+     */
+    private void nearestNeighbors(double[] coords, int[] indices,
+            double[] distances, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (root == null) {
+                indices[i] = -1;
+                distances[i] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            
+            double x = coords[2 * i];
+            double y = coords[2 * i + 1];
+            Node node = nearestNode(x, y, root, root, 0);
+            indices[i] = node.index;
+            distances[i] = Math.hypot(node.point.x() - x, node.point.y() - y);
+        }
+    }
+    
+    /**
+     * Same as nearestNeighbor(Point2D, Node, Node, int), but working on
+     * coordinates and squared distances to avoid object creation.
+     */
+    private Node nearestNode(double x, double y, Node candidate, Node node,
+            int depth) {
+        Point2D anchor = node.point;
+        double dx = x - anchor.x();
+        double dy = y - anchor.y();
+        if (dx * dx + dy * dy < distance2(x, y, candidate))
+            candidate = node;
+        
+        // signed distance to the splitting line
+        double diff = depth % 2 == 0 ? dx : dy;
+        
+        // First try on the canonical side
+        Node node1 = diff < 0 ? node.left : node.right;
+        Node node2 = diff < 0 ? node.right : node.left;
+        if (node1 != null)
+            candidate = nearestNode(x, y, candidate, node1, depth + 1);
+        
+        // If line is close enough, there can be closer points to the other
+        // side of the line
+        if (node2 != null && diff * diff < distance2(x, y, candidate))
+            candidate = nearestNode(x, y, candidate, node2, depth + 1);
+        
+        return candidate;
+    }
+    
+    private static double distance2(double x, double y, Node node) {
+        double dx = x - node.point.x();
+        double dy = y - node.point.y();
+        return dx * dx + dy * dy;
+    }
+    
     /**
      * Gives a small example of use.
      */
@@ -0,0 +1,128 @@
+/**
+ * File: 	PackedCoordinateSequence2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+
+/**
+ * An immutable sequence of coordinates stored in a single array, alternating
+ * x and y coordinates of each point.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public final class PackedCoordinateSequence2D implements CoordinateSequence2D {
+
+    // ===================================================================
+    // Static constructors
+
+	/**
+	 * Creates a sequence that uses the given array of interleaved
+	 * coordinates, without copying it. The array must not be modified
+	 * after the call.
+	 * @param coords the x and y coordinates of each point
+	 */
+	public static PackedCoordinateSequence2D wrap(double[] coords) {
+		if (coords.length % 2 != 0)
+			throw new IllegalArgumentException(
+					"Coordinate array must have an even length");
+		return new PackedCoordinateSequence2D(coords);
+	}
+
+
+    // ===================================================================
+    // Class variables
+
+	/** The interleaved coordinates of the points */
+	private final double[] coords;
+
+
+    // ===================================================================
+    // Constructors
+
+	private PackedCoordinateSequence2D(double[] coords) {
+		this.coords = coords;
+	}
+
+	/**
+	 * Creates a new sequence from arrays of x and y coordinates.
+	 */
+	public PackedCoordinateSequence2D(double[] xcoords, double[] ycoords) {
+		int n = xcoords.length;
+		if (ycoords.length != n)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.coords = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			coords[2 * i] = xcoords[i];
+			coords[2 * i + 1] = ycoords[i];
+		}
+	}
+
+	/**
+	 * Creates a new sequence from the coordinates of another sequence.
+	 */
+	public PackedCoordinateSequence2D(CoordinateSequence2D sequence) {
+		int n = sequence.size();
+		this.coords = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			coords[2 * i] = sequence.x(i);
+			coords[2 * i + 1] = sequence.y(i);
+		}
+	}
+
+	/**
+	 * Creates a new sequence from the coordinates of a collection of points.
+	 */
+	public PackedCoordinateSequence2D(Collection<? extends Point2D> points) {
+		this.coords = new double[2 * points.size()];
+		int i = 0;
+		for (Point2D point : points) {
+			coords[i++] = point.x();
+			coords[i++] = point.y();
+		}
+	}
+
+
+    // ===================================================================
+    // Methods specific to PackedCoordinateSequence2D
+
+	/**
+	 * Returns the i-th point of the sequence, as a new Point2D.
+	 */
+	public Point2D point(int i) {
+		return new Point2D(coords[2 * i], coords[2 * i + 1]);
+	}
+
+	/**
+	 * Returns a copy of the interleaved coordinates of the points.
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(coords, coords.length);
+	}
+
+
+    // ===================================================================
+    // Methods implementing the CoordinateSequence2D interface
+
+	public int size() {
+		return coords.length / 2;
+	}
+
+	public double x(int i) {
+		return coords[2 * i];
+	}
+
+	public double y(int i) {
+		return coords[2 * i + 1];
+	}
+}
@@ -0,0 +1,446 @@
+/**
+ * File: 	PackedKDTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.Collection;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+
+/**
+ * An immutable KD-tree whose nodes are stored implicitly within flat arrays.
+ * Point coordinates are reordered such that the node of each sub-range of
+ * the arrays is located at the middle of the range, the points before the
+ * middle forming the left sub-tree, and the points after the middle forming
+ * the right sub-tree. The splitting direction alternates between x and y
+ * at each level, as for KDTree2D.<br>
+ *
+ * The tree is built in O(n log n) by median selection, and requires only
+ * two doubles and one int per point. Queries do not allocate memory: results
+ * are written into buffers provided by the caller, and are given as indices
+ * of the points in the original input.<br>
+ *
+ * As the tree can not be modified after construction, concurrent queries
+ * from several threads are safe.
+ *
+ * @see KDTree2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PackedKDTree2D {
+
+	// ===================================================================
+	// Class variables
+
+	/** The coordinates of points, interleaved, in tree order */
+	private final double[] coords;
+
+	/** Index of each point in the original input, in tree order */
+	private final int[] indices;
+
+	/** The number of points */
+	private final int n;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new tree from two arrays of coordinates.
+	 */
+	public PackedKDTree2D(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.n = xs.length;
+		this.coords = new double[2 * n];
+		this.indices = new int[n];
+		for (int i = 0; i < n; i++) {
+			coords[2 * i] = xs[i];
+			coords[2 * i + 1] = ys[i];
+			indices[i] = i;
+		}
+		build(0, n, 0);
+	}
+
+	/**
+	 * Creates a new tree from a collection of points. Indices returned by
+	 * queries correspond to the iteration order of the collection.
+	 */
+	public PackedKDTree2D(Collection<? extends Point2D> points) {
+		this.n = points.size();
+		this.coords = new double[2 * n];
+		this.indices = new int[n];
+		int i = 0;
+		for (Point2D point : points) {
+			coords[2 * i] = point.x();
+			coords[2 * i + 1] = point.y();
+			indices[i] = i;
+			i++;
+		}
+		build(0, n, 0);
+	}
+
+
+	// ===================================================================
+	// Construction of the tree
+
+	/**
+	 * Recursively reorders the points within the range [lo, hi) such that
+	 * the median point along the given axis is located at the middle.
+	 */
+	private void build(int lo, int hi, int axis) {
+		while (hi - lo > 1) {
+			int mid = (lo + hi) >>> 1;
+			select(lo, hi - 1, mid, axis);
+
+			// recurse on left part, and iterate on right part
+			build(lo, mid, 1 - axis);
+			lo = mid + 1;
+			axis = 1 - axis;
+		}
+	}
+
+	/**
+	 * Partial sort of the range [lo, hi] such that the k-th element along
+	 * the given axis is at its final position, smaller elements are before,
+	 * and greater elements are after. Uses quick select algorithm.
+	 */
+	private void select(int lo, int hi, int k, int axis) {
+		double[] coords = this.coords;
+		while (hi > lo) {
+			// median of three pivot
+			int mid = (lo + hi) >>> 1;
+			if (coords[2 * mid + axis] < coords[2 * lo + axis])
+				swap(mid, lo);
+			if (coords[2 * hi + axis] < coords[2 * lo + axis])
+				swap(hi, lo);
+			if (coords[2 * hi + axis] < coords[2 * mid + axis])
+				swap(hi, mid);
+			double pivot = coords[2 * mid + axis];
+
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (coords[2 * i + axis] < pivot)
+					i++;
+				while (coords[2 * j + axis] > pivot)
+					j--;
+				if (i <= j)
+					swap(i++, j--);
+			}
+
+			if (k <= j)
+				hi = j;
+			else if (k >= i)
+				lo = i;
+			else
+				return;
+		}
+	}
+
+	private void swap(int i, int j) {
+		double tmp = coords[2 * i];
+		coords[2 * i] = coords[2 * j];
+		coords[2 * j] = tmp;
+		tmp = coords[2 * i + 1];
+		coords[2 * i + 1] = coords[2 * j + 1];
+		coords[2 * j + 1] = tmp;
+		int tmp2 = indices[i];
+		indices[i] = indices[j];
+		indices[j] = tmp2;
+	}
+
+
+	// ===================================================================
+	// General methods
+
+	/**
+	 * Returns the number of points stored in the tree.
+	 */
+	public int size() {
+		return n;
+	}
+
+
+	// ===================================================================
+	// Nearest neighbor search
+
+	/**
+	 * Returns the index of the point closest to the query point, or -1 if
+	 * the tree is empty.
+	 */
+	public int nearest(double x, double y) {
+		if (n == 0)
+			return -1;
+		return indices[nearest(x, y, 0, n, 0, 0, Double.POSITIVE_INFINITY)];
+	}
+
+	/**
+	 * Returns the index of the point closest to the query point, or -1 if
+	 * the tree is empty.
+	 */
+	public int nearest(Point2D point) {
+		return nearest(point.x(), point.y());
+	}
+
+	/**
+	 * Returns the position within tree arrays of the closest point in the
+	 * range [lo, hi), or the current best position if no point is closer.
+	 */
+	private int nearest(double x, double y, int lo, int hi, int axis,
+			int best, double bestDist2) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double dx = x - coords[2 * mid];
+			double dy = y - coords[2 * mid + 1];
+			double dist2 = dx * dx + dy * dy;
+			if (dist2 < bestDist2) {
+				best = mid;
+				bestDist2 = dist2;
+			}
+
+			// signed distance to the splitting line
+			double diff = axis == 0 ? dx : dy;
+
+			// first search on the side of the query point
+			if (diff < 0) {
+				best = nearest(x, y, lo, mid, 1 - axis, best, bestDist2);
+				lo = mid + 1;
+			} else {
+				best = nearest(x, y, mid + 1, hi, 1 - axis, best, bestDist2);
+				hi = mid;
+			}
+			bestDist2 = distance2(x, y, best);
+
+			// search on the other side only if splitting line is close enough
+			if (diff * diff >= bestDist2)
+				break;
+			axis = 1 - axis;
+		}
+		return best;
+	}
+
+	/**
+	 * Computes the k nearest neighbors of the query point. The indices of the
+	 * neighbors and their distances to the query point are stored in the
+	 * given arrays, sorted by increasing distance. Both arrays must have at
+	 * least k elements.
+	 *
+	 * @return the number of neighbors found, equal to the minimum of k and
+	 *         the number of points
+	 */
+	public int kNearest(double x, double y, int k, int[] neighbors,
+			double[] distances) {
+		if (neighbors.length < k || distances.length < k)
+			throw new IllegalArgumentException(
+					"Result arrays must contain at least k elements");
+		if (k <= 0 || n == 0)
+			return 0;
+
+		// use result arrays as a max-heap of squared distances
+		int size = kNearest(x, y, 0, n, 0, k, neighbors, distances, 0);
+
+		// sort the heap by increasing distances
+		for (int last = size - 1; last > 0; last--) {
+			swapHeap(neighbors, distances, 0, last);
+			siftDown(neighbors, distances, 0, last);
+		}
+
+		// convert positions and distances
+		for (int i = 0; i < size; i++) {
+			neighbors[i] = indices[neighbors[i]];
+			distances[i] = Math.sqrt(distances[i]);
+		}
+		return size;
+	}
+
+	private int kNearest(double x, double y, int lo, int hi, int axis,
+			int k, int[] heap, double[] heapDist2, int size) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double dx = x - coords[2 * mid];
+			double dy = y - coords[2 * mid + 1];
+			double dist2 = dx * dx + dy * dy;
+
+			if (size < k) {
+				// add point, and restore heap order
+				int i = size++;
+				heap[i] = mid;
+				heapDist2[i] = dist2;
+				while (i > 0) {
+					int parent = (i - 1) >>> 1;
+					if (heapDist2[parent] >= heapDist2[i])
+						break;
+					swapHeap(heap, heapDist2, parent, i);
+					i = parent;
+				}
+			} else if (dist2 < heapDist2[0]) {
+				// replace farthest neighbor
+				heap[0] = mid;
+				heapDist2[0] = dist2;
+				siftDown(heap, heapDist2, 0, size);
+			}
+
+			double diff = axis == 0 ? dx : dy;
+			if (diff < 0) {
+				size = kNearest(x, y, lo, mid, 1 - axis, k, heap, heapDist2,
+						size);
+				lo = mid + 1;
+			} else {
+				size = kNearest(x, y, mid + 1, hi, 1 - axis, k, heap,
+						heapDist2, size);
+				hi = mid;
+			}
+
+			if (size == k && diff * diff >= heapDist2[0])
+				break;
+			axis = 1 - axis;
+		}
+		return size;
+	}
+
+	private static void siftDown(int[] heap, double[] heapDist2, int i,
+			int size) {
+		while (true) {
+			int left = 2 * i + 1;
+			if (left >= size)
+				return;
+			int largest = left;
+			int right = left + 1;
+			if (right < size && heapDist2[right] > heapDist2[left])
+				largest = right;
+			if (heapDist2[i] >= heapDist2[largest])
+				return;
+			swapHeap(heap, heapDist2, i, largest);
+			i = largest;
+		}
+	}
+
+	private static void swapHeap(int[] heap, double[] heapDist2, int i, int j) {
+		int tmp = heap[i];
+		heap[i] = heap[j];
+		heap[j] = tmp;
+		double tmp2 = heapDist2[i];
+		heapDist2[i] = heapDist2[j];
+		heapDist2[j] = tmp2;
+	}
+
+
+	// ===================================================================
+	// Range searches
+
+	/**
+	 * Finds the points located within the given distance of the query point.
+	 * The indices of the points are stored in the result array, in no
+	 * particular order. If the array is too small, only the first points
+	 * found are stored.
+	 *
+	 * @return the total number of points within the given distance, that can
+	 *         be greater than the size of the result array
+	 */
+	public int withinRadius(double x, double y, double radius, int[] result) {
+		if (n == 0)
+			return 0;
+		return withinRadius(x, y, radius * radius, 0, n, 0, result, 0);
+	}
+
+	private int withinRadius(double x, double y, double radius2, int lo,
+			int hi, int axis, int[] result, int count) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double dx = x - coords[2 * mid];
+			double dy = y - coords[2 * mid + 1];
+			if (dx * dx + dy * dy <= radius2) {
+				if (count < result.length)
+					result[count] = indices[mid];
+				count++;
+			}
+
+			double diff = axis == 0 ? dx : dy;
+			if (diff < 0) {
+				count = withinRadius(x, y, radius2, lo, mid, 1 - axis, result,
+						count);
+				lo = mid + 1;
+			} else {
+				count = withinRadius(x, y, radius2, mid + 1, hi, 1 - axis,
+						result, count);
+				hi = mid;
+			}
+
+			if (diff * diff > radius2)
+				break;
+			axis = 1 - axis;
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the points located within the given box, boundary included. The
+	 * indices of the points are stored in the result array, in no particular
+	 * order. If the array is too small, only the first points found are
+	 * stored.
+	 *
+	 * @return the total number of points within the box, that can be greater
+	 *         than the size of the result array
+	 */
+	public int rangeSearch(Box2D box, int[] result) {
+		if (n == 0)
+			return 0;
+		return rangeSearch(box.getMinX(), box.getMaxX(), box.getMinY(),
+				box.getMaxY(), 0, n, 0, result, 0);
+	}
+
+	private int rangeSearch(double xmin, double xmax, double ymin,
+			double ymax, int lo, int hi, int axis, int[] result, int count) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			double x = coords[2 * mid];
+			double y = coords[2 * mid + 1];
+			if (x >= xmin && x <= xmax && y >= ymin && y <= ymax) {
+				if (count < result.length)
+					result[count] = indices[mid];
+				count++;
+			}
+
+			double split = axis == 0 ? x : y;
+			double min = axis == 0 ? xmin : ymin;
+			double max = axis == 0 ? xmax : ymax;
+			boolean goLeft = min <= split;
+			boolean goRight = max >= split;
+
+			if (goLeft && goRight) {
+				count = rangeSearch(xmin, xmax, ymin, ymax, lo, mid, 1 - axis,
+						result, count);
+				lo = mid + 1;
+			} else if (goLeft) {
+				hi = mid;
+			} else if (goRight) {
+				lo = mid + 1;
+			} else {
+				break;
+			}
+			axis = 1 - axis;
+		}
+		return count;
+	}
+
+
+	// ===================================================================
+	// Utility methods
+
+	/**
+	 * Computes the squared distance between the query point and the point at
+	 * the given position in tree arrays.
+	 */
+	private double distance2(double x, double y, int pos) {
+		double dx = x - coords[2 * pos];
+		double dy = y - coords[2 * pos + 1];
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,585 @@
+/**
+ * File: 	PackedPointArray2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.awt.Graphics2D;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.GeometricObject2D;
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.circulinear.CirculinearShape2D;
+import math.geom2d.circulinear.buffer.BufferCalculator;
+import math.geom2d.transform.CircleInversion2D;
+
+/**
+ * A set of points whose coordinates are stored in two parallel arrays of
+ * double, instead of a list of Point2D. This requires about three times
+ * less memory than PointArray2D for large point sets, and global
+ * operations like transform, clip, bounding box or distance computation
+ * are performed by iterating over primitive arrays.<br>
+ *
+ * Instances of Point2D are created only when points are accessed, either
+ * by the get method or by iteration. Points added to the set are not
+ * referenced by the set, only their coordinates are stored.
+ *
+ * @see PointArray2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PackedPointArray2D
+implements PointSet2D, CoordinateSequence2D, CirculinearShape2D {
+
+	// ===================================================================
+	// static constructors
+
+	public static PackedPointArray2D create(Collection<? extends Point2D> points) {
+		return new PackedPointArray2D(points);
+	}
+
+	public static PackedPointArray2D create(Point2D... points) {
+		return new PackedPointArray2D(points);
+	}
+
+	/**
+	 * Allocate memory for the specified number of points.
+	 */
+	public static PackedPointArray2D create(int size) {
+		return new PackedPointArray2D(size);
+	}
+
+	/**
+	 * Creates a new point set from a sequence of coordinates.
+	 */
+	public static PackedPointArray2D create(CoordinateSequence2D coords) {
+		int n = coords.size();
+		PackedPointArray2D array = new PackedPointArray2D(n);
+		for (int i = 0; i < n; i++)
+			array.add(coords.x(i), coords.y(i));
+		return array;
+	}
+
+	// ===================================================================
+	// inner variables
+
+	/** The coordinates of the points */
+	protected double[] xs, ys;
+
+	/** The number of points within the set */
+	protected int n = 0;
+
+	// ===================================================================
+	// constructors
+
+	/**
+	 * Creates a new PackedPointArray2D without any points.
+	 */
+	public PackedPointArray2D() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new empty PackedPointArray2D, but preallocates the memory
+	 * for storing a given amount of points.
+	 *
+	 * @param n the expected number of points in the set.
+	 */
+	public PackedPointArray2D(int n) {
+		this.xs = new double[Math.max(n, 4)];
+		this.ys = new double[Math.max(n, 4)];
+	}
+
+	/**
+	 * Creates a new point set from the coordinates of the points. Arrays
+	 * are copied.
+	 */
+	public PackedPointArray2D(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+		this.n = xs.length;
+		this.xs = Arrays.copyOf(xs, Math.max(n, 4));
+		this.ys = Arrays.copyOf(ys, Math.max(n, 4));
+	}
+
+	/**
+	 * Creates a new point set containing the locations of the given points.
+	 */
+	public PackedPointArray2D(Point2D... points) {
+		this(points.length);
+		for (Point2D point : points)
+			this.add(point);
+	}
+
+	/**
+	 * Copy constructor
+	 */
+	public PackedPointArray2D(PointSet2D set) {
+		this(set.size());
+		for (Point2D point : set)
+			this.add(point);
+	}
+
+	/**
+	 * Creates a new point set containing the locations of the points in the
+	 * collection.
+	 */
+	public PackedPointArray2D(Collection<? extends Point2D> points) {
+		this(points.size());
+		for (Point2D point : points)
+			this.add(point);
+	}
+
+	// ===================================================================
+	// methods specific to PackedPointArray2D
+
+	/**
+	 * Adds a new point given by its coordinates.
+	 */
+	public void add(double x, double y) {
+		ensureCapacity(n + 1);
+		xs[n] = x;
+		ys[n] = y;
+		n++;
+	}
+
+	/**
+	 * Returns the x-coordinate of the i-th point.
+	 */
+	public double x(int index) {
+		checkIndex(index);
+		return xs[index];
+	}
+
+	/**
+	 * Returns the y-coordinate of the i-th point.
+	 */
+	public double y(int index) {
+		checkIndex(index);
+		return ys[index];
+	}
+
+	/**
+	 * Returns a copy of the x-coordinates of the points.
+	 */
+	public double[] xCoords() {
+		return Arrays.copyOf(xs, n);
+	}
+
+	/**
+	 * Returns a copy of the y-coordinates of the points.
+	 */
+	public double[] yCoords() {
+		return Arrays.copyOf(ys, n);
+	}
+
+	/**
+	 * Reduces the capacity of the inner arrays to the number of points.
+	 */
+	public void trimToSize() {
+		if (xs.length > n) {
+			xs = Arrays.copyOf(xs, n);
+			ys = Arrays.copyOf(ys, n);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > xs.length) {
+			int size = Math.max(capacity, xs.length + (xs.length >> 1) + 1);
+			xs = Arrays.copyOf(xs, size);
+			ys = Arrays.copyOf(ys, size);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= n)
+			throw new IndexOutOfBoundsException("Index: " + index
+					+ ", Size: " + n);
+	}
+
+	// ===================================================================
+	// methods implementing the PointSet2D interface
+
+	/**
+	 * Adds the location of the point to the set. Always returns true.
+	 */
+	public boolean add(Point2D point) {
+		add(point.x(), point.y());
+		return true;
+	}
+
+	public void add(int index, Point2D point) {
+		if (index < 0 || index > n)
+			throw new IndexOutOfBoundsException("Index: " + index
+					+ ", Size: " + n);
+		ensureCapacity(n + 1);
+		System.arraycopy(xs, index, xs, index + 1, n - index);
+		System.arraycopy(ys, index, ys, index + 1, n - index);
+		xs[index] = point.x();
+		ys[index] = point.y();
+		n++;
+	}
+
+	/**
+	 * Add a series of points
+	 *
+	 * @param points an array of points
+	 */
+	public void addAll(Point2D[] points) {
+		ensureCapacity(n + points.length);
+		for (Point2D point : points)
+			this.add(point);
+	}
+
+	public void addAll(Collection<? extends Point2D> points) {
+		ensureCapacity(n + points.size());
+		for (Point2D point : points)
+			this.add(point);
+	}
+
+	/**
+	 * Returns a new Point2D located at the position of the i-th point.
+	 */
+	public Point2D get(int index) {
+		checkIndex(index);
+		return new Point2D(xs[index], ys[index]);
+	}
+
+	public boolean remove(Point2D point) {
+		int index = indexOf(point);
+		if (index < 0)
+			return false;
+		remove(index);
+		return true;
+	}
+
+	public Point2D remove(int index) {
+		Point2D point = get(index);
+		System.arraycopy(xs, index + 1, xs, index, n - index - 1);
+		System.arraycopy(ys, index + 1, ys, index, n - index - 1);
+		n--;
+		return point;
+	}
+
+	/**
+	 * Returns the index of the first point with the same coordinates as the
+	 * given point, or -1 if there is no such point.
+	 */
+	public int indexOf(Point2D point) {
+		double x = point.x();
+		double y = point.y();
+		for (int i = 0; i < n; i++) {
+			if (xs[i] == x && ys[i] == y)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a read-only view on the points of the set. Points are
+	 * created when they are accessed.
+	 *
+	 * @return the collection of points
+	 */
+	public Collection<Point2D> points() {
+		return new AbstractList<Point2D>() {
+			@Override
+			public Point2D get(int index) {
+				return PackedPointArray2D.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return n;
+			}
+		};
+	}
+
+	/**
+	 * remove all points of the set.
+	 */
+	public void clear() {
+		this.n = 0;
+	}
+
+	/**
+	 * Returns the number of points in the set.
+	 *
+	 * @return the number of points
+	 */
+	public int size() {
+		return n;
+	}
+
+
+	// ===================================================================
+	// Methods implementing CirculinearShape2D interface
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.circulinear.CirculinearShape2D#buffer(double)
+	 */
+	public CirculinearDomain2D buffer(double dist) {
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+		return bc.computeBuffer(this, dist);
+	}
+
+	public PackedPointArray2D transform(CircleInversion2D inv) {
+		PackedPointArray2D res = new PackedPointArray2D(n);
+		for (int i = 0; i < n; i++)
+			res.add(new Point2D(xs[i], ys[i]).transform(inv));
+		return res;
+	}
+
+	/**
+	 * Return distance to the closest point of the collection
+	 */
+	public double distance(Point2D p) {
+		return distance(p.x(), p.y());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see math.geom2d.Shape2D#distance(double, double)
+	 */
+	public double distance(double x, double y) {
+		// basic checkup
+		if (n == 0)
+			return Double.NaN;
+
+		// find smallest squared distance
+		double minDist2 = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			double dx = xs[i] - x;
+			double dy = ys[i] - y;
+			minDist2 = Math.min(minDist2, dx * dx + dy * dy);
+		}
+
+		// return distance to closest point
+		return Math.sqrt(minDist2);
+	}
+
+	/**
+	 * Always return true.
+	 */
+	public boolean isBounded() {
+		return true;
+	}
+
+	/**
+	 * Returns true if the point set is empty, i.e. the number of points is 0.
+	 */
+	public boolean isEmpty() {
+		return n == 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see math.geom2d.Shape2D#clip(java.awt.geom.Rectangle2D)
+	 */
+	public PackedPointArray2D clip(Box2D box) {
+		double xmin = box.getMinX();
+		double xmax = box.getMaxX();
+		double ymin = box.getMinY();
+		double ymax = box.getMaxY();
+
+		// select only points inside of box
+		double[] resX = new double[n];
+		double[] resY = new double[n];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			if (x >= xmin && x <= xmax && y >= ymin && y <= ymax) {
+				resX[count] = x;
+				resY[count] = y;
+				count++;
+			}
+		}
+
+		// use arrays with the right size
+		PackedPointArray2D res = new PackedPointArray2D(0);
+		res.xs = Arrays.copyOf(resX, count);
+		res.ys = Arrays.copyOf(resY, count);
+		res.n = count;
+		return res;
+	}
+
+	public Box2D boundingBox() {
+		// init with max values in each direction
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+
+		// update max values with each point
+		for (int i = 0; i < n; i++) {
+			xmin = Math.min(xmin, xs[i]);
+			xmax = Math.max(xmax, xs[i]);
+		}
+		for (int i = 0; i < n; i++) {
+			ymin = Math.min(ymin, ys[i]);
+			ymax = Math.max(ymax, ys[i]);
+		}
+
+		// create the bounding box
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see math.geom2d.Shape2D#transform(math.geom2d.AffineTransform2D)
+	 */
+	public PackedPointArray2D transform(AffineTransform2D trans) {
+		PackedPointArray2D res = new PackedPointArray2D(n);
+		trans.transform(xs, ys, 0, res.xs, res.ys, 0, n);
+		res.n = n;
+		return res;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.awt.Shape#contains(double, double)
+	 */
+	public boolean contains(double x, double y) {
+		double eps2 = Shape2D.ACCURACY * Shape2D.ACCURACY;
+		for (int i = 0; i < n; i++) {
+			double dx = xs[i] - x;
+			double dy = ys[i] - y;
+			if (dx * dx + dy * dy < eps2)
+				return true;
+		}
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.awt.Shape#contains(java.awt.geom.Point2D)
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Draws the point set on the specified Graphics2D, using default radius
+	 * equal to 1.
+	 *
+	 * @param g2 the graphics to draw the point set
+	 */
+	public void draw(Graphics2D g2) {
+		this.draw(g2, 1);
+	}
+
+	/**
+	 * Draws the point set on the specified Graphics2D, by filling a disc
+	 * with a given radius.
+	 *
+	 * @param g2 the graphics to draw the point set
+	 */
+	public void draw(Graphics2D g2, double r) {
+		double w = 2 * r;
+		for (int i = 0; i < n; i++) {
+			g2.fill(new java.awt.geom.Ellipse2D.Double(xs[i] - r, ys[i] - r,
+					w, w));
+		}
+	}
+
+	/**
+	 * Returns an iterator on the points of the set. Points are created
+	 * during iteration.
+	 */
+	public Iterator<Point2D> iterator() {
+		return points().iterator();
+	}
+
+	// ===================================================================
+	// methods implementing GeometricObject2D interface
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.GeometricObject2D#almostEquals(math.geom2d.GeometricObject2D, double)
+	 */
+	public boolean almostEquals(GeometricObject2D obj, double eps) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof PointSet2D))
+			return false;
+
+		PointSet2D set = (PointSet2D) obj;
+		if (this.n != set.size())
+			return false;
+
+		Iterator<Point2D> iter = set.iterator();
+		for (int i = 0; i < n; i++) {
+			Point2D point = iter.next();
+			if (Math.abs(xs[i] - point.x()) > eps)
+				return false;
+			if (Math.abs(ys[i] - point.y()) > eps)
+				return false;
+		}
+
+		return true;
+	}
+
+	// ===================================================================
+	// methods overriding Object methods
+
+	/**
+	 * Returns true if the given object is an instance of PointSet2D that
+	 * contains the same number of points, such that iteration on each set
+	 * returns equal points.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof PointSet2D))
+			return false;
+
+		PointSet2D set = (PointSet2D) obj;
+		if (this.n != set.size())
+			return false;
+
+		Iterator<Point2D> iter = set.iterator();
+		for (int i = 0; i < n; i++) {
+			if (!new Point2D(xs[i], ys[i]).equals(iter.next()))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Combines the hash codes of the points in iteration order, such that
+	 * equal point sets have the same hash code.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < n; i++) {
+			// same value as the hash code of the point
+			int pointHash = 1;
+			pointHash = pointHash * 31 + Double.valueOf(xs[i]).hashCode();
+			pointHash = pointHash * 31 + Double.valueOf(ys[i]).hashCode();
+			hash = hash * 31 + pointHash;
+		}
+		return hash;
+	}
+}
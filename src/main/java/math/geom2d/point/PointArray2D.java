@@ -69,6 +69,19 @@ implements PointSet2D, CirculinearShape2D, Cloneable {
     	return new PointArray2D(size);
     }
     
+    /**
+     * Creates a new point set from a sequence of coordinates.
+     * @since 0.11.3
+     */
+    public static PointArray2D create(CoordinateSequence2D coords) {
+    	int n = coords.size();
+    	PointArray2D array = new PointArray2D(n);
+    	array.points.ensureCapacity(n);
+    	for (int i = 0; i < n; i++)
+    		array.points.add(new Point2D(coords.x(i), coords.y(i)));
+    	return array;
+    }
+    
     // ===================================================================
     // inner variables
 
@@ -187,6 +200,14 @@ implements PointSet2D, CirculinearShape2D, Cloneable {
         return Collections.unmodifiableList(points);
     }
 
+    /**
+     * Returns the coordinates of the points, as a new packed sequence.
+     * @since 0.11.3
+     */
+    public PackedCoordinateSequence2D coordinates() {
+    	return new PackedCoordinateSequence2D(points);
+    }
+
     /**
      * remove all points of the set.
      */
@@ -433,6 +454,18 @@ implements PointSet2D, CirculinearShape2D, Cloneable {
         return true;
     }
     
+    /**
+     * Combines the hash codes of the points in iteration order, such that
+     * equal point sets have the same hash code.
+     */
+    @Override
+    public int hashCode() {
+    	int hash = 1;
+    	for (Point2D point : points)
+    		hash = hash * 31 + point.hashCode();
+    	return hash;
+    }
+    
 	/**
 	 * @deprecated use copy constructor instead (0.11.2)
 	 */
@@ -0,0 +1,310 @@
+/**
+ * File: 	VoronoiDiagram2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import math.geom2d.Box2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Voronoi diagram of a set of points, computed as the dual of their Delaunay
+ * triangulation, and clipped by a bounding box.<br>
+ *
+ * The vertices of the diagram are the circumcenters of the Delaunay
+ * triangles. The cell of a point of the convex hull is unbounded, and is
+ * closed by points far away in the direction of the hull edge normals
+ * before being clipped by the box. Cells are returned as counter-clockwise
+ * simple polygons.
+ *
+ * @see DelaunayTriangulation2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class VoronoiDiagram2D {
+
+	// ===================================================================
+	// Class variables
+
+	/** The triangulation of the sites */
+	private final DelaunayTriangulation2D delaunay;
+
+	/** The clipping box */
+	private final double xmin, ymin, xmax, ymax;
+
+	/** The coordinates of the circumcenters of each triangle */
+	private final double[] circumX, circumY;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates the Voronoi diagram of the vertices of a triangulation, with
+	 * cells clipped by the given box.
+	 */
+	public VoronoiDiagram2D(DelaunayTriangulation2D delaunay, Box2D box) {
+		if (!box.isBounded())
+			throw new IllegalArgumentException("Clipping box must be bounded");
+		this.delaunay = delaunay;
+		this.xmin = box.getMinX();
+		this.ymin = box.getMinY();
+		this.xmax = box.getMaxX();
+		this.ymax = box.getMaxY();
+
+		int[] triangles = delaunay.triangles();
+		int n = triangles.length / 3;
+		this.circumX = new double[n];
+		this.circumY = new double[n];
+		for (int t = 0, i = 0; t < n; t++, i += 3) {
+			int i0 = triangles[i], i1 = triangles[i + 1], i2 = triangles[i + 2];
+			double x1 = delaunay.x(i0), y1 = delaunay.y(i0);
+			double dx = delaunay.x(i1) - x1, dy = delaunay.y(i1) - y1;
+			double ex = delaunay.x(i2) - x1, ey = delaunay.y(i2) - y1;
+			double ab = 2 * (dx * ey - dy * ex);
+			if (ab == 0) {
+				// degenerate triangle: use the centroid
+				circumX[t] = x1 + (dx + ex) / 3;
+				circumY[t] = y1 + (dy + ey) / 3;
+			} else {
+				double bl = dx * dx + dy * dy;
+				double cl = ex * ex + ey * ey;
+				circumX[t] = x1 + (ey * bl - dy * cl) / ab;
+				circumY[t] = y1 + (dx * cl - ex * bl) / ab;
+			}
+		}
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the triangulation this diagram is based on.
+	 */
+	public DelaunayTriangulation2D delaunay() {
+		return delaunay;
+	}
+
+	/**
+	 * Returns the clipping box of the diagram.
+	 */
+	public Box2D boundingBox() {
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+	/**
+	 * Returns the number of cells, equal to the number of sites.
+	 */
+	public int cellNumber() {
+		return delaunay.vertexNumber();
+	}
+
+	/**
+	 * Returns all the cells of the diagram, in the order of the sites.
+	 */
+	public List<SimplePolygon2D> cells() {
+		int n = delaunay.vertexNumber();
+		ArrayList<SimplePolygon2D> cells = new ArrayList<SimplePolygon2D>(n);
+		for (int i = 0; i < n; i++)
+			cells.add(cell(i));
+		return cells;
+	}
+
+	/**
+	 * Returns the cell of the i-th site, clipped by the box. The cell is
+	 * empty if the site is a duplicate of another site, or if it is outside
+	 * of the box.
+	 */
+	public SimplePolygon2D cell(int i) {
+		double[] coords = delaunay.triangleNumber() == 0 ?
+				colinearCell(i) : cellPolygon(i);
+		if (coords == null)
+			return new SimplePolygon2D();
+		coords = clip(coords);
+		int n = coords.length / 2;
+
+		// convert to counter-clockwise polygon
+		double area = 0;
+		for (int k = 0, j = n - 1; k < n; j = k++)
+			area += coords[2 * j] * coords[2 * k + 1]
+					- coords[2 * j + 1] * coords[2 * k];
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int k = 0; k < n; k++) {
+			int k2 = area < 0 ? n - 1 - k : k;
+			xs[k] = coords[2 * k2];
+			ys[k] = coords[2 * k2 + 1];
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+
+	// ===================================================================
+	// Computation of cells
+
+	/**
+	 * Computes the unclipped cell of a site, as an array of interleaved
+	 * coordinates. Returns null if the site is not triangulated.
+	 */
+	private double[] cellPolygon(int i) {
+		int[] inedges = delaunay.inedges();
+		int[] halfedges = delaunay.halfedges();
+		int[] triangles = delaunay.triangles();
+		int e0 = inedges[i];
+		if (e0 == -1)
+			return null;
+
+		// collect circumcenters of triangles around the site, in clockwise
+		// order for interior sites
+		double[] coords = new double[16];
+		int n = 0;
+		int e = e0;
+		boolean onHull = false;
+		do {
+			int t = e / 3;
+			if (n + 2 > coords.length)
+				coords = Arrays.copyOf(coords, 2 * coords.length);
+			coords[n++] = circumX[t];
+			coords[n++] = circumY[t];
+			e = DelaunayTriangulation2D.next(e);
+			if (halfedges[e] == -1) {
+				onHull = true;
+				break;
+			}
+			e = halfedges[e];
+		} while (e != e0);
+
+		if (!onHull)
+			return Arrays.copyOf(coords, n);
+
+		// hull site: the triangles are visited clockwise, from the
+		// incoming hull edge (prev -> i) to the outgoing one (i -> next)
+		int prev = triangles[e0];
+		int next = triangles[DelaunayTriangulation2D.next(e)];
+		double px = delaunay.x(i), py = delaunay.y(i);
+
+		// outward normals of the hull edges
+		double ux1 = delaunay.y(i) - delaunay.y(prev);
+		double uy1 = delaunay.x(prev) - delaunay.x(i);
+		double ux2 = delaunay.y(next) - delaunay.y(i);
+		double uy2 = delaunay.x(i) - delaunay.x(next);
+		double norm1 = Math.hypot(ux1, uy1);
+		double norm2 = Math.hypot(ux2, uy2);
+		ux1 /= norm1;
+		uy1 /= norm1;
+		ux2 /= norm2;
+		uy2 /= norm2;
+		double bx = ux1 + ux2, by = uy1 + uy2;
+		double normb = Math.hypot(bx, by);
+		if (normb > 0) {
+			bx /= normb;
+			by /= normb;
+		}
+
+		// distance large enough to put far points outside of the box
+		double c1x = coords[0], c1y = coords[1];
+		double ckx = coords[n - 2], cky = coords[n - 1];
+		double length = 4 * (Math.hypot(xmax - xmin, ymax - ymin) / 2
+				+ Math.hypot((xmin + xmax) / 2 - px, (ymin + ymax) / 2 - py)
+				+ Math.hypot(c1x - px, c1y - py)
+				+ Math.hypot(ckx - px, cky - py));
+
+		double[] result = new double[n + 6];
+		int m = 0;
+		result[m++] = c1x + length * ux1;
+		result[m++] = c1y + length * uy1;
+		System.arraycopy(coords, 0, result, m, n);
+		m += n;
+		result[m++] = ckx + length * ux2;
+		result[m++] = cky + length * uy2;
+		if (normb > 0) {
+			result[m++] = px + 2 * length * bx;
+			result[m++] = py + 2 * length * by;
+		}
+		return Arrays.copyOf(result, m);
+	}
+
+	/**
+	 * Computes the cell of a site when all sites are colinear, as the
+	 * intersection of the box with the half-planes bounded by the
+	 * bisectors with the neighbor sites.
+	 */
+	private double[] colinearCell(int i) {
+		int[] hull = delaunay.hull();
+		int k = 0;
+		while (k < hull.length && hull[k] != i)
+			k++;
+		if (k == hull.length)
+			return null;
+
+		double[] coords = new double[] {
+				xmin, ymin, xmax, ymin, xmax, ymax, xmin, ymax };
+		double px = delaunay.x(i), py = delaunay.y(i);
+		if (k > 0)
+			coords = clipBisector(coords, px, py, hull[k - 1]);
+		if (k < hull.length - 1)
+			coords = clipBisector(coords, px, py, hull[k + 1]);
+		return coords;
+	}
+
+	private double[] clipBisector(double[] coords, double px, double py,
+			int j) {
+		double qx = delaunay.x(j), qy = delaunay.y(j);
+		// keep points closer to p than to q
+		double nx = qx - px, ny = qy - py;
+		double offset = nx * (px + qx) / 2 + ny * (py + qy) / 2;
+		return clipHalfPlane(coords, nx, ny, offset);
+	}
+
+	/**
+	 * Clips a polygon given by interleaved coordinates with the box, using
+	 * the Sutherland-Hodgman algorithm.
+	 */
+	private double[] clip(double[] coords) {
+		coords = clipHalfPlane(coords, -1, 0, -xmin);
+		coords = clipHalfPlane(coords, 1, 0, xmax);
+		coords = clipHalfPlane(coords, 0, -1, -ymin);
+		coords = clipHalfPlane(coords, 0, 1, ymax);
+		return coords;
+	}
+
+	/**
+	 * Keeps the part of the polygon such that nx*x + ny*y <= offset.
+	 */
+	private static double[] clipHalfPlane(double[] coords, double nx,
+			double ny, double offset) {
+		int n = coords.length / 2;
+		if (n == 0)
+			return coords;
+		double[] result = new double[4 * n];
+		int m = 0;
+		double x0 = coords[2 * n - 2], y0 = coords[2 * n - 1];
+		double d0 = nx * x0 + ny * y0 - offset;
+		for (int k = 0; k < n; k++) {
+			double x1 = coords[2 * k], y1 = coords[2 * k + 1];
+			double d1 = nx * x1 + ny * y1 - offset;
+			if ((d0 <= 0) != (d1 <= 0)) {
+				double t = d0 / (d0 - d1);
+				result[m++] = x0 + t * (x1 - x0);
+				result[m++] = y0 + t * (y1 - y0);
+			}
+			if (d1 <= 0) {
+				result[m++] = x1;
+				result[m++] = y1;
+			}
+			x0 = x1;
+			y0 = y1;
+			d0 = d1;
+		}
+		return Arrays.copyOf(result, m);
+	}
+}
@@ -18,7 +18,10 @@ import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.curve.*;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.point.PackedCoordinateSequence2D;
 import math.geom2d.point.PointSets2D;
+import math.geom2d.polygon.clip.BoxClipper2D;
 
 /**
  * Abstract class that is the base implementation of Polyline2D and LinearRing2D. 
@@ -33,6 +36,19 @@ implements CirculinearContinuousCurve2D {
     
     protected ArrayList<Point2D> vertices;
 
+    /**
+     * The cumulative length of the curve at each vertex, computed when
+     * needed, and cleared when vertices are modified. Caches are volatile
+     * as they may be computed by concurrent buffer computations.
+     */
+    private volatile double[] cumulativeLengths = null;
+
+    /** The bounding box, computed when needed */
+    private volatile Box2D boundingBox = null;
+
+    /** The packed coordinates of the vertices, computed when needed */
+    private volatile PackedCoordinateSequence2D coordinates = null;
+
 
     // ===================================================================
     // Contructors
@@ -69,6 +85,17 @@ implements CirculinearContinuousCurve2D {
             vertices.add(new Point2D(xcoords[i], ycoords[i]));
     }
 
+    protected LinearCurve2D(CoordinateSequence2D coords) {
+		int n = coords.size();
+    	this.vertices = new ArrayList<Point2D>(n);
+        for (int i = 0; i < n; i++)
+            vertices.add(new Point2D(coords.x(i), coords.y(i)));
+        
+        // immutable sequences can be shared
+        if (coords instanceof PackedCoordinateSequence2D)
+        	this.coordinates = (PackedCoordinateSequence2D) coords;
+    }
+
 
     // ===================================================================
     // Methods specific to LinearCurve2D
@@ -101,7 +128,8 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean addVertex(Point2D vertex) {
-    	 return vertices.add(vertex);
+    	clearCache();
+    	return vertices.add(vertex);
     }
     
     /**
@@ -109,6 +137,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public void insertVertex(int index, Point2D vertex) {
+    	clearCache();
     	vertices.add(index, vertex);
     }
     
@@ -119,6 +148,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean removeVertex(Point2D vertex) {
+        clearCache();
         return vertices.remove(vertex);
     }
     
@@ -129,6 +159,7 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public Point2D removeVertex(int index) {
+    	clearCache();
     	return this.vertices.remove(index);
     }
 
@@ -137,15 +168,69 @@ implements CirculinearContinuousCurve2D {
      *  @since 0.9.3
      */
     public void setVertex(int index, Point2D position) {
+        clearCache();
         this.vertices.set(index, position);
     }
 
     public void clearVertices() {
+        clearCache();
         vertices.clear();
     }
 
     /**
-     * Returns the vertices of the polyline.
+     * Clears the properties computed from the vertices. Should be called by
+     * subclasses that modify the inner list of vertices.
+     * @since 0.11.3
+     */
+    protected void clearCache() {
+        this.cumulativeLengths = null;
+        this.boundingBox = null;
+        this.coordinates = null;
+    }
+
+    /**
+     * Returns the coordinates of the vertices, as an immutable sequence.
+     * The sequence is computed when needed, and is shared by successive
+     * calls until the vertices are modified. Algorithms iterating over
+     * vertices should use this sequence rather than the list of Point2D.
+     * @since 0.11.3
+     */
+    public CoordinateSequence2D coordinates() {
+    	PackedCoordinateSequence2D coords = this.coordinates;
+    	if (coords == null) {
+    		coords = new PackedCoordinateSequence2D(vertices);
+    		this.coordinates = coords;
+    	}
+    	return coords;
+    }
+
+    /**
+     * Returns the cumulative length of the curve at each vertex, the last
+     * element being the length of the curve. The array has
+     * edgeNumber()+1 elements.
+     */
+    private double[] cumulativeLengths() {
+        double[] lengths = this.cumulativeLengths;
+        if (lengths != null)
+            return lengths;
+
+        CoordinateSequence2D coords = coordinates();
+        int n = coords.size();
+        int nEdges = this.edgeNumber();
+        lengths = new double[nEdges + 1];
+        for (int i = 0; i < nEdges; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            lengths[i + 1] = lengths[i] + Math.hypot(
+            		coords.x(j) - coords.x(i), coords.y(j) - coords.y(i));
+        }
+        this.cumulativeLengths = lengths;
+        return lengths;
+    }
+
+    /**
+     * Returns the vertices of the polyline. The result is a pointer to the
+     * inner collection of vertices, that should be modified only through
+     * the methods of the curve.
      */
     public Collection<Point2D> vertices() {
         return vertices;
@@ -176,8 +261,10 @@ implements CirculinearContinuousCurve2D {
     	double minDist = Double.POSITIVE_INFINITY;
     	int index = -1;
     	
-    	for (int i = 0; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(point);
+    	CoordinateSequence2D coords = coordinates();
+    	double x = point.x(), y = point.y();
+    	for (int i = 0; i < coords.size(); i++) {
+    		double dist = Math.hypot(coords.x(i) - x, coords.y(i) - y);
     		if (dist < minDist) {
     			index = i;
     			minDist = dist;
@@ -186,7 +273,7 @@ implements CirculinearContinuousCurve2D {
     	
     	return index;
     }
-    
+
     // ===================================================================
     // Management of edges
 
@@ -224,67 +311,54 @@ implements CirculinearContinuousCurve2D {
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
 	 */
 	public double length() {
-		double sum = 0;
-		for(LineSegment2D edge : this.edges())
-			sum += edge.length();
-		return sum;
+		double[] lengths = cumulativeLengths();
+		return lengths[lengths.length - 1];
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
 	 */
 	public double length(double pos) {
-		//init
-		double length = 0;
+		double[] lengths = cumulativeLengths();
+		int nEdges = lengths.length - 1;
+		if (nEdges == 0)
+			return 0;
 		
-		// add length of each curve before current curve
+		// index of the edge containing the position
 		int index = (int) Math.floor(pos);
-		for(int i=0; i<index; i++)
-			length += this.edge(i).length();
+		index = Math.max(Math.min(index, nEdges - 1), 0);
 		
-		// add portion of length for last curve
-		if(index < vertices.size()-1) {
-			double pos2 = pos-index;
-			length += this.edge(index).length(pos2);
-		}
-		
-		// return computed length
-		return length;
+		// add portion of length for the edge
+		double edgeLength = lengths[index + 1] - lengths[index];
+		return lengths[index] + (pos - index) * edgeLength;
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
 	 */
 	public double position(double length) {
+		double[] lengths = cumulativeLengths();
+		int nEdges = lengths.length - 1;
+		if (nEdges == 0)
+			return 0;
+		if (length >= lengths[nEdges])
+			return nEdges;
 		
-		// position to compute
-		double pos = 0;
-		
-		// index of current curve
-		int index = 0;
-		
-		// cumulative length
-		double cumLength = this.length(this.t0());
-		
-		// iterate on all curves
-		for(LineSegment2D edge : edges()) {
-			// length of current curve
-			double edgeLength = edge.length();
-			
-			// add either 2, or fraction of length
-			if(cumLength + edgeLength < length) {
-				cumLength += edgeLength;
-				index ++;
-			} else {
-				// add local position on current curve
-				double pos2 = edge.position(length - cumLength);
-				pos = index + pos2;
-				break;
-			}			
+		// binary search of the first edge whose end is beyond the length
+		int lo = 0, hi = nEdges - 1;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (lengths[mid + 1] < length)
+				lo = mid + 1;
+			else
+				hi = mid;
 		}
 		
-		// return the result
-		return pos;
+		// add local position on current edge
+		double edgeLength = lengths[lo + 1] - lengths[lo];
+		if (edgeLength < Shape2D.ACCURACY)
+			return lo;
+		return lo + (length - lengths[lo]) / edgeLength;
 	}
 
 	/* (non-Javadoc)
@@ -427,24 +501,9 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#position(math.geom2d.Point2D)
      */
     public double position(Point2D point) {
-        int ind = 0;
-        double dist, minDist = Double.POSITIVE_INFINITY;
-        double x = point.x();
-        double y = point.y();
-
-        int i = 0;
-        LineSegment2D closest = null;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
-            if (dist < minDist) {
-                minDist = dist;
-                ind = i;
-                closest = edge;
-            }
-            i++;
-        }
-
-        return closest.position(point) + ind;
+        int ind = Polylines2D.closestEdgeIndex(coordinates(), isClosed(),
+        		point.x(), point.y());
+        return this.edge(ind).position(point) + ind;
     }
 
     /*
@@ -482,22 +541,11 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#position(math.geom2d.Point2D)
      */
     public double project(Point2D point) {
-        double dist, minDist = Double.POSITIVE_INFINITY;
-        double x = point.x();
-        double y = point.y();
-        double pos = Double.NaN;
-
-        int i = 0;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
-            if (dist < minDist) {
-                minDist = dist;
-                pos = edge.project(point)+i;
-            }
-            i++;
-        }
-
-        return pos;
+        int ind = Polylines2D.closestEdgeIndex(coordinates(), isClosed(),
+        		point.x(), point.y());
+        if (ind < 0)
+        	return Double.NaN;
+        return this.edge(ind).project(point) + ind;
     }
 
     
@@ -510,13 +558,7 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        double dist = Double.MAX_VALUE;
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
-        		continue;
-            dist = Math.min(dist, edge.distance(x, y));
-        }
-        return dist;
+        return Polylines2D.distance(coordinates(), isClosed(), x, y);
     }
 
     /*
@@ -544,25 +586,26 @@ implements CirculinearContinuousCurve2D {
      * Returns the bounding box of this linear curve.
      */
     public Box2D boundingBox() {
+        if (this.boundingBox != null)
+            return this.boundingBox;
+
         double xmin = Double.MAX_VALUE;
         double ymin = Double.MAX_VALUE;
-        double xmax = Double.MIN_VALUE;
-        double ymax = Double.MIN_VALUE;
+        double xmax = -Double.MAX_VALUE;
+        double ymax = -Double.MAX_VALUE;
 
-        Iterator<Point2D> iter = vertices.iterator();
-        Point2D point;
-        double x, y;
-        while (iter.hasNext()) {
-            point = iter.next();
-            x = point.x();
-            y = point.y();
+        CoordinateSequence2D coords = coordinates();
+        for (int i = 0; i < coords.size(); i++) {
+            double x = coords.x(i);
+            double y = coords.y(i);
             xmin = Math.min(xmin, x);
             xmax = Math.max(xmax, x);
             ymin = Math.min(ymin, y);
             ymax = Math.max(ymax, y);
         }
 
-        return new Box2D(xmin, xmax, ymin, ymax);
+        this.boundingBox = new Box2D(xmin, xmax, ymin, ymax);
+        return this.boundingBox;
     }
 
     /*
@@ -571,13 +614,7 @@ implements CirculinearContinuousCurve2D {
      * @see java.awt.Shape#contains(double, double)
      */
     public boolean contains(double x, double y) {
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
-        		continue;
-            if (edge.contains(x, y))
-                return true;
-        }
-        return false;
+        return Polylines2D.contains(coordinates(), isClosed(), x, y);
     }
 
     /*
@@ -594,8 +631,12 @@ implements CirculinearContinuousCurve2D {
      * which contains only instances of Polyline2D. If the polyline is not
      * clipped, the result is an instance of CurveSet2D which
      * contains 0 curves.
+     * Bounded boxes are processed by a BoxClipper2D.
      */
     public CurveSet2D<? extends LinearCurve2D> clip(Box2D box) {
+    	if (box.isBounded())
+    		return new BoxClipper2D(box).clip(this);
+    	
         // Clip the curve
         CurveSet2D<? extends Curve2D> set = Curves2D.clipCurve(this, box);
 
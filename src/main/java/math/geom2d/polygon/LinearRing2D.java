@@ -37,6 +37,7 @@ import math.geom2d.Shape2D;
 import math.geom2d.circulinear.*;
 import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.line.LineSegment2D;
+import math.geom2d.point.CoordinateSequence2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -93,6 +94,14 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
         super(xcoords, ycoords);
     }
 
+    /**
+     * Creates a new linear ring from a sequence of vertex coordinates.
+     * @since 0.11.3
+     */
+    public LinearRing2D(CoordinateSequence2D coords) {
+        super(coords);
+    }
+
     public LinearRing2D(Collection<? extends Point2D> points) {
         super(points);
     }
@@ -114,19 +123,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * @return the signed area of the polyline.
      */
 	public double area() {
-		// start from edge joining last and first vertices
-		Point2D prev = this.vertices.get(this.vertices.size() - 1);
-
-		// Iterate over all couples of adjacent vertices
-		double area = 0;
-		for (Point2D point : this.vertices) {
-			// add area of elementary parallelogram
-			area += prev.x() * point.y() - prev.y() * point.x();
-			prev = point;
-		}
-		
-		// divides by 2 to consider only elementary triangles
-		return area /= 2;
+		return Polygons2D.computeArea(this.coordinates());
 	}
 
     // ===================================================================
@@ -248,27 +245,26 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     }
 
     public boolean isInside(double x, double y) {
-        return this.isInside(new Point2D(x, y));
-    }
-
-    /*
-     * (non-Javadoc)
-     * 
-     * @see math.geom2d.OrientedCurve2D#isInside(Point2D)
-     */
-    public boolean isInside(Point2D point) {
         // TODO: choose convention for points on the boundary
-    	if (this.contains(point))
+    	if (this.contains(x, y))
     		return true;
     	
     	double area = this.area();
-    	int winding = Polygons2D.windingNumber(this.vertices, point);
+    	int winding = Polygons2D.windingNumber(this.coordinates(), x, y);
     	if (area > 0) {
     		return winding == 1;
     	} else {
     		return winding == 0;
     	}
+    }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see math.geom2d.OrientedCurve2D#isInside(Point2D)
+     */
+    public boolean isInside(Point2D point) {
+        return this.isInside(point.x(), point.y());
     }
 
     // ===================================================================
@@ -281,6 +277,15 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
         return true;
     }
 
+    /**
+     * Returns a copy of this ring, as it is its own linear approximation.
+     * @since 0.11.3
+     */
+    @Override
+    public LinearRing2D asPolyline(double maxDeviation) {
+        return new LinearRing2D(this.vertices);
+    }
+
     // ===================================================================
     // Methods inherited from interface Curve2D
 
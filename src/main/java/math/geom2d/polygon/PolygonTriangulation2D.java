@@ -0,0 +1,1050 @@
+/**
+ * File: 	PolygonTriangulation2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import math.geom2d.Point2D;
+import math.geom2d.UnboundedShape2DException;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.predicates.Predicates2D;
+
+/**
+ * Triangulation of a polygon with holes by ear clipping, stored as an array
+ * of vertex indices.<br>
+ *
+ * The algorithm follows the "earcut" approach: each hole is linked to the
+ * outer ring by a bridge, found with the algorithm of D. Eberly, resulting
+ * in a single ring that is triangulated by successively cutting its ears.
+ * For polygons with more than 80 vertices, the vertices are also sorted
+ * along a z-order curve, such that the vertices that could lie within an
+ * ear are found by scanning a small range of the curve. When no ear can be
+ * found, colinear and duplicate vertices are removed, small local
+ * self-intersections are cured, and the remaining ring is split in two by
+ * a diagonal.<br>
+ *
+ * The rings are stored as circular doubly linked lists within arrays of
+ * integers, and the vertices are given by a single array of interleaved
+ * coordinates. Triangles are stored in an array of vertex indices, three
+ * consecutive values for each triangle, in counter-clockwise order.<br>
+ *
+ * Degenerate rings, with less than three vertices or a null area, do not
+ * produce triangles. The result of self-intersecting rings is not
+ * guaranteed to cover the polygon exactly, but the algorithm always
+ * terminates.
+ *
+ * @see math.geom2d.point.DelaunayTriangulation2D
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PolygonTriangulation2D {
+
+	// ===================================================================
+	// Constants
+
+	/** Minimal number of vertices for using the z-order curve */
+	private final static int HASH_THRESHOLD = 80;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The interleaved coordinates of the vertices */
+	private final double[] coords;
+
+	/** The vertex indices of each triangle, three for each triangle */
+	private int[] triangles;
+
+	// nodes of the linked lists, referenced by their index, -1 for none
+	private int nodeCount = 0;
+	private int[] vertices;
+	private double[] xs, ys;
+	private int[] prev, next;
+	private int[] zs, prevZ, nextZ;
+	private boolean[] steiner;
+
+	// temporary variables used during triangulation
+	private int trianglesLen = 0;
+	private double minX, minY, invSize;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Computes the triangulation of a polygon given by an array of
+	 * interleaved coordinates. The vertices of the outer ring are given
+	 * first, followed by the vertices of each hole. The orientation of the
+	 * rings does not matter.
+	 *
+	 * @param coords the x and y coordinates of each vertex
+	 * @param holeIndices the index of the first vertex of each hole, in
+	 *            increasing order
+	 */
+	public PolygonTriangulation2D(double[] coords, int[] holeIndices) {
+		if (coords.length % 2 != 0)
+			throw new IllegalArgumentException(
+					"Coordinate array must have an even length");
+		this.coords = Arrays.copyOf(coords, coords.length);
+		int n = coords.length / 2;
+
+		int nHoles = holeIndices.length;
+		int[] starts = new int[nHoles];
+		int[] ends = new int[nHoles];
+		for (int i = 0; i < nHoles; i++) {
+			starts[i] = holeIndices[i];
+			ends[i] = i < nHoles - 1 ? holeIndices[i + 1] : n;
+			if (starts[i] < 0 || starts[i] > ends[i])
+				throw new IllegalArgumentException(
+						"Hole indices must be increasing and lower than "
+						+ "the number of vertices");
+		}
+
+		allocate(n, nHoles);
+		triangulate(0, nHoles > 0 ? starts[0] : n, starts, ends, nHoles);
+		this.triangles = Arrays.copyOf(triangles, trianglesLen);
+		releaseNodes();
+	}
+
+	/**
+	 * Computes the triangulation of a bounded polygon. Counter-clockwise
+	 * rings are considered as outer rings, and each clockwise ring is
+	 * considered as a hole of the smallest outer ring that contains it.
+	 * Vertex indices correspond to the vertices of the rings, in the order
+	 * of the contours of the polygon.
+	 *
+	 * @throws UnboundedShape2DException if the polygon is not bounded
+	 */
+	public PolygonTriangulation2D(Polygon2D polygon) {
+		if (!polygon.isBounded())
+			throw new UnboundedShape2DException(polygon);
+
+		Collection<? extends LinearRing2D> rings = polygon.contours();
+		int nRings = rings.size();
+		CoordinateSequence2D[] sequences = new CoordinateSequence2D[nRings];
+		int[] starts = new int[nRings + 1];
+		int r = 0;
+		for (LinearRing2D ring : rings) {
+			sequences[r] = ring.coordinates();
+			starts[r + 1] = starts[r] + sequences[r].size();
+			r++;
+		}
+
+		int n = starts[nRings];
+		this.coords = new double[2 * n];
+		double[] areas = new double[nRings];
+		for (r = 0; r < nRings; r++) {
+			CoordinateSequence2D seq = sequences[r];
+			int offset = 2 * starts[r];
+			for (int i = 0; i < seq.size(); i++) {
+				coords[offset + 2 * i] = seq.x(i);
+				coords[offset + 2 * i + 1] = seq.y(i);
+			}
+			areas[r] = Polygons2D.computeArea(seq);
+		}
+
+		// associate each hole with the smallest outer ring containing it
+		int[] parents = new int[nRings];
+		int[] holeNumbers = new int[nRings];
+		for (r = 0; r < nRings; r++) {
+			parents[r] = -1;
+			if (areas[r] >= 0 || sequences[r].size() == 0)
+				continue;
+			double x = sequences[r].x(0);
+			double y = sequences[r].y(0);
+			for (int o = 0; o < nRings; o++) {
+				if (areas[o] <= 0)
+					continue;
+				if (parents[r] >= 0 && areas[o] >= areas[parents[r]])
+					continue;
+				if (Polygons2D.windingNumber(sequences[o], x, y) != 0)
+					parents[r] = o;
+			}
+			if (parents[r] >= 0)
+				holeNumbers[parents[r]]++;
+		}
+
+		allocate(n, nRings);
+		for (int o = 0; o < nRings; o++) {
+			if (areas[o] <= 0)
+				continue;
+			int nHoles = holeNumbers[o];
+			int[] holeStarts = new int[nHoles];
+			int[] holeEnds = new int[nHoles];
+			int h = 0;
+			for (r = 0; r < nRings; r++) {
+				if (parents[r] == o) {
+					holeStarts[h] = starts[r];
+					holeEnds[h] = starts[r + 1];
+					h++;
+				}
+			}
+			triangulate(starts[o], starts[o + 1], holeStarts, holeEnds, nHoles);
+		}
+		this.triangles = Arrays.copyOf(triangles, trianglesLen);
+		releaseNodes();
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the number of vertices of the polygon, including the vertices
+	 * that do not belong to any triangle.
+	 */
+	public int vertexNumber() {
+		return coords.length / 2;
+	}
+
+	/**
+	 * Returns the i-th vertex of the polygon.
+	 */
+	public Point2D vertex(int i) {
+		return new Point2D(coords[2 * i], coords[2 * i + 1]);
+	}
+
+	public double x(int i) {
+		return coords[2 * i];
+	}
+
+	public double y(int i) {
+		return coords[2 * i + 1];
+	}
+
+	/**
+	 * Returns the interleaved coordinates of the vertices. The returned
+	 * array should not be modified.
+	 */
+	public double[] coordinates() {
+		return coords;
+	}
+
+	/**
+	 * Returns the number of triangles.
+	 */
+	public int triangleNumber() {
+		return triangles.length / 3;
+	}
+
+	/**
+	 * Returns the vertex indices of the triangles, three consecutive values
+	 * for each triangle, in counter-clockwise order. The returned array
+	 * should not be modified.
+	 */
+	public int[] triangles() {
+		return triangles;
+	}
+
+	/**
+	 * Returns the i-th triangle as a polygon.
+	 */
+	public SimplePolygon2D triangle(int i) {
+		int t = 3 * i;
+		return new SimplePolygon2D(vertex(triangles[t]),
+				vertex(triangles[t + 1]), vertex(triangles[t + 2]));
+	}
+
+	/**
+	 * Returns the sum of the areas of the triangles. For simple polygons,
+	 * the result equals the area of the polygon, up to rounding errors.
+	 */
+	public double area() {
+		double area = 0;
+		for (int t = 0; t < triangles.length; t += 3) {
+			int a = 2 * triangles[t];
+			int b = 2 * triangles[t + 1];
+			int c = 2 * triangles[t + 2];
+			area += (coords[b] - coords[a]) * (coords[c + 1] - coords[a + 1])
+					- (coords[b + 1] - coords[a + 1]) * (coords[c] - coords[a]);
+		}
+		return area / 2;
+	}
+
+
+	// ===================================================================
+	// Ear clipping
+
+	/**
+	 * Triangulates the polygon formed by an outer ring and several holes,
+	 * given by ranges of vertex indices.
+	 */
+	private void triangulate(int outerStart, int outerEnd, int[] holeStarts,
+			int[] holeEnds, int nHoles) {
+		int outerNode = linkedList(outerStart, outerEnd, true);
+		if (outerNode < 0 || next[outerNode] == prev[outerNode])
+			return;
+
+		if (nHoles > 0)
+			outerNode = eliminateHoles(outerNode, holeStarts, holeEnds, nHoles);
+
+		// bounds used for computing the z-order of the vertices
+		int count = outerEnd - outerStart;
+		for (int h = 0; h < nHoles; h++)
+			count += holeEnds[h] - holeStarts[h];
+		this.invSize = 0;
+		if (count > HASH_THRESHOLD) {
+			double maxX = Double.NEGATIVE_INFINITY;
+			double maxY = Double.NEGATIVE_INFINITY;
+			minX = Double.POSITIVE_INFINITY;
+			minY = Double.POSITIVE_INFINITY;
+			int p = outerNode;
+			do {
+				minX = Math.min(minX, xs[p]);
+				minY = Math.min(minY, ys[p]);
+				maxX = Math.max(maxX, xs[p]);
+				maxY = Math.max(maxY, ys[p]);
+				p = next[p];
+			} while (p != outerNode);
+
+			double size = Math.max(maxX - minX, maxY - minY);
+			invSize = size != 0 ? 32767 / size : 0;
+		}
+
+		earcutLinked(outerNode, 0);
+	}
+
+	/**
+	 * Main loop of ear slicing. The pass indicates which strategy to use
+	 * when no ear can be found.
+	 */
+	private void earcutLinked(int ear, int pass) {
+		if (ear < 0)
+			return;
+
+		// interlink polygon nodes in z-order
+		if (pass == 0 && invSize != 0)
+			indexCurve(ear);
+
+		int stop = ear;
+		while (prev[ear] != next[ear]) {
+			int p = prev[ear];
+			int n = next[ear];
+
+			if (invSize != 0 ? isEarHashed(ear) : isEar(ear)) {
+				addTriangle(vertices[p], vertices[ear], vertices[n]);
+				removeNode(ear);
+
+				// skipping the next vertex leads to less sliver triangles
+				ear = next[n];
+				stop = next[n];
+				continue;
+			}
+
+			ear = n;
+
+			// no more ear found in the whole remaining ring
+			if (ear == stop) {
+				if (pass == 0) {
+					// remove duplicate and colinear vertices
+					earcutLinked(filterPoints(ear, -1), 1);
+				} else if (pass == 1) {
+					// cure small self-intersections
+					ear = cureLocalIntersections(filterPoints(ear, -1));
+					earcutLinked(ear, 2);
+				} else if (pass == 2) {
+					// split the remaining ring into two
+					splitEarcut(ear);
+				}
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Checks if the node forms a valid ear with its neighbors, by scanning
+	 * all the other nodes of the ring.
+	 */
+	private boolean isEar(int ear) {
+		int a = prev[ear];
+		int c = next[ear];
+		if (orient(a, ear, c) <= 0)
+			return false;
+
+		double ax = xs[a], ay = ys[a];
+		double bx = xs[ear], by = ys[ear];
+		double cx = xs[c], cy = ys[c];
+
+		// bounding box of the triangle
+		double x0 = ax < bx ? (ax < cx ? ax : cx) : (bx < cx ? bx : cx);
+		double y0 = ay < by ? (ay < cy ? ay : cy) : (by < cy ? by : cy);
+		double x1 = ax > bx ? (ax > cx ? ax : cx) : (bx > cx ? bx : cx);
+		double y1 = ay > by ? (ay > cy ? ay : cy) : (by > cy ? by : cy);
+
+		int p = next[c];
+		while (p != a) {
+			double px = xs[p], py = ys[p];
+			if (px >= x0 && px <= x1 && py >= y0 && py <= y1
+					&& pointInTriangle(ax, ay, bx, by, cx, cy, px, py)
+					&& orient(prev[p], p, next[p]) <= 0)
+				return false;
+			p = next[p];
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the node forms a valid ear with its neighbors, by scanning
+	 * only the nodes whose z-order is within the range of the triangle.
+	 */
+	private boolean isEarHashed(int ear) {
+		int a = prev[ear];
+		int c = next[ear];
+		if (orient(a, ear, c) <= 0)
+			return false;
+
+		double ax = xs[a], ay = ys[a];
+		double bx = xs[ear], by = ys[ear];
+		double cx = xs[c], cy = ys[c];
+
+		// bounding box of the triangle
+		double x0 = ax < bx ? (ax < cx ? ax : cx) : (bx < cx ? bx : cx);
+		double y0 = ay < by ? (ay < cy ? ay : cy) : (by < cy ? by : cy);
+		double x1 = ax > bx ? (ax > cx ? ax : cx) : (bx > cx ? bx : cx);
+		double y1 = ay > by ? (ay > cy ? ay : cy) : (by > cy ? by : cy);
+
+		// z-order range of the bounding box
+		int minZ = zOrder(x0, y0);
+		int maxZ = zOrder(x1, y1);
+
+		// look for points inside the triangle in both directions
+		int p = prevZ[ear];
+		int n = nextZ[ear];
+		while (p >= 0 && zs[p] >= minZ && n >= 0 && zs[n] <= maxZ) {
+			if (p != a && p != c && intrudes(p, ax, ay, bx, by, cx, cy, x0, y0,
+					x1, y1))
+				return false;
+			p = prevZ[p];
+			if (n != a && n != c && intrudes(n, ax, ay, bx, by, cx, cy, x0, y0,
+					x1, y1))
+				return false;
+			n = nextZ[n];
+		}
+
+		// look for remaining points in decreasing z-order
+		while (p >= 0 && zs[p] >= minZ) {
+			if (p != a && p != c && intrudes(p, ax, ay, bx, by, cx, cy, x0, y0,
+					x1, y1))
+				return false;
+			p = prevZ[p];
+		}
+
+		// look for remaining points in increasing z-order
+		while (n >= 0 && zs[n] <= maxZ) {
+			if (n != a && n != c && intrudes(n, ax, ay, bx, by, cx, cy, x0, y0,
+					x1, y1))
+				return false;
+			n = nextZ[n];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks if the node is a reflex vertex located within the triangle
+	 * abc, which prevents the triangle to be an ear.
+	 */
+	private boolean intrudes(int p, double ax, double ay, double bx,
+			double by, double cx, double cy, double x0, double y0, double x1,
+			double y1) {
+		double px = xs[p], py = ys[p];
+		return px >= x0 && px <= x1 && py >= y0 && py <= y1
+				&& pointInTriangle(ax, ay, bx, by, cx, cy, px, py)
+				&& orient(prev[p], p, next[p]) <= 0;
+	}
+
+	/**
+	 * Removes the small self-intersections of the ring, by cutting the
+	 * triangles formed by two consecutive crossing edges.
+	 */
+	private int cureLocalIntersections(int start) {
+		int p = start;
+		do {
+			int a = prev[p];
+			int b = next[next[p]];
+
+			if (!equals(a, b) && intersects(a, p, next[p], b)
+					&& locallyInside(a, b) && locallyInside(b, a)) {
+				addTriangle(vertices[a], vertices[p], vertices[b]);
+
+				// remove the two nodes involved
+				removeNode(p);
+				removeNode(next[p]);
+
+				p = start = b;
+			}
+			p = next[p];
+		} while (p != start);
+
+		return filterPoints(p, -1);
+	}
+
+	/**
+	 * Splits the ring into two rings by a valid diagonal, and triangulates
+	 * each ring independently.
+	 */
+	private void splitEarcut(int start) {
+		int a = start;
+		do {
+			int b = next[next[a]];
+			while (b != prev[a]) {
+				if (vertices[a] != vertices[b] && isValidDiagonal(a, b)) {
+					int c = splitPolygon(a, b);
+
+					// remove colinear vertices around the cuts
+					a = filterPoints(a, next[a]);
+					c = filterPoints(c, next[c]);
+
+					earcutLinked(a, 0);
+					earcutLinked(c, 0);
+					return;
+				}
+				b = next[b];
+			}
+			a = next[a];
+		} while (a != start);
+	}
+
+	/**
+	 * Removes duplicate and colinear vertices of the ring, and returns the
+	 * last remaining node.
+	 */
+	private int filterPoints(int start, int end) {
+		if (start < 0)
+			return start;
+		if (end < 0)
+			end = start;
+
+		int p = start;
+		boolean again;
+		do {
+			again = false;
+			if (!steiner[p] && (equals(p, next[p])
+					|| orient(prev[p], p, next[p]) == 0)) {
+				removeNode(p);
+				p = end = prev[p];
+				if (p == next[p])
+					break;
+				again = true;
+			} else {
+				p = next[p];
+			}
+		} while (again || p != end);
+
+		return end;
+	}
+
+
+	// ===================================================================
+	// Elimination of holes
+
+	/**
+	 * Links every hole to the outer ring, producing a single ring.
+	 */
+	private int eliminateHoles(int outerNode, int[] holeStarts,
+			int[] holeEnds, int nHoles) {
+		Integer[] queue = new Integer[nHoles];
+		int nQueue = 0;
+		for (int h = 0; h < nHoles; h++) {
+			int list = linkedList(holeStarts[h], holeEnds[h], false);
+			if (list < 0)
+				continue;
+			if (list == next[list])
+				steiner[list] = true;
+			queue[nQueue++] = getLeftmost(list);
+		}
+
+		// process holes from left to right
+		Arrays.sort(queue, 0, nQueue, new Comparator<Integer>() {
+			public int compare(Integer node1, Integer node2) {
+				return Double.compare(xs[node1], xs[node2]);
+			}
+		});
+		for (int h = 0; h < nQueue; h++)
+			outerNode = eliminateHole(queue[h], outerNode);
+
+		return outerNode;
+	}
+
+	/**
+	 * Finds a bridge between the hole and the outer ring, and links them.
+	 */
+	private int eliminateHole(int hole, int outerNode) {
+		int bridge = findHoleBridge(hole, outerNode);
+		if (bridge < 0)
+			return outerNode;
+
+		int bridgeReverse = splitPolygon(bridge, hole);
+
+		// remove colinear vertices around the cuts
+		filterPoints(bridgeReverse, next[bridgeReverse]);
+		return filterPoints(bridge, next[bridge]);
+	}
+
+	/**
+	 * Finds a vertex of the outer ring visible from the leftmost vertex of
+	 * the hole, using the algorithm of D. Eberly.
+	 */
+	private int findHoleBridge(int hole, int outerNode) {
+		double hx = xs[hole];
+		double hy = ys[hole];
+		double qx = Double.NEGATIVE_INFINITY;
+		int m = -1;
+
+		// find the edge intersected by a ray from the hole point to the left.
+		// The extremity with lower x is a potential connection point.
+		int p = outerNode;
+		do {
+			int pn = next[p];
+			if (hy <= ys[p] && hy >= ys[pn] && ys[pn] != ys[p]) {
+				double x = xs[p] + (hy - ys[p]) * (xs[pn] - xs[p])
+						/ (ys[pn] - ys[p]);
+				if (x <= hx && x > qx) {
+					qx = x;
+					m = xs[p] < xs[pn] ? p : pn;
+					// hole touches the outer edge
+					if (x == hx)
+						return m;
+				}
+			}
+			p = pn;
+		} while (p != outerNode);
+
+		if (m < 0)
+			return -1;
+
+		// look for vertices within the triangle formed by the hole point,
+		// the intersection and the edge extremity. If there are some, choose
+		// the one with the minimal angle with the ray.
+		int stop = m;
+		double mx = xs[m];
+		double my = ys[m];
+		double tanMin = Double.POSITIVE_INFINITY;
+
+		p = m;
+		do {
+			double px = xs[p], py = ys[p];
+			if (hx >= px && px >= mx && hx != px
+					&& pointInTriangle(hy < my ? hx : qx, hy, mx, my,
+							hy < my ? qx : hx, hy, px, py)) {
+				double tan = Math.abs(hy - py) / (hx - px);
+				if (locallyInside(p, hole) && (tan < tanMin
+						|| (tan == tanMin && (px > xs[m]
+								|| (px == xs[m] && sectorContainsSector(m, p)))))) {
+					m = p;
+					tanMin = tan;
+				}
+			}
+			p = next[p];
+		} while (p != stop);
+
+		return m;
+	}
+
+	/**
+	 * Checks if the sector at node m contains the sector at node p, both
+	 * nodes having the same coordinates.
+	 */
+	private boolean sectorContainsSector(int m, int p) {
+		return orient(prev[m], m, prev[p]) > 0
+				&& orient(next[p], m, next[m]) > 0;
+	}
+
+	/**
+	 * Returns the leftmost node of a ring.
+	 */
+	private int getLeftmost(int start) {
+		int p = start;
+		int leftmost = start;
+		do {
+			if (xs[p] < xs[leftmost]
+					|| (xs[p] == xs[leftmost] && ys[p] < ys[leftmost]))
+				leftmost = p;
+			p = next[p];
+		} while (p != start);
+		return leftmost;
+	}
+
+
+	// ===================================================================
+	// Diagonals
+
+	/**
+	 * Checks if the diagonal between two nodes lies within the polygon.
+	 */
+	private boolean isValidDiagonal(int a, int b) {
+		return vertices[next[a]] != vertices[b]
+				&& vertices[prev[a]] != vertices[b]
+				&& !intersectsPolygon(a, b)
+				&& (locallyInside(a, b) && locallyInside(b, a)
+						&& middleInside(a, b)
+						// does not create opposite-facing sectors
+						&& (orient(prev[a], a, prev[b]) != 0
+								|| orient(a, prev[b], b) != 0)
+						// special zero-length case
+						|| equals(a, b) && orient(prev[a], a, next[a]) < 0
+						&& orient(prev[b], b, next[b]) < 0);
+	}
+
+	/**
+	 * Checks if the segments [p1 q1] and [p2 q2] intersect.
+	 */
+	private boolean intersects(int p1, int q1, int p2, int q2) {
+		int o1 = orientation(p1, q1, p2);
+		int o2 = orientation(p1, q1, q2);
+		int o3 = orientation(p2, q2, p1);
+		int o4 = orientation(p2, q2, q1);
+
+		if (o1 != o2 && o3 != o4)
+			return true;
+
+		// colinear cases
+		if (o1 == 0 && onSegment(p1, p2, q1))
+			return true;
+		if (o2 == 0 && onSegment(p1, q2, q1))
+			return true;
+		if (o3 == 0 && onSegment(p2, p1, q2))
+			return true;
+		if (o4 == 0 && onSegment(p2, q1, q2))
+			return true;
+		return false;
+	}
+
+	/**
+	 * Checks if the point q, colinear with p and r, lies on the segment
+	 * [p r].
+	 */
+	private boolean onSegment(int p, int q, int r) {
+		return xs[q] <= Math.max(xs[p], xs[r]) && xs[q] >= Math.min(xs[p], xs[r])
+				&& ys[q] <= Math.max(ys[p], ys[r])
+				&& ys[q] >= Math.min(ys[p], ys[r]);
+	}
+
+	/**
+	 * Checks if the diagonal [a b] intersects an edge of the ring.
+	 */
+	private boolean intersectsPolygon(int a, int b) {
+		int va = vertices[a];
+		int vb = vertices[b];
+		int p = a;
+		do {
+			int pn = next[p];
+			if (vertices[p] != va && vertices[pn] != va && vertices[p] != vb
+					&& vertices[pn] != vb && intersects(p, pn, a, b))
+				return true;
+			p = pn;
+		} while (p != a);
+		return false;
+	}
+
+	/**
+	 * Checks if the diagonal [a b] is locally inside the polygon, near the
+	 * node a.
+	 */
+	private boolean locallyInside(int a, int b) {
+		if (orient(prev[a], a, next[a]) > 0)
+			return orient(a, b, next[a]) <= 0 && orient(a, prev[a], b) <= 0;
+		return orient(a, b, prev[a]) > 0 || orient(a, next[a], b) > 0;
+	}
+
+	/**
+	 * Checks if the middle of the diagonal [a b] is inside the polygon.
+	 */
+	private boolean middleInside(int a, int b) {
+		double px = (xs[a] + xs[b]) / 2;
+		double py = (ys[a] + ys[b]) / 2;
+		boolean inside = false;
+		int p = a;
+		do {
+			int pn = next[p];
+			if (((ys[p] > py) != (ys[pn] > py)) && ys[pn] != ys[p]
+					&& (px < (xs[pn] - xs[p]) * (py - ys[p]) / (ys[pn] - ys[p])
+							+ xs[p]))
+				inside = !inside;
+			p = pn;
+		} while (p != a);
+		return inside;
+	}
+
+	/**
+	 * Links two nodes with a bridge. If the nodes belong to the same ring,
+	 * the ring is split in two. If they belong to different rings, the
+	 * rings are merged. Returns the copy of node b.
+	 */
+	private int splitPolygon(int a, int b) {
+		int a2 = newNode(vertices[a], xs[a], ys[a]);
+		int b2 = newNode(vertices[b], xs[b], ys[b]);
+		int an = next[a];
+		int bp = prev[b];
+
+		next[a] = b;
+		prev[b] = a;
+
+		next[a2] = an;
+		prev[an] = a2;
+
+		next[b2] = a2;
+		prev[a2] = b2;
+
+		next[bp] = b2;
+		prev[b2] = bp;
+
+		return b2;
+	}
+
+
+	// ===================================================================
+	// Z-order curve
+
+	/**
+	 * Links the nodes of the ring in z-order.
+	 */
+	private void indexCurve(int start) {
+		int p = start;
+		do {
+			zs[p] = zOrder(xs[p], ys[p]);
+			prevZ[p] = prev[p];
+			nextZ[p] = next[p];
+			p = next[p];
+		} while (p != start);
+
+		nextZ[prevZ[p]] = -1;
+		prevZ[p] = -1;
+
+		sortLinked(p);
+	}
+
+	/**
+	 * Sorts the list linked by z-order, using the merge sort of S. Tatham.
+	 */
+	private void sortLinked(int list) {
+		int inSize = 1;
+		int numMerges;
+		do {
+			int p = list;
+			list = -1;
+			int tail = -1;
+			numMerges = 0;
+
+			while (p >= 0) {
+				numMerges++;
+				int q = p;
+				int pSize = 0;
+				for (int i = 0; i < inSize; i++) {
+					pSize++;
+					q = nextZ[q];
+					if (q < 0)
+						break;
+				}
+				int qSize = inSize;
+
+				while (pSize > 0 || (qSize > 0 && q >= 0)) {
+					int e;
+					if (pSize != 0 && (qSize == 0 || q < 0 || zs[p] <= zs[q])) {
+						e = p;
+						p = nextZ[p];
+						pSize--;
+					} else {
+						e = q;
+						q = nextZ[q];
+						qSize--;
+					}
+
+					if (tail >= 0)
+						nextZ[tail] = e;
+					else
+						list = e;
+
+					prevZ[e] = tail;
+					tail = e;
+				}
+
+				p = q;
+			}
+
+			nextZ[tail] = -1;
+			inSize *= 2;
+		} while (numMerges > 1);
+	}
+
+	/**
+	 * Computes the z-order of a point, from its coordinates transformed into
+	 * 15-bits integers.
+	 */
+	private int zOrder(double x, double y) {
+		int ix = (int) ((x - minX) * invSize);
+		int iy = (int) ((y - minY) * invSize);
+
+		ix = (ix | (ix << 8)) & 0x00FF00FF;
+		ix = (ix | (ix << 4)) & 0x0F0F0F0F;
+		ix = (ix | (ix << 2)) & 0x33333333;
+		ix = (ix | (ix << 1)) & 0x55555555;
+
+		iy = (iy | (iy << 8)) & 0x00FF00FF;
+		iy = (iy | (iy << 4)) & 0x0F0F0F0F;
+		iy = (iy | (iy << 2)) & 0x33333333;
+		iy = (iy | (iy << 1)) & 0x55555555;
+
+		return ix | (iy << 1);
+	}
+
+
+	// ===================================================================
+	// Management of linked lists
+
+	/**
+	 * Allocates the node arrays, for the given number of vertices and of
+	 * holes. Each hole bridge creates two nodes.
+	 */
+	private void allocate(int n, int nHoles) {
+		int capacity = n + 2 * nHoles + 8;
+		this.vertices = new int[capacity];
+		this.xs = new double[capacity];
+		this.ys = new double[capacity];
+		this.prev = new int[capacity];
+		this.next = new int[capacity];
+		this.zs = new int[capacity];
+		this.prevZ = new int[capacity];
+		this.nextZ = new int[capacity];
+		this.steiner = new boolean[capacity];
+		this.triangles = new int[3 * Math.max(n + 2 * nHoles, 1)];
+	}
+
+	/**
+	 * Releases the memory used by the nodes, once the triangulation is
+	 * computed.
+	 */
+	private void releaseNodes() {
+		this.vertices = null;
+		this.xs = this.ys = null;
+		this.prev = this.next = null;
+		this.zs = this.prevZ = this.nextZ = null;
+		this.steiner = null;
+	}
+
+	private int newNode(int vertex, double x, double y) {
+		if (nodeCount == vertices.length) {
+			int capacity = 2 * nodeCount;
+			vertices = Arrays.copyOf(vertices, capacity);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+			prev = Arrays.copyOf(prev, capacity);
+			next = Arrays.copyOf(next, capacity);
+			zs = Arrays.copyOf(zs, capacity);
+			prevZ = Arrays.copyOf(prevZ, capacity);
+			nextZ = Arrays.copyOf(nextZ, capacity);
+			steiner = Arrays.copyOf(steiner, capacity);
+		}
+		int p = nodeCount++;
+		vertices[p] = vertex;
+		xs[p] = x;
+		ys[p] = y;
+		prevZ[p] = -1;
+		nextZ[p] = -1;
+		return p;
+	}
+
+	/**
+	 * Creates a circular linked list from a range of vertices, with the
+	 * specified orientation. Returns the last node, or -1 if the range is
+	 * empty.
+	 */
+	private int linkedList(int start, int end, boolean ccw) {
+		// signed area of the ring, positive if counter-clockwise
+		double area = 0;
+		for (int i = start, j = end - 1; i < end; j = i++)
+			area += (coords[2 * j] - coords[2 * i])
+					* (coords[2 * i + 1] + coords[2 * j + 1]);
+
+		int last = -1;
+		if (ccw == (area > 0)) {
+			for (int i = start; i < end; i++)
+				last = insertNode(i, last);
+		} else {
+			for (int i = end - 1; i >= start; i--)
+				last = insertNode(i, last);
+		}
+
+		if (last >= 0 && equals(last, next[last])) {
+			removeNode(last);
+			last = next[last];
+		}
+		return last;
+	}
+
+	/**
+	 * Creates a node for the vertex, and inserts it after the last node.
+	 */
+	private int insertNode(int i, int last) {
+		int p = newNode(i, coords[2 * i], coords[2 * i + 1]);
+		if (last < 0) {
+			prev[p] = p;
+			next[p] = p;
+		} else {
+			next[p] = next[last];
+			prev[p] = last;
+			prev[next[last]] = p;
+			next[last] = p;
+		}
+		return p;
+	}
+
+	private void removeNode(int p) {
+		next[prev[p]] = next[p];
+		prev[next[p]] = prev[p];
+
+		if (prevZ[p] >= 0)
+			nextZ[prevZ[p]] = nextZ[p];
+		if (nextZ[p] >= 0)
+			prevZ[nextZ[p]] = prevZ[p];
+	}
+
+	private void addTriangle(int a, int b, int c) {
+		if (trianglesLen + 3 > triangles.length)
+			triangles = Arrays.copyOf(triangles, 2 * triangles.length);
+		triangles[trianglesLen++] = a;
+		triangles[trianglesLen++] = b;
+		triangles[trianglesLen++] = c;
+	}
+
+
+	// ===================================================================
+	// Utility methods
+
+	/**
+	 * Returns a positive value if the nodes are in counter-clockwise order,
+	 * a negative value if they are in clockwise order, and zero if they are
+	 * colinear.
+	 */
+	private double orient(int p, int q, int r) {
+		return Predicates2D.orient2d(xs[p], ys[p], xs[q], ys[q], xs[r], ys[r]);
+	}
+
+	private int orientation(int p, int q, int r) {
+		return Predicates2D.orientation(xs[p], ys[p], xs[q], ys[q], xs[r],
+				ys[r]);
+	}
+
+	private boolean equals(int p, int q) {
+		return xs[p] == xs[q] && ys[p] == ys[q];
+	}
+
+	/**
+	 * Checks if the point p lies within the counter-clockwise triangle abc,
+	 * boundary included.
+	 */
+	private static boolean pointInTriangle(double ax, double ay, double bx,
+			double by, double cx, double cy, double px, double py) {
+		return (cx - px) * (ay - py) >= (ax - px) * (cy - py)
+				&& (ax - px) * (by - py) >= (bx - px) * (ay - py)
+				&& (bx - px) * (cy - py) >= (cx - px) * (by - py);
+	}
+}
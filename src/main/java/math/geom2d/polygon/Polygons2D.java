@@ -6,24 +6,24 @@ package math.geom2d.polygon;
 
 import static java.lang.Math.*;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.circulinear.CirculinearDomain2D;
 import math.geom2d.circulinear.buffer.BufferCalculator;
-import math.geom2d.domain.Boundary2D;
-import math.geom2d.domain.Boundaries2D;
-import math.geom2d.domain.Contour2D;
-import math.geom2d.domain.ContourArray2D;
-import math.geom2d.point.PointSets2D;
-import math.geom2d.polygon.convhull.JarvisMarch2D;
+import math.geom2d.circulinear.buffer.LinearBufferCalculator;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.polygon.clip.BoxClipper2D;
+import math.geom2d.polygon.clip.PolygonBooleanEngine;
+import math.geom2d.polygon.clip.SweepBooleanEngine;
+import math.geom2d.polygon.convhull.MonotoneChain2D;
+import math.geom2d.predicates.Predicates2D;
+import math.utils.ParallelUtils;
 
-import com.seisw.util.geom.Poly;
-import com.seisw.util.geom.PolyDefault;
-import com.seisw.util.geom.PolySimple;
 
 /**
  * Several utility functions for working on polygons, including polygon
@@ -33,6 +33,12 @@ import com.seisw.util.geom.PolySimple;
  */
 public final class Polygons2D {
 
+	/**
+	 * The engine used for boolean operations on polygons.
+	 */
+	private static volatile PolygonBooleanEngine booleanEngine = 
+		new SweepBooleanEngine();
+
 	/**
 	 * Creates a new polygon representing a rectangle with edges parallel to
 	 * the main directions, and having the two specified opposite corners.
@@ -132,8 +138,7 @@ public final class Polygons2D {
 	public final static Point2D computeCentroid(Polygon2D polygon) {
 		// process case of simple polygon 
     	if (polygon instanceof SimplePolygon2D) {
-    		LinearRing2D ring = ((SimplePolygon2D) polygon).getRing();
-    		return computeCentroid(ring);
+    		return computeCentroid(((SimplePolygon2D) polygon).coordinates());
     	}
     	
     	double xc = 0;
@@ -160,35 +165,41 @@ public final class Polygons2D {
 	 * @since 0.9.1
 	 */
 	public final static Point2D computeCentroid(LinearRing2D ring) {
+		return computeCentroid(ring.coordinates());
+	}
+
+	/**
+	 * Computes the centroid of the polygon whose boundary is given by a
+	 * sequence of coordinates, the last vertex being connected to the first
+	 * one.
+	 * @since 0.11.3
+	 */
+	public final static Point2D computeCentroid(CoordinateSequence2D coords) {
         double xc = 0;
         double yc = 0;
-        
-        double x, y;
-        double xp, yp;
-        double tmp = 0;
+        double area = 0;
         
         // number of vertices
-        int n = ring.vertexNumber();
+        int n = coords.size();
        
         // initialize with the last vertex
-        Point2D prev = ring.vertex(n-1);
-        xp = prev.x();
-        yp = prev.y();
+        double xp = coords.x(n - 1);
+        double yp = coords.y(n - 1);
 
         // iterate on vertices
-        for (Point2D point : ring.vertices()) {
-        	x = point.x();
-        	y = point.y();
-        	tmp = xp * y - yp * x;
+        for (int i = 0; i < n; i++) {
+        	double x = coords.x(i);
+        	double y = coords.y(i);
+        	double tmp = xp * y - yp * x;
             xc += (x + xp) * tmp;
             yc += (y + yp) * tmp;
+            area += tmp;
             
-            prev = point;
             xp = x;
             yp = y;
         }
         
-        double denom = computeArea(ring) * 6;
+        double denom = area * 3;
         return new Point2D(xc / denom, yc / denom);
 	}
 
@@ -222,21 +233,35 @@ public final class Polygons2D {
 	 * @since 0.9.1
      */
     public final static double computeArea(LinearRing2D ring) {
-        double area = 0;
+        return computeArea(ring.coordinates());
+    }
+
+    /**
+     * Computes the signed area of the polygon whose boundary is given by a
+     * sequence of coordinates, the last vertex being connected to the first
+     * one. The area of an empty sequence is zero.
+	 * @since 0.11.3
+     */
+    public final static double computeArea(CoordinateSequence2D coords) {
+        int n = coords.size();
+        if (n == 0)
+        	return 0;
         
-        // number of vertices
-        int n = ring.vertexNumber();
-       
         // initialize with the last vertex
-        Point2D prev = ring.vertex(n-1);
+        double xp = coords.x(n - 1);
+        double yp = coords.y(n - 1);
         
         // iterate on edges
-        for (Point2D point : ring.vertices()) {
-            area += prev.x() * point.y() - prev.y() * point.x();
-            prev = point;
+        double area = 0;
+        for (int i = 0; i < n; i++) {
+        	double x = coords.x(i);
+        	double y = coords.y(i);
+            area += xp * y - yp * x;
+            xp = x;
+            yp = y;
         }
         
-        return area /= 2;
+        return area / 2;
     }
 
 
@@ -285,6 +310,47 @@ public final class Polygons2D {
         return wn;
     }
 
+    /**
+     * Computes the winding number of the polygon whose boundary is given by
+     * a sequence of coordinates, around the point (x,y). The last vertex is
+     * connected to the first one.
+     * @param coords the coordinates of the polygon vertices
+     * @param x the x-coordinate of the reference point
+     * @param y the y-coordinate of the reference point
+     * @return the number of windings of the curve around the point
+     * @since 0.11.3
+     */
+    public final static int windingNumber(CoordinateSequence2D coords,
+            double x, double y) {
+        int n = coords.size();
+        if (n == 0)
+        	return 0;
+        int wn = 0;
+
+        // Iterate on couple of vertices, starting from couple (last,first)
+        double x1 = coords.x(n - 1);
+        double y1 = coords.y(n - 1);
+        for (int i = 0; i < n; i++) {
+        	double x2 = coords.x(i);
+        	double y2 = coords.y(i);
+            
+        	// position of the point with respect to the edge
+        	double side = Predicates2D.orient2d(x1, y1, x2, y2, x, y);
+			if (y1 <= y) {
+				if (y2 > y && side > 0) // an upward crossing
+					wn++;
+			} else {
+				if (y2 <= y && side < 0) // a downward crossing
+					wn--;
+			}
+
+            x1 = x2;
+            y1 = y2;
+        }
+
+        return wn;
+    }
+
     /**
      * Tests if a point is Left|On|Right of an infinite line.
      * Input:  three points P0, P1, and P2
@@ -294,22 +360,32 @@ public final class Polygons2D {
      * See: the January 2001 Algorithm "Area of 2D and 3D Triangles and Polygons"
      */
     private final static int isLeft(Point2D p1, Point2D p2, Point2D pt) {
-    	double x = p1.x();
-    	double y = p1.y();
-    	return (int) Math.signum(
-    			(p2.x() - x) * (pt.y() - y) - (pt.x() - x) * (p2.y() - y));
+    	return Predicates2D.orientation(p1.x(), p1.y(), p2.x(), p2.y(),
+    			pt.x(), pt.y());
     }
     
 	/**
-	 * Returns the convex hull of the given set of points. Uses the Jarvis March
-	 * algorithm.
+	 * Returns the convex hull of the given set of points. Uses the monotone
+	 * chain algorithm, processing large point sets in parallel.
 	 * 
 	 * @param points
 	 *            a collection of points
 	 * @return the convex hull of the set of points
 	 */
     public final static Polygon2D convexHull(Collection<? extends Point2D> points) {
-    	return new JarvisMarch2D().convexHull(points);
+    	return new MonotoneChain2D(true).convexHull(points);
+    }
+
+	/**
+	 * Computes a triangulation of the given polygon, by ear clipping. The
+	 * polygon may contain holes.
+	 * 
+	 * @param polygon
+	 *            a bounded polygon
+	 * @return the triangulation of the polygon
+	 */
+    public final static PolygonTriangulation2D triangulate(Polygon2D polygon) {
+    	return new PolygonTriangulation2D(polygon);
     }
 
     /**
@@ -326,161 +402,250 @@ public final class Polygons2D {
         return bc.computeBuffer(polygon.boundary(), dist);
     }
     
+    /**
+     * Computes the buffer at a distance d of the input polygon, with round
+     * joins approximated by polylines. The result is a polygon whose
+     * vertices are within maxDeviation of the exact buffer boundary.
+     * Negative distances erode the polygon.
+     * @see LinearBufferCalculator
+     * @since 0.11.3
+     */
+    public final static Polygon2D createBuffer(Polygon2D polygon, 
+    		double dist, double maxDeviation) {
+    	return new LinearBufferCalculator(maxDeviation).computeBuffer(polygon,
+    			dist);
+    }
+    
     /**
      * Clips a polygon by a box. The result is a new polygon, that can be
      * multiple.
      * @see Polygon2D#clip(Box2D)
+     * @see BoxClipper2D
      */
     public final static Polygon2D clipPolygon(Polygon2D polygon, Box2D box) {
-    	// Clip the boundary using generic method
-    	Boundary2D boundary = polygon.boundary();
-        ContourArray2D<Contour2D> contours = 
-            Boundaries2D.clipBoundary(boundary, box);
-
-        // convert boundaries to linear rings
-        ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
-        for(Contour2D contour : contours)
-        	rings.add(convertContourToLinearRing(contour));
-        
-        // Create a polygon, either simple or multiple, depending on the ring
-        // number
-        if (rings.size() == 1)
-        	return SimplePolygon2D.create(rings.get(0).vertices());
-        else
-        	return MultiPolygon2D.create(rings);
+    	return new BoxClipper2D(box).clip(polygon);
     }
     
-    private final static LinearRing2D convertContourToLinearRing(
-    		Contour2D contour) {
-    	// process the basic case of simple class cast
-    	if (contour instanceof LinearRing2D)
-    		return (LinearRing2D) contour;
-    	
-    	// extract all vertices of the contour
-    	List<Point2D> vertices = new ArrayList<Point2D>();
-    	for(Point2D v : contour.singularPoints())
-    		vertices.add(v);
-
-    	// remove adjacent multiple vertices
-    	vertices = PointSets2D.filterMultipleVertices(vertices, true);
- 	
-    	// Create new ring with vertices
-    	return LinearRing2D.create(vertices);
+    /**
+     * Clips a polygon by each tile of a regular grid of nx*ny tiles covering
+     * the box. The polygon of the tile in column i and row j is at index
+     * j*nx+i of the result.
+     * @see BoxClipper2D#clip(Polygon2D, int, int)
+     * @since 0.11.3
+     */
+    public final static Polygon2D[] clipPolygon(Polygon2D polygon, Box2D box,
+    		int nx, int ny) {
+    	return new BoxClipper2D(box).clip(polygon, nx, ny);
     }
     
     /**
-     * Computes the union of the two polygons. Uses the GPCJ library, developed by
-     * Solution Engineering, Inc.
+     * Returns the engine used for computing boolean operations on polygons.
+     * @since 0.11.3
+     */
+    public final static PolygonBooleanEngine getBooleanEngine() {
+    	return booleanEngine;
+    }
+    
+    /**
+     * Changes the engine used for computing boolean operations on polygons,
+     * for all subsequent calls to the union, intersection, difference and
+     * exclusiveOr methods.
+     * @since 0.11.3
+     */
+    public final static void setBooleanEngine(PolygonBooleanEngine engine) {
+    	if (engine == null)
+    		throw new NullPointerException("Boolean engine must not be null");
+    	booleanEngine = engine;
+    }
+    
+    /**
+     * Computes the union of the two polygons, using the current boolean
+     * engine.
+     * @see #getBooleanEngine()
      */
     public final static Polygon2D union(Polygon2D polygon1, 
             Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.union(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return booleanEngine.union(polygon1, polygon2);
     }
     
     /**
-     * Computes the intersection of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the union of a collection of polygons, using the current
+     * boolean engine. Polygons are sorted along a space-filling curve, such
+     * that neighbor polygons are close to each other, and are merged by
+     * pairs of increasing size, in a tree-like fashion. This keeps the size
+     * of intermediate results small, compared to merging the polygons one
+     * after the other. Independent sub-trees are processed in parallel using
+     * the default fork-join pool.<br>
+     * If the collection is empty, the result is an empty MultiPolygon2D. If
+     * it contains a single polygon, the result is a new polygon, normalized
+     * by the boolean engine like the result of any union.
+     * @since 0.11.3
      */
-    public final static Polygon2D intersection(Polygon2D polygon1, 
-            Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.intersection(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    public final static Polygon2D union(
+    		Collection<? extends Polygon2D> polygons) {
+    	return union(polygons, ParallelUtils.defaultPool());
     }
     
     /**
-     * Computes the exclusive XOR of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the union of a collection of polygons, using the current
+     * boolean engine, and the specified fork-join pool for processing
+     * independent sub-trees in parallel.
+     * @see #union(Collection)
+     * @since 0.11.3
      */
-    public final static Polygon2D exclusiveOr(Polygon2D polygon1, 
-    		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
+    public final static Polygon2D union(
+    		Collection<? extends Polygon2D> polygons, ForkJoinPool pool) {
+    	int n = polygons.size();
+    	if (n == 0)
+    		return new MultiPolygon2D();
+    	if (n == 1)
+    		return booleanEngine.union(polygons.iterator().next(),
+    				new MultiPolygon2D());
     	
-    	// compute union
-    	Poly result = poly1.xor(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	Polygon2D[] array = sortBySpatialKey(polygons);
+    	UnionTask task = new UnionTask(booleanEngine, array, 0, n);
+    	if (n <= UNION_THRESHOLD)
+    		return task.compute();
+    	return pool.invoke(task);
     }
     
     /**
-     * Computes the Difference of the two polygons. Uses the modified GPCJ library, 
-     * developed by Solution Engineering, Inc.
-     * @since 0.9.1
+     * The number of polygons below which the union of a collection of
+     * polygons is computed sequentially.
      */
-    public final static Polygon2D difference(Polygon2D polygon1, 
-    		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
+    private final static int UNION_THRESHOLD = 8;
+    
+    /**
+     * Computes the union of the polygons within a range of an array, by
+     * computing the union of each half of the range.
+     */
+    private static class UnionTask extends RecursiveTask<Polygon2D> {
+    	private static final long serialVersionUID = 1L;
+    	
+    	private PolygonBooleanEngine engine;
+    	private Polygon2D[] polygons;
+    	private int from;
+    	private int to;
     	
-    	// compute union
-    	Poly result = poly1.difference(poly2);
+    	public UnionTask(PolygonBooleanEngine engine, Polygon2D[] polygons,
+    			int from, int to) {
+    		this.engine = engine;
+    		this.polygons = polygons;
+    		this.from = from;
+    		this.to = to;
+    	}
     	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+		@Override
+		protected Polygon2D compute() {
+			if (to - from <= UNION_THRESHOLD)
+				return union(from, to);
+
+			int mid = (from + to) >>> 1;
+			UnionTask left = new UnionTask(engine, polygons, from, mid);
+			UnionTask right = new UnionTask(engine, polygons, mid, to);
+			left.fork();
+			Polygon2D rightResult = right.compute();
+			return engine.union(left.join(), rightResult);
+		}
+		
+		private Polygon2D union(int from, int to) {
+			if (to - from == 1)
+				return polygons[from];
+			int mid = (from + to) >>> 1;
+			return engine.union(union(from, mid), union(mid, to));
+		}
     }
     
-    private final static Poly convertToGpcjPolygon(Polygon2D polygon) {
-    	PolyDefault result = new PolyDefault();
-    	for (LinearRing2D ring : polygon.contours())
-    		result.add(convertToGpcjSimplePolygon(ring));
+    /**
+     * Returns the polygons sorted by the Morton code of the center of their
+     * bounding box.
+     */
+    private final static Polygon2D[] sortBySpatialKey(
+    		Collection<? extends Polygon2D> polygons) {
+    	int n = polygons.size();
+    	Polygon2D[] array = new Polygon2D[n];
+    	double[] xs = new double[n];
+    	double[] ys = new double[n];
+    	double xmin = Double.POSITIVE_INFINITY, xmax = Double.NEGATIVE_INFINITY;
+    	double ymin = Double.POSITIVE_INFINITY, ymax = Double.NEGATIVE_INFINITY;
+    	int i = 0;
+    	for (Polygon2D polygon : polygons) {
+    		Box2D box = polygon.boundingBox();
+    		double x = (box.getMinX() + box.getMaxX()) / 2;
+    		double y = (box.getMinY() + box.getMaxY()) / 2;
+    		if (Double.isNaN(x) || Double.isInfinite(x))
+    			x = 0;
+    		if (Double.isNaN(y) || Double.isInfinite(y))
+    			y = 0;
+    		array[i] = polygon;
+    		xs[i] = x;
+    		ys[i] = y;
+    		xmin = min(xmin, x);
+    		xmax = max(xmax, x);
+    		ymin = min(ymin, y);
+    		ymax = max(ymax, y);
+    		i++;
+    	}
+    	
+    	// compute keys by interleaving bits of quantized coordinates
+    	double sx = xmax > xmin ? 0xFFFF / (xmax - xmin) : 0;
+    	double sy = ymax > ymin ? 0xFFFF / (ymax - ymin) : 0;
+    	long[] keys = new long[n];
+    	for (i = 0; i < n; i++) {
+    		long kx = spreadBits((int) ((xs[i] - xmin) * sx));
+    		long ky = spreadBits((int) ((ys[i] - ymin) * sy));
+    		// keep index in lower bits to recover polygons after sorting
+    		keys[i] = ((kx | (ky << 1)) << 31) | i;
+    	}
+    	Arrays.sort(keys);
+    	
+    	Polygon2D[] result = new Polygon2D[n];
+    	for (i = 0; i < n; i++)
+    		result[i] = array[(int) (keys[i] & 0x7FFFFFFFL)];
     	return result;
     }
     
-    private final static PolySimple convertToGpcjSimplePolygon(
-    		LinearRing2D ring) {
-    	PolySimple poly = new PolySimple();
-    	for (Point2D point : ring.vertices())
-    		poly.add(new com.seisw.util.geom.Point2D(point.x(), point.y()));
-    	return poly;
+    /**
+     * Spreads the 16 lower bits of the value, such that bit k is moved to 
+     * bit 2k.
+     */
+    private final static long spreadBits(int value) {
+    	long x = value & 0xFFFF;
+    	x = (x | (x << 8)) & 0x00FF00FFL;
+    	x = (x | (x << 4)) & 0x0F0F0F0FL;
+    	x = (x | (x << 2)) & 0x33333333L;
+    	x = (x | (x << 1)) & 0x55555555L;
+    	return x;
     }
     
-    
-    private final static Polygon2D convertFromGpcjPolygon(Poly poly) {
-    	int n = poly.getNumInnerPoly();
-    	
-    	// if the result is single, create a SimplePolygon
-    	if (n == 1) {
-    		Point2D[] points = extractPolyVertices(poly.getInnerPoly(0));
-    		return SimplePolygon2D.create(points);
-    	}
-    	
-    	// extract the different rings of the resulting polygon
-    	LinearRing2D[] rings = new LinearRing2D[n];
-    	for (int i = 0; i < n; i++) 
-    		rings[i] = convertFromGpcjSimplePolygon(poly.getInnerPoly(i));
-    	
-    	// create a multiple polygon
-    	return MultiPolygon2D.create(rings);
+    /**
+     * Computes the intersection of the two polygons, using the current
+     * boolean engine.
+     * @see #getBooleanEngine()
+     */
+    public final static Polygon2D intersection(Polygon2D polygon1, 
+            Polygon2D polygon2) {
+    	return booleanEngine.intersection(polygon1, polygon2);
     }
     
-    private final static LinearRing2D convertFromGpcjSimplePolygon(
-    		Poly poly) {
-    	return LinearRing2D.create(extractPolyVertices(poly));
+    /**
+     * Computes the exclusive XOR of the two polygons, using the current
+     * boolean engine.
+     * @see #getBooleanEngine()
+     */
+    public final static Polygon2D exclusiveOr(Polygon2D polygon1, 
+    		Polygon2D polygon2) {
+    	return booleanEngine.exclusiveOr(polygon1, polygon2);
     }
     
-    private final static Point2D[] extractPolyVertices(Poly poly) {
-    	int n = poly.getNumPoints();
-    	Point2D[] points = new Point2D[n];
-    	for (int i = 0; i < n; i++)
-    		points[i] = new Point2D(poly.getX(i), poly.getY(i));
-    	return points;
+    /**
+     * Computes the Difference of the two polygons, using the current boolean
+     * engine.
+     * @see #getBooleanEngine()
+     * @since 0.9.1
+     */
+    public final static Polygon2D difference(Polygon2D polygon1, 
+    		Polygon2D polygon2) {
+    	return booleanEngine.difference(polygon1, polygon2);
     }
 }
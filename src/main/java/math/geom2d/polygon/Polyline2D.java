@@ -38,6 +38,7 @@ import math.geom2d.circulinear.CirculinearContinuousCurve2D;
 import math.geom2d.circulinear.PolyCirculinearCurve2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.CoordinateSequence2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -103,6 +104,14 @@ implements CirculinearContinuousCurve2D, Cloneable {
     	super(xcoords, ycoords);
     }
     
+    /**
+     * Creates a new polyline from a sequence of vertex coordinates.
+     * @since 0.11.3
+     */
+    public Polyline2D(CoordinateSequence2D coords) {
+    	super(coords);
+    }
+    
     public Polyline2D(LinearCurve2D lineString) {
     	super(lineString.vertices);
     	if (lineString.isClosed()) 
@@ -241,6 +250,15 @@ implements CirculinearContinuousCurve2D, Cloneable {
         return false;
     }
 
+    /**
+     * Returns a copy of this polyline, as it is its own linear approximation.
+     * @since 0.11.3
+     */
+    @Override
+    public Polyline2D asPolyline(double maxDeviation) {
+        return new Polyline2D(this.vertices);
+    }
+
     
     // ===================================================================
     // Methods inherited from Curve2D interface
@@ -0,0 +1,739 @@
+/**
+ * File: 	PolylineSimplifier.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+
+
+/**
+ * Simplifies polylines, linear rings and polygons by removing vertices that
+ * do not contribute much to their shape. Computations are performed on
+ * arrays of coordinates, without recursion, such that very long polylines
+ * can be processed.<p>
+ * Two methods are available. The Douglas-Peucker method keeps the vertices
+ * whose distance to the simplified polyline is greater than the tolerance.
+ * The Visvalingam-Whyatt method iteratively removes the vertex that forms
+ * the triangle with smallest area with its neighbors, until all triangles
+ * have an area greater than the tolerance.<p>
+ * In topology preserving mode, a vertex is kept if its removal would make
+ * the new edge intersect another edge of the result, and rings keep at
+ * least three vertices. When simplifying a MultiPolygon2D, all rings are
+ * processed together, such that the simplified rings do not intersect each
+ * other. Note that a ring entirely contained within the tolerance of an
+ * edge of another ring may still end up on the other side of that edge.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PolylineSimplifier {
+
+	// ===================================================================
+	// Inner enumeration
+
+	/**
+	 * The algorithms that can be used for simplifying polylines.
+	 */
+	public enum Method {
+		/** Keeps the vertices farther than the tolerance from the result */
+		DOUGLAS_PEUCKER,
+		/** Removes the vertices with an effective area below the tolerance */
+		VISVALINGAM_WHYATT
+	}
+
+
+	// ===================================================================
+	// Class variables
+
+	private Method method = Method.DOUGLAS_PEUCKER;
+
+	/**
+	 * The maximal distance between the removed vertices and the result, or
+	 * the minimal effective area of the vertices of the result.
+	 */
+	private double tolerance;
+
+	private boolean preserveTopology = false;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new simplifier using the Douglas-Peucker method with the
+	 * given distance tolerance.
+	 */
+	public PolylineSimplifier(double tolerance) {
+		this(Method.DOUGLAS_PEUCKER, tolerance, false);
+	}
+
+	/**
+	 * Creates a new simplifier using the given method and tolerance. The
+	 * tolerance is a distance for the Douglas-Peucker method, and an area
+	 * for the Visvalingam-Whyatt method.
+	 */
+	public PolylineSimplifier(Method method, double tolerance) {
+		this(method, tolerance, false);
+	}
+
+	/**
+	 * Creates a new simplifier using the given method and tolerance, that
+	 * avoids creating intersections if preserveTopology is true.
+	 */
+	public PolylineSimplifier(Method method, double tolerance,
+			boolean preserveTopology) {
+		if (!(tolerance >= 0))
+			throw new IllegalArgumentException(
+					"Tolerance must be positive: " + tolerance);
+		this.method = method;
+		this.tolerance = tolerance;
+		this.preserveTopology = preserveTopology;
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	public Method method() {
+		return method;
+	}
+
+	public double tolerance() {
+		return tolerance;
+	}
+
+	public boolean preservesTopology() {
+		return preserveTopology;
+	}
+
+
+	// ===================================================================
+	// Simplification of shapes
+
+	/**
+	 * Returns the simplified version of the polyline. The extremities are
+	 * always kept.
+	 */
+	public Polyline2D simplify(Polyline2D polyline) {
+		return new Polyline2D(simplify(polyline.vertices, false));
+	}
+
+	/**
+	 * Returns the simplified version of the linear ring.
+	 */
+	public LinearRing2D simplify(LinearRing2D ring) {
+		return new LinearRing2D(simplify(ring.vertices, true));
+	}
+
+	/**
+	 * Returns the simplified version of the polygon.
+	 */
+	public SimplePolygon2D simplify(SimplePolygon2D polygon) {
+		return new SimplePolygon2D(simplify(polygon.vertices, true));
+	}
+
+	/**
+	 * Returns the simplified version of the polygon, by simplifying all of
+	 * its rings together. Rings reduced to less than three vertices are
+	 * removed.
+	 */
+	public MultiPolygon2D simplify(MultiPolygon2D polygon) {
+		Collection<LinearRing2D> rings = polygon.contours();
+		int nRings = rings.size();
+		double[][] xs = new double[nRings][];
+		double[][] ys = new double[nRings][];
+		boolean[] closed = new boolean[nRings];
+		int r = 0;
+		for (LinearRing2D ring : rings) {
+			double[][] coords = coordinates(ring.vertices);
+			xs[r] = coords[0];
+			ys[r] = coords[1];
+			closed[r] = true;
+			r++;
+		}
+
+		int[][] inds = simplify(xs, ys, closed);
+
+		MultiPolygon2D result = new MultiPolygon2D(nRings);
+		for (r = 0; r < nRings; r++) {
+			if (inds[r].length < 3)
+				continue;
+			int n = inds[r].length;
+			double[] rx = new double[n];
+			double[] ry = new double[n];
+			for (int i = 0; i < n; i++) {
+				rx[i] = xs[r][inds[r][i]];
+				ry[i] = ys[r][inds[r][i]];
+			}
+			result.addRing(new LinearRing2D(rx, ry));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the vertices kept after simplification of the list of
+	 * vertices.
+	 */
+	ArrayList<Point2D> simplify(ArrayList<Point2D> vertices, boolean closed) {
+		double[][] coords = coordinates(vertices);
+		int[] inds = simplify(coords[0], coords[1], closed);
+
+		ArrayList<Point2D> result = new ArrayList<Point2D>(inds.length);
+		for (int i : inds)
+			result.add(vertices.get(i));
+		return result;
+	}
+
+	private static double[][] coordinates(ArrayList<Point2D> vertices) {
+		int n = vertices.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			Point2D vertex = vertices.get(i);
+			xs[i] = vertex.x();
+			ys[i] = vertex.y();
+		}
+		return new double[][] { xs, ys };
+	}
+
+
+	// ===================================================================
+	// Simplification of coordinate arrays
+
+	/**
+	 * Simplifies the polyline or the ring given by the arrays of vertex
+	 * coordinates, and returns the indices of the kept vertices in
+	 * increasing order.
+	 */
+	public int[] simplify(double[] xs, double[] ys, boolean closed) {
+		return simplify(new double[][] { xs }, new double[][] { ys },
+				new boolean[] { closed })[0];
+	}
+
+	/**
+	 * Simplifies several polylines or rings together, each one being given
+	 * by the arrays of its vertex coordinates. Returns, for each polyline,
+	 * the indices of the kept vertices in increasing order. In topology
+	 * preserving mode, the simplified polylines do not intersect each other.
+	 */
+	public int[][] simplify(double[][] xs, double[][] ys, boolean[] closed) {
+		// concatenate the coordinates of all polylines
+		int nRings = xs.length;
+		int[] offsets = new int[nRings + 1];
+		for (int r = 0; r < nRings; r++) {
+			if (xs[r].length != ys[r].length)
+				throw new IllegalArgumentException(
+						"Coordinate arrays must have the same length");
+			offsets[r + 1] = offsets[r] + xs[r].length;
+		}
+		int n = offsets[nRings];
+		double[] px = new double[n];
+		double[] py = new double[n];
+		for (int r = 0; r < nRings; r++) {
+			System.arraycopy(xs[r], 0, px, offsets[r], xs[r].length);
+			System.arraycopy(ys[r], 0, py, offsets[r], ys[r].length);
+		}
+
+		// the index of the vertex following each vertex, or -1
+		int[] next = null;
+		SegmentIndex index = null;
+		if (preserveTopology || method == Method.VISVALINGAM_WHYATT) {
+			next = new int[n];
+			for (int r = 0; r < nRings; r++) {
+				int first = offsets[r];
+				int last = offsets[r + 1] - 1;
+				for (int i = first; i < last; i++)
+					next[i] = i + 1;
+				if (last >= first)
+					next[last] = closed[r] ? first : -1;
+			}
+			if (preserveTopology)
+				index = new SegmentIndex(px, py, next);
+		}
+
+		boolean[] keep = new boolean[n];
+		switch (method) {
+		case DOUGLAS_PEUCKER:
+			IntStack stack = new IntStack();
+			for (int r = 0; r < nRings; r++)
+				douglasPeucker(px, py, offsets[r], offsets[r + 1] - offsets[r],
+						closed[r], keep, stack, index);
+			break;
+		case VISVALINGAM_WHYATT:
+			visvalingamWhyatt(px, py, next, keep, index);
+			break;
+		}
+
+		// collect indices of kept vertices
+		int[][] result = new int[nRings][];
+		for (int r = 0; r < nRings; r++) {
+			int count = 0;
+			for (int i = offsets[r]; i < offsets[r + 1]; i++)
+				if (keep[i])
+					count++;
+			result[r] = new int[count];
+			count = 0;
+			for (int i = offsets[r]; i < offsets[r + 1]; i++)
+				if (keep[i])
+					result[r][count++] = i - offsets[r];
+		}
+		return result;
+	}
+
+
+	// ===================================================================
+	// Douglas-Peucker method
+
+	/**
+	 * Simplifies the polyline whose n vertices start at the given offset.
+	 * The ranges of vertices still to be processed are stored in the stack,
+	 * as pairs of indices relative to the offset. For rings, index n
+	 * corresponds to the first vertex.
+	 */
+	private void douglasPeucker(double[] xs, double[] ys, int offset, int n,
+			boolean closed, boolean[] keep, IntStack stack,
+			SegmentIndex index) {
+		if (n == 0)
+			return;
+		double tol2 = tolerance * tolerance;
+
+		keep[offset] = true;
+		int kept = 1;
+		if (closed) {
+			// split the ring at the vertex farthest from the first one
+			double x0 = xs[offset];
+			double y0 = ys[offset];
+			int iMax = 0;
+			double distMax = 0;
+			for (int i = 1; i < n; i++) {
+				double dx = xs[offset + i] - x0;
+				double dy = ys[offset + i] - y0;
+				double dist = dx * dx + dy * dy;
+				if (dist > distMax) {
+					distMax = dist;
+					iMax = i;
+				}
+			}
+			if (iMax == 0)
+				return;
+
+			keep[offset + iMax] = true;
+			kept++;
+			stack.push(iMax, n);
+			stack.push(0, iMax);
+		} else {
+			if (n == 1)
+				return;
+			keep[offset + n - 1] = true;
+			kept++;
+			stack.push(0, n - 1);
+		}
+
+		while (stack.size > 0) {
+			int b = stack.pop();
+			int a = stack.pop();
+			if (b - a < 2)
+				continue;
+
+			// find the vertex farthest from the segment joining extremities
+			int ga = offset + a;
+			int gb = offset + (b == n ? 0 : b);
+			double ax = xs[ga];
+			double ay = ys[ga];
+			double dx = xs[gb] - ax;
+			double dy = ys[gb] - ay;
+			double d2 = dx * dx + dy * dy;
+			double invD2 = d2 > 0 ? 1 / d2 : 0;
+			int iMax = a + 1;
+			double distMax = -1;
+			for (int i = a + 1; i < b; i++) {
+				double vx = xs[offset + i] - ax;
+				double vy = ys[offset + i] - ay;
+				double u = (vx * dx + vy * dy) * invD2;
+				u = u < 0 ? 0 : (u > 1 ? 1 : u);
+				vx -= u * dx;
+				vy -= u * dy;
+				double dist = vx * vx + vy * vy;
+				if (dist > distMax) {
+					distMax = dist;
+					iMax = i;
+				}
+			}
+
+			boolean split = distMax > 0 && distMax >= tol2;
+			if (!split && index != null) {
+				split = (closed && kept < 3) || index.crosses(ga, gb);
+				if (!split)
+					index.replace(ga, gb);
+			}
+
+			if (split) {
+				keep[offset + iMax] = true;
+				kept++;
+				stack.push(iMax, b);
+				stack.push(a, iMax);
+			}
+		}
+	}
+
+	/**
+	 * A growable stack of integers, used to store ranges of vertices.
+	 */
+	private static class IntStack {
+		int[] data = new int[64];
+		int size = 0;
+
+		void push(int a, int b) {
+			if (size + 2 > data.length)
+				data = Arrays.copyOf(data, data.length * 2);
+			data[size++] = a;
+			data[size++] = b;
+		}
+
+		int pop() {
+			return data[--size];
+		}
+	}
+
+
+	// ===================================================================
+	// Visvalingam-Whyatt method
+
+	/**
+	 * Simplifies all the polylines defined by the links between vertices.
+	 * Vertices with a previous and a next vertex are stored in a heap
+	 * ordered by the area of the triangle they form with their neighbors.
+	 */
+	private void visvalingamWhyatt(double[] xs, double[] ys, int[] next,
+			boolean[] keep, SegmentIndex index) {
+		int n = xs.length;
+		int[] prev = new int[n];
+		Arrays.fill(prev, -1);
+		for (int i = 0; i < n; i++)
+			if (next[i] >= 0)
+				prev[next[i]] = i;
+		Arrays.fill(keep, true);
+
+		double[] areas = new double[n];
+		AreaHeap heap = new AreaHeap(areas);
+		for (int i = 0; i < n; i++) {
+			if (prev[i] >= 0 && next[i] >= 0 && prev[i] != next[i]) {
+				areas[i] = triangleArea(xs, ys, prev[i], i, next[i]);
+				heap.add(i);
+			}
+		}
+		heap.heapify();
+
+		while (heap.size > 0) {
+			int i = heap.first();
+			double area = areas[i];
+			if (area >= tolerance)
+				break;
+			heap.removeFirst();
+
+			int p = prev[i];
+			int q = next[i];
+			if (next[q] == p)
+				continue;
+			if (index != null && index.crosses(p, q))
+				continue;
+
+			// remove the vertex
+			keep[i] = false;
+			if (index != null)
+				index.replace(p, q);
+			else
+				next[p] = q;
+			prev[q] = p;
+
+			// update the area of the neighbors, that can not be lower than
+			// the area of the removed vertex
+			if (prev[p] >= 0) {
+				areas[p] = Math.max(area, triangleArea(xs, ys, prev[p], p, q));
+				heap.update(p);
+			}
+			if (next[q] >= 0) {
+				areas[q] = Math.max(area, triangleArea(xs, ys, p, q, next[q]));
+				heap.update(q);
+			}
+		}
+	}
+
+	private static double triangleArea(double[] xs, double[] ys, int i,
+			int j, int k) {
+		return Math.abs((xs[j] - xs[i]) * (ys[k] - ys[i])
+				- (ys[j] - ys[i]) * (xs[k] - xs[i])) / 2;
+	}
+
+	/**
+	 * A binary heap of vertex indices, ordered by increasing area.
+	 */
+	private static class AreaHeap {
+		double[] areas;
+
+		int[] heap;
+
+		/** The position of each vertex in the heap, or -1 */
+		int[] pos;
+
+		int size = 0;
+
+		AreaHeap(double[] areas) {
+			this.areas = areas;
+			this.heap = new int[areas.length];
+			this.pos = new int[areas.length];
+			Arrays.fill(pos, -1);
+		}
+
+		int first() {
+			return heap[0];
+		}
+
+		/**
+		 * Adds a vertex at the end of the heap, without ordering it.
+		 */
+		void add(int i) {
+			heap[size] = i;
+			pos[i] = size++;
+		}
+
+		/**
+		 * Orders the heap after vertices were added.
+		 */
+		void heapify() {
+			for (int k = size / 2 - 1; k >= 0; k--)
+				siftDown(k);
+		}
+
+		void removeFirst() {
+			pos[heap[0]] = -1;
+			size--;
+			if (size > 0) {
+				heap[0] = heap[size];
+				pos[heap[0]] = 0;
+				siftDown(0);
+			}
+		}
+
+		/**
+		 * Inserts the vertex, or updates its position after its area was
+		 * modified.
+		 */
+		void update(int i) {
+			int k = pos[i];
+			if (k < 0) {
+				k = size++;
+				heap[k] = i;
+				pos[i] = k;
+			}
+			siftUp(k);
+			siftDown(pos[i]);
+		}
+
+		private void siftUp(int k) {
+			int i = heap[k];
+			while (k > 0) {
+				int parent = (k - 1) >>> 1;
+				if (areas[heap[parent]] <= areas[i])
+					break;
+				heap[k] = heap[parent];
+				pos[heap[k]] = k;
+				k = parent;
+			}
+			heap[k] = i;
+			pos[i] = k;
+		}
+
+		private void siftDown(int k) {
+			int i = heap[k];
+			while (true) {
+				int child = 2 * k + 1;
+				if (child >= size)
+					break;
+				if (child + 1 < size && areas[heap[child + 1]] < areas[heap[child]])
+					child++;
+				if (areas[i] <= areas[heap[child]])
+					break;
+				heap[k] = heap[child];
+				pos[heap[k]] = k;
+				k = child;
+			}
+			heap[k] = i;
+			pos[i] = k;
+		}
+	}
+
+
+	// ===================================================================
+	// Index of edges for preserving topology
+
+	/**
+	 * A regular grid containing the edges of the polylines during
+	 * simplification. Each edge is identified by the index of its first
+	 * vertex, the second vertex being given by the next array. When an edge
+	 * is modified, it is added to the new cells, and outdated entries are
+	 * ignored when the index is queried.
+	 */
+	private static class SegmentIndex {
+		double[] xs;
+		double[] ys;
+		int[] next;
+
+		/** Flags for vertices that have been removed */
+		boolean[] removed;
+
+		/** Marks for ignoring some edges during a query */
+		int[] marks;
+		int stamp = 0;
+
+		double x0, y0, invCellSize;
+		int nx, ny;
+		int[][] cells;
+		int[] cellSizes;
+
+		SegmentIndex(double[] xs, double[] ys, int[] next) {
+			this.xs = xs;
+			this.ys = ys;
+			this.next = next;
+			int n = xs.length;
+			this.removed = new boolean[n];
+			this.marks = new int[n];
+
+			double xmin = Double.POSITIVE_INFINITY, xmax = Double.NEGATIVE_INFINITY;
+			double ymin = Double.POSITIVE_INFINITY, ymax = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < n; i++) {
+				xmin = Math.min(xmin, xs[i]);
+				xmax = Math.max(xmax, xs[i]);
+				ymin = Math.min(ymin, ys[i]);
+				ymax = Math.max(ymax, ys[i]);
+			}
+
+			// choose grid size such that the number of cells is close to the
+			// number of edges
+			double w = xmax - xmin;
+			double h = ymax - ymin;
+			double cellSize = Math.max(Math.sqrt(w * h / Math.max(n, 1)),
+					Math.max(w, h) / Math.max(n, 1));
+			if (!(cellSize > 0))
+				cellSize = 1;
+			this.x0 = n > 0 ? xmin : 0;
+			this.y0 = n > 0 ? ymin : 0;
+			this.invCellSize = 1 / cellSize;
+			this.nx = n > 0 ? (int) ((xmax - xmin) * invCellSize) + 1 : 1;
+			this.ny = n > 0 ? (int) ((ymax - ymin) * invCellSize) + 1 : 1;
+			this.cells = new int[nx * ny][];
+			this.cellSizes = new int[nx * ny];
+
+			for (int i = 0; i < n; i++)
+				if (next[i] >= 0)
+					insert(i);
+		}
+
+		/**
+		 * Checks if the edge between vertices a and b intersects an edge of
+		 * the index, ignoring the edges between a and b that would be
+		 * replaced.
+		 */
+		boolean crosses(int a, int b) {
+			stamp++;
+			for (int i = a; i != b; i = next[i])
+				marks[i] = stamp;
+
+			double ax = xs[a], ay = ys[a], bx = xs[b], by = ys[b];
+			int i0 = cellX(Math.min(ax, bx)), i1 = cellX(Math.max(ax, bx));
+			int j0 = cellY(Math.min(ay, by)), j1 = cellY(Math.max(ay, by));
+			for (int j = j0; j <= j1; j++) {
+				for (int i = i0; i <= i1; i++) {
+					int c = j * nx + i;
+					int[] cell = cells[c];
+					for (int k = 0; k < cellSizes[c]; k++) {
+						int e = cell[k];
+						if (marks[e] == stamp)
+							continue;
+						marks[e] = stamp;
+						if (removed[e] || next[e] < 0)
+							continue;
+						int f = next[e];
+						if (intersects(ax, ay, bx, by, xs[e], ys[e], xs[f], ys[f]))
+							return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Replaces the edges between vertices a and b by a single edge.
+		 */
+		void replace(int a, int b) {
+			for (int i = next[a]; i != b; i = next[i])
+				removed[i] = true;
+			next[a] = b;
+			insert(a);
+		}
+
+		private void insert(int e) {
+			int f = next[e];
+			int i0 = cellX(Math.min(xs[e], xs[f])), i1 = cellX(Math.max(xs[e], xs[f]));
+			int j0 = cellY(Math.min(ys[e], ys[f])), j1 = cellY(Math.max(ys[e], ys[f]));
+			for (int j = j0; j <= j1; j++) {
+				for (int i = i0; i <= i1; i++) {
+					int c = j * nx + i;
+					if (cells[c] == null)
+						cells[c] = new int[4];
+					else if (cellSizes[c] == cells[c].length)
+						cells[c] = Arrays.copyOf(cells[c], cellSizes[c] * 2);
+					cells[c][cellSizes[c]++] = e;
+				}
+			}
+		}
+
+		private int cellX(double x) {
+			int i = (int) ((x - x0) * invCellSize);
+			return i < 0 ? 0 : (i >= nx ? nx - 1 : i);
+		}
+
+		private int cellY(double y) {
+			int j = (int) ((y - y0) * invCellSize);
+			return j < 0 ? 0 : (j >= ny ? ny - 1 : j);
+		}
+
+		/**
+		 * Checks if two segments intersect. Segments sharing an extremity
+		 * are considered as not intersecting.
+		 */
+		private static boolean intersects(double ax, double ay, double bx,
+				double by, double cx, double cy, double dx, double dy) {
+			if ((cx == ax && cy == ay) || (cx == bx && cy == by)
+					|| (dx == ax && dy == ay) || (dx == bx && dy == by))
+				return false;
+
+			double d1 = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+			double d2 = (bx - ax) * (dy - ay) - (by - ay) * (dx - ax);
+			if ((d1 > 0 && d2 > 0) || (d1 < 0 && d2 < 0))
+				return false;
+			double d3 = (dx - cx) * (ay - cy) - (dy - cy) * (ax - cx);
+			double d4 = (dx - cx) * (by - cy) - (dy - cy) * (bx - cx);
+			if ((d3 > 0 && d4 > 0) || (d3 < 0 && d4 < 0))
+				return false;
+
+			if (d1 == 0 && d2 == 0) {
+				// colinear segments intersect if their bounding boxes do
+				return Math.max(ax, bx) >= Math.min(cx, dx)
+						&& Math.max(cx, dx) >= Math.min(ax, bx)
+						&& Math.max(ay, by) >= Math.min(cy, dy)
+						&& Math.max(cy, dy) >= Math.min(ay, by);
+			}
+			return true;
+		}
+	}
+}
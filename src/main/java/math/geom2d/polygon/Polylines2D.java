@@ -5,11 +5,16 @@
 package math.geom2d.polygon;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
+import math.geom2d.circulinear.buffer.LinearBufferCalculator;
 import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.SegmentIntersector;
+import math.geom2d.point.CoordinateSequence2D;
 import math.geom2d.point.PointSets2D;
 
 /**
@@ -22,105 +27,14 @@ public abstract class Polylines2D {
 
 	static ArrayList<Point2D> simplifyPolyline(ArrayList<Point2D> vertices,
 			double distMax) {
-		// index of last vertex
-    	int last = vertices.size() - 1;
-		int[] inds = recurseSimplify(vertices, 0, last, distMax);
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		newVerts.add(vertices.get(last));
-		
-		return newVerts;
+		return new PolylineSimplifier(distMax).simplify(vertices, false);
     }
     
 	static ArrayList<Point2D> simplifyClosedPolyline(ArrayList<Point2D> vertices,
 			double distMax) {
-		
-		
-		// index of last vertex
-    	int nv = vertices.size();
-    	
-    	// first find index of farthest vertex from origin
-    	int indMax = 0;
-    	double maxDist = 0;
-    	Point2D p0 = vertices.get(0);
-    	for (int i = 1; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(p0);
-    		if (dist > maxDist) {
-    			maxDist = dist;
-    			indMax = i;
-    		}
-    	}
-    	
-    	int[] inds1 = recurseSimplify(vertices, 0, indMax, distMax);
-    	int[] inds2 = recurseSimplify(vertices, indMax, nv, distMax);
-    	
-    	int[] inds = concatInds(inds1, indMax, inds2);
-    	
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		
-		return newVerts;
+		return new PolylineSimplifier(distMax).simplify(vertices, true);
     }
     
-	/**
-	 * Used for constructing simplified polylines.
-	 */
-	private static int[] recurseSimplify(ArrayList<Point2D> vertices, int first,
-			int last, double distMax) {
-		if (last - first < 2) {
-			return new int[0];
-		}
-		
-		int nv = vertices.size();
-		Point2D p0 = vertices.get(first);
-		Point2D p1 = vertices.get(last % nv);
-		LineSegment2D line = new LineSegment2D(p0, p1);
-
-		double dist;
-		double midDist = 0;
-		int indMid = 0;
-		for (int ind = first; ind < last; ind++) {
-			dist = line.distance(vertices.get(ind));
-			if (dist > midDist) {
-				midDist = dist;
-				indMid = ind;
-			}
-		}
-		
-		if (midDist < distMax) {
-			return new int[]{};
-		}
-		
-		// Recursively subdivide each of the resulting pieces
-		int[] inds1 = recurseSimplify(vertices, first, indMid, distMax);
-		int[] inds2 = recurseSimplify(vertices, indMid, last, distMax);
-		
-		int[] res = concatInds(inds1, indMid, inds2);
-		
-		// return concatenated indices
-		return res;
-	}
-	
-	private static int[] concatInds(int[] inds1, int indMid, int[] inds2) {
-		int n = inds1.length + inds2.length + 1;
-		
-		int[] res = new int[n];
-
-		for (int i = 0; i < inds1.length; i++)
-			res[i] = inds1[i];
-		res[inds1.length] = indMid;
-		for (int i = inds1.length + 1; i < n; i++)
-			res[i] = inds2[i - (inds1.length + 1)];
-		
-		return res;
-	}
-
  	/**
 	 * Checks if the open polyline has multiple vertices. Polyline extremities
 	 * are not tested for equality.
@@ -152,32 +66,227 @@ public abstract class Polylines2D {
 
     /**
      * Return all intersection points between the 2 polylines.
-     * This method implements a naive algorithm, that tests all possible edge
-     * couples.
+     * This method uses a sweep-line algorithm for identifying the couples of
+     * intersecting edges, and returns the points in the same order as the
+     * naive algorithm testing all possible edge couples.
      * It is supposed that only one point is returned by intersection.
      * @param poly1 a first polyline
      * @param poly2 a second polyline
      * @return the set of intersection points
+     * @see math.geom2d.line.SegmentIntersector
      */
     public static Collection<Point2D> intersect(
     		LinearCurve2D poly1, LinearCurve2D poly2) {
+    	// extract edges of each polyline
+    	LineSegment2D[] edges1 = poly1.edges().toArray(new LineSegment2D[0]);
+    	LineSegment2D[] edges2 = poly2.edges().toArray(new LineSegment2D[0]);
+    	int n1 = edges1.length;
+    	int n2 = edges2.length;
+    	
+    	// compute couples of intersecting edges
+    	SegmentIntersector si = new SegmentIntersector(n1 + n2);
+    	for (LineSegment2D edge : edges1)
+    		si.addSegment(edge);
+    	for (LineSegment2D edge : edges2)
+    		si.addSegment(edge);
+    	int[] pairs = si.intersectingPairs();
+    	
+    	// keep only couples with one edge from each polyline, and sort them
+    	long[] keys = new long[pairs.length / 2];
+    	int nKeys = 0;
+    	for (int k = 0; k < pairs.length; k += 2) {
+    		if (pairs[k] < n1 && pairs[k + 1] >= n1)
+    			keys[nKeys++] = ((long) pairs[k]) * n2 + pairs[k + 1] - n1;
+    	}
+    	Arrays.sort(keys, 0, nKeys);
+    	
     	// array for storing intersections
-        ArrayList<Point2D> points = new ArrayList<Point2D>();
+        LinkedHashSet<Point2D> points = new LinkedHashSet<Point2D>();
         
         // iterate on edge couples
         Point2D point;
-        for (LineSegment2D edge1 : poly1.edges()) {
-            for (LineSegment2D edge2 : poly2.edges()) {
-            	// if the intersection is not empty, add it to the set
-                point = edge1.intersection(edge2);
-                if (point != null) {
-                	// we keep only one intersection by couple
-                	if (!points.contains(point))
-                		points.add(point);
-                }
-            }
+        for (int k = 0; k < nKeys; k++) {
+        	LineSegment2D edge1 = edges1[(int) (keys[k] / n2)];
+        	LineSegment2D edge2 = edges2[(int) (keys[k] % n2)];
+        	
+        	// if the intersection is not empty, add it to the set
+        	point = edge1.intersection(edge2);
+        	if (point != null)
+        		points.add(point);
         }
 
-        return points;
+        return new ArrayList<Point2D>(points);
+    }
+
+    /**
+     * Returns the intersection points between non adjacent edges of the 
+     * polyline. For closed curves, the last edge is considered as adjacent to
+     * the first one. Identification of intersecting edges uses a sweep-line
+     * algorithm.
+     * @param curve a polyline or a linear ring
+     * @return the set of self-intersection points
+     * @since 0.11.3
+     */
+    public static Collection<Point2D> selfIntersections(LinearCurve2D curve) {
+    	LineSegment2D[] edges = curve.edges().toArray(new LineSegment2D[0]);
+    	int n = edges.length;
+    	boolean closed = curve.isClosed();
+    	
+    	// compute couples of intersecting edges
+    	SegmentIntersector si = new SegmentIntersector(n);
+    	for (LineSegment2D edge : edges)
+    		si.addSegment(edge);
+    	int[] pairs = si.intersectingPairs();
+    	
+    	// remove couples of adjacent edges, and sort the remaining ones
+    	long[] keys = new long[pairs.length / 2];
+    	int nKeys = 0;
+    	for (int k = 0; k < pairs.length; k += 2) {
+    		int i1 = pairs[k];
+    		int i2 = pairs[k + 1];
+    		if (i2 == i1 + 1)
+    			continue;
+    		if (closed && i1 == 0 && i2 == n - 1)
+    			continue;
+    		keys[nKeys++] = ((long) i1) * n + i2;
+    	}
+    	Arrays.sort(keys, 0, nKeys);
+    	
+    	// compute intersection points
+    	LinkedHashSet<Point2D> points = new LinkedHashSet<Point2D>();
+    	for (int k = 0; k < nKeys; k++) {
+    		LineSegment2D edge1 = edges[(int) (keys[k] / n)];
+    		LineSegment2D edge2 = edges[(int) (keys[k] % n)];
+    		Point2D point = edge1.intersection(edge2);
+    		if (point != null)
+    			points.add(point);
+    	}
+    	
+    	return new ArrayList<Point2D>(points);
+    }
+
+    /**
+     * Computes the minimal distance between a point and the edges of the
+     * polyline or linear ring given by a sequence of coordinates. Edges with
+     * zero length are ignored.
+     * @param coords the coordinates of the vertices
+     * @param closed true if the last vertex is connected to the first one
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @since 0.11.3
+     */
+    public static double distance(CoordinateSequence2D coords, 
+    		boolean closed, double x, double y) {
+    	int n = coords.size();
+    	int nEdges = edgeNumber(n, closed);
+    	double dist = Double.MAX_VALUE;
+    	for (int i = 0; i < nEdges; i++) {
+    		int j = i + 1 == n ? 0 : i + 1;
+    		if (coords.x(i) == coords.x(j) && coords.y(i) == coords.y(j))
+    			continue;
+    		dist = Math.min(dist, edgeDistance(coords, i, j, x, y));
+    	}
+    	return dist;
+    }
+
+    /**
+     * Returns the index of the edge closest to the given point, or -1 if the
+     * polyline has no edge. The first edge is returned in case of equality.
+     * @param coords the coordinates of the vertices
+     * @param closed true if the last vertex is connected to the first one
+     * @since 0.11.3
+     */
+    public static int closestEdgeIndex(CoordinateSequence2D coords, 
+    		boolean closed, double x, double y) {
+    	int n = coords.size();
+    	int nEdges = edgeNumber(n, closed);
+    	double minDist = Double.POSITIVE_INFINITY;
+    	int index = -1;
+    	for (int i = 0; i < nEdges; i++) {
+    		int j = i + 1 == n ? 0 : i + 1;
+    		double dist = edgeDistance(coords, i, j, x, y);
+    		if (dist < minDist) {
+    			minDist = dist;
+    			index = i;
+    		}
+    	}
+    	return index;
+    }
+
+    /**
+     * Checks if the point lies on one of the edges of the polyline or 
+     * linear ring given by a sequence of coordinates, with precision given 
+     * by Shape2D.ACCURACY. Degenerated edges are ignored.
+     * @param coords the coordinates of the vertices
+     * @param closed true if the last vertex is connected to the first one
+     * @since 0.11.3
+     */
+    public static boolean contains(CoordinateSequence2D coords, 
+    		boolean closed, double x, double y) {
+    	int n = coords.size();
+    	int nEdges = edgeNumber(n, closed);
+    	for (int i = 0; i < nEdges; i++) {
+    		int j = i + 1 == n ? 0 : i + 1;
+    		double x0 = coords.x(i);
+    		double y0 = coords.y(i);
+    		double dx = coords.x(j) - x0;
+    		double dy = coords.y(j) - y0;
+    		double denom = dx * dx + dy * dy;
+    		if (Math.sqrt(denom) < Shape2D.ACCURACY)
+    			continue;
+    		
+    		// distance to supporting line, then position on the edge
+    		if (Math.abs((x - x0) * dy - (y - y0) * dx) / denom 
+    				>= Shape2D.ACCURACY)
+    			continue;
+    		double t = ((y - y0) * dy + (x - x0) * dx) / denom;
+    		if (t >= -Shape2D.ACCURACY && t - 1 <= Shape2D.ACCURACY)
+    			return true;
+    	}
+    	return false;
+    }
+
+    private static int edgeNumber(int n, boolean closed) {
+    	if (n < 2)
+    		return 0;
+    	return closed ? n : n - 1;
+    }
+
+    /**
+     * Computes the distance between the point (x,y) and the edge joining 
+     * the vertices with indices i and j.
+     */
+    private static double edgeDistance(CoordinateSequence2D coords, int i, 
+    		int j, double x, double y) {
+    	double x0 = coords.x(i);
+    	double y0 = coords.y(i);
+    	double dx = coords.x(j) - x0;
+    	double dy = coords.y(j) - y0;
+    	
+    	// degenerated edges are processed as points
+    	if (Math.hypot(dx, dy) < Shape2D.ACCURACY)
+    		return Math.hypot(x - x0, y - y0);
+    	
+    	// position of the projection, clamped to the edge
+    	double t = ((y - y0) * dy + (x - x0) * dx) / (dx * dx + dy * dy);
+    	t = Math.max(Math.min(t, 1), 0);
+    	return Math.hypot(x0 + t * dx - x, y0 + t * dy - y);
+    }
+
+    /**
+     * Computes the buffer at a distance d of the input polyline or linear
+     * ring, with round joins and caps approximated by polylines. The result
+     * is a polygon whose vertices are within maxDeviation of the exact
+     * buffer boundary.
+     * @param curve a polyline or a linear ring
+     * @param dist the buffer distance
+     * @param maxDeviation the maximal distance between arcs and the
+     *            polylines approximating them
+     * @since 0.11.3
+     */
+    public static Polygon2D createBuffer(LinearCurve2D curve, double dist,
+    		double maxDeviation) {
+    	return new LinearBufferCalculator(maxDeviation).computeBuffer(curve,
+    			dist);
     }
 }
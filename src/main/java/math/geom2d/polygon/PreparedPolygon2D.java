@@ -0,0 +1,709 @@
+/**
+ * File: 	PreparedPolygon2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Arrays;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+
+/**
+ * A polygon prepared for repeated point queries. The edges of the polygon
+ * are copied into primitive arrays, and indexed by two structures: a set
+ * of thin horizontal bands used for computing winding numbers, and a grid
+ * of cells used for computing distances. For usual polygons, each query
+ * processes only a small number of edges, instead of iterating over all
+ * the edges of the polygon. Edges crossing many bands, like the teeth of a
+ * comb, are not copied into each band but stored once in an interval tree,
+ * so that the memory used by bands remains linear in the number of edges.<br>
+ *
+ * The prepared polygon keeps the convention of the original polygon: a
+ * point located on the boundary, with precision given by Shape2D.ACCURACY,
+ * is considered as inside. Modifications of the original polygon after the
+ * preparation are not taken into account. Instances are immutable, and can
+ * be shared by several threads.<br>
+ *
+ * Example:
+ * <pre><code>
+ * PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+ * boolean[] inside = new boolean[n];
+ * prepared.contains(xs, ys, inside);
+ * </code></pre>
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class PreparedPolygon2D {
+
+	// ===================================================================
+	// Constants
+
+	/**
+	 * The maximal average number of bands each edge is copied into. Edges
+	 * crossing the largest numbers of bands are stored in the interval tree
+	 * until the number of band entries fits within this limit.
+	 */
+	private final static int MAX_BAND_COPIES = 32;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The polygon used for preparation */
+	private final Polygon2D polygon;
+
+	/** Signed area of the polygon, used to manage unbounded polygons */
+	private final double area;
+
+	/** Extent of the polygon edges */
+	private final double xmin, xmax, ymin, ymax;
+
+	/** Coordinates of edge extremities */
+	private final double[] xs1, ys1, xs2, ys2;
+
+	/** Number of horizontal bands, and inverse of band height */
+	private final int nBands;
+	private final double bandScale;
+
+	/** Edges within each band, stored in compressed row format */
+	private final int[] bandStarts;
+	private final int[] bandEdges;
+
+	/**
+	 * Centered interval tree on the extent along y of the edges crossing
+	 * many bands. The edges overlapping the center of each node are stored
+	 * sorted by increasing minimal y, and by decreasing maximal y, as
+	 * sequences of x1, y1, x2, y2 coordinates. Node edges are stored
+	 * contiguously in the order of node creation, and missing children are
+	 * indicated by -1.
+	 */
+	private final double[] nodeCenters;
+	private final int[] nodeStarts;
+	private final int[] nodeLefts, nodeRights;
+	private final double[] nodeEdgesByMin, nodeEdgesByMax;
+	private final int nNodes;
+
+	/** Grid dimensions, and cell size */
+	private final int nx, ny;
+	private final double cellWidth, cellHeight;
+
+	/** Edges within each cell, stored in compressed row format */
+	private final int[] cellStarts;
+	private final int[] cellEdges;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Prepares the given polygon for repeated point queries.
+	 */
+	public PreparedPolygon2D(Polygon2D polygon) {
+		this.polygon = polygon;
+
+		// copy the edges of each ring
+		int nEdges = 0;
+		for (LinearRing2D ring : polygon.contours())
+			nEdges += ring.vertexNumber();
+		this.xs1 = new double[nEdges];
+		this.ys1 = new double[nEdges];
+		this.xs2 = new double[nEdges];
+		this.ys2 = new double[nEdges];
+
+		int e = 0;
+		for (LinearRing2D ring : polygon.contours()) {
+			int nv = ring.vertexNumber();
+			if (nv == 0)
+				continue;
+			Point2D prev = ring.vertex(nv - 1);
+			for (Point2D vertex : ring.vertices()) {
+				xs1[e] = prev.x();
+				ys1[e] = prev.y();
+				xs2[e] = vertex.x();
+				ys2[e] = vertex.y();
+				prev = vertex;
+				e++;
+			}
+		}
+
+		// signed area, and extent of edges
+		double sum = 0;
+		for (int i = 0; i < nEdges; i++)
+			sum += xs1[i] * ys2[i] - xs2[i] * ys1[i];
+		this.area = sum / 2;
+
+		double x0 = Double.POSITIVE_INFINITY, x1 = Double.NEGATIVE_INFINITY;
+		double y0 = Double.POSITIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < nEdges; i++) {
+			x0 = Math.min(x0, xs1[i]);
+			x1 = Math.max(x1, xs1[i]);
+			y0 = Math.min(y0, ys1[i]);
+			y1 = Math.max(y1, ys1[i]);
+		}
+		this.xmin = x0;
+		this.xmax = x1;
+		this.ymin = y0;
+		this.ymax = y1;
+
+		// horizontal bands, with about one edge per band
+		double height = ymax - ymin;
+		this.nBands = height > 0 ? Math.max(1, nEdges) : 1;
+		this.bandScale = height > 0 ? nBands / height : 0;
+		this.bandStarts = new int[nBands + 1];
+
+		// choose the largest span of edges copied into bands that keeps
+		// the number of band entries linear
+		int[] spanCounts = new int[nBands + 1];
+		for (int i = 0; i < nEdges; i++) {
+			int b1 = band(Math.min(ys1[i], ys2[i]));
+			int b2 = band(Math.max(ys1[i], ys2[i]));
+			spanCounts[b2 - b1 + 1]++;
+		}
+		int maxSpan = 0;
+		long nCopies = 0;
+		while (maxSpan < nBands) {
+			int span = maxSpan + 1;
+			nCopies += (long) span * spanCounts[span];
+			if (nCopies > (long) MAX_BAND_COPIES * nEdges)
+				break;
+			maxSpan = span;
+		}
+
+		int[] longEdges = new int[nEdges];
+		int nLong = 0;
+		for (int i = 0; i < nEdges; i++) {
+			int b1 = band(Math.min(ys1[i], ys2[i]));
+			int b2 = band(Math.max(ys1[i], ys2[i]));
+			if (b2 - b1 >= maxSpan) {
+				longEdges[nLong++] = i;
+				continue;
+			}
+			for (int b = b1; b <= b2; b++)
+				bandStarts[b + 1]++;
+		}
+		for (int b = 0; b < nBands; b++)
+			bandStarts[b + 1] += bandStarts[b];
+		this.bandEdges = new int[bandStarts[nBands]];
+		int[] pos = Arrays.copyOf(bandStarts, nBands);
+		for (int i = 0; i < nEdges; i++) {
+			int b1 = band(Math.min(ys1[i], ys2[i]));
+			int b2 = band(Math.max(ys1[i], ys2[i]));
+			if (b2 - b1 >= maxSpan)
+				continue;
+			for (int b = b1; b <= b2; b++)
+				bandEdges[pos[b]++] = i;
+		}
+
+		// interval tree of edges crossing many bands
+		this.nodeCenters = new double[nLong];
+		this.nodeStarts = new int[nLong + 1];
+		this.nodeLefts = new int[nLong];
+		this.nodeRights = new int[nLong];
+		double[] mids = new double[nEdges];
+		for (int k = 0; k < nLong; k++) {
+			int i = longEdges[k];
+			mids[i] = (ys1[i] + ys2[i]) / 2;
+		}
+		longEdges = Arrays.copyOf(longEdges, nLong);
+		sort(longEdges, 0, nLong, mids);
+		int[] byMin = new int[nLong];
+		int[] byMax = new int[nLong];
+		int[] counts = new int[2];
+		buildNode(longEdges, 0, nLong, byMin, byMax, mids, counts);
+		this.nNodes = counts[0];
+		nodeStarts[nNodes] = counts[1];
+		this.nodeEdgesByMin = edgeCoordinates(byMin);
+		this.nodeEdgesByMax = edgeCoordinates(byMax);
+
+		// grid of square cells, with about one edge per cell
+		double width = xmax - xmin;
+		int cx = 1, cy = 1;
+		if (width > 0 && height > 0) {
+			double size = Math.sqrt(width * height / Math.max(1, nEdges));
+			cx = (int) Math.max(1, Math.min(nEdges, Math.ceil(width / size)));
+			cy = (int) Math.max(1, Math.min(nEdges, Math.ceil(height / size)));
+		} else if (width > 0) {
+			cx = Math.max(1, nEdges);
+		} else if (height > 0) {
+			cy = Math.max(1, nEdges);
+		}
+		this.nx = cx;
+		this.ny = cy;
+		this.cellWidth = width > 0 ? width / nx : 1;
+		this.cellHeight = height > 0 ? height / ny : 1;
+
+		this.cellStarts = new int[nx * ny + 1];
+		rasterizeEdges(null, null);
+		for (int c = 0; c < nx * ny; c++)
+			cellStarts[c + 1] += cellStarts[c];
+		this.cellEdges = new int[cellStarts[nx * ny]];
+		rasterizeEdges(Arrays.copyOf(cellStarts, nx * ny), cellEdges);
+	}
+
+	/**
+	 * Creates the node of the interval tree for the edges between indices
+	 * lo (inclusive) and hi (exclusive), sorted by the ordinate of their
+	 * middle, and recursively creates its children. The indices of node
+	 * edges are stored in the byMin and byMax arrays, and the keys array is
+	 * used as buffer. The counts array contains the number of nodes, and the
+	 * number of stored edges.
+	 *
+	 * @return the index of the new node, or -1 if there is no edge
+	 */
+	private int buildNode(int[] edges, int lo, int hi, int[] byMin,
+			int[] byMax, double[] keys, int[] counts) {
+		if (lo >= hi)
+			return -1;
+		int node = counts[0]++;
+		int start = counts[1];
+		int median = edges[(lo + hi) >>> 1];
+		double center = (ys1[median] + ys2[median]) / 2;
+		nodeCenters[node] = center;
+		nodeStarts[node] = start;
+
+		// edges below and above the center keep their order, and edges
+		// above the center are stored temporarily after the node edges
+		int nLeft = 0, nRight = 0;
+		for (int k = lo; k < hi; k++) {
+			int i = edges[k];
+			if (Math.max(ys1[i], ys2[i]) < center)
+				edges[lo + nLeft++] = i;
+			else if (Math.min(ys1[i], ys2[i]) > center)
+				byMax[byMax.length - 1 - nRight++] = i;
+			else
+				byMin[counts[1]++] = i;
+		}
+		for (int k = 0; k < nRight; k++)
+			edges[lo + nLeft + k] = byMax[byMax.length - 1 - k];
+		System.arraycopy(byMin, start, byMax, start, counts[1] - start);
+
+		for (int k = start; k < counts[1]; k++) {
+			int i = byMin[k];
+			keys[i] = Math.min(ys1[i], ys2[i]);
+		}
+		sort(byMin, start, counts[1], keys);
+		for (int k = start; k < counts[1]; k++) {
+			int i = byMax[k];
+			keys[i] = -Math.max(ys1[i], ys2[i]);
+		}
+		sort(byMax, start, counts[1], keys);
+
+		nodeLefts[node] = buildNode(edges, lo, lo + nLeft, byMin, byMax, keys,
+				counts);
+		nodeRights[node] = buildNode(edges, lo + nLeft, lo + nLeft + nRight,
+				byMin, byMax, keys, counts);
+		return node;
+	}
+
+	/**
+	 * Returns the coordinates x1, y1, x2, y2 of the edges with given
+	 * indices, in a single array.
+	 */
+	private double[] edgeCoordinates(int[] inds) {
+		double[] coords = new double[4 * inds.length];
+		for (int k = 0; k < inds.length; k++) {
+			int i = inds[k];
+			coords[4 * k] = xs1[i];
+			coords[4 * k + 1] = ys1[i];
+			coords[4 * k + 2] = xs2[i];
+			coords[4 * k + 3] = ys2[i];
+		}
+		return coords;
+	}
+
+	/**
+	 * Iterates over the cells crossed by each edge. If the array of
+	 * positions is null, the number of edges in each cell is counted.
+	 * Otherwise, edge indices are stored at the given positions.
+	 */
+	private void rasterizeEdges(int[] pos, int[] edges) {
+		for (int i = 0; i < xs1.length; i++) {
+			double xa = xs1[i], ya = ys1[i], xb = xs2[i], yb = ys2[i];
+			if (ya > yb) {
+				xa = xs2[i]; ya = ys2[i]; xb = xs1[i]; yb = ys1[i];
+			}
+
+			int r1 = row(ya);
+			int r2 = row(yb);
+			for (int r = r1; r <= r2; r++) {
+				// portion of the edge within the current row
+				double xr1 = xa, xr2 = xb;
+				if (yb > ya) {
+					double yr1 = Math.max(ya, ymin + r * cellHeight);
+					double yr2 = Math.min(yb, ymin + (r + 1) * cellHeight);
+					xr1 = xa + (yr1 - ya) * (xb - xa) / (yb - ya);
+					xr2 = xa + (yr2 - ya) * (xb - xa) / (yb - ya);
+				}
+				int c1 = column(Math.min(xr1, xr2));
+				int c2 = column(Math.max(xr1, xr2));
+				for (int c = c1; c <= c2; c++) {
+					int cell = r * nx + c;
+					if (pos == null)
+						cellStarts[cell + 1]++;
+					else
+						edges[pos[cell]++] = i;
+				}
+			}
+		}
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the polygon used for preparation.
+	 */
+	public Polygon2D polygon() {
+		return polygon;
+	}
+
+	/**
+	 * Returns the signed area of the polygon, computed at preparation.
+	 */
+	public double area() {
+		return area;
+	}
+
+	/**
+	 * Returns the bounding box of the polygon edges.
+	 */
+	public Box2D boundingBox() {
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+
+	// ===================================================================
+	// Queries
+
+	/**
+	 * Returns true if the point lies inside the polygon, with precision
+	 * given by Shape2D.ACCURACY.
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Returns true if the point (x, y) lies inside the polygon, with
+	 * precision given by Shape2D.ACCURACY.
+	 */
+	public boolean contains(double x, double y) {
+		if (xs1.length == 0)
+			return false;
+
+		// points outside of bounding box are inside only for unbounded
+		// polygons
+		double eps = Shape2D.ACCURACY;
+		if (x < xmin - eps || x > xmax + eps || y < ymin - eps
+				|| y > ymax + eps)
+			return area <= 0;
+
+		// check if the point is on the boundary
+		double eps2 = eps * eps;
+		int b1 = band(y - eps);
+		int b2 = band(y + eps);
+		for (int b = b1; b <= b2; b++) {
+			for (int k = bandStarts[b]; k < bandStarts[b + 1]; k++) {
+				if (distanceSq(bandEdges[k], x, y) <= eps2)
+					return true;
+			}
+		}
+		if (nNodes > 0 && isCloseToLongEdge(0, x, y, eps))
+			return true;
+
+		int winding = windingNumber(x, y);
+		return area > 0 ? winding > 0 : winding >= 0;
+	}
+
+	/**
+	 * Computes for each point of the given arrays whether it lies inside
+	 * the polygon, and stores the results in the output array.
+	 *
+	 * @param xs the x-coordinates of the points
+	 * @param ys the y-coordinates of the points
+	 * @param out the array used for storing the results
+	 */
+	public void contains(double[] xs, double[] ys, boolean[] out) {
+		if (xs.length != ys.length || out.length < xs.length)
+			throw new IllegalArgumentException(
+					"Coordinate and result arrays must have compatible sizes");
+		for (int i = 0; i < xs.length; i++)
+			out[i] = contains(xs[i], ys[i]);
+	}
+
+	/**
+	 * Computes the winding number of the polygon boundary around the point,
+	 * using only the edges within the band containing the point, and the
+	 * long edges containing the ordinate of the point.
+	 */
+	private int windingNumber(double x, double y) {
+		int wn = 0;
+		int b = band(y);
+		for (int k = bandStarts[b]; k < bandStarts[b + 1]; k++) {
+			int i = bandEdges[k];
+			double x1 = xs1[i], y1 = ys1[i], x2 = xs2[i], y2 = ys2[i];
+			if (y1 <= y) {
+				// an upward crossing
+				if (y2 > y && (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1) > 0)
+					wn++;
+			} else {
+				// a downward crossing
+				if (y2 <= y && (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1) < 0)
+					wn--;
+			}
+		}
+
+		// long edges overlapping the ordinate of the point
+		int node = nNodes > 0 ? 0 : -1;
+		while (node >= 0) {
+			int k1 = 4 * nodeStarts[node + 1];
+			if (y < nodeCenters[node]) {
+				double[] e = nodeEdgesByMin;
+				for (int k = 4 * nodeStarts[node]; k < k1; k += 4) {
+					if (Math.min(e[k + 1], e[k + 3]) > y)
+						break;
+					wn += crossing(e[k], e[k + 1], e[k + 2], e[k + 3], x, y);
+				}
+				node = nodeLefts[node];
+			} else {
+				double[] e = nodeEdgesByMax;
+				for (int k = 4 * nodeStarts[node]; k < k1; k += 4) {
+					if (Math.max(e[k + 1], e[k + 3]) < y)
+						break;
+					wn += crossing(e[k], e[k + 1], e[k + 2], e[k + 3], x, y);
+				}
+				node = nodeRights[node];
+			}
+		}
+		return wn;
+	}
+
+	/**
+	 * Returns the contribution of the edge to the winding number around
+	 * the point: +1 for an upward crossing on the right of the point, -1
+	 * for a downward crossing, and 0 otherwise. As edges of tree nodes are
+	 * sorted by ordinate, successive results are not correlated, and all
+	 * conditions are evaluated to avoid unpredictable branches.
+	 */
+	private static int crossing(double x1, double y1, double x2, double y2,
+			double x, double y) {
+		double side = (x2 - x1) * (y - y1) - (x - x1) * (y2 - y1);
+		boolean up = y1 <= y & y2 > y & side > 0;
+		boolean down = y1 > y & y2 <= y & side < 0;
+		return (up ? 1 : 0) - (down ? 1 : 0);
+	}
+
+	/**
+	 * Checks if the point is within distance eps of one of the long edges
+	 * stored in the subtree of the given node.
+	 */
+	private boolean isCloseToLongEdge(int node, double x, double y,
+			double eps) {
+		while (node >= 0) {
+			int k0 = 4 * nodeStarts[node], k1 = 4 * nodeStarts[node + 1];
+			double[] e = nodeEdgesByMin;
+			if (y + eps < nodeCenters[node]) {
+				for (int k = k0; k < k1; k += 4) {
+					if (Math.min(e[k + 1], e[k + 3]) > y + eps)
+						break;
+					if (isClose(e, k, x, y, eps))
+						return true;
+				}
+				node = nodeLefts[node];
+			} else if (y - eps > nodeCenters[node]) {
+				e = nodeEdgesByMax;
+				for (int k = k0; k < k1; k += 4) {
+					if (Math.max(e[k + 1], e[k + 3]) < y - eps)
+						break;
+					if (isClose(e, k, x, y, eps))
+						return true;
+				}
+				node = nodeRights[node];
+			} else {
+				// the range of ordinates contains the center
+				for (int k = k0; k < k1; k += 4) {
+					if (isClose(e, k, x, y, eps))
+						return true;
+				}
+				if (isCloseToLongEdge(nodeLefts[node], x, y, eps))
+					return true;
+				node = nodeRights[node];
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the point is within distance eps of the edge whose
+	 * coordinates start at index k of the array.
+	 */
+	private static boolean isClose(double[] e, int k, double x, double y,
+			double eps) {
+		// first compare with bounds of edge
+		if (Math.min(e[k], e[k + 2]) > x + eps
+				|| Math.max(e[k], e[k + 2]) < x - eps)
+			return false;
+		double d2 = distanceSq(e[k], e[k + 1], e[k + 2], e[k + 3], x, y);
+		return d2 <= eps * eps;
+	}
+
+	/**
+	 * Returns the distance of the point to the polygon, or zero if the point
+	 * lies inside the polygon.
+	 */
+	public double distance(Point2D point) {
+		return distance(point.x(), point.y());
+	}
+
+	/**
+	 * Returns the distance of the point (x, y) to the polygon, or zero if
+	 * the point lies inside the polygon.
+	 */
+	public double distance(double x, double y) {
+		if (contains(x, y))
+			return 0;
+		return boundaryDistance(x, y);
+	}
+
+	/**
+	 * Returns the distance of the point (x, y) to the boundary of the
+	 * polygon. Cells are processed by increasing rings around the cell
+	 * containing the point, until the remaining cells are farther than the
+	 * closest edge found so far.
+	 */
+	public double boundaryDistance(double x, double y) {
+		if (xs1.length == 0)
+			return Double.POSITIVE_INFINITY;
+
+		int cx = column(x);
+		int cy = row(y);
+		double best = Double.POSITIVE_INFINITY;
+		int rMax = Math.max(nx, ny);
+		for (int r = 0; r <= rMax; r++) {
+			int c1 = cx - r, c2 = cx + r;
+			int r1 = cy - r, r2 = cy + r;
+
+			// process the cells of current ring
+			for (int j = Math.max(r1, 0); j <= Math.min(r2, ny - 1); j++) {
+				boolean border = j == r1 || j == r2;
+				int step = border ? 1 : c2 - c1;
+				for (int i = c1; i <= c2; i += step) {
+					if (i < 0 || i >= nx)
+						continue;
+					int cell = j * nx + i;
+					for (int k = cellStarts[cell]; k < cellStarts[cell + 1]; k++)
+						best = Math.min(best, distanceSq(cellEdges[k], x, y));
+				}
+			}
+
+			// lower bound of the distance to edges in unprocessed cells
+			double bound = Double.POSITIVE_INFINITY;
+			if (c1 > 0)
+				bound = Math.min(bound, x - (xmin + c1 * cellWidth));
+			if (c2 < nx - 1)
+				bound = Math.min(bound, xmin + (c2 + 1) * cellWidth - x);
+			if (r1 > 0)
+				bound = Math.min(bound, y - (ymin + r1 * cellHeight));
+			if (r2 < ny - 1)
+				bound = Math.min(bound, ymin + (r2 + 1) * cellHeight - y);
+			if (bound == Double.POSITIVE_INFINITY
+					|| (bound > 0 && bound * bound >= best))
+				break;
+		}
+		return Math.sqrt(best);
+	}
+
+
+	// ===================================================================
+	// Private methods
+
+	/**
+	 * Computes the squared distance between the point (x, y) and the edge
+	 * with the given index.
+	 */
+	private double distanceSq(int i, double x, double y) {
+		return distanceSq(xs1[i], ys1[i], xs2[i], ys2[i], x, y);
+	}
+
+	/**
+	 * Computes the squared distance between the point and an edge given by
+	 * the coordinates of its extremities.
+	 */
+	private static double distanceSq(double x1, double y1, double x2,
+			double y2, double x, double y) {
+		double dx = x2 - x1, dy = y2 - y1;
+		double t = 0;
+		double d2 = dx * dx + dy * dy;
+		if (d2 > 0)
+			t = Math.max(0, Math.min(1, ((x - x1) * dx + (y - y1) * dy) / d2));
+		double px = x1 + t * dx - x;
+		double py = y1 + t * dy - y;
+		return px * px + py * py;
+	}
+
+	/**
+	 * Sorts the indices between positions lo (inclusive) and hi (exclusive)
+	 * by increasing value of their key, using quick sort.
+	 */
+	private static void sort(int[] inds, int lo, int hi, double[] keys) {
+		while (hi - lo > 16) {
+			double pivot = keys[inds[(lo + hi) >>> 1]];
+			int i = lo, j = hi - 1;
+			while (i <= j) {
+				while (keys[inds[i]] < pivot)
+					i++;
+				while (keys[inds[j]] > pivot)
+					j--;
+				if (i <= j) {
+					int tmp = inds[i];
+					inds[i++] = inds[j];
+					inds[j--] = tmp;
+				}
+			}
+
+			// recurse on smaller part, iterate on larger one
+			if (j - lo < hi - i) {
+				sort(inds, lo, j + 1, keys);
+				lo = i;
+			} else {
+				sort(inds, i, hi, keys);
+				hi = j + 1;
+			}
+		}
+
+		// insertion sort for small ranges
+		for (int i = lo + 1; i < hi; i++) {
+			int ind = inds[i];
+			double key = keys[ind];
+			int j = i - 1;
+			while (j >= lo && keys[inds[j]] > key) {
+				inds[j + 1] = inds[j];
+				j--;
+			}
+			inds[j + 1] = ind;
+		}
+	}
+
+	private int band(double y) {
+		int b = (int) ((y - ymin) * bandScale);
+		return Math.max(0, Math.min(nBands - 1, b));
+	}
+
+	private int column(double x) {
+		int c = (int) Math.floor((x - xmin) / cellWidth);
+		return Math.max(0, Math.min(nx - 1, c));
+	}
+
+	private int row(double y) {
+		int r = (int) Math.floor((y - ymin) / cellHeight);
+		return Math.max(0, Math.min(ny - 1, r));
+	}
+}
@@ -37,6 +37,8 @@ import math.geom2d.GeometricObject2D;
 import math.geom2d.Point2D;
 import math.geom2d.circulinear.*;
 import math.geom2d.line.LineSegment2D;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.point.PackedCoordinateSequence2D;
 import math.geom2d.point.PointSets2D;
 import math.geom2d.transform.CircleInversion2D;
 
@@ -76,6 +78,22 @@ public class SimplePolygon2D implements Polygon2D {
      */
     protected ArrayList<Point2D> vertices;
 
+    /**
+     * The signed area, computed when needed, and cleared when vertices are
+     * modified. NaN if not computed. Caches are volatile as they may be
+     * computed by concurrent queries.
+     */
+    private volatile double area = Double.NaN;
+
+    /** The centroid, computed when needed */
+    private volatile Point2D centroid = null;
+
+    /** The bounding box, computed when needed */
+    private volatile Box2D boundingBox = null;
+
+    /** The packed coordinates of the vertices, computed when needed */
+    private volatile PackedCoordinateSequence2D coordinates = null;
+
     // ===================================================================
     // constructors
 
@@ -111,6 +129,19 @@ public class SimplePolygon2D implements Polygon2D {
 			vertices.add(new Point2D(xcoords[i], ycoords[i]));
 	}
 
+	/**
+	 * Creates a new polygon from a sequence of vertex coordinates.
+	 * @since 0.11.3
+	 */
+	public SimplePolygon2D(CoordinateSequence2D coords) {
+		int n = coords.size();
+		vertices = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			vertices.add(new Point2D(coords.x(i), coords.y(i)));
+		if (coords instanceof PackedCoordinateSequence2D)
+			this.coordinates = (PackedCoordinateSequence2D) coords;
+	}
+
 	public SimplePolygon2D(Collection<? extends Point2D> points) {
 		this.vertices = new ArrayList<Point2D>(points.size());
 		this.vertices.addAll(points);
@@ -151,7 +182,7 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the number of windings of the curve around the point
      */
     public int getWindingNumber(double x, double y) {
-        return Polygons2D.windingNumber(vertices, new Point2D(x, y));
+        return Polygons2D.windingNumber(coordinates(), x, y);
     }
         
     /**
@@ -177,6 +208,7 @@ public class SimplePolygon2D implements Polygon2D {
      * Adds a point as the last vertex.
      */
     public void addVertex(Point2D point) {
+        clearCache();
         this.vertices.add(point);
     }
 
@@ -185,6 +217,7 @@ public class SimplePolygon2D implements Polygon2D {
      * @since 0.9.3
      */
     public void insertVertex(int index, Point2D point) {
+        clearCache();
         this.vertices.add(index, point);
     }
 
@@ -192,6 +225,7 @@ public class SimplePolygon2D implements Polygon2D {
 	 * Changes the position of the i-th vertex.
 	 */
 	public void setVertex(int index, Point2D position) {
+	    clearCache();
 	    this.vertices.set(index, position);
 	}
 
@@ -201,6 +235,7 @@ public class SimplePolygon2D implements Polygon2D {
      * @param point the vertex to be removed.
      */
     public boolean removeVertex(Point2D point) {
+        clearCache();
         return this.vertices.remove(point);
     }
 
@@ -209,6 +244,7 @@ public class SimplePolygon2D implements Polygon2D {
      * @since 0.9.3
      */
     public void removeVertex(int index) {
+        clearCache();
         this.vertices.remove(index);
     }
 
@@ -216,8 +252,33 @@ public class SimplePolygon2D implements Polygon2D {
      * Removes all the vertices of the polygon.
      */
     public void clearVertices() {
+        clearCache();
         this.vertices.clear();
     }
+
+    /**
+     * Clears the properties computed from the vertices. Should be called by
+     * subclasses that modify the inner list of vertices.
+     * @since 0.11.3
+     */
+    protected void clearCache() {
+        this.area = Double.NaN;
+        this.centroid = null;
+        this.boundingBox = null;
+        this.coordinates = null;
+    }
+    
+    /**
+     * Returns the coordinates of the vertices, as an immutable sequence.
+     * The sequence is computed when needed, and is shared by successive
+     * calls until the vertices are modified.
+     * @since 0.11.3
+     */
+    public CoordinateSequence2D coordinates() {
+    	if (this.coordinates == null)
+    		this.coordinates = new PackedCoordinateSequence2D(vertices);
+    	return this.coordinates;
+    }
     
     /**
      * Computes the index of the closest vertex to the input point.
@@ -247,7 +308,9 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the signed area of the polygon.
      */
     public double area() {
-    	return Polygons2D.computeArea(this);
+    	if (Double.isNaN(this.area))
+    		this.area = Polygons2D.computeArea(coordinates());
+    	return this.area;
     }
 
     /**
@@ -259,12 +322,15 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the centroid of the polygon
      */
     public Point2D centroid() {
-    	return Polygons2D.computeCentroid(this);
+    	if (this.centroid == null)
+    		this.centroid = Polygons2D.computeCentroid(this);
+    	return this.centroid;
     }
 
     /**
      * Returns the points of the polygon. The result is a pointer to the inner
-     * collection of vertices.
+     * collection of vertices, that should be modified only through the
+     * methods of the polygon.
      */
     public Collection<Point2D> vertices() {
         return vertices;
@@ -411,8 +477,9 @@ public class SimplePolygon2D implements Polygon2D {
      * point lies inside the polygon.
      */
     public double distance(double x, double y) {
-        double dist = boundary().signedDistance(x, y);
-        return Math.max(dist, 0);
+    	if (this.contains(x, y))
+    		return 0;
+        return Polylines2D.distance(coordinates(), true, x, y);
     }
 
     /**
@@ -426,7 +493,23 @@ public class SimplePolygon2D implements Polygon2D {
      * Returns the bounding box of the polygon.
      */
     public Box2D boundingBox() {
-        return boundary().boundingBox();
+    	if (this.boundingBox == null) {
+    		CoordinateSequence2D coords = coordinates();
+    		double xmin = Double.MAX_VALUE;
+    		double ymin = Double.MAX_VALUE;
+    		double xmax = -Double.MAX_VALUE;
+    		double ymax = -Double.MAX_VALUE;
+    		for (int i = 0; i < coords.size(); i++) {
+    			double x = coords.x(i);
+    			double y = coords.y(i);
+    			xmin = Math.min(xmin, x);
+    			xmax = Math.max(xmax, x);
+    			ymin = Math.min(ymin, y);
+    			ymax = Math.max(ymax, y);
+    		}
+    		this.boundingBox = new Box2D(xmin, xmax, ymin, ymax);
+    	}
+        return this.boundingBox;
     }
 
     /**
@@ -479,10 +562,16 @@ public class SimplePolygon2D implements Polygon2D {
      * given by Shape2D.ACCURACY.
      */
     public boolean contains(double x, double y) {
-    	if (this.boundary().contains(x, y))
+    	// points far from the bounding box are outside of the boundary
+    	double area = this.area();
+    	Box2D box = this.boundingBox();
+    	if (x < box.getMinX() - ACCURACY || x > box.getMaxX() + ACCURACY
+    			|| y < box.getMinY() - ACCURACY || y > box.getMaxY() + ACCURACY)
+    		return !(area > 0);
+    	
+    	if (Polylines2D.contains(coordinates(), true, x, y))
     		return true;
     	
-    	double area = this.area();
     	int winding = this.getWindingNumber(x, y);
     	if (area > 0) {
     		return winding == 1;
@@ -0,0 +1,759 @@
+/**
+ * File: 	BoxClipper2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import math.geom2d.Box2D;
+import math.geom2d.UnboundedBox2DException;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+
+/**
+ * Clips polygons and polylines by a bounded box, or by a regular grid of
+ * tiles covering the box. The computation works on arrays of coordinates,
+ * and proceeds in a single pass over the edges:
+ * <ol>
+ * <li>each edge is split at its crossings with the grid lines, and each
+ * piece of edge is assigned to the tile containing its middle point</li>
+ * <li>consecutive pieces within the same tile are merged into chains, whose
+ * extremities lie on the boundary of the tile</li>
+ * <li>for polygons, the chains of each tile are connected into rings by
+ * following the tile boundary counter-clockwise</li>
+ * </ol>
+ * Rings or polylines whose bounding box does not intersect the box are
+ * discarded without processing edges. Rings or polylines within a single
+ * tile are kept as is. Tiles that do not intersect the polygon boundary are
+ * either empty or entirely covered, depending on the winding number of
+ * their center.<br>
+ *
+ * The result of polygon clipping is the same as for the
+ * {@link math.geom2d.polygon.Polygons2D#clipPolygon(Polygon2D, Box2D)}
+ * method: a SimplePolygon2D if it contains a single ring, or a
+ * MultiPolygon2D otherwise.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class BoxClipper2D {
+
+	// ===================================================================
+	// Class variables
+
+	private final double xmin;
+	private final double xmax;
+	private final double ymin;
+	private final double ymax;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new clipper for the specified box.
+	 * @throws UnboundedBox2DException if the box is unbounded
+	 */
+	public BoxClipper2D(Box2D box) {
+		if (!box.isBounded())
+			throw new UnboundedBox2DException(box);
+		this.xmin = box.getMinX();
+		this.xmax = box.getMaxX();
+		this.ymin = box.getMinY();
+		this.ymax = box.getMaxY();
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	/**
+	 * Returns the box used for clipping.
+	 */
+	public Box2D box() {
+		return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+
+	// ===================================================================
+	// Clipping methods
+
+	/**
+	 * Clips a polygon by the box. The result is a new polygon, that can be
+	 * multiple.
+	 */
+	public Polygon2D clip(Polygon2D polygon) {
+		return clip(polygon, 1, 1)[0];
+	}
+
+	/**
+	 * Clips a polygon by each tile of a regular grid covering the box. The
+	 * result is an array of nx*ny polygons, the polygon of the tile in
+	 * column i and row j being at index j*nx+i. Columns are ordered by
+	 * increasing x, and rows by increasing y.
+	 *
+	 * @param polygon the polygon to clip
+	 * @param nx the number of columns of the grid
+	 * @param ny the number of rows of the grid
+	 * @return the clipped polygons, one for each tile
+	 */
+	public Polygon2D[] clip(Polygon2D polygon, int nx, int ny) {
+		if (nx < 1 || ny < 1)
+			throw new IllegalArgumentException(
+					"Grid dimensions must be positive");
+		int nTiles = nx * ny;
+
+		// split rings into chains, and keep rings contained in single tiles
+		Collection<? extends LinearRing2D> contours = polygon.contours();
+		ArrayList<double[]> ringCoords = new ArrayList<double[]>(contours.size());
+		ArrayList<Chain> chains = new ArrayList<Chain>();
+		ArrayList<ArrayList<LinearRing2D>> tileRings =
+			new ArrayList<ArrayList<LinearRing2D>>(nTiles);
+		for (int i = 0; i < nTiles; i++)
+			tileRings.add(null);
+
+		double area = 0;
+		for (LinearRing2D ring : contours) {
+			int n = ring.vertexNumber();
+			if (n < 3)
+				continue;
+			double[] xs = new double[n];
+			double[] ys = new double[n];
+			extractCoordinates(ring, xs, ys);
+			area += signedArea(xs, ys, n);
+
+			int tile = splitChain(xs, ys, n, true, nx, ny, chains);
+			if (tile >= 0) {
+				// ring within a single tile: it does not modify the winding
+				// number of other tiles, nor of the center of its tile
+				tileRings(tileRings, tile).add(ring);
+			} else {
+				ringCoords.add(xs);
+				ringCoords.add(ys);
+			}
+		}
+
+		// group chains by tile
+		int[] tileStarts = new int[nTiles + 1];
+		for (Chain chain : chains)
+			tileStarts[chain.tile + 1]++;
+		for (int i = 0; i < nTiles; i++)
+			tileStarts[i + 1] += tileStarts[i];
+		Chain[] sorted = new Chain[chains.size()];
+		int[] pos = new int[nTiles];
+		System.arraycopy(tileStarts, 0, pos, 0, nTiles);
+		for (Chain chain : chains)
+			sorted[pos[chain.tile]++] = chain;
+
+		// connect chains of each tile, and identify tiles without chains
+		boolean[] uncrossed = new boolean[nTiles];
+		boolean testWinding = false;
+		double tw = (xmax - xmin) / nx;
+		double th = (ymax - ymin) / ny;
+		for (int j = 0; j < ny; j++) {
+			for (int i = 0; i < nx; i++) {
+				int tile = j * nx + i;
+				if (tileStarts[tile] == tileStarts[tile + 1]) {
+					uncrossed[tile] = true;
+					testWinding = true;
+					continue;
+				}
+				double x0 = xmin + i * tw;
+				double x1 = i == nx - 1 ? xmax : xmin + (i + 1) * tw;
+				double y0 = ymin + j * th;
+				double y1 = j == ny - 1 ? ymax : ymin + (j + 1) * th;
+				if (!linkChains(sorted, tileStarts[tile], tileStarts[tile + 1],
+						x0, x1, y0, y1, tileRings(tileRings, tile))) {
+					uncrossed[tile] = true;
+					testWinding = true;
+				}
+			}
+		}
+
+		// tiles not crossed by the boundary are entirely inside or outside
+		if (testWinding) {
+			int[] winding = centerWindings(ringCoords, uncrossed, nx, ny);
+			for (int j = 0; j < ny; j++) {
+				for (int i = 0; i < nx; i++) {
+					int tile = j * nx + i;
+					if (!uncrossed[tile])
+						continue;
+					int w = winding[tile];
+					if (area < 0 ? w >= 0 : w > 0) {
+						double x0 = xmin + i * tw;
+						double x1 = i == nx - 1 ? xmax : xmin + (i + 1) * tw;
+						double y0 = ymin + j * th;
+						double y1 = j == ny - 1 ? ymax : ymin + (j + 1) * th;
+						tileRings(tileRings, tile).add(new LinearRing2D(
+								new double[] { x0, x1, x1, x0 },
+								new double[] { y0, y0, y1, y1 }));
+					}
+				}
+			}
+		}
+
+		// create resulting polygons
+		Polygon2D[] res = new Polygon2D[nTiles];
+		for (int i = 0; i < nTiles; i++) {
+			ArrayList<LinearRing2D> rings = tileRings.get(i);
+			if (rings == null)
+				rings = new ArrayList<LinearRing2D>(0);
+			if (rings.size() == 1)
+				res[i] = SimplePolygon2D.create(rings.get(0).vertices());
+			else
+				res[i] = MultiPolygon2D.create(rings);
+		}
+		return res;
+	}
+
+	/**
+	 * Clips a polyline or a linear ring by the box. The result is a set of
+	 * polylines. If the curve is entirely inside the box, the result
+	 * contains only the original curve. If the curve is outside of the box,
+	 * the result is empty.
+	 */
+	public CurveArray2D<LinearCurve2D> clip(LinearCurve2D curve) {
+		CurveArray2D<LinearCurve2D> res = new CurveArray2D<LinearCurve2D>();
+
+		int n = curve.vertexNumber();
+		if (n == 0)
+			return res;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		extractCoordinates(curve, xs, ys);
+
+		if (n == 1) {
+			if (xs[0] >= xmin && xs[0] <= xmax && ys[0] >= ymin
+					&& ys[0] <= ymax)
+				res.add(curve);
+			return res;
+		}
+
+		ArrayList<Chain> chains = new ArrayList<Chain>();
+		if (splitChain(xs, ys, n, curve.isClosed(), 1, 1, chains) >= 0) {
+			res.add(curve);
+			return res;
+		}
+
+		for (Chain chain : chains)
+			res.add(new Polyline2D(chain.xCoords(), chain.yCoords()));
+		return res;
+	}
+
+
+	// ===================================================================
+	// Inner computation methods
+
+	/**
+	 * Splits the chain of vertices at the grid lines, and adds the portions
+	 * located within the tiles to the list of chains.
+	 *
+	 * @return the index of the tile containing the whole chain, or -1 if
+	 *         the chain crosses tile boundaries or is outside of the grid.
+	 */
+	private int splitChain(double[] xs, double[] ys, int n, boolean closed,
+			int nx, int ny, ArrayList<Chain> chains) {
+		double tw = (xmax - xmin) / nx;
+		double th = (ymax - ymin) / ny;
+
+		// compute bounding box of the chain
+		double bx0 = xs[0], bx1 = xs[0], by0 = ys[0], by1 = ys[0];
+		for (int i = 1; i < n; i++) {
+			bx0 = Math.min(bx0, xs[i]);
+			bx1 = Math.max(bx1, xs[i]);
+			by0 = Math.min(by0, ys[i]);
+			by1 = Math.max(by1, ys[i]);
+		}
+
+		// early exit for chains outside of the grid or within a single tile
+		if (bx1 < xmin || bx0 > xmax || by1 < ymin || by0 > ymax)
+			return -1;
+		int tile = tileIndex(bx0, by0, tw, th, nx, ny);
+		if (tile >= 0 && tile == tileIndex(bx1, by1, tw, th, nx, ny))
+			return tile;
+
+		// allocate memory for crossings with grid lines
+		double[] vt = new double[nx + 1];
+		double[] vx = new double[nx + 1];
+		double[] ht = new double[ny + 1];
+		double[] hy = new double[ny + 1];
+
+		Chain current = null;
+		Chain first = null;
+		int firstIndex = -1;
+		int currentTile = -1;
+		boolean started = false;
+		boolean split = false;
+
+		int ne = closed ? n : n - 1;
+		for (int e = 0; e < ne; e++) {
+			double xa = xs[e];
+			double ya = ys[e];
+			double xb = xs[(e + 1) % n];
+			double yb = ys[(e + 1) % n];
+			if (xa == xb && ya == yb)
+				continue;
+
+			// crossings with vertical lines, sorted by position on edge
+			int nv = 0;
+			if (xa != xb) {
+				double ua = (xa - xmin) / tw;
+				double ub = (xb - xmin) / tw;
+				int i0 = Math.max(0, (int) Math.floor(Math.min(ua, ub)) + 1);
+				int i1 = Math.min(nx, (int) Math.ceil(Math.max(ua, ub)) - 1);
+				for (int k = 0; k <= i1 - i0; k++) {
+					int i = xb > xa ? i0 + k : i1 - k;
+					double xl = i == nx ? xmax : xmin + i * tw;
+					double t = (xl - xa) / (xb - xa);
+					if (t > 0 && t < 1) {
+						vt[nv] = t;
+						vx[nv] = xl;
+						nv++;
+					}
+				}
+			}
+
+			// crossings with horizontal lines, sorted by position on edge
+			int nh = 0;
+			if (ya != yb) {
+				double va = (ya - ymin) / th;
+				double vb = (yb - ymin) / th;
+				int j0 = Math.max(0, (int) Math.floor(Math.min(va, vb)) + 1);
+				int j1 = Math.min(ny, (int) Math.ceil(Math.max(va, vb)) - 1);
+				for (int k = 0; k <= j1 - j0; k++) {
+					int j = yb > ya ? j0 + k : j1 - k;
+					double yl = j == ny ? ymax : ymin + j * th;
+					double t = (yl - ya) / (yb - ya);
+					if (t > 0 && t < 1) {
+						ht[nh] = t;
+						hy[nh] = yl;
+						nh++;
+					}
+				}
+			}
+
+			// iterate over the portions of edge between crossings
+			double x0 = xa;
+			double y0 = ya;
+			int iv = 0, ih = 0;
+			while (true) {
+				double x1, y1;
+				if (iv < nv && ih < nh && vt[iv] == ht[ih]) {
+					x1 = vx[iv++];
+					y1 = hy[ih++];
+				} else if (iv < nv && (ih == nh || vt[iv] < ht[ih])) {
+					x1 = vx[iv];
+					y1 = ya + vt[iv++] * (yb - ya);
+				} else if (ih < nh) {
+					x1 = xa + ht[ih] * (xb - xa);
+					y1 = hy[ih++];
+				} else {
+					x1 = xb;
+					y1 = yb;
+				}
+
+				int t = tileIndex((x0 + x1) / 2, (y0 + y1) / 2, tw, th, nx, ny);
+				if (!started) {
+					started = true;
+					currentTile = t;
+					if (t >= 0) {
+						current = new Chain(t);
+						current.add(x0, y0);
+						first = current;
+					}
+				} else if (t != currentTile) {
+					split = true;
+					if (current != null) {
+						if (current == first && current.n > 1)
+							firstIndex = chains.size();
+						addChain(chains, current);
+					}
+					currentTile = t;
+					current = null;
+					if (t >= 0) {
+						current = new Chain(t);
+						current.add(x0, y0);
+					}
+				}
+				if (current != null)
+					current.add(x1, y1);
+
+				if (x1 == xb && y1 == yb)
+					break;
+				x0 = x1;
+				y0 = y1;
+			}
+		}
+
+		// case of a chain that does not cross any grid line
+		if (!split)
+			return currentTile;
+
+		// for rings, merge last chain with first one when both are in the
+		// same tile
+		if (closed && current != null && first != null && firstIndex >= 0
+				&& first.tile == current.tile && chains.get(firstIndex) == first) {
+			current.append(first);
+			chains.set(firstIndex, current);
+		} else if (current != null) {
+			addChain(chains, current);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Adds the chain to the list if it is not reduced to a point.
+	 */
+	private static void addChain(ArrayList<Chain> chains, Chain chain) {
+		if (chain.n > 1)
+			chains.add(chain);
+	}
+
+	/**
+	 * Computes the index of the tile containing the point, or -1 if the
+	 * point is outside of the grid. Points on the boundary between two tiles
+	 * belong to the tile with the larger index.
+	 */
+	private int tileIndex(double x, double y, double tw, double th, int nx,
+			int ny) {
+		if (x < xmin || x > xmax || y < ymin || y > ymax)
+			return -1;
+		int i = Math.min((int) ((x - xmin) / tw), nx - 1);
+		int j = Math.min((int) ((y - ymin) / th), ny - 1);
+		return j * nx + i;
+	}
+
+	/**
+	 * Connects the chains between indices i0 (inclusive) and i1 (exclusive)
+	 * into rings, by following the boundary of the tile counter-clockwise
+	 * from the end of each chain to the beginning of the next one.<br>
+	 * Zero-width chains, that go back along their own path or along the path
+	 * of another chain, are ignored, as they do not modify the clipped
+	 * region. If all chains are ignored, the tile must be processed like a
+	 * tile not crossed by the polygon boundary.
+	 *
+	 * @return false if all chains were ignored, true otherwise
+	 */
+	private static boolean linkChains(Chain[] chains, int i0, int i1, double x0,
+			double x1, double y0, double y1, ArrayList<LinearRing2D> rings) {
+		double w = x1 - x0;
+		double h = y1 - y0;
+		double perim = 2 * (w + h);
+		double[] cornerPos = new double[] { 0, w, w + h, 2 * w + h };
+		double[] cornerX = new double[] { x0, x1, x1, x0 };
+		double[] cornerY = new double[] { y0, y0, y1, y1 };
+
+		// positions of chain extremities on the tile boundary
+		int nc = i1 - i0;
+		double[] startPos = new double[nc];
+		double[] endPos = new double[nc];
+		for (int i = 0; i < nc; i++) {
+			Chain chain = chains[i0 + i];
+			startPos[i] = boundaryPosition(chain.xs[0], chain.ys[0],
+					x0, x1, y0, y1);
+			endPos[i] = boundaryPosition(chain.xs[chain.n - 1],
+					chain.ys[chain.n - 1], x0, x1, y0, y1);
+		}
+
+		// ignore zero-width chains
+		boolean[] used = new boolean[nc];
+		int nIgnored = 0;
+		for (int i = 0; i < nc; i++) {
+			for (int k = i; k < nc && !used[i]; k++) {
+				if (!used[k] && startPos[k] == endPos[i]
+						&& endPos[k] == startPos[i]
+						&& chains[i0 + i].isReverse(chains[i0 + k])) {
+					used[i] = true;
+					used[k] = true;
+					nIgnored += k == i ? 1 : 2;
+				}
+			}
+		}
+		if (nIgnored == nc)
+			return false;
+
+		for (int i = 0; i < nc; i++) {
+			if (used[i])
+				continue;
+
+			Chain ring = new Chain(-1);
+			int c = i;
+			while (true) {
+				used[c] = true;
+				ring.append(chains[i0 + c]);
+
+				// find the chain that starts just after the end of current one
+				double pos = endPos[c];
+				int next = -1;
+				double dMin = Double.MAX_VALUE;
+				for (int k = 0; k < nc; k++) {
+					if (used[k] && k != i)
+						continue;
+					double d = startPos[k] - pos;
+					if (d < 0)
+						d += perim;
+					if (d < dMin) {
+						dMin = d;
+						next = k;
+					}
+				}
+
+				// add the corners of the tile located between the chains
+				for (int k = 0; k < 4; k++) {
+					double d = cornerPos[k] - pos;
+					if (d < 0)
+						d += perim;
+					if (d > 0 && d < dMin)
+						ring.addCorner(cornerX[k], cornerY[k], d);
+				}
+				ring.flushCorners();
+
+				if (next == i || next == -1)
+					break;
+				c = next;
+			}
+
+			// remove last vertex if it is the same as the first one
+			if (ring.n > 1 && ring.xs[ring.n - 1] == ring.xs[0]
+					&& ring.ys[ring.n - 1] == ring.ys[0])
+				ring.n--;
+			if (!ring.isDegenerate())
+				rings.add(new LinearRing2D(ring.xCoords(), ring.yCoords()));
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the position of a point on the boundary of the tile, as the
+	 * curvilinear abscissa from the lower left corner, going
+	 * counter-clockwise. The point is projected onto the closest side.
+	 */
+	private static double boundaryPosition(double x, double y, double x0,
+			double x1, double y0, double y1) {
+		double w = x1 - x0;
+		double h = y1 - y0;
+		double dBottom = Math.abs(y - y0);
+		double dRight = Math.abs(x - x1);
+		double dTop = Math.abs(y - y1);
+		double dLeft = Math.abs(x - x0);
+
+		double pos;
+		if (dBottom <= dRight && dBottom <= dTop && dBottom <= dLeft)
+			pos = Math.min(Math.max(x - x0, 0), w);
+		else if (dRight <= dTop && dRight <= dLeft)
+			pos = w + Math.min(Math.max(y - y0, 0), h);
+		else if (dTop <= dLeft)
+			pos = w + h + Math.min(Math.max(x1 - x, 0), w);
+		else
+			pos = 2 * w + h + Math.min(Math.max(y1 - y, 0), h);
+		return pos < 2 * (w + h) ? pos : 0;
+	}
+
+	/**
+	 * Computes the winding number of the rings around the center of each
+	 * tile flagged in the array. Crossings of ring edges with the horizontal
+	 * line through tile centers are computed row by row.
+	 */
+	private int[] centerWindings(ArrayList<double[]> ringCoords,
+			boolean[] flags, int nx, int ny) {
+		double tw = (xmax - xmin) / nx;
+		double th = (ymax - ymin) / ny;
+
+		// collect crossings of ring edges with rows
+		double[][] rowX = new double[ny][];
+		int[][] rowDir = new int[ny][];
+		int[] rowCount = new int[ny];
+		for (int r = 0; r < ringCoords.size(); r += 2) {
+			double[] xs = ringCoords.get(r);
+			double[] ys = ringCoords.get(r + 1);
+			int n = xs.length;
+			for (int i = 0; i < n; i++) {
+				double xa = xs[i];
+				double ya = ys[i];
+				double xb = xs[(i + 1) % n];
+				double yb = ys[(i + 1) % n];
+				if (ya == yb)
+					continue;
+				double lo = Math.min(ya, yb);
+				double hi = Math.max(ya, yb);
+
+				// range of rows whose center may be within [lo, hi)
+				int j0 = Math.max(0, (int) Math.floor((lo - ymin) / th - .5));
+				int j1 = Math.min(ny - 1, (int) Math.ceil((hi - ymin) / th - .5));
+				for (int j = j0; j <= j1; j++) {
+					double yc = ymin + (j + .5) * th;
+					if (yc < lo || yc >= hi)
+						continue;
+					if (rowX[j] == null) {
+						rowX[j] = new double[8];
+						rowDir[j] = new int[8];
+					} else if (rowCount[j] == rowX[j].length) {
+						rowX[j] = Arrays.copyOf(rowX[j], rowCount[j] * 2);
+						rowDir[j] = Arrays.copyOf(rowDir[j], rowCount[j] * 2);
+					}
+					rowX[j][rowCount[j]] = xa + (yc - ya) * (xb - xa) / (yb - ya);
+					rowDir[j][rowCount[j]] = yb > ya ? 1 : -1;
+					rowCount[j]++;
+				}
+			}
+		}
+
+		// count crossings on the right of each flagged tile center
+		int[] winding = new int[nx * ny];
+		for (int j = 0; j < ny; j++) {
+			for (int i = 0; i < nx; i++) {
+				int tile = j * nx + i;
+				if (!flags[tile])
+					continue;
+				double xc = xmin + (i + .5) * tw;
+				int w = 0;
+				for (int k = 0; k < rowCount[j]; k++)
+					if (rowX[j][k] > xc)
+						w += rowDir[j][k];
+				winding[tile] = w;
+			}
+		}
+		return winding;
+	}
+
+	private static ArrayList<LinearRing2D> tileRings(
+			ArrayList<ArrayList<LinearRing2D>> tileRings, int tile) {
+		ArrayList<LinearRing2D> rings = tileRings.get(tile);
+		if (rings == null) {
+			rings = new ArrayList<LinearRing2D>(1);
+			tileRings.set(tile, rings);
+		}
+		return rings;
+	}
+
+	private static void extractCoordinates(LinearCurve2D curve, double[] xs,
+			double[] ys) {
+		CoordinateSequence2D coords = curve.coordinates();
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = coords.x(i);
+			ys[i] = coords.y(i);
+		}
+	}
+
+	private static double signedArea(double[] xs, double[] ys, int n) {
+		double area = 0;
+		for (int i = 0; i < n; i++) {
+			int j = (i + 1) % n;
+			area += xs[i] * ys[j] - xs[j] * ys[i];
+		}
+		return area / 2;
+	}
+
+
+	// ===================================================================
+	// Inner class
+
+	/**
+	 * A growable sequence of vertices located within a tile. Consecutive
+	 * duplicate vertices are not stored.
+	 */
+	private static class Chain {
+		int tile;
+		double[] xs = new double[8];
+		double[] ys = new double[8];
+		int n = 0;
+
+		// corners waiting to be added, sorted by distance
+		double[] cornerX = new double[4];
+		double[] cornerY = new double[4];
+		double[] cornerDist = new double[4];
+		int nCorners = 0;
+
+		Chain(int tile) {
+			this.tile = tile;
+		}
+
+		void add(double x, double y) {
+			if (n > 0 && xs[n - 1] == x && ys[n - 1] == y)
+				return;
+			if (n == xs.length) {
+				xs = Arrays.copyOf(xs, n * 2);
+				ys = Arrays.copyOf(ys, n * 2);
+			}
+			xs[n] = x;
+			ys[n] = y;
+			n++;
+		}
+
+		void append(Chain chain) {
+			for (int i = 0; i < chain.n; i++)
+				add(chain.xs[i], chain.ys[i]);
+		}
+
+		void addCorner(double x, double y, double dist) {
+			int i = nCorners++;
+			while (i > 0 && cornerDist[i - 1] > dist) {
+				cornerX[i] = cornerX[i - 1];
+				cornerY[i] = cornerY[i - 1];
+				cornerDist[i] = cornerDist[i - 1];
+				i--;
+			}
+			cornerX[i] = x;
+			cornerY[i] = y;
+			cornerDist[i] = dist;
+		}
+
+		void flushCorners() {
+			for (int i = 0; i < nCorners; i++)
+				add(cornerX[i], cornerY[i]);
+			nCorners = 0;
+		}
+
+		/**
+		 * Checks if the vertices are less than three, or aligned along a
+		 * horizontal or vertical line.
+		 */
+		boolean isDegenerate() {
+			if (n < 3)
+				return true;
+			boolean sameX = true, sameY = true;
+			for (int i = 1; i < n; i++) {
+				sameX &= xs[i] == xs[0];
+				sameY &= ys[i] == ys[0];
+			}
+			return sameX || sameY;
+		}
+
+		/**
+		 * Checks if the given chain has the same vertices as this chain, in
+		 * reverse order.
+		 */
+		boolean isReverse(Chain chain) {
+			if (chain.n != n)
+				return false;
+			for (int i = 0, j = n - 1; i < n; i++, j--) {
+				if (xs[i] != chain.xs[j] || ys[i] != chain.ys[j])
+					return false;
+			}
+			return true;
+		}
+
+		double[] xCoords() {
+			return Arrays.copyOf(xs, n);
+		}
+
+		double[] yCoords() {
+			return Arrays.copyOf(ys, n);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * File: 	GpcjBooleanEngine.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+import com.seisw.util.geom.Poly;
+import com.seisw.util.geom.PolyDefault;
+import com.seisw.util.geom.PolySimple;
+
+
+/**
+ * Computes boolean operations on polygons using the GPCJ library, developed
+ * by Solution Engineering, Inc. Polygons are converted to GPCJ data
+ * structures, and results are converted back to javaGeom polygons. The
+ * interior of polygons is determined with the even-odd rule.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class GpcjBooleanEngine implements PolygonBooleanEngine {
+
+	/**
+	 * Creates a new boolean engine based on GPCJ.
+	 */
+	public GpcjBooleanEngine() {
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#union(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D union(Polygon2D polygon1, Polygon2D polygon2) {
+		Poly poly1 = convertToGpcjPolygon(polygon1);
+		Poly poly2 = convertToGpcjPolygon(polygon2);
+		return convertFromGpcjPolygon(poly1.union(poly2));
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#intersection(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D intersection(Polygon2D polygon1, Polygon2D polygon2) {
+		Poly poly1 = convertToGpcjPolygon(polygon1);
+		Poly poly2 = convertToGpcjPolygon(polygon2);
+		return convertFromGpcjPolygon(poly1.intersection(poly2));
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#difference(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D difference(Polygon2D polygon1, Polygon2D polygon2) {
+		Poly poly1 = convertToGpcjPolygon(polygon1);
+		Poly poly2 = convertToGpcjPolygon(polygon2);
+		return convertFromGpcjPolygon(poly1.difference(poly2));
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#exclusiveOr(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D exclusiveOr(Polygon2D polygon1, Polygon2D polygon2) {
+		Poly poly1 = convertToGpcjPolygon(polygon1);
+		Poly poly2 = convertToGpcjPolygon(polygon2);
+		return convertFromGpcjPolygon(poly1.xor(poly2));
+	}
+
+	private final static Poly convertToGpcjPolygon(Polygon2D polygon) {
+		PolyDefault result = new PolyDefault();
+		for (LinearRing2D ring : polygon.contours())
+			result.add(convertToGpcjSimplePolygon(ring));
+		return result;
+	}
+
+	private final static PolySimple convertToGpcjSimplePolygon(
+			LinearRing2D ring) {
+		PolySimple poly = new PolySimple();
+		for (Point2D point : ring.vertices())
+			poly.add(new com.seisw.util.geom.Point2D(point.x(), point.y()));
+		return poly;
+	}
+
+	private final static Polygon2D convertFromGpcjPolygon(Poly poly) {
+		int n = poly.getNumInnerPoly();
+
+		// if the result is single, create a SimplePolygon
+		if (n == 1) {
+			Point2D[] points = extractPolyVertices(poly.getInnerPoly(0));
+			return SimplePolygon2D.create(points);
+		}
+
+		// extract the different rings of the resulting polygon
+		LinearRing2D[] rings = new LinearRing2D[n];
+		for (int i = 0; i < n; i++)
+			rings[i] = convertFromGpcjSimplePolygon(poly.getInnerPoly(i));
+
+		// create a multiple polygon
+		return MultiPolygon2D.create(rings);
+	}
+
+	private final static LinearRing2D convertFromGpcjSimplePolygon(Poly poly) {
+		return LinearRing2D.create(extractPolyVertices(poly));
+	}
+
+	private final static Point2D[] extractPolyVertices(Poly poly) {
+		int n = poly.getNumPoints();
+		Point2D[] points = new Point2D[n];
+		for (int i = 0; i < n; i++)
+			points[i] = new Point2D(poly.getX(i), poly.getY(i));
+		return points;
+	}
+}
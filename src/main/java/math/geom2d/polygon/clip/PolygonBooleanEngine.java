@@ -0,0 +1,68 @@
+/**
+ * File: 	PolygonBooleanEngine.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import math.geom2d.polygon.Polygon2D;
+
+
+/**
+ * Generic interface for classes that compute boolean operations between
+ * polygons. The result of each operation is either a SimplePolygon2D if it
+ * contains a single ring, or a MultiPolygon2D otherwise.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public interface PolygonBooleanEngine {
+
+	/**
+	 * The boolean operations that can be applied to two polygons.
+	 */
+	public enum Operation {
+		UNION, INTERSECTION, DIFFERENCE, EXCLUSIVE_OR
+	}
+
+	/**
+	 * The rules for deciding whether a point belongs to the interior of a
+	 * polygon whose rings overlap or intersect.
+	 */
+	public enum FillRule {
+		/** The point is inside if a ray from the point crosses an odd number of edges */
+		EVEN_ODD,
+		/** The point is inside if the winding number of the rings around the point is not zero */
+		NON_ZERO,
+		/** The point is inside if the winding number of the rings around the point is positive */
+		POSITIVE
+	}
+
+	/**
+	 * Computes the union of the two polygons.
+	 */
+	public abstract Polygon2D union(Polygon2D polygon1, Polygon2D polygon2);
+
+	/**
+	 * Computes the intersection of the two polygons.
+	 */
+	public abstract Polygon2D intersection(Polygon2D polygon1,
+			Polygon2D polygon2);
+
+	/**
+	 * Computes the difference of the two polygons, corresponding to the
+	 * region within the first polygon and outside of the second polygon.
+	 */
+	public abstract Polygon2D difference(Polygon2D polygon1,
+			Polygon2D polygon2);
+
+	/**
+	 * Computes the exclusive or of the two polygons, corresponding to the
+	 * region within exactly one of the two polygons.
+	 */
+	public abstract Polygon2D exclusiveOr(Polygon2D polygon1,
+			Polygon2D polygon2);
+}
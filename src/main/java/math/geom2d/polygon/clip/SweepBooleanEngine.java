@@ -0,0 +1,1031 @@
+/**
+ * File: 	SweepBooleanEngine.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.line.SegmentIntersector;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.predicates.Predicates2D;
+
+
+/**
+ * Computes boolean operations on polygons using a sweep line algorithm, in
+ * the spirit of the Martinez-Rueda algorithm. The computation works on arrays
+ * of coordinates, and proceeds in four steps:
+ * <ol>
+ * <li>the edges of both polygons are split at their intersections, and
+ * overlapping pieces are merged, resulting in a set of fragments that do not
+ * cross each other. As intersection points are rounded, the fragments are
+ * split again until no crossing remains</li>
+ * <li>a sweep line computes the winding number of each polygon below each
+ * fragment</li>
+ * <li>the fragments separating the interior and the exterior of the result
+ * are selected, and oriented such that the interior is on their left</li>
+ * <li>selected fragments are connected into rings</li>
+ * </ol>
+ * Resulting rings are oriented counter-clockwise for outer boundaries, and
+ * clockwise for holes. Colinear vertices are removed.<br>
+ *
+ * The interior of each polygon is determined by the fill rule given at
+ * construction, the default being the even-odd rule. The engine does not
+ * keep any state between computations, and can be shared between threads.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class SweepBooleanEngine implements PolygonBooleanEngine {
+
+	// ===================================================================
+	// Class variables
+
+	/**
+	 * The maximal number of splitting passes. Each pass after the first one
+	 * only splits the fragments that cross because of the rounding of the
+	 * intersections computed by the previous pass.
+	 */
+	private static final int MAX_PASSES = 32;
+
+	private final FillRule fillRule;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new boolean engine using the even-odd rule.
+	 */
+	public SweepBooleanEngine() {
+		this(FillRule.EVEN_ODD);
+	}
+
+	/**
+	 * Creates a new boolean engine using the specified fill rule.
+	 */
+	public SweepBooleanEngine(FillRule fillRule) {
+		if (fillRule == null)
+			throw new NullPointerException("Fill rule must not be null");
+		this.fillRule = fillRule;
+	}
+
+
+	// ===================================================================
+	// Accessors
+
+	public FillRule getFillRule() {
+		return fillRule;
+	}
+
+
+	// ===================================================================
+	// Implementation of the PolygonBooleanEngine interface
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#union(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D union(Polygon2D polygon1, Polygon2D polygon2) {
+		return compute(polygon1, polygon2, Operation.UNION);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#intersection(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D intersection(Polygon2D polygon1, Polygon2D polygon2) {
+		return compute(polygon1, polygon2, Operation.INTERSECTION);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#difference(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D difference(Polygon2D polygon1, Polygon2D polygon2) {
+		return compute(polygon1, polygon2, Operation.DIFFERENCE);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.polygon.clip.PolygonBooleanEngine#exclusiveOr(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)
+	 */
+	public Polygon2D exclusiveOr(Polygon2D polygon1, Polygon2D polygon2) {
+		return compute(polygon1, polygon2, Operation.EXCLUSIVE_OR);
+	}
+
+
+	// ===================================================================
+	// Computation methods
+
+	/**
+	 * Applies the boolean operation to the two polygons.
+	 */
+	public Polygon2D compute(Polygon2D polygon1, Polygon2D polygon2,
+			Operation operation) {
+		double[][] rings = compute(convertRings(polygon1),
+				convertRings(polygon2), operation);
+		return createPolygon(rings);
+	}
+
+	/**
+	 * Applies the boolean operation to two polygons given as arrays of
+	 * rings. Each ring is given by the sequence of the x and y coordinates
+	 * of its vertices, the last vertex being implicitly connected to the
+	 * first one.
+	 *
+	 * @param rings1 the rings of the first polygon
+	 * @param rings2 the rings of the second polygon
+	 * @param operation the operation to apply
+	 * @return the rings of the resulting polygon, with the same format
+	 */
+	public double[][] compute(double[][] rings1, double[][] rings2,
+			Operation operation) {
+		if (operation == null)
+			throw new NullPointerException("Operation must not be null");
+		Computation computation = new Computation(operation);
+		computation.addRings(rings1, 0);
+		computation.addRings(rings2, 1);
+		computation.computeFragments();
+		computation.computeWindings();
+		return computation.createRings();
+	}
+
+	private static double[][] convertRings(Polygon2D polygon) {
+		ArrayList<double[]> rings = new ArrayList<double[]>();
+		for (LinearRing2D ring : polygon.contours()) {
+			int n = ring.vertexNumber();
+			double[] coords = new double[2 * n];
+			int i = 0;
+			for (Point2D vertex : ring.vertices()) {
+				coords[i++] = vertex.x();
+				coords[i++] = vertex.y();
+			}
+			rings.add(coords);
+		}
+		return rings.toArray(new double[rings.size()][]);
+	}
+
+	private static Polygon2D createPolygon(double[][] rings) {
+		if (rings.length == 1) {
+			double[][] xy = splitCoordinates(rings[0]);
+			return new SimplePolygon2D(xy[0], xy[1]);
+		}
+
+		LinearRing2D[] result = new LinearRing2D[rings.length];
+		for (int i = 0; i < rings.length; i++) {
+			double[][] xy = splitCoordinates(rings[i]);
+			result[i] = new LinearRing2D(xy[0], xy[1]);
+		}
+		return MultiPolygon2D.create(result);
+	}
+
+	private static double[][] splitCoordinates(double[] coords) {
+		int n = coords.length / 2;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = coords[2 * i];
+			ys[i] = coords[2 * i + 1];
+		}
+		return new double[][] { xs, ys };
+	}
+
+
+	// ===================================================================
+	// Inner class storing the state of a computation
+
+	/**
+	 * Stores the edges and fragments processed during a single computation.
+	 * Edges and fragments are stored with their extremities sorted by x,
+	 * then by y, together with their contribution to the winding number of
+	 * each polygon: +1 if the original edge had the same direction, -1 if
+	 * it had the opposite direction, and 0 if it belongs to the other
+	 * polygon. The "above" side of a fragment is the left side of the
+	 * fragment oriented from its first to its second extremity.
+	 */
+	private class Computation {
+
+		final Operation operation;
+
+		// the edges of both polygons, or the fragments of previous pass
+		double[] ex1, ey1, ex2, ey2;
+		int[] ew1, ew2;
+		boolean[] eSplit;
+		int nEdges = 0;
+
+		// tolerance for snapping intersections to extremities
+		double maxCoord = 0;
+		double eps;
+
+		// the split points of edges
+		int[] sEdge = new int[16];
+		double[] sx = new double[16];
+		double[] sy = new double[16];
+		int nSplits = 0;
+
+		// the fragments obtained after splitting and merging edges, and
+		// whether they come from a split edge
+		double[] fx1, fy1, fx2, fy2;
+		int[] fw1, fw2;
+		boolean[] fSplit;
+		int nFrags = 0;
+
+		// the winding numbers of each polygon below each fragment
+		int[] below1, below2;
+
+		Computation(Operation operation) {
+			this.operation = operation;
+			int n = 16;
+			ex1 = new double[n];
+			ey1 = new double[n];
+			ex2 = new double[n];
+			ey2 = new double[n];
+			ew1 = new int[n];
+			ew2 = new int[n];
+		}
+
+		// ---------------------------------------------------------------
+		// Creation of edges
+
+		void addRings(double[][] rings, int poly) {
+			for (double[] ring : rings) {
+				int n = ring.length / 2;
+				for (int i = 0; i < n; i++) {
+					int j = (i + 1) % n;
+					addEdge(ring[2 * i], ring[2 * i + 1],
+							ring[2 * j], ring[2 * j + 1], poly);
+				}
+			}
+		}
+
+		void addEdge(double x1, double y1, double x2, double y2, int poly) {
+			if (x1 == x2 && y1 == y2)
+				return;
+			if (nEdges == ex1.length) {
+				int n = nEdges * 2;
+				ex1 = Arrays.copyOf(ex1, n);
+				ey1 = Arrays.copyOf(ey1, n);
+				ex2 = Arrays.copyOf(ex2, n);
+				ey2 = Arrays.copyOf(ey2, n);
+				ew1 = Arrays.copyOf(ew1, n);
+				ew2 = Arrays.copyOf(ew2, n);
+			}
+
+			int dir;
+			if (compareXY(x1, y1, x2, y2) < 0) {
+				ex1[nEdges] = x1; ey1[nEdges] = y1;
+				ex2[nEdges] = x2; ey2[nEdges] = y2;
+				dir = 1;
+			} else {
+				ex1[nEdges] = x2; ey1[nEdges] = y2;
+				ex2[nEdges] = x1; ey2[nEdges] = y1;
+				dir = -1;
+			}
+			ew1[nEdges] = poly == 0 ? dir : 0;
+			ew2[nEdges] = poly == 0 ? 0 : dir;
+			nEdges++;
+
+			maxCoord = Math.max(maxCoord, Math.max(
+					Math.max(Math.abs(x1), Math.abs(y1)),
+					Math.max(Math.abs(x2), Math.abs(y2))));
+		}
+
+		// ---------------------------------------------------------------
+		// Splitting of edges
+
+		/**
+		 * Splits the edges into fragments that do not cross each other.
+		 * The fragments obtained by splitting the edges at their computed
+		 * intersections may cross other fragments in the neighborhood of
+		 * the intersections, so the fragments are used as edges of a new
+		 * pass until no split point is found. Only the fragments of split
+		 * edges, and the fragments overlapping them along x, are processed
+		 * by the new passes.
+		 */
+		void computeFragments() {
+			eps = Shape2D.ACCURACY * (1 + maxCoord);
+			int[] edges = null;
+			for (int pass = 0; pass < MAX_PASSES; pass++) {
+				nSplits = 0;
+				splitEdges(edges);
+				if (pass > 0 && nSplits == 0)
+					return;
+				mergeFragments();
+				if (nSplits == 0)
+					return;
+
+				ex1 = fx1; ey1 = fy1;
+				ex2 = fx2; ey2 = fy2;
+				ew1 = fw1; ew2 = fw2;
+				eSplit = fSplit;
+				nEdges = nFrags;
+				edges = selectEdgesNearSplits();
+			}
+		}
+
+		/**
+		 * Identifies intersecting edges, and stores intersection points as
+		 * split points of each edge. If the array of edge indices is null,
+		 * all edges are processed.
+		 */
+		void splitEdges(int[] edges) {
+			int n = edges == null ? nEdges : edges.length;
+			SegmentIntersector intersector = new SegmentIntersector(n);
+			for (int k = 0; k < n; k++) {
+				int i = edges == null ? k : edges[k];
+				intersector.addSegment(ex1[i], ey1[i], ex2[i], ey2[i]);
+			}
+			int[] pairs = intersector.intersectingPairs();
+
+			for (int k = 0; k < pairs.length; k += 2) {
+				if (edges == null)
+					intersectEdges(pairs[k], pairs[k + 1]);
+				else
+					intersectEdges(edges[pairs[k]], edges[pairs[k + 1]]);
+			}
+		}
+
+		/**
+		 * Returns the indices of the edges whose extent along x overlaps the
+		 * extent of an edge obtained by splitting. Edges are expected to be
+		 * sorted by their first extremity, so that the extents of the split
+		 * edges can be merged into sorted disjoint intervals.
+		 */
+		int[] selectEdgesNearSplits() {
+			double[] lo = new double[16], hi = new double[16];
+			int nIntervals = 0;
+			for (int i = 0; i < nEdges; i++) {
+				if (!eSplit[i])
+					continue;
+				if (nIntervals > 0 && ex1[i] <= hi[nIntervals - 1]) {
+					hi[nIntervals - 1] = Math.max(hi[nIntervals - 1], ex2[i]);
+					continue;
+				}
+				if (nIntervals == lo.length) {
+					lo = Arrays.copyOf(lo, nIntervals * 2);
+					hi = Arrays.copyOf(hi, nIntervals * 2);
+				}
+				lo[nIntervals] = ex1[i];
+				hi[nIntervals] = ex2[i];
+				nIntervals++;
+			}
+
+			int[] edges = new int[nEdges];
+			int n = 0;
+			for (int i = 0; i < nEdges; i++) {
+				// the last interval starting before the end of the edge
+				int k = Arrays.binarySearch(lo, 0, nIntervals, ex2[i]);
+				if (k < 0)
+					k = -k - 2;
+				if (k >= 0 && hi[k] >= ex1[i])
+					edges[n++] = i;
+			}
+			return Arrays.copyOf(edges, n);
+		}
+
+		void intersectEdges(int i, int j) {
+			// position of the extremities of each edge wrt the other edge
+			int s1 = side(i, ex1[j], ey1[j]);
+			int s2 = side(i, ex2[j], ey2[j]);
+			int s3 = side(j, ex1[i], ey1[i]);
+			int s4 = side(j, ex2[i], ey2[i]);
+
+			if (s1 * s2 < 0 && s3 * s4 < 0) {
+				// proper crossing
+				double o3 = orient(ex1[j], ey1[j], ex2[j], ey2[j], ex1[i], ey1[i]);
+				double o4 = orient(ex1[j], ey1[j], ex2[j], ey2[j], ex2[i], ey2[i]);
+				double t = o3 / (o3 - o4);
+				double x = ex1[i] + t * (ex2[i] - ex1[i]);
+				double y = ey1[i] + t * (ey2[i] - ey1[i]);
+
+				// crossings close to an extremity of one edge are snapped to
+				// this extremity, and only the other edge is split
+				if (isClose(x, y, ex1[i], ey1[i]))
+					addSplit(j, ex1[i], ey1[i]);
+				else if (isClose(x, y, ex2[i], ey2[i]))
+					addSplit(j, ex2[i], ey2[i]);
+				else if (isClose(x, y, ex1[j], ey1[j]))
+					addSplit(i, ex1[j], ey1[j]);
+				else if (isClose(x, y, ex2[j], ey2[j]))
+					addSplit(i, ex2[j], ey2[j]);
+				else {
+					addSplit(i, x, y);
+					addSplit(j, x, y);
+				}
+				return;
+			}
+
+			// extremities of one edge located on the other edge
+			if (s1 == 0 && isInside(i, ex1[j], ey1[j]))
+				addSplit(i, ex1[j], ey1[j]);
+			if (s2 == 0 && isInside(i, ex2[j], ey2[j]))
+				addSplit(i, ex2[j], ey2[j]);
+			if (s3 == 0 && isInside(j, ex1[i], ey1[i]))
+				addSplit(j, ex1[i], ey1[i]);
+			if (s4 == 0 && isInside(j, ex2[i], ey2[i]))
+				addSplit(j, ex2[i], ey2[i]);
+		}
+
+		/**
+		 * Returns the side of the point with respect to the edge: +1 on the
+		 * left, -1 on the right, and 0 if the point is on the supporting
+		 * line. The result is exact, so that both edges of a pair are always
+		 * split consistently.
+		 */
+		int side(int i, double x, double y) {
+			return signOf(orient(ex1[i], ey1[i], ex2[i], ey2[i], x, y));
+		}
+
+		/**
+		 * Checks if two points are within tolerance distance along each
+		 * coordinate.
+		 */
+		boolean isClose(double x1, double y1, double x2, double y2) {
+			return Math.abs(x1 - x2) <= eps && Math.abs(y1 - y2) <= eps;
+		}
+
+		/**
+		 * Checks if the point is strictly between the extremities of the edge.
+		 */
+		boolean isInside(int i, double x, double y) {
+			return compareXY(ex1[i], ey1[i], x, y) < 0
+					&& compareXY(x, y, ex2[i], ey2[i]) < 0;
+		}
+
+		void addSplit(int edge, double x, double y) {
+
+			if (nSplits == sEdge.length) {
+				int n = nSplits * 2;
+				sEdge = Arrays.copyOf(sEdge, n);
+				sx = Arrays.copyOf(sx, n);
+				sy = Arrays.copyOf(sy, n);
+			}
+			sEdge[nSplits] = edge;
+			sx[nSplits] = x;
+			sy[nSplits] = y;
+			nSplits++;
+		}
+
+		// ---------------------------------------------------------------
+		// Creation of fragments
+
+		/**
+		 * Splits the edges into fragments, and merges the fragments with
+		 * same extremities by summing their contributions to winding
+		 * numbers. Fragments whose contributions cancel are removed.
+		 */
+		void mergeFragments() {
+			// group split points by edge, using counting sort
+			int[] offsets = new int[nEdges + 1];
+			for (int k = 0; k < nSplits; k++)
+				offsets[sEdge[k] + 1]++;
+			for (int i = 0; i < nEdges; i++)
+				offsets[i + 1] += offsets[i];
+			int[] order = new int[nSplits];
+			int[] pos = Arrays.copyOf(offsets, nEdges);
+			for (int k = 0; k < nSplits; k++)
+				order[pos[sEdge[k]]++] = k;
+
+			// create fragments of each edge
+			int nMax = nEdges + nSplits;
+			double[] x1 = new double[nMax], y1 = new double[nMax];
+			double[] x2 = new double[nMax], y2 = new double[nMax];
+			int[] w1 = new int[nMax], w2 = new int[nMax];
+			boolean[] split = new boolean[nMax];
+			int n = 0;
+			double[] params = new double[4];
+			for (int i = 0; i < nEdges; i++) {
+				int i0 = offsets[i], i1 = offsets[i + 1];
+				sortSplits(i, order, i0, i1, params);
+
+				double xp = ex1[i], yp = ey1[i];
+				for (int k = i0; k <= i1; k++) {
+					double x = k < i1 ? sx[order[k]] : ex2[i];
+					double y = k < i1 ? sy[order[k]] : ey2[i];
+					if (x == xp && y == yp)
+						continue;
+
+					// store fragment with sorted extremities
+					if (compareXY(xp, yp, x, y) < 0) {
+						x1[n] = xp; y1[n] = yp; x2[n] = x; y2[n] = y;
+						w1[n] = ew1[i]; w2[n] = ew2[i];
+					} else {
+						x1[n] = x; y1[n] = y; x2[n] = xp; y2[n] = yp;
+						w1[n] = -ew1[i]; w2[n] = -ew2[i];
+					}
+					split[n] = i1 > i0;
+					n++;
+					xp = x;
+					yp = y;
+				}
+			}
+
+			// sort fragments by extremities
+			final double[] fx1 = x1, fy1 = y1, fx2 = x2, fy2 = y2;
+			int[] fragOrder = new int[n];
+			for (int k = 0; k < n; k++)
+				fragOrder[k] = k;
+			sort(fragOrder, 0, n - 1, new IndexComparator() {
+				public int compare(int i, int j) {
+					int res = compareXY(fx1[i], fy1[i], fx1[j], fy1[j]);
+					if (res != 0)
+						return res;
+					return compareXY(fx2[i], fy2[i], fx2[j], fy2[j]);
+				}
+			});
+
+			// merge identical fragments
+			this.fx1 = new double[n];
+			this.fy1 = new double[n];
+			this.fx2 = new double[n];
+			this.fy2 = new double[n];
+			this.fw1 = new int[n];
+			this.fw2 = new int[n];
+			this.fSplit = new boolean[n];
+			int m = -1;
+			for (int k = 0; k < n; k++) {
+				int f = fragOrder[k];
+				if (m < 0 || x1[f] != this.fx1[m] || y1[f] != this.fy1[m]
+						|| x2[f] != this.fx2[m] || y2[f] != this.fy2[m]) {
+					// replace the previous fragment if it does not contribute
+					if (m < 0 || this.fw1[m] != 0 || this.fw2[m] != 0)
+						m++;
+					this.fx1[m] = x1[f];
+					this.fy1[m] = y1[f];
+					this.fx2[m] = x2[f];
+					this.fy2[m] = y2[f];
+					this.fw1[m] = 0;
+					this.fw2[m] = 0;
+					this.fSplit[m] = false;
+				}
+				this.fw1[m] += w1[f];
+				this.fw2[m] += w2[f];
+				this.fSplit[m] |= split[f];
+			}
+			if (m >= 0 && this.fw1[m] == 0 && this.fw2[m] == 0)
+				m--;
+			this.nFrags = m + 1;
+		}
+
+		/**
+		 * Sorts the split points of an edge by increasing position along
+		 * the edge, using insertion sort.
+		 */
+		private void sortSplits(int edge, int[] order, int i0, int i1,
+				double[] params) {
+			int n = i1 - i0;
+			if (n < 2)
+				return;
+			if (params.length < n)
+				params = new double[n];
+
+			double dx = ex2[edge] - ex1[edge];
+			double dy = ey2[edge] - ey1[edge];
+			for (int k = 0; k < n; k++) {
+				int s = order[i0 + k];
+				params[k] = (sx[s] - ex1[edge]) * dx + (sy[s] - ey1[edge]) * dy;
+			}
+
+			for (int k = 1; k < n; k++) {
+				double t = params[k];
+				int s = order[i0 + k];
+				int k2 = k - 1;
+				while (k2 >= 0 && params[k2] > t) {
+					params[k2 + 1] = params[k2];
+					order[i0 + k2 + 1] = order[i0 + k2];
+					k2--;
+				}
+				params[k2 + 1] = t;
+				order[i0 + k2 + 1] = s;
+			}
+		}
+
+		// ---------------------------------------------------------------
+		// Computation of winding numbers
+
+		/**
+		 * Processes fragment extremities from left to right, and computes
+		 * winding numbers below each fragment from the fragment located just
+		 * below it.
+		 */
+		void computeWindings() {
+			int n = nFrags;
+			below1 = new int[n];
+			below2 = new int[n];
+
+			// events: 2*f for right extremities, 2*f+1 for left extremities
+			int[] events = new int[2 * n];
+			for (int k = 0; k < 2 * n; k++)
+				events[k] = k;
+			sort(events, 0, 2 * n - 1, new IndexComparator() {
+				public int compare(int e1, int e2) {
+					int res = compareXY(eventX(e1), eventY(e1),
+							eventX(e2), eventY(e2));
+					if (res != 0)
+						return res;
+					return (e1 & 1) - (e2 & 1);
+				}
+			});
+
+			Integer[] indices = new Integer[n];
+			for (int i = 0; i < n; i++)
+				indices[i] = i;
+			final Comparator<Integer> comparator = new StatusComparator();
+			TreeSet<Integer> status = new TreeSet<Integer>(comparator);
+
+			int[] inserted = new int[16];
+			int k = 0;
+			while (k < 2 * n) {
+				double x = eventX(events[k]);
+				double y = eventY(events[k]);
+
+				// remove fragments ending at current point
+				for (; k < 2 * n && (events[k] & 1) == 0
+						&& eventX(events[k]) == x && eventY(events[k]) == y; k++) {
+					Integer frag = indices[events[k] >> 1];
+					if (!status.remove(frag))
+						removeByScan(status, frag);
+				}
+
+				// insert fragments starting at current point
+				int nIns = 0;
+				for (; k < 2 * n && eventX(events[k]) == x
+						&& eventY(events[k]) == y; k++) {
+					int frag = events[k] >> 1;
+					status.add(indices[frag]);
+					if (nIns == inserted.length)
+						inserted = Arrays.copyOf(inserted, nIns * 2);
+					inserted[nIns++] = frag;
+				}
+
+				// compute winding numbers from bottom to top
+				sort(inserted, 0, nIns - 1, new IndexComparator() {
+					public int compare(int i, int j) {
+						return comparator.compare(i, j);
+					}
+				});
+				for (int i = 0; i < nIns; i++) {
+					int frag = inserted[i];
+					Integer lower = status.lower(indices[frag]);
+					if (lower != null) {
+						below1[frag] = below1[lower] + fw1[lower];
+						below2[frag] = below2[lower] + fw2[lower];
+					}
+				}
+			}
+		}
+
+		private void removeByScan(TreeSet<Integer> status, Integer frag) {
+			Iterator<Integer> iter = status.iterator();
+			while (iter.hasNext()) {
+				if (iter.next().intValue() == frag.intValue()) {
+					iter.remove();
+					return;
+				}
+			}
+		}
+
+		double eventX(int event) {
+			return (event & 1) == 1 ? fx1[event >> 1] : fx2[event >> 1];
+		}
+
+		double eventY(int event) {
+			return (event & 1) == 1 ? fy1[event >> 1] : fy2[event >> 1];
+		}
+
+		/**
+		 * Compares fragments that are crossed by the sweep line. Fragments
+		 * are assumed not to cross each other.
+		 */
+		private class StatusComparator implements Comparator<Integer> {
+			public int compare(Integer index1, Integer index2) {
+				int i = index1, j = index2;
+				if (i == j)
+					return 0;
+
+				int res;
+				if (fx1[i] == fx1[j] && fy1[i] == fy1[j]) {
+					// same left extremity: compare right extremities
+					res = -signOf(orientFrag(i, fx2[j], fy2[j]));
+				} else if (compareXY(fx1[i], fy1[i], fx1[j], fy1[j]) < 0) {
+					res = -signOf(orientFrag(i, fx1[j], fy1[j]));
+					if (res == 0)
+						res = -signOf(orientFrag(i, fx2[j], fy2[j]));
+				} else {
+					res = signOf(orientFrag(j, fx1[i], fy1[i]));
+					if (res == 0)
+						res = signOf(orientFrag(j, fx2[i], fy2[i]));
+				}
+
+				if (res != 0)
+					return res;
+				return i < j ? -1 : 1;
+			}
+		}
+
+		private double orientFrag(int frag, double x, double y) {
+			return SweepBooleanEngine.orient(fx1[frag], fy1[frag],
+					fx2[frag], fy2[frag], x, y);
+		}
+
+		// ---------------------------------------------------------------
+		// Creation of result rings
+
+		boolean isInside(int winding1, int winding2) {
+			boolean in1 = isInside(winding1);
+			boolean in2 = isInside(winding2);
+			switch (operation) {
+			case UNION:
+				return in1 || in2;
+			case INTERSECTION:
+				return in1 && in2;
+			case DIFFERENCE:
+				return in1 && !in2;
+			default:
+				return in1 != in2;
+			}
+		}
+
+		boolean isInside(int winding) {
+			switch (fillRule) {
+			case EVEN_ODD:
+				return (winding & 1) != 0;
+			case POSITIVE:
+				return winding > 0;
+			default:
+				return winding != 0;
+			}
+		}
+
+		/**
+		 * Selects the fragments on the boundary of the result, and connects
+		 * them into rings.
+		 */
+		double[][] createRings() {
+			// select boundary fragments, oriented with interior on the left
+			int n = 0;
+			double[] rx1 = new double[nFrags], ry1 = new double[nFrags];
+			double[] rx2 = new double[nFrags], ry2 = new double[nFrags];
+			for (int f = 0; f < nFrags; f++) {
+				boolean inBelow = isInside(below1[f], below2[f]);
+				boolean inAbove = isInside(below1[f] + fw1[f], below2[f] + fw2[f]);
+				if (inBelow == inAbove)
+					continue;
+				if (inAbove) {
+					rx1[n] = fx1[f]; ry1[n] = fy1[f];
+					rx2[n] = fx2[f]; ry2[n] = fy2[f];
+				} else {
+					rx1[n] = fx2[f]; ry1[n] = fy2[f];
+					rx2[n] = fx1[f]; ry2[n] = fy1[f];
+				}
+				n++;
+			}
+
+			// identify vertices from edge extremities
+			final double[] px = new double[2 * n], py = new double[2 * n];
+			int[] order = new int[2 * n];
+			for (int e = 0; e < n; e++) {
+				px[2 * e] = rx1[e]; py[2 * e] = ry1[e];
+				px[2 * e + 1] = rx2[e]; py[2 * e + 1] = ry2[e];
+				order[2 * e] = 2 * e;
+				order[2 * e + 1] = 2 * e + 1;
+			}
+			sort(order, 0, 2 * n - 1, new IndexComparator() {
+				public int compare(int i, int j) {
+					return compareXY(px[i], py[i], px[j], py[j]);
+				}
+			});
+			int[] vertex = new int[2 * n];
+			int nVertices = 0;
+			for (int k = 0; k < 2 * n; k++) {
+				int p = order[k];
+				if (k > 0 && px[p] == px[order[k - 1]] && py[p] == py[order[k - 1]])
+					vertex[p] = nVertices - 1;
+				else
+					vertex[p] = nVertices++;
+			}
+
+			// outgoing edges of each vertex, sorted by angle
+			int[] offsets = new int[nVertices + 1];
+			for (int e = 0; e < n; e++)
+				offsets[vertex[2 * e] + 1]++;
+			for (int v = 0; v < nVertices; v++)
+				offsets[v + 1] += offsets[v];
+			int[] outEdges = new int[n];
+			int[] pos = Arrays.copyOf(offsets, nVertices);
+			for (int e = 0; e < n; e++)
+				outEdges[pos[vertex[2 * e]]++] = e;
+			final double[] fx1 = rx1, fy1 = ry1, fx2 = rx2, fy2 = ry2;
+			IndexComparator angleComparator = new IndexComparator() {
+				public int compare(int i, int j) {
+					return compareAngles(fx1[i], fy1[i], fx2[i], fy2[i],
+							fx2[j], fy2[j]);
+				}
+			};
+			for (int v = 0; v < nVertices; v++)
+				sort(outEdges, offsets[v], offsets[v + 1] - 1, angleComparator);
+
+			// follow edges to create rings
+			boolean[] used = new boolean[n];
+			ArrayList<double[]> rings = new ArrayList<double[]>();
+			double[] coords = new double[16];
+			for (int e0 = 0; e0 < n; e0++) {
+				if (used[e0])
+					continue;
+
+				int nCoords = 0;
+				int e = e0;
+				while (e >= 0 && !used[e]) {
+					used[e] = true;
+					if (nCoords == coords.length)
+						coords = Arrays.copyOf(coords, nCoords * 2);
+					coords[nCoords++] = rx1[e];
+					coords[nCoords++] = ry1[e];
+
+					// choose the first outgoing edge in clockwise order,
+					// starting from the direction of the incoming edge
+					int v = vertex[2 * e + 1];
+					int i0 = offsets[v], i1 = offsets[v + 1];
+					int next = -1;
+					for (int k = i1 - 1; k >= i0; k--) {
+						int e2 = outEdges[k];
+						if (compareAngles(rx2[e], ry2[e], rx2[e2], ry2[e2],
+								rx1[e], ry1[e]) < 0) {
+							next = outEdges[k];
+							break;
+						}
+					}
+					if (next < 0 && i1 > i0)
+						next = outEdges[i1 - 1];
+					e = next;
+				}
+
+				double[] ring = removeColinearVertices(coords, nCoords);
+				if (ring.length >= 6)
+					rings.add(ring);
+			}
+
+			return rings.toArray(new double[rings.size()][]);
+		}
+	}
+
+
+	// ===================================================================
+	// Utility methods
+
+	/**
+	 * Removes the vertices located on the segment joining their neighbors.
+	 */
+	private static double[] removeColinearVertices(double[] coords, int nCoords) {
+		int n = nCoords / 2;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = coords[2 * i];
+			ys[i] = coords[2 * i + 1];
+		}
+
+		boolean changed = true;
+		while (changed && n >= 3) {
+			changed = false;
+			int m = 0;
+			for (int i = 0; i < n; i++) {
+				// previous vertex is either the last kept, or the last one
+				double xp = m > 0 ? xs[m - 1] : xs[n - 1];
+				double yp = m > 0 ? ys[m - 1] : ys[n - 1];
+				double xn = xs[(i + 1) % n];
+				double yn = ys[(i + 1) % n];
+				if (orient(xp, yp, xs[i], ys[i], xn, yn) == 0) {
+					changed = true;
+					continue;
+				}
+				xs[m] = xs[i];
+				ys[m] = ys[i];
+				m++;
+			}
+			n = m;
+		}
+
+		double[] result = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			result[2 * i] = xs[i];
+			result[2 * i + 1] = ys[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Compares two points by their x-coordinate, then by their y-coordinate.
+	 */
+	private static int compareXY(double x1, double y1, double x2, double y2) {
+		if (x1 < x2)
+			return -1;
+		if (x1 > x2)
+			return 1;
+		if (y1 < y2)
+			return -1;
+		if (y1 > y2)
+			return 1;
+		return 0;
+	}
+
+	/**
+	 * Computes twice the signed area of the triangle formed by three points.
+	 * The result is positive if the third point is on the left of the line
+	 * joining the two first points. The sign of the result is exact.
+	 */
+	private static double orient(double x1, double y1, double x2, double y2,
+			double x3, double y3) {
+		return Predicates2D.orient2d(x1, y1, x2, y2, x3, y3);
+	}
+
+	/**
+	 * Compares the angles of the vectors joining the origin point to the
+	 * two other points, using the same range of angles as the Math.atan2()
+	 * function. The result is exact, even for nearly parallel vectors.
+	 */
+	private static int compareAngles(double x0, double y0, double x1,
+			double y1, double x2, double y2) {
+		int half1 = y1 < y0 || (y1 == y0 && x1 > x0) ? 0 : 1;
+		int half2 = y2 < y0 || (y2 == y0 && x2 > x0) ? 0 : 1;
+		if (half1 != half2)
+			return half1 - half2;
+		return -signOf(orient(x0, y0, x1, y1, x2, y2));
+	}
+
+	private static int signOf(double value) {
+		return value > 0 ? 1 : (value < 0 ? -1 : 0);
+	}
+
+	/**
+	 * Compares two integers that represent indices of elements in arrays.
+	 */
+	private interface IndexComparator {
+		int compare(int i, int j);
+	}
+
+	/**
+	 * Sorts the indices between positions lo and hi (inclusive), using quick
+	 * sort.
+	 */
+	private static void sort(int[] inds, int lo, int hi,
+			IndexComparator comparator) {
+		while (hi - lo > 16) {
+			// median of three pivot
+			int mid = (lo + hi) >>> 1;
+			if (comparator.compare(inds[mid], inds[lo]) < 0)
+				swap(inds, mid, lo);
+			if (comparator.compare(inds[hi], inds[lo]) < 0)
+				swap(inds, hi, lo);
+			if (comparator.compare(inds[hi], inds[mid]) < 0)
+				swap(inds, hi, mid);
+			int pivot = inds[mid];
+
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (comparator.compare(inds[i], pivot) < 0)
+					i++;
+				while (comparator.compare(inds[j], pivot) > 0)
+					j--;
+				if (i <= j)
+					swap(inds, i++, j--);
+			}
+
+			// recurse on smaller part, iterate on larger one
+			if (j - lo < hi - i) {
+				sort(inds, lo, j, comparator);
+				lo = i;
+			} else {
+				sort(inds, i, hi, comparator);
+				hi = j;
+			}
+		}
+
+		// insertion sort for small ranges
+		for (int i = lo + 1; i <= hi; i++) {
+			int ind = inds[i];
+			int j = i - 1;
+			while (j >= lo && comparator.compare(inds[j], ind) > 0) {
+				inds[j + 1] = inds[j];
+				j--;
+			}
+			inds[j + 1] = ind;
+		}
+	}
+
+	private static void swap(int[] inds, int i, int j) {
+		int tmp = inds[i];
+		inds[i] = inds[j];
+		inds[j] = tmp;
+	}
+}
@@ -0,0 +1,488 @@
+/**
+ * File: 	MonotoneChain2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.predicates.Predicates2D;
+import math.utils.ParallelUtils;
+
+
+/**
+ * Computation of the convex hull using Andrew's monotone chain algorithm.
+ * Points are sorted by increasing x-coordinate (then y-coordinate), and the
+ * lower and upper hulls are built in a single pass over the sorted points.
+ * Computations are performed on arrays of coordinates.<p>
+ * Before sorting, the points located strictly inside the convex polygon
+ * formed by the extreme points along sixteen directions are discarded
+ * (Akl-Toussaint heuristic). For usual point distributions, this removes
+ * most of the points.<p>
+ * In parallel mode, large point sets are split into chunks whose convex
+ * hulls are computed on a fork-join pool, and are then merged by pairs.<p>
+ * The complexity is O(n log n). The result is a counter-clockwise oriented
+ * polygon starting at the point with lowest x-coordinate. Points located
+ * on the edges of the hull are not kept.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public class MonotoneChain2D implements ConvexHull2D {
+
+	// ===================================================================
+	// Static constants
+
+	/**
+	 * The number of points below which the convex hull is computed
+	 * sequentially.
+	 */
+	private final static int PARALLEL_THRESHOLD = 1 << 16;
+
+
+	// ===================================================================
+	// Class variables
+
+	/** The pool used for parallel computation, or null */
+	private ForkJoinPool pool = null;
+
+
+	// ===================================================================
+	// Constructors
+
+	/**
+	 * Creates a new convex hull calculator, that performs computations
+	 * sequentially.
+	 */
+	public MonotoneChain2D() {
+	}
+
+	/**
+	 * Creates a new convex hull calculator. If parallel is true, the hulls
+	 * of large point sets are computed using the default fork-join pool.
+	 */
+	public MonotoneChain2D(boolean parallel) {
+		if (parallel)
+			this.pool = ParallelUtils.defaultPool();
+	}
+
+	/**
+	 * Creates a new convex hull calculator, that computes the hulls of large
+	 * point sets using the specified fork-join pool.
+	 */
+	public MonotoneChain2D(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+
+	// ===================================================================
+	// Methods implementing the ConvexHull2D interface
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D.
+	 * Result is an instance of SimplePolygon2D.
+	 */
+	public SimplePolygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int i = 0;
+		for (Point2D point : points) {
+			xs[i] = point.x();
+			ys[i] = point.y();
+			i++;
+		}
+		return convexHull(xs, ys);
+	}
+
+	/**
+	 * Computes the convex hull of a set of points given by the arrays of
+	 * their coordinates. The arrays are not modified.
+	 */
+	public SimplePolygon2D convexHull(double[] xs, double[] ys) {
+		double[][] hull = hullCoordinates(xs, ys);
+		return new SimplePolygon2D(hull[0], hull[1]);
+	}
+
+	/**
+	 * Computes the coordinates of the vertices of the convex hull of a set
+	 * of points given by the arrays of their coordinates. The arrays are not
+	 * modified.
+	 * @return an array containing the array of x-coordinates and the array
+	 *         of y-coordinates of the vertices of the hull
+	 */
+	public double[][] hullCoordinates(double[] xs, double[] ys) {
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must have the same length");
+
+		int n = xs.length;
+		InteriorFilter filter = extremePolygon(xs, ys, n);
+		HullTask task = new HullTask(xs, ys, filter, 0, n);
+		if (this.pool == null || n <= PARALLEL_THRESHOLD)
+			return task.chunkHull();
+		return this.pool.invoke(task);
+	}
+
+
+	// ===================================================================
+	// Computation of the hull
+
+	/**
+	 * Computes the convex hull of the points within a range of the arrays,
+	 * by merging the hulls of each half of the range.
+	 */
+	private static class HullTask extends RecursiveTask<double[][]> {
+		private static final long serialVersionUID = 1L;
+
+		private double[] xs;
+		private double[] ys;
+		/** The polygon containing the points to discard, or null */
+		private InteriorFilter filter;
+		private int from;
+		private int to;
+
+		public HullTask(double[] xs, double[] ys, InteriorFilter filter, int from,
+				int to) {
+			this.xs = xs;
+			this.ys = ys;
+			this.filter = filter;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected double[][] compute() {
+			if (to - from <= PARALLEL_THRESHOLD)
+				return chunkHull();
+
+			int mid = (from + to) >>> 1;
+			HullTask left = new HullTask(xs, ys, filter, from, mid);
+			HullTask right = new HullTask(xs, ys, filter, mid, to);
+			left.fork();
+			double[][] rightHull = right.compute();
+			return merge(left.join(), rightHull);
+		}
+
+		/**
+		 * Computes the hull of the points in the range that are not inside
+		 * the filter polygon.
+		 */
+		private double[][] chunkHull() {
+			int n = to - from;
+			int capacity = Math.min(Math.max(n, 1), 1024);
+			double[] hx = new double[capacity];
+			double[] hy = new double[capacity];
+
+			int m = 0;
+			for (int i = from; i < to; i++) {
+				double x = xs[i];
+				double y = ys[i];
+				if (filter != null && filter.contains(x, y))
+					continue;
+
+				if (m == hx.length) {
+					capacity = Math.min(2 * capacity, n);
+					hx = Arrays.copyOf(hx, capacity);
+					hy = Arrays.copyOf(hy, capacity);
+				}
+				hx[m] = x;
+				hy[m] = y;
+				m++;
+			}
+
+			sort(hx, hy, 0, m);
+			return chain(hx, hy, m);
+		}
+
+		/**
+		 * Computes the convex hull of the union of two convex hulls.
+		 */
+		private static double[][] merge(double[][] hull1, double[][] hull2) {
+			int n1 = hull1[0].length;
+			int n2 = hull2[0].length;
+			double[] xs = Arrays.copyOf(hull1[0], n1 + n2);
+			double[] ys = Arrays.copyOf(hull1[1], n1 + n2);
+			System.arraycopy(hull2[0], 0, xs, n1, n2);
+			System.arraycopy(hull2[1], 0, ys, n1, n2);
+
+			sort(xs, ys, 0, n1 + n2);
+			return chain(xs, ys, n1 + n2);
+		}
+	}
+
+	/**
+	 * Computes the hull of the first n points of the arrays, assuming they
+	 * are sorted. The arrays are modified.
+	 */
+	private static double[][] chain(double[] xs, double[] ys, int n) {
+		// remove duplicate points
+		int m = Math.min(n, 1);
+		for (int i = 1; i < n; i++) {
+			if (xs[i] != xs[m - 1] || ys[i] != ys[m - 1]) {
+				xs[m] = xs[i];
+				ys[m] = ys[i];
+				m++;
+			}
+		}
+		if (m < 3)
+			return new double[][] {
+					Arrays.copyOf(xs, m), Arrays.copyOf(ys, m) };
+
+		double[] hx = new double[2 * m];
+		double[] hy = new double[2 * m];
+		int k = 0;
+
+		// lower hull
+		for (int i = 0; i < m; i++) {
+			while (k >= 2 && Predicates2D.orient2d(hx[k - 2], hy[k - 2],
+					hx[k - 1], hy[k - 1], xs[i], ys[i]) <= 0)
+				k--;
+			hx[k] = xs[i];
+			hy[k] = ys[i];
+			k++;
+		}
+
+		// upper hull
+		int t = k + 1;
+		for (int i = m - 2; i >= 0; i--) {
+			while (k >= t && Predicates2D.orient2d(hx[k - 2], hy[k - 2],
+					hx[k - 1], hy[k - 1], xs[i], ys[i]) <= 0)
+				k--;
+			hx[k] = xs[i];
+			hy[k] = ys[i];
+			k++;
+		}
+
+		// the last point is the same as the first one
+		k--;
+		return new double[][] { Arrays.copyOf(hx, k), Arrays.copyOf(hy, k) };
+	}
+
+
+	// ===================================================================
+	// Akl-Toussaint heuristic
+
+	/**
+	 * Computes the vertices of the convex polygon formed by the extreme
+	 * points along sixteen regularly spaced directions, in counter-clockwise
+	 * order. Returns null if the polygon has less than three distinct
+	 * vertices.
+	 */
+	private static InteriorFilter extremePolygon(double[] xs, double[] ys, int n) {
+		if (n < 3)
+			return null;
+
+		// directions in counter-clockwise order, starting from the bottom
+		int nDirs = 16;
+		double[] dx = new double[nDirs];
+		double[] dy = new double[nDirs];
+		for (int k = 0; k < nDirs; k++) {
+			double theta = -Math.PI / 2 + k * 2 * Math.PI / nDirs;
+			dx[k] = Math.cos(theta);
+			dy[k] = Math.sin(theta);
+		}
+
+		// indices of extreme points in each direction. Opposite directions
+		// are processed together, using minimum and maximum values.
+		int nHalf = nDirs / 2;
+		int[] inds = new int[nDirs];
+		double[] mins = new double[nHalf];
+		double[] maxs = new double[nHalf];
+		for (int k = 0; k < nHalf; k++) {
+			mins[k] = xs[0] * dx[k] + ys[0] * dy[k];
+			maxs[k] = mins[k];
+		}
+		for (int i = 1; i < n; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			for (int k = 0; k < nHalf; k++) {
+				double v = x * dx[k] + y * dy[k];
+				if (v > maxs[k]) {
+					maxs[k] = v;
+					inds[k] = i;
+				} else if (v < mins[k]) {
+					mins[k] = v;
+					inds[k + nHalf] = i;
+				}
+			}
+		}
+
+		// keep distinct vertices
+		double[] polygon = new double[2 * nDirs];
+		int k = 0;
+		for (int i = 0; i < nDirs; i++) {
+			double x = xs[inds[i]];
+			double y = ys[inds[i]];
+			if (k > 0 && x == polygon[2 * k - 2] && y == polygon[2 * k - 1])
+				continue;
+			if (k > 0 && x == polygon[0] && y == polygon[1])
+				continue;
+			polygon[2 * k] = x;
+			polygon[2 * k + 1] = y;
+			k++;
+		}
+		if (k < 3)
+			return null;
+		return new InteriorFilter(Arrays.copyOf(polygon, 2 * k));
+	}
+
+	/**
+	 * A convex polygon whose vertices are points of the set, used to discard
+	 * the points located strictly inside. The circle inscribed in the polygon
+	 * allows a fast test for most interior points.
+	 */
+	private static class InteriorFilter {
+		/** The coordinates of the vertices, in counter-clockwise order */
+		private double[] coords;
+
+		/** The center and the squared radius of the inscribed circle */
+		private double xc, yc, r2;
+
+		public InteriorFilter(double[] coords) {
+			this.coords = coords;
+
+			// use the mean of the vertices as center
+			int n = coords.length / 2;
+			for (int i = 0; i < n; i++) {
+				xc += coords[2 * i];
+				yc += coords[2 * i + 1];
+			}
+			xc /= n;
+			yc /= n;
+
+			// the radius is the smallest distance to the edges, reduced to
+			// avoid rounding issues
+			double r = Double.POSITIVE_INFINITY;
+			double x0 = coords[2 * n - 2];
+			double y0 = coords[2 * n - 1];
+			for (int i = 0; i < n; i++) {
+				double x1 = coords[2 * i];
+				double y1 = coords[2 * i + 1];
+				double d = ((x1 - x0) * (yc - y0) - (y1 - y0) * (xc - x0))
+						/ Math.hypot(x1 - x0, y1 - y0);
+				r = Math.min(r, d);
+				x0 = x1;
+				y0 = y1;
+			}
+			r2 = r > 0 ? r * r * .99 : -1;
+		}
+
+		/**
+		 * Checks if the point is strictly inside the polygon.
+		 */
+		public boolean contains(double x, double y) {
+			double dx = x - xc;
+			double dy = y - yc;
+			if (dx * dx + dy * dy < r2)
+				return true;
+
+			int n = coords.length;
+			double x0 = coords[n - 2];
+			double y0 = coords[n - 1];
+			for (int i = 0; i < n; i += 2) {
+				double x1 = coords[i];
+				double y1 = coords[i + 1];
+				if ((x1 - x0) * (y - y0) - (y1 - y0) * (x - x0) <= 0)
+					return false;
+				x0 = x1;
+				y0 = y1;
+			}
+			return true;
+		}
+	}
+
+
+	// ===================================================================
+	// Sorting
+
+	/**
+	 * Sorts the points within the range by increasing x-coordinate, then by
+	 * increasing y-coordinate, using a quick sort with three-way partition.
+	 */
+	private static void sort(double[] xs, double[] ys, int from, int to) {
+		while (to - from > 16) {
+			// choose pivot as median of three values
+			int mid = (from + to) >>> 1;
+			int ip = median(xs, ys, from, mid, to - 1);
+			double px = xs[ip];
+			double py = ys[ip];
+
+			// partition into lower, equal and greater values
+			int lt = from, i = from, gt = to - 1;
+			while (i <= gt) {
+				int c = compare(xs[i], ys[i], px, py);
+				if (c < 0)
+					swap(xs, ys, lt++, i++);
+				else if (c > 0)
+					swap(xs, ys, i, gt--);
+				else
+					i++;
+			}
+
+			// recurse on smaller part, and iterate on larger one
+			if (lt - from < to - gt - 1) {
+				sort(xs, ys, from, lt);
+				from = gt + 1;
+			} else {
+				sort(xs, ys, gt + 1, to);
+				to = lt;
+			}
+		}
+
+		// insertion sort for small ranges
+		for (int i = from + 1; i < to; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			int j = i - 1;
+			while (j >= from && compare(xs[j], ys[j], x, y) > 0) {
+				xs[j + 1] = xs[j];
+				ys[j + 1] = ys[j];
+				j--;
+			}
+			xs[j + 1] = x;
+			ys[j + 1] = y;
+		}
+	}
+
+	private static int median(double[] xs, double[] ys, int i, int j, int k) {
+		if (compare(xs[i], ys[i], xs[j], ys[j]) < 0) {
+			if (compare(xs[j], ys[j], xs[k], ys[k]) < 0)
+				return j;
+			return compare(xs[i], ys[i], xs[k], ys[k]) < 0 ? k : i;
+		}
+		if (compare(xs[i], ys[i], xs[k], ys[k]) < 0)
+			return i;
+		return compare(xs[j], ys[j], xs[k], ys[k]) < 0 ? k : j;
+	}
+
+	private static int compare(double x1, double y1, double x2, double y2) {
+		if (x1 < x2)
+			return -1;
+		if (x1 > x2)
+			return 1;
+		if (y1 < y2)
+			return -1;
+		if (y1 > y2)
+			return 1;
+		return 0;
+	}
+
+	private static void swap(double[] xs, double[] ys, int i, int j) {
+		double tmp = xs[i];
+		xs[i] = xs[j];
+		xs[j] = tmp;
+		tmp = ys[i];
+		ys[i] = ys[j];
+		ys[j] = tmp;
+	}
+}
@@ -0,0 +1,456 @@
+/**
+ * File: 	Predicates2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.predicates;
+
+/**
+ * Robust geometric predicates for points given by double coordinates.<p>
+ * Each predicate first evaluates the determinant with floating point
+ * arithmetic, and returns it if it is larger than a bound on the rounding
+ * error. Otherwise, the determinant is evaluated exactly using expansion
+ * arithmetic, as described by J. R. Shewchuk in "Adaptive Precision
+ * Floating-Point Arithmetic and Fast Robust Geometric Predicates" (1997).
+ * The orientation test refines its result in several stages, each stage
+ * being more precise and more expensive than the previous one. The
+ * in-circle test switches directly to exact arithmetic.<p>
+ * The sign of the results is always correct, and the magnitude is an
+ * approximation of the determinant. The predicates do not allocate memory,
+ * except when the floating point filter fails.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public final class Predicates2D {
+
+    // ===================================================================
+    // Constants
+
+	/** Half the machine epsilon, i.e. 2^-53 */
+	private final static double EPSILON = 1.1102230246251565e-16;
+
+	/** Constant used for splitting a double into two halves, 2^27+1 */
+	private final static double SPLITTER = 134217729;
+
+	private final static double RESULT_ERRBOUND = (3 + 8 * EPSILON) * EPSILON;
+	private final static double CCW_ERRBOUND_A = (3 + 16 * EPSILON) * EPSILON;
+	private final static double CCW_ERRBOUND_B = (2 + 12 * EPSILON) * EPSILON;
+	private final static double CCW_ERRBOUND_C =
+		(9 + 64 * EPSILON) * EPSILON * EPSILON;
+	private final static double ICC_ERRBOUND_A = (10 + 96 * EPSILON) * EPSILON;
+
+
+    // ===================================================================
+    // Constructor
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private Predicates2D() {
+	}
+
+
+    // ===================================================================
+    // Orientation test
+
+	/**
+	 * Computes the orientation of three points. The result is positive if
+	 * the points a, b and c are in counter-clockwise order, negative if
+	 * they are in clockwise order, and zero if they are colinear. The
+	 * result approximates twice the signed area of the triangle abc.
+	 */
+	public static double orient2d(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		double detleft = (ax - cx) * (by - cy);
+		double detright = (ay - cy) * (bx - cx);
+		double det = detleft - detright;
+
+		// products of opposite signs always give the correct sign
+		double detsum = Math.abs(detleft) + Math.abs(detright);
+		if (Math.abs(det) >= CCW_ERRBOUND_A * detsum)
+			return det;
+
+		return orient2dAdapt(ax, ay, bx, by, cx, cy, detsum);
+	}
+
+	/**
+	 * Returns the sign of the orientation of the three points: +1 if they
+	 * are in counter-clockwise order, -1 if they are in clockwise order,
+	 * and 0 if they are colinear.
+	 */
+	public static int orientation(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		double det = orient2d(ax, ay, bx, by, cx, cy);
+		return det > 0 ? 1 : (det < 0 ? -1 : 0);
+	}
+
+	/**
+	 * Evaluates the orientation determinant with increasing precision.
+	 */
+	private static double orient2dAdapt(double ax, double ay, double bx,
+			double by, double cx, double cy, double detsum) {
+		double acx = ax - cx;
+		double bcx = bx - cx;
+		double acy = ay - cy;
+		double bcy = by - cy;
+
+		// first approximation, from the rounded differences
+		double[] b = new double[4];
+		twoTwoDiff(acx, bcy, acy, bcx, b);
+		double det = estimate(4, b);
+		double errbound = CCW_ERRBOUND_B * detsum;
+		if (det >= errbound || -det >= errbound)
+			return det;
+
+		// rounding errors of the differences
+		double acxtail = twoDiffTail(ax, cx, acx);
+		double bcxtail = twoDiffTail(bx, cx, bcx);
+		double acytail = twoDiffTail(ay, cy, acy);
+		double bcytail = twoDiffTail(by, cy, bcy);
+		if (acxtail == 0 && acytail == 0 && bcxtail == 0 && bcytail == 0)
+			return det;
+
+		// second approximation, with first order correction terms
+		errbound = CCW_ERRBOUND_C * detsum + RESULT_ERRBOUND * Math.abs(det);
+		det += (acx * bcytail + bcy * acxtail) - (acy * bcxtail + bcx * acytail);
+		if (det >= errbound || -det >= errbound)
+			return det;
+
+		// exact computation
+		double[] u = new double[4];
+		double[] c1 = new double[8];
+		double[] c2 = new double[12];
+		double[] d = new double[16];
+
+		twoTwoDiff(acxtail, bcy, acytail, bcx, u);
+		int c1len = expansionSum(4, b, 4, u, c1);
+
+		twoTwoDiff(acx, bcytail, acy, bcxtail, u);
+		int c2len = expansionSum(c1len, c1, 4, u, c2);
+
+		twoTwoDiff(acxtail, bcytail, acytail, bcxtail, u);
+		int dlen = expansionSum(c2len, c2, 4, u, d);
+
+		return d[dlen - 1];
+	}
+
+
+    // ===================================================================
+    // In-circle test
+
+	/**
+	 * Checks the position of the point d with respect to the circle passing
+	 * through the points a, b and c, which must be in counter-clockwise
+	 * order. The result is positive if d is inside the circle, negative if
+	 * d is outside the circle, and zero if the four points are cocircular.
+	 * The sign is reversed if a, b and c are in clockwise order.
+	 */
+	public static double incircle(double ax, double ay, double bx, double by,
+			double cx, double cy, double dx, double dy) {
+		double adx = ax - dx;
+		double bdx = bx - dx;
+		double cdx = cx - dx;
+		double ady = ay - dy;
+		double bdy = by - dy;
+		double cdy = cy - dy;
+
+		double bdxcdy = bdx * cdy;
+		double cdxbdy = cdx * bdy;
+		double alift = adx * adx + ady * ady;
+
+		double cdxady = cdx * ady;
+		double adxcdy = adx * cdy;
+		double blift = bdx * bdx + bdy * bdy;
+
+		double adxbdy = adx * bdy;
+		double bdxady = bdx * ady;
+		double clift = cdx * cdx + cdy * cdy;
+
+		double det = alift * (bdxcdy - cdxbdy) + blift * (cdxady - adxcdy)
+				+ clift * (adxbdy - bdxady);
+
+		double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+				+ (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+				+ (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+		double errbound = ICC_ERRBOUND_A * permanent;
+		if (det > errbound || -det > errbound)
+			return det;
+
+		return incircleExact(ax, ay, bx, by, cx, cy, dx, dy);
+	}
+
+	/**
+	 * Evaluates the in-circle determinant exactly, from the products of the
+	 * original coordinates.
+	 */
+	private static double incircleExact(double ax, double ay, double bx,
+			double by, double cx, double cy, double dx, double dy) {
+		// 2x2 minors of the coordinates
+		double[] ab = new double[4];
+		double[] bc = new double[4];
+		double[] cd = new double[4];
+		double[] da = new double[4];
+		double[] ac = new double[4];
+		double[] bd = new double[4];
+		twoTwoDiff(ax, by, bx, ay, ab);
+		twoTwoDiff(bx, cy, cx, by, bc);
+		twoTwoDiff(cx, dy, dx, cy, cd);
+		twoTwoDiff(dx, ay, ax, dy, da);
+		twoTwoDiff(ax, cy, cx, ay, ac);
+		twoTwoDiff(bx, dy, dx, by, bd);
+
+		// 3x3 minors
+		double[] temp8 = new double[8];
+		double[] cda = new double[12];
+		double[] dab = new double[12];
+		double[] abc = new double[12];
+		double[] bcd = new double[12];
+		int templen = expansionSum(4, cd, 4, da, temp8);
+		int cdalen = expansionSum(templen, temp8, 4, ac, cda);
+		templen = expansionSum(4, da, 4, ab, temp8);
+		int dablen = expansionSum(templen, temp8, 4, bd, dab);
+		for (int i = 0; i < 4; i++) {
+			bd[i] = -bd[i];
+			ac[i] = -ac[i];
+		}
+		templen = expansionSum(4, ab, 4, bc, temp8);
+		int abclen = expansionSum(templen, temp8, 4, ac, abc);
+		templen = expansionSum(4, bc, 4, cd, temp8);
+		int bcdlen = expansionSum(templen, temp8, 4, bd, bcd);
+
+		// terms of the determinant, weighted by the lifted coordinates
+		double[] temp24 = new double[24];
+		double[] xx = new double[48];
+		double[] yy = new double[48];
+		double[] adet = new double[96];
+		double[] bdet = new double[96];
+		double[] cdet = new double[96];
+		double[] ddet = new double[96];
+		int alen = liftedTerm(bcdlen, bcd, ax, ay, temp24, xx, yy, adet);
+		int blen = liftedTerm(cdalen, cda, bx, by, temp24, xx, yy, bdet);
+		negate(blen, bdet);
+		int clen = liftedTerm(dablen, dab, cx, cy, temp24, xx, yy, cdet);
+		int dlen = liftedTerm(abclen, abc, dx, dy, temp24, xx, yy, ddet);
+		negate(dlen, ddet);
+
+		double[] abdet = new double[192];
+		double[] cddet = new double[192];
+		double[] deter = new double[384];
+		int ablen = expansionSum(alen, adet, blen, bdet, abdet);
+		int cdlen = expansionSum(clen, cdet, dlen, ddet, cddet);
+		int deterlen = expansionSum(ablen, abdet, cdlen, cddet, deter);
+		return deter[deterlen - 1];
+	}
+
+	/**
+	 * Computes the expansion of m * (x * x + y * y), where m is an expansion
+	 * with at most 12 components. The arrays temp24, xx and yy are used as
+	 * working space.
+	 */
+	private static int liftedTerm(int mlen, double[] m, double x, double y,
+			double[] temp24, double[] xx, double[] yy, double[] h) {
+		int len = scaleExpansion(mlen, m, x, temp24);
+		int xxlen = scaleExpansion(len, temp24, x, xx);
+		len = scaleExpansion(mlen, m, y, temp24);
+		int yylen = scaleExpansion(len, temp24, y, yy);
+		return expansionSum(xxlen, xx, yylen, yy, h);
+	}
+
+	private static void negate(int len, double[] e) {
+		for (int i = 0; i < len; i++)
+			e[i] = -e[i];
+	}
+
+
+    // ===================================================================
+    // Expansion arithmetic
+
+	/**
+	 * Computes the roundoff error of the difference a - b, whose rounded
+	 * value is x.
+	 */
+	private static double twoDiffTail(double a, double b, double x) {
+		double bvirt = a - x;
+		return a - (x + bvirt) + (bvirt - b);
+	}
+
+	/**
+	 * Computes the exact value of a * b - c * d as a four components
+	 * expansion, stored in h by increasing magnitude.
+	 */
+	private static void twoTwoDiff(double a, double b, double c, double d,
+			double[] h) {
+		// exact product a * b = s1 + s0
+		double s1 = a * b;
+		double s0 = productTail(a, b, s1);
+
+		// exact product c * d = t1 + t0
+		double t1 = c * d;
+		double t0 = productTail(c, d, t1);
+
+		// (s1 + s0) - (t1 + t0)
+		double i = s0 - t0;
+		double bvirt = s0 - i;
+		h[0] = s0 - (i + bvirt) + (bvirt - t0);
+		double j = s1 + i;
+		bvirt = j - s1;
+		double z = s1 - (j - bvirt) + (i - bvirt);
+		i = z - t1;
+		bvirt = z - i;
+		h[1] = z - (i + bvirt) + (bvirt - t1);
+		double u3 = j + i;
+		bvirt = u3 - j;
+		h[2] = j - (u3 - bvirt) + (i - bvirt);
+		h[3] = u3;
+	}
+
+	/**
+	 * Computes the roundoff error of the product a * b, whose rounded value
+	 * is x, using Dekker's splitting.
+	 */
+	private static double productTail(double a, double b, double x) {
+		double c = SPLITTER * a;
+		double ahi = c - (c - a);
+		double alo = a - ahi;
+		c = SPLITTER * b;
+		double bhi = c - (c - b);
+		double blo = b - bhi;
+		return alo * blo - (x - ahi * bhi - alo * bhi - ahi * blo);
+	}
+
+	/**
+	 * Approximates the value of an expansion by the sum of its components.
+	 */
+	private static double estimate(int elen, double[] e) {
+		double q = e[0];
+		for (int i = 1; i < elen; i++)
+			q += e[i];
+		return q;
+	}
+
+	/**
+	 * Computes the sum of two expansions, eliminating zero components from
+	 * the result. Stores the result in h, and returns the number of
+	 * components.
+	 */
+	private static int expansionSum(int elen, double[] e, int flen,
+			double[] f, double[] h) {
+		double q, qnew, hh, bvirt;
+		double enow = e[0];
+		double fnow = f[0];
+		int eindex = 0;
+		int findex = 0;
+		if ((fnow > enow) == (fnow > -enow)) {
+			q = enow;
+			enow = ++eindex < elen ? e[eindex] : 0;
+		} else {
+			q = fnow;
+			fnow = ++findex < flen ? f[findex] : 0;
+		}
+
+		int hindex = 0;
+		if (eindex < elen && findex < flen) {
+			if ((fnow > enow) == (fnow > -enow)) {
+				qnew = enow + q;
+				hh = q - (qnew - enow);
+				enow = ++eindex < elen ? e[eindex] : 0;
+			} else {
+				qnew = fnow + q;
+				hh = q - (qnew - fnow);
+				fnow = ++findex < flen ? f[findex] : 0;
+			}
+			q = qnew;
+			if (hh != 0)
+				h[hindex++] = hh;
+
+			while (eindex < elen && findex < flen) {
+				if ((fnow > enow) == (fnow > -enow)) {
+					qnew = q + enow;
+					bvirt = qnew - q;
+					hh = q - (qnew - bvirt) + (enow - bvirt);
+					enow = ++eindex < elen ? e[eindex] : 0;
+				} else {
+					qnew = q + fnow;
+					bvirt = qnew - q;
+					hh = q - (qnew - bvirt) + (fnow - bvirt);
+					fnow = ++findex < flen ? f[findex] : 0;
+				}
+				q = qnew;
+				if (hh != 0)
+					h[hindex++] = hh;
+			}
+		}
+
+		while (eindex < elen) {
+			qnew = q + enow;
+			bvirt = qnew - q;
+			hh = q - (qnew - bvirt) + (enow - bvirt);
+			enow = ++eindex < elen ? e[eindex] : 0;
+			q = qnew;
+			if (hh != 0)
+				h[hindex++] = hh;
+		}
+		while (findex < flen) {
+			qnew = q + fnow;
+			bvirt = qnew - q;
+			hh = q - (qnew - bvirt) + (fnow - bvirt);
+			fnow = ++findex < flen ? f[findex] : 0;
+			q = qnew;
+			if (hh != 0)
+				h[hindex++] = hh;
+		}
+
+		if (q != 0 || hindex == 0)
+			h[hindex++] = q;
+		return hindex;
+	}
+
+	/**
+	 * Multiplies an expansion by a scalar, eliminating zero components from
+	 * the result. Stores the result in h, and returns the number of
+	 * components.
+	 */
+	private static int scaleExpansion(int elen, double[] e, double b,
+			double[] h) {
+		double c = SPLITTER * b;
+		double bhi = c - (c - b);
+		double blo = b - bhi;
+
+		double enow = e[0];
+		double q = enow * b;
+		c = SPLITTER * enow;
+		double ahi = c - (c - enow);
+		double alo = enow - ahi;
+		double hh = alo * blo - (q - ahi * bhi - alo * bhi - ahi * blo);
+		int hindex = 0;
+		if (hh != 0)
+			h[hindex++] = hh;
+
+		for (int i = 1; i < elen; i++) {
+			enow = e[i];
+			double product1 = enow * b;
+			c = SPLITTER * enow;
+			ahi = c - (c - enow);
+			alo = enow - ahi;
+			double product0 = alo * blo
+					- (product1 - ahi * bhi - alo * bhi - ahi * blo);
+			double sum = q + product0;
+			double bvirt = sum - q;
+			hh = q - (sum - bvirt) + (product0 - bvirt);
+			if (hh != 0)
+				h[hindex++] = hh;
+			q = product1 + sum;
+			hh = sum - (q - product1);
+			if (hh != 0)
+				h[hindex++] = hh;
+		}
+
+		if (q != 0 || hindex == 0)
+			h[hindex++] = q;
+		return hindex;
+	}
+}
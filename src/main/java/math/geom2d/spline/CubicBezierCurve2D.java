@@ -29,6 +29,7 @@ import math.geom2d.*;
 import math.geom2d.curve.*;
 import math.geom2d.domain.ContinuousOrientedCurve2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PackedPointArray2D;
 import math.geom2d.polygon.Polyline2D;
 
 /**
@@ -292,6 +293,30 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/* (non-Javadoc)
+	 * @see math.geom2d.curve.ContinuousCurve2D#asPolyline(double)
+	 */
+	public Polyline2D asPolyline(double maxDeviation) {
+        return this.asPolylineOpen(maxDeviation);
+	}
+
+	/**
+	 * Computes the vertices of a polyline approximating the curve by
+	 * recursive subdivision of the control polygon, that guarantees the
+	 * maximal deviation.
+	 * @see Curves2D#flattenBezier(double[], double[], double,
+	 *      PackedPointArray2D)
+	 * @since 0.11.3
+	 */
+	@Override
+	protected PackedPointArray2D flatten(double maxDeviation) {
+		PackedPointArray2D buffer = new PackedPointArray2D();
+		buffer.add(x1, y1);
+		Curves2D.flattenBezier(new double[] { x1, ctrlx1, ctrlx2, x2 },
+				new double[] { y1, ctrly1, ctrly2, y2 }, maxDeviation, buffer);
+		return buffer;
+	}
+
 
 	// ===================================================================
     // methods from Curve2D interface
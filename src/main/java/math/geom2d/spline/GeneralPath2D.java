@@ -13,6 +13,7 @@ import math.geom2d.*;
 import math.geom2d.curve.*;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.polygon.LinearCurve2D;
 
 /**
  * @author dlegland
@@ -429,6 +430,24 @@ public class GeneralPath2D implements Curve2D {
 		return splitContinuousCurves();
 	}
 
+	/**
+	 * Converts each continuous curve of the path into a polyline, such that
+	 * the distance between each edge and the path is lower than the given
+	 * deviation.
+	 * @param maxDeviation the maximal distance between the path and the
+	 *            polylines
+	 * @return the set of polylines approximating the path
+	 * @since 0.11.3
+	 */
+	public CurveArray2D<LinearCurve2D> asPolyline(double maxDeviation) {
+		ArrayList<ContinuousCurve2D> curves = splitContinuousCurves();
+		CurveArray2D<LinearCurve2D> result = 
+			new CurveArray2D<LinearCurve2D>(curves.size());
+		for (ContinuousCurve2D curve : curves)
+			result.add(curve.asPolyline(maxDeviation));
+		return result;
+	}
+
 	private ArrayList<ContinuousCurve2D> splitContinuousCurves() {
 		Point2D lastControl = null;
 		Point2D lastStart = null;
@@ -443,8 +462,8 @@ public class GeneralPath2D implements Curve2D {
 		for (Segment seg : this.segments) {
 			switch (seg.type()) {
 			case MOVE:
-				// If current curve is not null, add it the the set
-				if (curve != null) 
+				// If current curve is not empty, add it the the set
+				if (curve != null && curve.size() > 0) 
 					curveList.add(curve);
 				curve = new PolyCurve2D<SmoothCurve2D>();
 				
@@ -489,6 +508,10 @@ public class GeneralPath2D implements Curve2D {
 			}
 		}
 
+		// add the last curve if it was not closed
+		if (curve != null && curve.size() > 0)
+			curveList.add(curve);
+		
 		// Returns the set of continuous curves
 		return curveList;
 	}
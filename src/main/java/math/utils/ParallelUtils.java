@@ -0,0 +1,39 @@
+/**
+ * File: 	ParallelUtils.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.utils;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Collects methods shared by parallel computations. The fork-join pool used
+ * by default is created when needed, and shared by all classes that do not
+ * receive a pool from the caller.
+ *
+ * @author dlegland
+ * @since 0.11.3
+ */
+public final class ParallelUtils {
+
+	/** The pool used by default for parallel computations */
+	private static ForkJoinPool defaultPool = null;
+
+	private ParallelUtils() {
+	}
+
+	/**
+	 * Returns the fork-join pool used by default for parallel computations.
+	 * The pool is created at the first call, with a parallelism equal to
+	 * the number of available processors.
+	 */
+	public synchronized static ForkJoinPool defaultPool() {
+		if (defaultPool == null)
+			defaultPool = new ForkJoinPool();
+		return defaultPool;
+	}
+}
@@ -28,6 +28,8 @@
 package math.geom2d;
 
 import java.awt.geom.AffineTransform;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 
 import junit.framework.TestCase;
 import math.geom2d.line.StraightLine2D;
@@ -491,6 +493,63 @@ public class AffineTransform2DTest extends TestCase {
 			
 	}
 	
+	public void testTransformCoordinateArray() {
+		AffineTransform2D trans = AffineTransform2D.createRotation(
+				new Point2D(10, 20), PI / 3);
+		double[] src = new double[] { 0, 0, 10, 20, 30, 50, -5, 4 };
+		double[] dst = new double[10];
+		trans.transform(src, 2, dst, 4, 3);
+
+		for (int i = 0; i < 3; i++) {
+			Point2D exp = trans.transform(new Point2D(src[2 + 2 * i],
+					src[3 + 2 * i]));
+			assertEquals(exp.x(), dst[4 + 2 * i], 1e-12);
+			assertEquals(exp.y(), dst[5 + 2 * i], 1e-12);
+		}
+		assertEquals(0, dst[0], 0);
+		assertEquals(0, dst[3], 0);
+	}
+
+	public void testTransformCoordinateArray_Overlap() {
+		AffineTransform2D trans = AffineTransform2D.createTranslation(3, 4);
+		double[] coords = new double[] { 1, 2, 3, 4, 5, 6, 0, 0 };
+		trans.transform(coords, 0, coords, 2, 3);
+
+		double[] exp = new double[] { 1, 2, 4, 6, 6, 8, 8, 10 };
+		for (int i = 0; i < exp.length; i++)
+			assertEquals(exp[i], coords[i], 0);
+	}
+
+	public void testTransformSeparateArrays() {
+		AffineTransform2D trans = AffineTransform2D.createScaling(2, 3)
+				.concatenate(AffineTransform2D.createTranslation(1, 1));
+		double[] xs = new double[] { 1, 2, 3 };
+		double[] ys = new double[] { 4, 5, 6 };
+		trans.transform(xs, ys, 0, xs, ys, 0, 3);
+
+		for (int i = 0; i < 3; i++) {
+			Point2D exp = trans.transform(new Point2D(i + 1, i + 4));
+			assertEquals(exp.x(), xs[i], 1e-12);
+			assertEquals(exp.y(), ys[i], 1e-12);
+		}
+	}
+
+	public void testTransformDoubleBuffer() {
+		AffineTransform2D trans = AffineTransform2D.createRotation(PI / 5);
+		DoubleBuffer src = DoubleBuffer.wrap(new double[] { 1, 2, 3, 4, 5, 6 });
+		DoubleBuffer dst = ByteBuffer.allocateDirect(6 * 8).asDoubleBuffer();
+		src.position(2);
+		trans.transform(src, dst);
+
+		assertEquals(6, src.position());
+		assertEquals(4, dst.position());
+		for (int i = 0; i < 2; i++) {
+			Point2D exp = trans.transform(new Point2D(3 + 2 * i, 4 + 2 * i));
+			assertEquals(exp.x(), dst.get(2 * i), 1e-12);
+			assertEquals(exp.y(), dst.get(2 * i + 1), 1e-12);
+		}
+	}
+
 	/**
 	 * Check contruction of affine matrix on a centered scaling.
 	 */
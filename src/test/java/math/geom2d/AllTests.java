@@ -42,6 +42,7 @@ public class AllTests {
 		suite.addTest(new TestSuite(Box2DTest.class));
 		suite.addTest(new TestSuite(Point2DTest.class));
 		suite.addTest(new TestSuite(ShapeArray2DTest.class));
+		suite.addTest(new TestSuite(SpatialIndex2DTest.class));
 		suite.addTest(new TestSuite(Vector2DTest.class));
 		//$JUnit-END$
 		return suite;
@@ -0,0 +1,172 @@
+/**
+ * File: 	SpatialIndex2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import math.geom2d.conic.Circle2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.StraightLine2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class SpatialIndex2DTest extends TestCase {
+
+	private static ArrayList<Shape2D> createShapes(int n, long seed) {
+		Random random = new Random(seed);
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>(n);
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			if (i % 2 == 0)
+				shapes.add(new Circle2D(x, y, 1 + random.nextDouble() * 10));
+			else
+				shapes.add(new LineSegment2D(x, y,
+						x + random.nextDouble() * 20 - 10,
+						y + random.nextDouble() * 20 - 10));
+		}
+		return shapes;
+	}
+
+	public void testQuery() {
+		ArrayList<Shape2D> shapes = createShapes(2000, 1);
+		SpatialIndex2D<Shape2D> index = new SpatialIndex2D<Shape2D>(shapes);
+		assertEquals(2000, index.size());
+
+		Random random = new Random(2);
+		for (int k = 0; k < 50; k++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			Box2D box = new Box2D(x, x + 50, y, y + 80);
+
+			int expected = 0;
+			for (Shape2D shape : shapes) {
+				Box2D shapeBox = shape.boundingBox();
+				if (shapeBox.getMinX() <= box.getMaxX()
+						&& shapeBox.getMaxX() >= box.getMinX()
+						&& shapeBox.getMinY() <= box.getMaxY()
+						&& shapeBox.getMaxY() >= box.getMinY())
+					expected++;
+			}
+			assertEquals(expected, index.query(box).size());
+		}
+	}
+
+	public void testContaining() {
+		ArrayList<Shape2D> shapes = createShapes(2000, 3);
+		SpatialIndex2D<Shape2D> index = new SpatialIndex2D<Shape2D>(shapes, 4);
+
+		// points located on circles
+		for (int i = 0; i < 100; i += 2) {
+			Circle2D circle = (Circle2D) shapes.get(i);
+			Point2D point = circle.point(0.3);
+			assertTrue(index.contains(point.x(), point.y()));
+			assertTrue(index.containing(point).contains(circle));
+		}
+		assertFalse(index.contains(-100, -100));
+	}
+
+	public void testNearest() {
+		ArrayList<Shape2D> shapes = createShapes(2000, 4);
+		SpatialIndex2D<Shape2D> index = new SpatialIndex2D<Shape2D>(shapes);
+
+		Random random = new Random(5);
+		for (int k = 0; k < 50; k++) {
+			Point2D point = new Point2D(random.nextDouble() * 1200 - 100,
+					random.nextDouble() * 1200 - 100);
+
+			// sort distances by brute force
+			double[] dists = new double[shapes.size()];
+			for (int i = 0; i < shapes.size(); i++)
+				dists[i] = shapes.get(i).distance(point);
+			java.util.Arrays.sort(dists);
+
+			assertEquals(dists[0], index.distance(point), 1e-10);
+			assertEquals(dists[0], index.nearest(point).distance(point), 1e-10);
+
+			ArrayList<Shape2D> nearest = index.nearest(point, 10);
+			assertEquals(10, nearest.size());
+			for (int i = 0; i < 10; i++)
+				assertEquals(dists[i], nearest.get(i).distance(point), 1e-10);
+		}
+	}
+
+	public void testInsertRemove() {
+		ArrayList<Shape2D> shapes = createShapes(500, 6);
+		SpatialIndex2D<Shape2D> index = new SpatialIndex2D<Shape2D>();
+		for (Shape2D shape : shapes)
+			index.insert(shape);
+		assertEquals(500, index.size());
+
+		StraightLine2D line = new StraightLine2D(0, -10, 1, 0);
+		index.insert(line);
+		assertEquals(501, index.size());
+		assertEquals(10, index.distance(500, 0), 1e-12);
+
+		for (int i = 0; i < 400; i++)
+			assertTrue(index.remove(shapes.get(i)));
+		assertFalse(index.remove(shapes.get(0)));
+		assertTrue(index.remove(line));
+		assertEquals(100, index.size());
+		assertFalse(index.contains(shapes.get(10)));
+		assertTrue(index.contains(shapes.get(450)));
+
+		Box2D box = new Box2D(-100, 1100, -100, 1100);
+		assertEquals(100, index.query(box).size());
+
+		index.clear();
+		assertTrue(index.isEmpty());
+		assertNull(index.nearest(10, 10));
+	}
+
+	public void testShapeArray2DIndexed() {
+		ArrayList<Shape2D> shapes = createShapes(1000, 7);
+		ShapeArray2D<Shape2D> set = new ShapeArray2D<Shape2D>(shapes);
+		ShapeArray2D<Shape2D> indexed = new ShapeArray2D<Shape2D>(shapes);
+		indexed.setIndexed(true);
+		assertTrue(indexed.isIndexed());
+
+		Circle2D circle = new Circle2D(2000, 2000, 5);
+		set.add(circle);
+		indexed.add(circle);
+		assertFalse(indexed.add(circle));
+
+		assertTrue(set.boundingBox().almostEquals(indexed.boundingBox(), 1e-12));
+		Point2D point = new Point2D(1500, 300);
+		assertEquals(set.distance(point), indexed.distance(point), 1e-12);
+		assertEquals(indexed.contains(2000, 2005), set.contains(2000, 2005));
+
+		indexed.remove(circle);
+		assertEquals(1000, indexed.size());
+		assertFalse(indexed.contains(2000, 2005));
+	}
+
+	public void testShapeArray2DIndexed_IteratorRemove() {
+		ShapeArray2D<Shape2D> set = new ShapeArray2D<Shape2D>();
+		set.setIndexed(true);
+		Circle2D circle = new Circle2D(0, 0, 1);
+		set.add(circle);
+		set.add(new Circle2D(20, 0, 1));
+
+		Iterator<Shape2D> iter = set.iterator();
+		iter.next();
+		iter.remove();
+
+		assertEquals(1, set.size());
+		assertEquals(19, set.distance(0, 0), 1e-12);
+		assertEquals(19, set.boundingBox().getMinX(), 1e-12);
+		assertTrue(set.add(circle));
+		assertEquals(1, set.distance(0, 0), 1e-12);
+	}
+}
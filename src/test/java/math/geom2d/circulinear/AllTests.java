@@ -37,6 +37,7 @@ public class AllTests {
 	public static Test suite() {
 		TestSuite suite = new TestSuite("Test for math.geom2d.circulinear");
 		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(BoxOverlaps2DTest.class));
 		suite.addTest(new TestSuite(CirculinearContourArray2DTest.class));
 		suite.addTest(new TestSuite(CirculinearCurves2DTest.class));
 		suite.addTest(new TestSuite(CirculinearCurveArray2DTest.class));
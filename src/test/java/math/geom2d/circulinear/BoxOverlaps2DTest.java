@@ -0,0 +1,100 @@
+/**
+ * File: 	BoxOverlaps2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.StraightLine2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class BoxOverlaps2DTest extends TestCase {
+
+	public void testBoxes_Unbounded() {
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>();
+		elements.add(new LineSegment2D(0, 0, 10, 20));
+		elements.add(new StraightLine2D(new Point2D(0, 0), new Point2D(1, 0)));
+		
+		double[] boxes = BoxOverlaps2D.boxes(elements);
+		assertEquals(8, boxes.length);
+		assertEquals(0, boxes[0], 1e-10);
+		assertEquals(20, boxes[3], 1e-10);
+		assertEquals(Double.NEGATIVE_INFINITY, boxes[4]);
+		assertEquals(Double.POSITIVE_INFINITY, boxes[7]);
+	}
+
+	public void testOverlappingPairs_Touching() {
+		double[] boxes1 = new double[] {0, 10, 0, 10, 21, 30, 0, 10};
+		double[] boxes2 = new double[] {10, 20, 10, 20};
+		
+		long[] keys = BoxOverlaps2D.overlappingPairs(boxes1, boxes2);
+		assertEquals(1, keys.length);
+		assertEquals(0, keys[0]);
+		
+		keys = BoxOverlaps2D.overlappingPairs(new double[] {
+				0, 10, 0, 10, 21, 30, 0, 10, 10, 20, 10, 20});
+		assertEquals(1, keys.length);
+		assertEquals(0 * 3 + 2, keys[0]);
+	}
+
+	public void testOverlappingPairs_Random() {
+		Random random = new Random(42);
+		int n1 = 300, n2 = 200;
+		double[] boxes1 = randomBoxes(random, n1);
+		double[] boxes2 = randomBoxes(random, n2);
+		
+		// compare with all pairs algorithm
+		long[] expected = new long[n1 * n2];
+		int n = 0;
+		for (int i = 0; i < n1; i++)
+			for (int j = 0; j < n2; j++)
+				if (overlaps(boxes1, i, boxes2, j))
+					expected[n++] = ((long) i) * n2 + j;
+		assertTrue(Arrays.equals(Arrays.copyOf(expected, n), 
+				BoxOverlaps2D.overlappingPairs(boxes1, boxes2)));
+		
+		// idem for self overlaps
+		n = 0;
+		for (int i = 0; i < n1; i++)
+			for (int j = i + 1; j < n1; j++)
+				if (overlaps(boxes1, i, boxes1, j))
+					expected[n++] = ((long) i) * n1 + j;
+		assertTrue(Arrays.equals(Arrays.copyOf(expected, n), 
+				BoxOverlaps2D.overlappingPairs(boxes1)));
+	}
+
+	private static double[] randomBoxes(Random random, int n) {
+		double[] boxes = new double[4 * n];
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			boxes[4 * i] = x;
+			boxes[4 * i + 1] = x + random.nextDouble() * 10;
+			boxes[4 * i + 2] = y;
+			boxes[4 * i + 3] = y + random.nextDouble() * 10;
+		}
+		return boxes;
+	}
+
+	private static boolean overlaps(double[] boxes1, int i, double[] boxes2,
+			int j) {
+		return boxes1[4 * i] <= boxes2[4 * j + 1]
+				&& boxes2[4 * j] <= boxes1[4 * i + 1]
+				&& boxes1[4 * i + 2] <= boxes2[4 * j + 3]
+				&& boxes2[4 * j + 2] <= boxes1[4 * i + 3];
+	}
+}
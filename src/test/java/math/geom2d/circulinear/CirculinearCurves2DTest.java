@@ -44,6 +44,7 @@ import math.geom2d.line.Ray2D;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.point.PointArray2D;
 import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polyline2D;
 import math.geom2d.spline.CubicBezierCurve2D;
 
 public class CirculinearCurves2DTest extends TestCase {
@@ -242,6 +243,53 @@ public class CirculinearCurves2DTest extends TestCase {
 		
 		assertTrue(points.contains(new Point2D(100, 100)));
 	}
+
+	public void testFindIntersections_ZigzagAndLine() {
+		// create a zigzag polyline crossing the line y=5 on each edge
+		int n = 50;
+		Point2D[] vertices = new Point2D[n + 1];
+		for (int i = 0; i <= n; i++)
+			vertices[i] = new Point2D(i * 10, i % 2 == 0 ? 0 : 10);
+		Polyline2D zigzag = new Polyline2D(vertices);
+		Polyline2D line = new Polyline2D(new Point2D[] {
+				new Point2D(-10, 5), new Point2D(n * 10 + 10, 5) });
+		
+		Collection<Point2D> points = 
+			CirculinearCurves2D.findIntersections(zigzag, line);
+		assertEquals(n, points.size());
+		
+		// points are sorted according to position on first curve
+		double x = Double.NEGATIVE_INFINITY;
+		for (Point2D point : points) {
+			assertEquals(5, point.y(), Shape2D.ACCURACY);
+			assertTrue(point.x() > x);
+			x = point.x();
+		}
+		
+		double[][] positions = 
+			CirculinearCurves2D.locateIntersections(zigzag, line);
+		assertEquals(n, positions.length);
+		assertEquals(.5, positions[0][0], Shape2D.ACCURACY);
+		assertEquals(1.5, positions[1][0], Shape2D.ACCURACY);
+	}
+
+	public void testFindIntersections_Arcs() {
+		// two polycurves made of arcs, crossing at two points
+		PolyCirculinearCurve2D<CircleArc2D> curve1 = 
+			new PolyCirculinearCurve2D<CircleArc2D>();
+		curve1.add(new CircleArc2D(new Point2D(0, 0), 10, 0, Math.PI / 2));
+		curve1.add(new CircleArc2D(new Point2D(0, 0), 10, Math.PI / 2, Math.PI / 2));
+		PolyCirculinearCurve2D<CircleArc2D> curve2 = 
+			new PolyCirculinearCurve2D<CircleArc2D>();
+		curve2.add(new CircleArc2D(new Point2D(0, 10), 10, Math.PI, Math.PI));
+		curve2.add(new CircleArc2D(new Point2D(100, 100), 10, 0, Math.PI));
+		
+		Collection<Point2D> points = 
+			CirculinearCurves2D.findIntersections(curve1, curve2);
+		assertEquals(2, points.size());
+		for (Point2D point : points)
+			assertEquals(5, point.y(), 1e-10);
+	}
 	
 	public void testSplitContinuousCurveParallelBiRay () {
 		// first defines some constants
@@ -40,6 +40,7 @@ public class AllTests {
 		suite.addTest(new TestSuite(BufferCalculatorTest.class));
 		suite.addTest(new TestSuite(ButtCapFactoryTest.class));
 		suite.addTest(new TestSuite(BevelJoinFactoryTest.class));
+		suite.addTest(new TestSuite(LinearBufferCalculatorTest.class));
 		suite.addTest(new TestSuite(MiterJoinFactoryTest.class));
 		suite.addTest(new TestSuite(RoundCapFactoryTest.class));
 		suite.addTest(new TestSuite(RoundJoinFactoryTest.class));
@@ -2,7 +2,11 @@ package math.geom2d.circulinear.buffer;
 
 import static java.lang.Math.PI;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import junit.framework.TestCase;
 import math.geom2d.Point2D;
@@ -10,11 +14,15 @@ import math.geom2d.Vector2D;
 import math.geom2d.circulinear.*;
 import math.geom2d.conic.Circle2D;
 import math.geom2d.conic.CircleArc2D;
+import math.geom2d.domain.Contour2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.InvertedRay2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.Ray2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.point.PointSet2D;
 import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
 
@@ -503,4 +511,128 @@ public class BufferCalculatorTest extends TestCase {
 
 		assertEquals(2, buffer.contours().size());
 	}
+	/**
+	 * Buffer of a 3x3 lattice of points, with four holes between the
+	 * circles, plus an isolated and a duplicate point.
+	 */
+	public void testComputeBuffer_PointSetLattice() {
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		for (int i = 0; i < 3; i++)
+			for (int j = 0; j < 3; j++)
+				points.add(new Point2D(15 * i, 15 * j));
+		points.add(new Point2D(100, 100));
+		points.add(new Point2D(15, 15));
+		PointSet2D set = new PointArray2D(points);
+
+		double dist = 10;
+		Domain2D buffer = bc.computeBuffer(set, dist);
+
+		assertEquals(6, buffer.contours().size());
+		for (Contour2D contour : buffer.contours())
+			for (Point2D point : points)
+				assertTrue(contour.distance(point) > dist - 1e-10);
+	}
+
+	public void testComputeBuffer_PointSetClusters() {
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+
+		// many small clusters of three intersecting circles
+		PackedPointArray2D set = new PackedPointArray2D(3000);
+		for (int k = 0; k < 1000; k++) {
+			double x = (k % 40) * 100;
+			double y = (k / 40) * 100;
+			set.add(new Point2D(x, y));
+			set.add(new Point2D(x + 10, y));
+			set.add(new Point2D(x + 5, y + 8));
+		}
+
+		Domain2D buffer = bc.computeBuffer(set, 10);
+		assertEquals(1000, buffer.contours().size());
+		assertTrue(buffer.contains(new Point2D(5, 3)));
+		assertFalse(buffer.contains(new Point2D(50, 50)));
+	}
+
+	/**
+	 * Membership in the buffer of random points forming several groups of
+	 * intersecting circles and isolated circles.
+	 */
+	public void testComputeBuffer_PointSetContains() {
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+
+		Random random = new Random(26);
+		int n = 25;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		PackedPointArray2D set = new PackedPointArray2D(n);
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 20;
+			ys[i] = random.nextDouble() * 20;
+			set.add(new Point2D(xs[i], ys[i]));
+		}
+
+		double dist = 1.551;
+		Domain2D buffer = bc.computeBuffer(set, dist);
+
+		for (double x = -2; x <= 22; x += .25) {
+			for (double y = -2; y <= 22; y += .25) {
+				double minDist = Double.POSITIVE_INFINITY;
+				for (int i = 0; i < n; i++)
+					minDist = Math.min(minDist,
+							Math.hypot(x - xs[i], y - ys[i]));
+				// avoid points close to the boundary
+				if (Math.abs(minDist - dist) < 1e-6)
+					continue;
+				assertEquals(minDist < dist, buffer.contains(new Point2D(x, y)));
+			}
+		}
+	}
+
+	public void testComputeBuffer_ParallelPolylines() {
+		// a set of disjoint L-shaped polylines
+		CirculinearCurveArray2D<Polyline2D> curve = 
+			new CirculinearCurveArray2D<Polyline2D>();
+		for (int i = 0; i < 12; i++) {
+			double x = (i % 4) * 100, y = (i / 4) * 100;
+			curve.add(new Polyline2D(new Point2D[] { new Point2D(x, y),
+					new Point2D(x + 50, y), new Point2D(x + 50, y + 50) }));
+		}
+
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+		CirculinearDomain2D buffer = bc.computeBuffer(curve, 10);
+		CirculinearDomain2D buffer2 = bc.computeBuffer(curve, 10,
+				new ForkJoinPool(2));
+
+		Collection<? extends CirculinearContour2D> contours = buffer.contours();
+		Collection<? extends CirculinearContour2D> contours2 = 
+			buffer2.contours();
+		assertEquals(12, contours2.size());
+		assertEquals(contours.size(), contours2.size());
+		double length = 0, length2 = 0;
+		for (CirculinearContour2D contour : contours)
+			length += contour.length();
+		for (CirculinearContour2D contour : contours2)
+			length2 += contour.length();
+		assertEquals(length, length2, 1e-8);
+		assertTrue(buffer2.contains(new Point2D(245, 205)));
+		assertFalse(buffer2.contains(new Point2D(225, 225)));
+	}
+
+	public void testComputeBuffers_Segments() {
+		ArrayList<LineSegment2D> segments = new ArrayList<LineSegment2D>();
+		for (int i = 0; i < 100; i++)
+			segments.add(new LineSegment2D(i * 20, 0, i * 20 + 10, 0));
+
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+		List<CirculinearDomain2D> buffers = bc.computeBuffers(segments, 2,
+				new ForkJoinPool(2));
+		assertEquals(100, buffers.size());
+		for (int i = 0; i < 100; i++) {
+			CirculinearDomain2D buffer = buffers.get(i);
+			assertEquals(1, buffer.contours().size());
+			assertTrue(buffer.contains(new Point2D(i * 20 + 5, 1)));
+			assertFalse(buffer.contains(new Point2D(i * 20 + 15, 0)));
+		}
+	}
 }
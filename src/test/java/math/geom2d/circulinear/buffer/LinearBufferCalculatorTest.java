@@ -0,0 +1,220 @@
+/**
+ * File: 	LinearBufferCalculatorTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import static java.lang.Math.PI;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class LinearBufferCalculatorTest extends TestCase {
+
+	private static SimplePolygon2D createSquare() {
+		return new SimplePolygon2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0),
+				new Point2D(10, 10), new Point2D(0, 10) });
+	}
+
+	public void testComputeBuffer_SquareRound() {
+		LinearBufferCalculator calc = new LinearBufferCalculator(1e-4);
+		Polygon2D buffer = calc.computeBuffer(createSquare(), 2);
+
+		assertTrue(buffer instanceof SimplePolygon2D);
+		assertEquals(100 + 40 * 2 + PI * 4, buffer.area(), 1e-2);
+		assertTrue(buffer.contains(-1.9, 5));
+		assertFalse(buffer.contains(-1.9, -1.9));
+		for (Point2D vertex : buffer.vertices()) {
+			double dist = createSquare().boundary().distance(vertex);
+			assertEquals(2, dist, 1e-4 + 1e-10);
+		}
+	}
+
+	public void testComputeBuffer_SquareMiterBevel() {
+		LinearBufferCalculator calc = new LinearBufferCalculator(
+				new MiterJoinFactory(), new RoundCapFactory(), 1e-2);
+		Polygon2D buffer = calc.computeBuffer(createSquare(), 2);
+		assertEquals(14 * 14, buffer.area(), 1e-10);
+
+		calc = new LinearBufferCalculator(
+				new BevelJoinFactory(), new RoundCapFactory(), 1e-2);
+		buffer = calc.computeBuffer(createSquare(), 2);
+		assertEquals(14 * 14 - 4 * 2, buffer.area(), 1e-10);
+	}
+
+	public void testComputeBuffer_SquareErosion() {
+		LinearBufferCalculator calc = new LinearBufferCalculator(1e-2);
+		Polygon2D buffer = calc.computeBuffer(createSquare(), -2);
+		assertEquals(36, buffer.area(), 1e-10);
+
+		buffer = calc.computeBuffer(createSquare(), -6);
+		assertTrue(buffer.isEmpty());
+	}
+
+	public void testComputeBuffer_PolygonWithHole() {
+		LinearRing2D outer = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0),
+				new Point2D(10, 10), new Point2D(0, 10) });
+		LinearRing2D inner = new LinearRing2D(new Point2D[] {
+				new Point2D(3, 3), new Point2D(3, 7),
+				new Point2D(7, 7), new Point2D(7, 3) });
+		MultiPolygon2D polygon = MultiPolygon2D.create(outer, inner);
+		assertEquals(84, polygon.area(), 1e-10);
+
+		LinearBufferCalculator calc = new LinearBufferCalculator(
+				new MiterJoinFactory(), new RoundCapFactory(), 1e-2);
+		Polygon2D buffer = calc.computeBuffer(polygon, 1);
+		assertEquals(2, buffer.contours().size());
+		assertEquals(12 * 12 - 2 * 2, buffer.area(), 1e-10);
+
+		// the hole disappears for large distances
+		buffer = calc.computeBuffer(polygon, 3);
+		assertEquals(1, buffer.contours().size());
+		assertEquals(16 * 16, buffer.area(), 1e-10);
+	}
+
+	public void testComputeBuffer_SegmentCaps() {
+		Polyline2D segment = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0) });
+		double d = 2;
+
+		LinearBufferCalculator calc = new LinearBufferCalculator(1e-4);
+		assertEquals(2 * d * 10 + PI * d * d,
+				calc.computeBuffer(segment, d).area(), 1e-2);
+
+		calc = new LinearBufferCalculator(new RoundJoinFactory(),
+				new ButtCapFactory(), 1e-2);
+		assertEquals(2 * d * 10, calc.computeBuffer(segment, d).area(), 1e-10);
+
+		calc = new LinearBufferCalculator(new RoundJoinFactory(),
+				new SquareCapFactory(), 1e-2);
+		assertEquals(2 * d * (10 + 2 * d),
+				calc.computeBuffer(segment, d).area(), 1e-10);
+
+		calc = new LinearBufferCalculator(new RoundJoinFactory(),
+				new TriangleCapFactory(), 1e-2);
+		assertEquals(2 * d * 10 + 2 * d * d,
+				calc.computeBuffer(segment, d).area(), 1e-10);
+	}
+
+	public void testComputeBuffer_SelfIntersectingPolyline() {
+		// a closed loop drawn as an open polyline with crossing edges
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10),
+				new Point2D(5, 10), new Point2D(5, -5) });
+		LinearBufferCalculator calc = new LinearBufferCalculator(
+				new MiterJoinFactory(), new ButtCapFactory(), 1e-2);
+		Polygon2D buffer = calc.computeBuffer(polyline, 1);
+
+		// the buffer is a band around a rectangle, with a hole
+		assertEquals(2, buffer.contours().size());
+		assertTrue(buffer.contains(5, 5));
+		assertFalse(buffer.contains(7.5, 5));
+		assertTrue(buffer.contains(5, -4.5));
+		assertFalse(buffer.contains(2.5, 5));
+	}
+
+	public void testComputeBuffer_RetracingPolyline() {
+		// the path goes back along its second edge
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(0, 2), new Point2D(-1, 1),
+				new Point2D(0, 2), new Point2D(0, 9) });
+		LinearBufferCalculator calc = new LinearBufferCalculator(1e-3);
+		Polygon2D buffer = calc.computeBuffer(polyline, 1);
+
+		assertEquals(1, buffer.contours().size());
+		assertTrue(buffer.area() >= 18 + PI);
+		assertTrue(buffer.contains(0, 5));
+		assertTrue(buffer.contains(-1.5, 1));
+		assertContainsPointsWithinDistance(buffer, polyline, 1);
+	}
+
+	public void testComputeBuffer_ColinearOverlap() {
+		// the path goes back along a part of its first edge
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(5, 0),
+				new Point2D(5, 5) });
+		LinearBufferCalculator calc = new LinearBufferCalculator(
+				new MiterJoinFactory(), new ButtCapFactory(), 1e-3);
+		Polygon2D buffer = calc.computeBuffer(polyline, 1);
+		assertEquals(2 * 10 + 2 * 4, buffer.area(), 1e-10);
+
+		buffer = new LinearBufferCalculator(1e-4).computeBuffer(polyline, 1);
+		assertEquals(2 * 10 + 2 * 4 + 1.5 * PI, buffer.area(), 1e-2);
+		assertContainsPointsWithinDistance(buffer, polyline, 1);
+
+		// the path goes back along its whole edge
+		polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(0, 0) });
+		buffer = new LinearBufferCalculator(1e-4).computeBuffer(polyline, 2);
+		assertEquals(1, buffer.contours().size());
+		assertEquals(2 * 2 * 10 + PI * 2 * 2, buffer.area(), 1e-2);
+		assertContainsPointsWithinDistance(buffer, polyline, 2);
+	}
+
+	/**
+	 * Checks that the points of a grid are contained in the buffer if and
+	 * only if they are closer to the curve than the buffer distance. Points
+	 * close to the buffer boundary are not checked.
+	 */
+	private static void assertContainsPointsWithinDistance(Polygon2D buffer,
+			Polyline2D polyline, double dist) {
+		for (double x = -5; x <= 15; x += .13) {
+			for (double y = -5; y <= 15; y += .13) {
+				double d = polyline.distance(x, y);
+				if (Math.abs(d - dist) < 1e-2)
+					continue;
+				assertEquals(d < dist, buffer.contains(x, y));
+			}
+		}
+	}
+
+	public void testComputeBuffer_ClosedRing() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0),
+				new Point2D(10, 10), new Point2D(0, 10) });
+		LinearBufferCalculator calc = new LinearBufferCalculator(
+				new MiterJoinFactory(), new RoundCapFactory(), 1e-2);
+		Polygon2D buffer = calc.computeBuffer(ring, 1);
+
+		assertEquals(2, buffer.contours().size());
+		assertEquals(12 * 12 - 8 * 8, buffer.area(), 1e-10);
+		assertFalse(buffer.contains(5, 5));
+	}
+
+	public void testComputeBuffer_CustomFactories() {
+		// a subclass of the factories uses the generic code path
+		JoinFactory join = new RoundJoinFactory() {};
+		CapFactory cap = new RoundCapFactory() {};
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+
+		Polygon2D expected = new LinearBufferCalculator(1e-3)
+				.computeBuffer(polyline, 2);
+		Polygon2D buffer = new LinearBufferCalculator(join, cap, 1e-3)
+				.computeBuffer(polyline, 2);
+		assertEquals(expected.area(), buffer.area(), 1e-2);
+	}
+
+	public void testConstructor_InvalidDeviation() {
+		try {
+			new LinearBufferCalculator(0);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+}
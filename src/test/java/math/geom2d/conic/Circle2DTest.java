@@ -34,11 +34,13 @@ import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
 import math.geom2d.circulinear.CirculinearCurve2D;
 import math.geom2d.curve.CurveSet2D;
+import math.geom2d.curve.Curves2D;
 import math.geom2d.curve.SmoothCurve2D;
 import math.geom2d.domain.ContinuousOrientedCurve2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -584,4 +586,22 @@ public class Circle2DTest extends TestCase {
 
 	    assertEquals(1, points.size());
 	}
+
+	public void testAsPolyline_InvalidDeviation() {
+		Circle2D circle = new Circle2D(10, 20, 30);
+		double[] values = { 0, -1, Double.NaN };
+		for (double tol : values) {
+			try {
+				circle.asPolyline(tol);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException ex) {
+			}
+		}
+	}
+
+	public void testAsPolyline_TinyDeviation() {
+		Circle2D circle = new Circle2D(10, 20, 30);
+		LinearRing2D ring = circle.asPolyline(1e-20);
+		assertEquals(Curves2D.MAX_FLATTEN_VERTICES, ring.vertexNumber());
+	}
 }
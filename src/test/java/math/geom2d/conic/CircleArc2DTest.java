@@ -724,4 +724,30 @@ public class CircleArc2DTest extends TestCase {
 	        xs = arc.intersections(b);
 	        assertTrue(2 == xs.size());
 	    }
+
+	public void testAsPolyline_Deviation() {
+		CircleArc2D arc = new CircleArc2D(new Point2D(10, 20), 100, PI/3, PI);
+		double tol = .1;
+		Polyline2D poly = arc.asPolyline(tol);
+		
+		assertTrue(poly.lastPoint().almostEquals(arc.lastPoint(), 1e-12));
+		for (int i = 0; i <= 1000; i++)
+			assertTrue(poly.distance(arc.point(PI * i / 1000)) <= tol);
+		
+		// each edge spans 2*acos(1-tol/r) radians
+		assertEquals(4 + 1 + (int) (PI / (2 * Math.acos(1 - tol / 100))), 
+				poly.vertexNumber(), 4);
+	}
+
+	public void testAsPolyline_InvalidDeviation() {
+		CircleArc2D arc = new CircleArc2D(new Point2D(10, 20), 100, PI/3, PI);
+		double[] values = { 0, -1, Double.NaN };
+		for (double tol : values) {
+			try {
+				arc.asPolyline(tol);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException ex) {
+			}
+		}
+	}
 }
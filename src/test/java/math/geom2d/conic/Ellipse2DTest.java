@@ -29,6 +29,7 @@ package math.geom2d.conic;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import math.geom2d.AffineTransform2D;
@@ -225,8 +226,8 @@ public class Ellipse2DTest extends TestCase {
 		Ellipse2D el1 = new Ellipse2D(0, 0, 20, 10);
 		assertEquals(el1.signedDistance(new Point2D(25, 0)), 5, Shape2D.ACCURACY);
 		assertEquals(el1.signedDistance(new Point2D(0, 15)), 5, Shape2D.ACCURACY);
-//		assertEquals(el1.getSignedDistance(new Point2D(15, 0)), -5, Shape2D.ACCURACY);
-//		assertEquals(el1.getSignedDistance(new Point2D(0, 5)), -5, Shape2D.ACCURACY);
+		assertEquals(el1.signedDistance(new Point2D(15, 0)), -5, Shape2D.ACCURACY);
+		assertEquals(el1.signedDistance(new Point2D(0, 5)), -5, Shape2D.ACCURACY);
 	}
 
 	public void testIsInside(){
@@ -259,6 +260,44 @@ public class Ellipse2DTest extends TestCase {
 		double dist = p1.distance(p0);
 		assertEquals(d, dist, 1e-6);
 	}
+
+	public void testDistance_Sampling(){
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 30, 10, Math.PI/5);
+		Ellipse2D reverse = ellipse.reverse();
+		Random random = new Random(1);
+		int n = 20000;
+		for (int i = 0; i < 50; i++) {
+			double x = random.nextDouble() * 100 - 40;
+			double y = random.nextDouble() * 100 - 30;
+			
+			double minDist = Double.MAX_VALUE;
+			for (int k = 0; k < n; k++)
+				minDist = Math.min(minDist, 
+						ellipse.point(2 * Math.PI * k / n).distance(x, y));
+			
+			double dist = ellipse.distance(x, y);
+			assertTrue(dist <= minDist + 1e-10);
+			assertEquals(minDist, dist, 1e-5);
+			assertEquals(dist, ellipse.point(ellipse.project(
+					new Point2D(x, y))).distance(x, y), 1e-10);
+			assertEquals(dist, reverse.distance(x, y), 1e-10);
+			assertEquals(dist, reverse.point(reverse.project(
+					new Point2D(x, y))).distance(x, y), 1e-10);
+		}
+	}
+
+	public void testDistance_Axes(){
+		Ellipse2D el1 = new Ellipse2D(0, 0, 20, 10);
+		assertEquals(10, el1.distance(0, 0), 1e-12);
+		assertEquals(5, el1.distance(15, 0), 1e-12);
+		assertEquals(5, el1.distance(0, -5), 1e-12);
+		assertEquals(0, el1.distance(-20, 0), 1e-12);
+		
+		Ellipse2D el2 = new Ellipse2D(0, 0, 10, 20);
+		assertEquals(10, el2.distance(0, 0), 1e-12);
+		assertEquals(5, el2.distance(0, -15), 1e-12);
+		assertEquals(-5, el2.signedDistance(5, 0), 1e-12);
+	}
 	
 	/**
 	 * check that for a given position, computing the point on the curve, 
@@ -28,6 +28,7 @@ package math.geom2d.conic;
 import static java.lang.Math.PI;
 import junit.framework.TestCase;
 import math.geom2d.AffineTransform2D;
+import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
 import math.geom2d.line.StraightLine2D;
@@ -159,6 +160,38 @@ public class EllipseArc2DTest extends TestCase {
 		
 	}
 	
+	public void testDistance() {
+        Ellipse2D ellipse = new Ellipse2D(0, 0, 50, 20, 0);
+		EllipseArc2D arc = new EllipseArc2D(ellipse, 0, PI/2);
+		assertEquals(10, arc.distance(60, 0), 1e-12);
+		assertEquals(10, arc.distance(0, 30), 1e-12);
+		assertEquals(Math.hypot(60, 20), arc.distance(-60, 0), 1e-12);
+		assertEquals(30, arc.distance(new Point2D(0, -10)), 1e-12);
+		
+		Ellipse2D rotated = new Ellipse2D(10, 20, 30, 10, PI/5);
+		EllipseArc2D arc2 = new EllipseArc2D(rotated, PI/3, -PI);
+		for (int i = 0; i < 20; i++) {
+			double x = i * 4 - 30;
+			double y = 20 + (i % 5) * 10 - 20;
+			double minDist = Double.MAX_VALUE;
+			for (int k = 0; k <= 10000; k++)
+				minDist = Math.min(minDist, arc2.point(PI * k / 10000).distance(x, y));
+			assertEquals(minDist, arc2.distance(x, y), 1e-4);
+			assertEquals(arc2.distance(x, y), arc2.point(arc2.project(
+					new Point2D(x, y))).distance(x, y), 1e-10);
+		}
+
+		// arc of an indirect ellipse
+		Ellipse2D indirect = new Ellipse2D(10, 20, 30, 10, PI/5, false);
+		EllipseArc2D arc3 = new EllipseArc2D(indirect, PI/3, 3*PI/2);
+		for (int i = 0; i < 20; i++) {
+			double x = i * 4 - 30;
+			double y = 20 + (i % 5) * 10 - 20;
+			assertEquals(arc3.distance(x, y), arc3.point(arc3.project(
+					new Point2D(x, y))).distance(x, y), 1e-10);
+		}
+	}
+	
     public void testClone() {
         Ellipse2D ellipse = new Ellipse2D(10, 20, 30, 40, Math.PI/3);
         EllipseArc2D arc = new EllipseArc2D(ellipse, Math.PI/2, Math.PI);
@@ -171,4 +204,36 @@ public class EllipseArc2DTest extends TestCase {
 	private void assertAlmostEquals(Vector2D v1, Vector2D v2, double eps) {
 		assertTrue(v1.almostEquals(v2, eps));
 	}
+
+	public void testAsPolyline_Deviation() {
+		Ellipse2D ellipse = new Ellipse2D(new Point2D(50, 50), 200, 20, PI / 6);
+		EllipseArc2D arc = new EllipseArc2D(ellipse, -PI / 3, PI);
+		double tol = .05;
+		Polyline2D poly = arc.asPolyline(tol);
+
+		assertTrue(poly.firstPoint().almostEquals(arc.firstPoint(), 1e-12));
+		assertTrue(poly.lastPoint().almostEquals(arc.lastPoint(), 1e-12));
+		for (int i = 0; i <= 1000; i++)
+			assertTrue(poly.distance(arc.point(PI * i / 1000)) <= tol);
+
+		// regular sampling with the same number of vertices is less precise
+		Polyline2D poly2 = arc.asPolyline(poly.vertexNumber() - 1);
+		double maxDist = 0;
+		for (int i = 0; i <= 1000; i++)
+			maxDist = Math.max(maxDist, poly2.distance(arc.point(PI * i / 1000)));
+		assertTrue(maxDist > tol);
+	}
+
+	public void testAsPolyline_InvalidDeviation() {
+		Ellipse2D ellipse = new Ellipse2D(new Point2D(50, 50), 200, 20, PI / 6);
+		EllipseArc2D arc = new EllipseArc2D(ellipse, -PI / 3, PI);
+		double[] values = { 0, -1, Double.NaN };
+		for (double tol : values) {
+			try {
+				arc.asPolyline(tol);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException ex) {
+			}
+		}
+	}
 }
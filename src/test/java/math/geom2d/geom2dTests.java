@@ -43,10 +43,13 @@ public class geom2dTests {
 		suite.addTest(math.geom2d.conic.AllTests.suite());
 		suite.addTest(math.geom2d.curve.AllTests.suite());
 		suite.addTest(math.geom2d.domain.AllTests.suite());
+		suite.addTest(math.geom2d.io.AllTests.suite());
 		suite.addTest(math.geom2d.line.AllTests.suite());
         suite.addTest(math.geom2d.point.AllTests.suite());
         suite.addTest(math.geom2d.polygon.AllTests.suite());
+        suite.addTest(math.geom2d.polygon.clip.AllTests.suite());
         suite.addTest(math.geom2d.polygon.convhull.AllTests.suite());
+        suite.addTest(math.geom2d.predicates.AllTests.suite());
 		suite.addTest(math.geom2d.spline.AllTests.suite());
 		suite.addTest(math.geom2d.transform.AllTests.suite());
 		//$JUnit-END$
@@ -0,0 +1,27 @@
+/**
+ * File: 	AllTests.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * @author dlegland
+ */
+public class AllTests {
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite("Test for math.geom2d.io");
+		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(WKBReaderTest.class));
+		suite.addTest(new TestSuite(WKTReaderTest.class));
+		//$JUnit-END$
+		return suite;
+	}
+}
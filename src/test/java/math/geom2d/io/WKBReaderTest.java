@@ -0,0 +1,198 @@
+/**
+ * File: 	WKBReaderTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeArray2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class WKBReaderTest extends TestCase {
+
+	public void testRead_Point() {
+		// POINT (1 2) in big endian
+		byte[] bytes = ByteBuffer.allocate(21).put((byte) 0).putInt(1)
+				.putDouble(1).putDouble(2).array();
+		Shape2D shape = WKBReader.read(bytes);
+		assertEquals(new Point2D(1, 2), shape);
+	}
+
+	public void testRead_EwkbPointZWithSrid() {
+		// POINT Z (1 2 3) with SRID 4326, in little endian
+		ByteBuffer buffer = ByteBuffer.allocate(33)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 1).putInt(0x80000000 | 0x20000000 | 1)
+				.putInt(4326).putDouble(1).putDouble(2).putDouble(3);
+		buffer.flip();
+		assertEquals(new Point2D(1, 2), WKBReader.read(buffer));
+		assertFalse(buffer.hasRemaining());
+	}
+
+	public void testReadWrite_Polygon() {
+		// clockwise square, that should be reoriented
+		SimplePolygon2D square = new SimplePolygon2D(
+				new double[] { 0, 0, 10, 10 }, new double[] { 0, 10, 10, 0 });
+		byte[] bytes = new WKBWriter(ByteOrder.BIG_ENDIAN).toBytes(square);
+		assertEquals(9 + 4 + 5 * 16, bytes.length);
+
+		Shape2D shape = WKBReader.read(bytes);
+		assertTrue(shape instanceof SimplePolygon2D);
+		SimplePolygon2D polygon = (SimplePolygon2D) shape;
+		assertEquals(4, polygon.vertexNumber());
+		assertEquals(100, polygon.area(), 1e-12);
+	}
+
+	public void testReadWrite_MultiPolygon() {
+		LinearRing2D outer1 = new LinearRing2D(
+				new double[] { 0, 10, 10, 0 }, new double[] { 0, 0, 10, 10 });
+		LinearRing2D hole1 = new LinearRing2D(
+				new double[] { 2, 2, 8, 8 }, new double[] { 2, 8, 8, 2 });
+		LinearRing2D outer2 = new LinearRing2D(
+				new double[] { 20, 30, 30, 20 }, new double[] { 0, 0, 10, 10 });
+		MultiPolygon2D polygon = MultiPolygon2D.create(outer1, outer2, hole1);
+
+		Shape2D shape = WKBReader.read(new WKBWriter().toBytes(polygon));
+		assertTrue(shape instanceof MultiPolygon2D);
+		MultiPolygon2D result = (MultiPolygon2D) shape;
+		assertEquals(3, result.ringNumber());
+		assertEquals(polygon.area(), result.area(), 1e-12);
+		assertEquals(outer1.vertices(), result.getRing(0).vertices());
+		assertEquals(hole1.vertices(), result.getRing(1).vertices());
+	}
+
+	public void testReadWrite_Collection() {
+		ShapeArray2D<Shape2D> shapes = new ShapeArray2D<Shape2D>();
+		shapes.add(new Point2D(3, 4));
+		shapes.add(new Polyline2D(new double[] { 0, 1, 2 },
+				new double[] { 0, 1, 0 }));
+		shapes.add(new PackedPointArray2D(new double[] { 1, 2, 3 },
+				new double[] { 4, 5, 6 }));
+		CurveArray2D<Polyline2D> curves = new CurveArray2D<Polyline2D>();
+		curves.add(new Polyline2D(new double[] { 0, 1 }, new double[] { 0, 1 }));
+		curves.add(new Polyline2D(new double[] { 2, 3 }, new double[] { 0, 1 }));
+		shapes.add(curves);
+
+		Shape2D shape = WKBReader.read(new WKBWriter().toBytes(shapes));
+		assertTrue(shape instanceof ShapeArray2D<?>);
+		ShapeArray2D<?> result = (ShapeArray2D<?>) shape;
+		assertEquals(4, result.size());
+		assertEquals(shapes.get(0), result.get(0));
+		assertEquals(shapes.get(1), result.get(1));
+		PackedPointArray2D points = (PackedPointArray2D) result.get(2);
+		assertEquals(3, points.size());
+		assertEquals(new Point2D(3, 6), points.get(2));
+		assertEquals(2, ((CurveArray2D<?>) result.get(3)).size());
+	}
+
+	public void testReadWrite_Channel() throws IOException {
+		// write many geometries, larger than the buffer of the channel
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		WKBWriter writer = new WKBWriter(Channels.newChannel(stream));
+		int n = 1000;
+		for (int i = 0; i < n; i++) {
+			double[] xs = new double[i + 2];
+			double[] ys = new double[i + 2];
+			for (int k = 0; k < i + 2; k++) {
+				xs[k] = i + k;
+				ys[k] = i * k;
+			}
+			writer.write(new Polyline2D(xs, ys));
+		}
+		writer.flush();
+
+		WKBReader reader = new WKBReader(Channels.newChannel(
+				new ByteArrayInputStream(stream.toByteArray())));
+		int count = 0;
+		while (reader.hasNext()) {
+			Polyline2D polyline = (Polyline2D) reader.read();
+			assertEquals(count + 2, polyline.vertexNumber());
+			assertEquals(new Point2D(2 * count + 1, count * (count + 1)),
+					polyline.lastPoint());
+			count++;
+		}
+		assertEquals(n, count);
+	}
+
+	public void testOpen_MappedFile() throws IOException {
+		File file = File.createTempFile("wkb", ".bin");
+		file.deleteOnExit();
+		FileOutputStream stream = new FileOutputStream(file);
+		WKBWriter writer = new WKBWriter(stream.getChannel(),
+				ByteOrder.BIG_ENDIAN);
+		writer.write(new Point2D(1, 2));
+		writer.write(new LinearRing2D(new double[] { 0, 1, 1 },
+				new double[] { 0, 0, 1 }));
+		writer.flush();
+		stream.close();
+
+		WKBReader reader = WKBReader.open(file);
+		assertEquals(new Point2D(1, 2), reader.read());
+		Polyline2D ring = (Polyline2D) reader.read();
+		assertEquals(4, ring.vertexNumber());
+		assertEquals(ring.firstPoint(), ring.lastPoint());
+		assertFalse(reader.hasNext());
+	}
+
+	public void testRead_Truncated() {
+		byte[] bytes = new WKBWriter().toBytes(new Polyline2D(
+				new double[] { 0, 1, 2 }, new double[] { 0, 1, 0 }));
+		byte[] truncated = new byte[bytes.length - 4];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+		try {
+			WKBReader.read(truncated);
+			fail("Should throw a GeometryFormatException");
+		} catch (GeometryFormatException ex) {
+		}
+	}
+
+	public void testRead_InvalidCountInChannel() throws IOException {
+		// a line string announcing far more vertices than the input contains
+		ByteBuffer buffer = ByteBuffer.allocate(41);
+		buffer.put((byte) 0).putInt(Codecs2D.LINESTRING)
+				.putInt(Integer.MAX_VALUE).putDouble(1).putDouble(2)
+				.putDouble(3).putDouble(4);
+		WKBReader reader = new WKBReader(Channels.newChannel(
+				new ByteArrayInputStream(buffer.array())));
+		try {
+			reader.read();
+			fail("Should throw a GeometryFormatException");
+		} catch (GeometryFormatException ex) {
+		}
+
+		// a negative number of rings
+		buffer = ByteBuffer.allocate(9);
+		buffer.put((byte) 0).putInt(Codecs2D.POLYGON).putInt(-1);
+		reader = new WKBReader(Channels.newChannel(
+				new ByteArrayInputStream(buffer.array())));
+		try {
+			reader.read();
+			fail("Should throw a GeometryFormatException");
+		} catch (GeometryFormatException ex) {
+		}
+	}
+}
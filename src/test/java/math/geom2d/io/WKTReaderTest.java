@@ -0,0 +1,115 @@
+/**
+ * File: 	WKTReaderTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.ShapeArray2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.point.PackedPointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class WKTReaderTest extends TestCase {
+
+	public void testRead_Point() {
+		assertEquals(new Point2D(1.5, -2), WKTReader.read("POINT (1.5 -2)"));
+		assertEquals(new Point2D(1, 2), WKTReader.read("point z(1 2 3)"));
+		assertEquals(new Point2D(1, 2),
+				WKTReader.read("SRID=4326;POINTM(1 2 5)"));
+		Point2D empty = (Point2D) WKTReader.read("POINT EMPTY");
+		assertTrue(Double.isNaN(empty.x()));
+	}
+
+	public void testRead_Numbers() {
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			double x = (random.nextDouble() - .5)
+					* Math.pow(10, random.nextInt(40) - 20);
+			double y = random.nextInt(1000000) / 1000.;
+			String text = "POINT (" + x + " " + y + ")";
+			assertEquals(new Point2D(x, y), WKTReader.read(text));
+		}
+		assertEquals(new Point2D(12345678901234567890., 1e-300),
+				WKTReader.read("POINT(12345678901234567890 1E-300)"));
+	}
+
+	public void testRead_Polygon() {
+		Shape2D shape = WKTReader.read(
+				"POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))");
+		assertTrue(shape instanceof MultiPolygon2D);
+		MultiPolygon2D polygon = (MultiPolygon2D) shape;
+		assertEquals(2, polygon.ringNumber());
+		assertEquals(4, polygon.getRing(0).vertexNumber());
+		assertEquals(100 - 36, polygon.area(), 1e-12);
+	}
+
+	public void testRead_MultiPoint() {
+		PackedPointArray2D points = (PackedPointArray2D) WKTReader.read(
+				"MULTIPOINT ((1 2), (3 4))");
+		assertEquals(2, points.size());
+		points = (PackedPointArray2D) WKTReader.read("MULTIPOINT (1 2, 3 4, 5 6)");
+		assertEquals(3, points.size());
+		assertEquals(new Point2D(5, 6), points.get(2));
+	}
+
+	public void testReadWrite_RoundTrip() {
+		ShapeArray2D<Shape2D> shapes = new ShapeArray2D<Shape2D>();
+		shapes.add(new Point2D(.1, 1e-7));
+		shapes.add(new Polyline2D(new double[] { 0, 1.25, 2 },
+				new double[] { 0, 1, -3 }));
+		shapes.add(new SimplePolygon2D(new double[] { 0, 10, 10, 0 },
+				new double[] { 0, 0, 10, 10 }));
+		CurveArray2D<Polyline2D> curves = new CurveArray2D<Polyline2D>();
+		curves.add(new Polyline2D(new double[] { 0, 1 }, new double[] { 0, 1 }));
+		shapes.add(curves);
+
+		String text = WKTWriter.toString(shapes);
+		assertEquals("GEOMETRYCOLLECTION (POINT (0.1 1.0E-7), "
+				+ "LINESTRING (0 0, 1.25 1, 2 -3), "
+				+ "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0)), "
+				+ "MULTILINESTRING ((0 0, 1 1)))", text);
+
+		ShapeArray2D<?> result = (ShapeArray2D<?>) WKTReader.read(text);
+		assertEquals(4, result.size());
+		for (int i = 0; i < 3; i++)
+			assertEquals(shapes.get(i), result.get(i));
+	}
+
+	public void testRead_Stream() throws IOException {
+		WKTReader reader = new WKTReader(new StringReader(
+				"POINT (1 2);\nLINEARRING (0 0, 1 0, 1 1, 0 0)\n"
+				+ "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), EMPTY)\n"));
+		assertTrue(reader.read() instanceof Point2D);
+		LinearRing2D ring = (LinearRing2D) reader.read();
+		assertEquals(3, ring.vertexNumber());
+		MultiPolygon2D polygon = (MultiPolygon2D) reader.read();
+		assertEquals(1, polygon.ringNumber());
+		assertFalse(reader.hasNext());
+	}
+
+	public void testRead_Malformed() {
+		try {
+			WKTReader.read("LINESTRING (0 0, 1)");
+			fail("Should throw a GeometryFormatException");
+		} catch (GeometryFormatException ex) {
+		}
+	}
+}
@@ -43,6 +43,7 @@ public class AllTests {
         suite.addTest(new TestSuite(Line2DTest.class));
 		suite.addTest(new TestSuite(LineSegment2DTest.class));
         suite.addTest(new TestSuite(Ray2DTest.class));
+        suite.addTest(new TestSuite(SegmentIntersectorTest.class));
 		suite.addTest(new TestSuite(StraightLine2DTest.class));
 		//$JUnit-END$
 		return suite;
@@ -0,0 +1,221 @@
+/**
+ * File: 	SegmentIntersectorTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.line;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polyline2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class SegmentIntersectorTest extends TestCase {
+
+	public void testIntersectingPairs_Cross() {
+		SegmentIntersector si = new SegmentIntersector();
+		si.addSegment(0, 0, 10, 10);
+		si.addSegment(0, 10, 10, 0);
+		si.addSegment(20, 0, 30, 10);
+		
+		int[] pairs = si.intersectingPairs();
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0]);
+		assertEquals(1, pairs[1]);
+	}
+
+	public void testIntersectingPairs_VerticalAndHorizontal() {
+		SegmentIntersector si = new SegmentIntersector();
+		si.addSegment(5, 0, 5, 10);
+		si.addSegment(0, 2, 10, 2);
+		si.addSegment(0, 8, 10, 8);
+		si.addSegment(0, 12, 10, 12);
+		
+		HashSet<Long> pairs = toSet(si.intersectingPairs(), 4);
+		assertEquals(2, pairs.size());
+		assertTrue(pairs.contains(0L * 4 + 1));
+		assertTrue(pairs.contains(0L * 4 + 2));
+	}
+
+	public void testIntersectingPairs_NearlyVertical() {
+		// extremities of nearly vertical segments differ by one ulp along x
+		double x1 = 4.263808946662575;
+		double x2 = Math.nextUp(x1);
+		double[] coords = new double[] {
+				x1, 4.8, x2, 15.2,
+				-5, 6.1, 6.7, 6.1,
+				-5, 15.2, x2, 15.2,
+				x2, 15.2, 16, 15.2,
+				-5, 12, 8, 14,
+				x2, 30, x1, 20,
+				x2, 20, 16, 20,
+				0, 25, 10, 25,
+				0, 35, 10, 35};
+		int n = coords.length / 4;
+
+		SegmentIntersector si = new SegmentIntersector();
+		for (int i = 0; i < n; i++)
+			si.addSegment(coords[4 * i], coords[4 * i + 1],
+					coords[4 * i + 2], coords[4 * i + 3]);
+
+		assertEquals(bruteForce(coords, n), toSet(si.intersectingPairs(), n));
+	}
+
+	public void testIntersectingPairs_StartWithinNearlyVertical() {
+		// the vertical segment starts between the abscissas of the
+		// extremities of the nearly vertical one, and crosses it
+		double x1 = 7.513576515858424;
+		double x2 = 7.513576515858428;
+		double x = 7.513576515858426;
+		double[] coords = new double[] {
+				x1, -1.1346414526750328, x2, 2.1179974948771116,
+				x, 0.19469077630249654, x, 0.7252759099765074,
+				x, 0.19469077630249654, 10, 0.19469077630249654};
+		int n = coords.length / 4;
+
+		SegmentIntersector si = new SegmentIntersector();
+		for (int i = 0; i < n; i++)
+			si.addSegment(coords[4 * i], coords[4 * i + 1],
+					coords[4 * i + 2], coords[4 * i + 3]);
+
+		assertEquals(bruteForce(coords, n), toSet(si.intersectingPairs(), n));
+		assertTrue(toSet(si.intersectingPairs(), n).contains(1L));
+	}
+
+	public void testIntersectingPairs_ColinearOverlap() {
+		SegmentIntersector si = new SegmentIntersector();
+		si.addSegment(0, 0, 10, 0);
+		si.addSegment(5, 0, 15, 0);
+		si.addSegment(12, 0, 20, 0);
+		
+		HashSet<Long> pairs = toSet(si.intersectingPairs(), 3);
+		assertEquals(2, pairs.size());
+		assertTrue(pairs.contains(0L * 3 + 1));
+		assertTrue(pairs.contains(1L * 3 + 2));
+	}
+
+	public void testIntersectingPairs_CommonPoint() {
+		// four segments crossing at the same point
+		SegmentIntersector si = new SegmentIntersector();
+		si.addSegment(0, 0, 10, 10);
+		si.addSegment(0, 10, 10, 0);
+		si.addSegment(5, 0, 5, 10);
+		si.addSegment(0, 5, 10, 5);
+
+		assertEquals(12, si.intersectingPairs().length);
+	}
+
+	public void testAddCurve() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), 
+				new Point2D(10, 10), new Point2D(0, 10) });
+		Polyline2D line = new Polyline2D(new Point2D[] {
+				new Point2D(-5, 5), new Point2D(15, 5) });
+		
+		SegmentIntersector si = new SegmentIntersector();
+		assertEquals(0, si.addCurve(ring));
+		assertEquals(4, si.addCurve(line));
+		assertEquals(5, si.segmentNumber());
+		
+		// 4 couples of adjacent edges, and two crossings
+		HashSet<Long> pairs = toSet(si.intersectingPairs(), 5);
+		assertEquals(6, pairs.size());
+		assertTrue(pairs.contains(1L * 5 + 4));
+		assertTrue(pairs.contains(3L * 5 + 4));
+	}
+
+	public void testIntersectingPairs_RandomSegments() {
+		Random random = new Random(123);
+		for (int iter = 0; iter < 20; iter++) {
+			int n = 200;
+			double[] coords = new double[4 * n];
+			SegmentIntersector si = new SegmentIntersector();
+			for (int i = 0; i < n; i++) {
+				double x = random.nextDouble() * 100;
+				double y = random.nextDouble() * 100;
+				coords[4 * i] = x;
+				coords[4 * i + 1] = y;
+				coords[4 * i + 2] = x + random.nextDouble() * 20 - 10;
+				coords[4 * i + 3] = y + random.nextDouble() * 20 - 10;
+				si.addSegment(coords[4 * i], coords[4 * i + 1],
+						coords[4 * i + 2], coords[4 * i + 3]);
+			}
+			
+			assertEquals(bruteForce(coords, n), 
+					toSet(si.intersectingPairs(), n));
+		}
+	}
+
+	public void testIntersectingPairs_RandomPolyline() {
+		// random walk on an integer grid, with many degenerate cases
+		Random random = new Random(456);
+		int n = 300;
+		double[] coords = new double[4 * n];
+		SegmentIntersector si = new SegmentIntersector();
+		double x = 10, y = 10;
+		for (int i = 0; i < n; i++) {
+			double x2 = Math.max(0, Math.min(20, x + random.nextInt(5) - 2));
+			double y2 = Math.max(0, Math.min(20, y + random.nextInt(5) - 2));
+			coords[4 * i] = x;
+			coords[4 * i + 1] = y;
+			coords[4 * i + 2] = x2;
+			coords[4 * i + 3] = y2;
+			si.addSegment(x, y, x2, y2);
+			x = x2;
+			y = y2;
+		}
+		
+		assertEquals(bruteForce(coords, n), toSet(si.intersectingPairs(), n));
+	}
+
+	private static HashSet<Long> toSet(int[] pairs, int n) {
+		HashSet<Long> set = new HashSet<Long>();
+		for (int k = 0; k < pairs.length; k += 2) {
+			assertTrue(pairs[k] < pairs[k + 1]);
+			assertTrue(set.add(((long) pairs[k]) * n + pairs[k + 1]));
+		}
+		return set;
+	}
+
+	private static HashSet<Long> bruteForce(double[] c, int n) {
+		HashSet<Long> set = new HashSet<Long>();
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				if (intersects(c[4*i], c[4*i+1], c[4*i+2], c[4*i+3], 
+						c[4*j], c[4*j+1], c[4*j+2], c[4*j+3]))
+					set.add(((long) i) * n + j);
+			}
+		}
+		return set;
+	}
+
+	private static boolean intersects(double x11, double y11, double x12,
+			double y12, double x21, double y21, double x22, double y22) {
+		if (Math.max(x11, x12) < Math.min(x21, x22)
+				|| Math.max(x21, x22) < Math.min(x11, x12))
+			return false;
+		if (Math.max(y11, y12) < Math.min(y21, y22)
+				|| Math.max(y21, y22) < Math.min(y11, y12))
+			return false;
+		double d1 = orient(x11, y11, x12, y12, x21, y21);
+		double d2 = orient(x11, y11, x12, y12, x22, y22);
+		double d3 = orient(x21, y21, x22, y22, x11, y11);
+		double d4 = orient(x21, y21, x22, y22, x12, y12);
+		return d1 * d2 <= 0 && d3 * d4 <= 0;
+	}
+
+	private static double orient(double x0, double y0, double x1, double y1,
+			double x2, double y2) {
+		return Math.signum((x1 - x0) * (y2 - y0) - (y1 - y0) * (x2 - x0));
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * File: 	DelaunayTriangulation2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.conic.Circle2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class DelaunayTriangulation2DTest extends TestCase {
+
+	private static DelaunayTriangulation2D randomTriangulation(int n, long seed) {
+		Random random = new Random(seed);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 100;
+			ys[i] = random.nextDouble() * 100;
+		}
+		return new DelaunayTriangulation2D(xs, ys);
+	}
+
+	public void testTriangles_Square() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(0, 0));
+		points.add(new Point2D(10, 0));
+		points.add(new Point2D(10, 10));
+		points.add(new Point2D(0, 10));
+		points.add(new Point2D(4, 5));
+		DelaunayTriangulation2D delaunay = new DelaunayTriangulation2D(points);
+
+		assertEquals(4, delaunay.triangleNumber());
+		assertEquals(4, delaunay.hull().length);
+		assertEquals(4, delaunay.neighbors(4).length);
+		assertEquals(3, delaunay.neighbors(0).length);
+		assertEquals(8, delaunay.edges().size());
+
+		double area = 0;
+		for (int t = 0; t < delaunay.triangleNumber(); t++) {
+			double a = delaunay.triangle(t).area();
+			assertTrue(a > 0);
+			area += a;
+		}
+		assertEquals(100, area, 1e-10);
+	}
+
+	public void testTriangles_EmptyCircumcircle() {
+		DelaunayTriangulation2D delaunay = randomTriangulation(300, 1);
+		int[] triangles = delaunay.triangles();
+		int n = delaunay.vertexNumber();
+
+		// Euler relation for a triangulation of points in general position
+		assertEquals(2 * n - delaunay.hull().length - 2,
+				delaunay.triangleNumber());
+
+		for (int t = 0; t < triangles.length; t += 3) {
+			Point2D p1 = delaunay.vertex(triangles[t]);
+			Point2D p2 = delaunay.vertex(triangles[t + 1]);
+			Point2D p3 = delaunay.vertex(triangles[t + 2]);
+			assertEquals(1, Point2D.ccw(p1, p2, p3));
+
+			Point2D center = Circle2D.circumCenter(p1, p2, p3);
+			double r = center.distance(p1);
+			for (int i = 0; i < n; i++)
+				assertTrue(delaunay.vertex(i).distance(center) > r - 1e-9);
+		}
+	}
+
+	public void testHalfedges() {
+		DelaunayTriangulation2D delaunay = randomTriangulation(500, 2);
+		int[] triangles = delaunay.triangles();
+		int[] halfedges = delaunay.halfedges();
+		int hullEdges = 0;
+		for (int e = 0; e < halfedges.length; e++) {
+			int e2 = halfedges[e];
+			if (e2 == -1) {
+				hullEdges++;
+				continue;
+			}
+			assertEquals(e, halfedges[e2]);
+			assertEquals(triangles[e], triangles[DelaunayTriangulation2D.next(e2)]);
+			assertEquals(triangles[e2], triangles[DelaunayTriangulation2D.next(e)]);
+		}
+		assertEquals(delaunay.hull().length, hullEdges);
+	}
+
+	public void testDuplicateAndColinearPoints() {
+		DelaunayTriangulation2D delaunay = new DelaunayTriangulation2D(
+				new double[] { 0, 1, 2, 3, 1 }, new double[] { 0, 1, 2, 3, 1 });
+		assertEquals(0, delaunay.triangleNumber());
+		assertEquals(4, delaunay.hull().length);
+		assertEquals(2, delaunay.neighbors(2).length);
+
+		delaunay = new DelaunayTriangulation2D(
+				new double[] { 0, 10, 0, 10, 0, 5 },
+				new double[] { 0, 0, 10, 10, 0, 5 });
+		assertEquals(4, delaunay.triangleNumber());
+		int skipped = 0;
+		for (int i = 0; i < 6; i++)
+			if (delaunay.neighbors(i).length == 0)
+				skipped++;
+		assertEquals(1, skipped);
+	}
+
+	public void testVoronoi_CellAreas() {
+		DelaunayTriangulation2D delaunay = randomTriangulation(200, 3);
+		Box2D box = new Box2D(-10, 110, -10, 110);
+		VoronoiDiagram2D voronoi = delaunay.voronoi(box);
+
+		double area = 0;
+		for (int i = 0; i < delaunay.vertexNumber(); i++) {
+			SimplePolygon2D cell = voronoi.cell(i);
+			double a = cell.area();
+			assertTrue(a > 0);
+			assertTrue(cell.contains(delaunay.vertex(i)));
+			area += a;
+		}
+		assertEquals(120 * 120, area, 1e-6);
+	}
+
+	public void testVoronoi_Colinear() {
+		DelaunayTriangulation2D delaunay = new DelaunayTriangulation2D(
+				new double[] { 0, 2, 4 }, new double[] { 0, 0, 0 });
+		VoronoiDiagram2D voronoi = delaunay.voronoi(new Box2D(-1, 5, -1, 1));
+		assertEquals(4, voronoi.cell(0).area(), 1e-12);
+		assertEquals(4, voronoi.cell(1).area(), 1e-12);
+		assertEquals(4, voronoi.cell(2).area(), 1e-12);
+	}
+}
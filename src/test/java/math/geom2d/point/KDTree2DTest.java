@@ -10,6 +10,8 @@ package math.geom2d.point;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
@@ -117,4 +119,54 @@ public class KDTree2DTest extends TestCase {
         assertTrue(result.contains(new Point2D(-5, -5)));
         assertTrue(result.contains(new Point2D(5, -5)));
    }
+
+    public void testGetIndex() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(3);
+        points.add(new Point2D(20, 20));
+        points.add(new Point2D(5, 5));
+        points.add(new Point2D(10, 10));
+        KDTree2D tree = new KDTree2D(points);
+        
+        assertEquals(0, tree.getNode(new Point2D(20, 20)).getIndex());
+        assertEquals(1, tree.getNode(new Point2D(5, 5)).getIndex());
+        assertEquals(2, tree.getNode(new Point2D(10, 10)).getIndex());
+        
+        tree.add(new Point2D(8, 12));
+        assertEquals(3, tree.getNode(new Point2D(8, 12)).getIndex());
+    }
+
+    public void testNearestNeighbors() {
+        Random random = new Random(10);
+        int n = 1000;
+        ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+        for (int i = 0; i < n; i++)
+            points.add(new Point2D(random.nextDouble() * 100,
+                    random.nextDouble() * 100));
+        KDTree2D tree = new KDTree2D(new ArrayList<Point2D>(points));
+        
+        // use enough query points to split the computation
+        int nq = 5000;
+        double[] coords = new double[2 * nq];
+        for (int i = 0; i < 2 * nq; i++)
+            coords[i] = random.nextDouble() * 120 - 10;
+        int[] indices = new int[nq];
+        double[] distances = new double[nq];
+        tree.nearestNeighbors(coords, indices, distances, new ForkJoinPool(4));
+        
+        for (int q = 0; q < nq; q++) {
+            Point2D query = new Point2D(coords[2 * q], coords[2 * q + 1]);
+            Point2D expected = tree.nearestNeighbor(query);
+            assertEquals(expected.distance(query), distances[q], 1e-12);
+            assertEquals(distances[q], points.get(indices[q]).distance(query), 1e-12);
+        }
+    }
+
+    public void testNearestNeighbors_Empty() {
+        KDTree2D tree = new KDTree2D(new ArrayList<Point2D>());
+        int[] indices = new int[1];
+        double[] distances = new double[1];
+        tree.nearestNeighbors(new double[]{1, 2}, indices, distances);
+        assertEquals(-1, indices[0]);
+        assertEquals(Double.POSITIVE_INFINITY, distances[0]);
+    }
 }
@@ -0,0 +1,71 @@
+/**
+ * File: 	PackedCoordinateSequence2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PackedCoordinateSequence2DTest extends TestCase {
+
+	public void testConstructors() {
+		PackedCoordinateSequence2D seq = new PackedCoordinateSequence2D(
+				new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 });
+		assertEquals(3, seq.size());
+		assertEquals(2, seq.x(1), 0);
+		assertEquals(5, seq.y(1), 0);
+		assertEquals(new Point2D(3, 6), seq.point(2));
+
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(1, 4));
+		points.add(new Point2D(2, 5));
+		points.add(new Point2D(3, 6));
+		PackedCoordinateSequence2D seq2 = new PackedCoordinateSequence2D(points);
+		assertTrue(Arrays.equals(seq.toArray(), seq2.toArray()));
+
+		PackedPointArray2D array = PackedPointArray2D.create(seq);
+		assertEquals(3, array.size());
+		PackedCoordinateSequence2D seq3 = new PackedCoordinateSequence2D(array);
+		assertTrue(Arrays.equals(seq.toArray(), seq3.toArray()));
+	}
+
+	public void testWrap() {
+		double[] coords = new double[] { 1, 2, 3, 4 };
+		PackedCoordinateSequence2D seq = PackedCoordinateSequence2D.wrap(coords);
+		assertEquals(2, seq.size());
+		assertEquals(3, seq.x(1), 0);
+
+		// modification of the result of toArray does not change the sequence
+		seq.toArray()[0] = 10;
+		assertEquals(1, seq.x(0), 0);
+
+		try {
+			PackedCoordinateSequence2D.wrap(new double[] { 1, 2, 3 });
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+
+	public void testPointArray() {
+		PointArray2D array = PointArray2D.create(new PackedCoordinateSequence2D(
+				new double[] { 0, 10 }, new double[] { 20, 30 }));
+		assertEquals(2, array.size());
+		assertEquals(new Point2D(10, 30), array.get(1));
+
+		PackedCoordinateSequence2D coords = array.coordinates();
+		assertEquals(2, coords.size());
+		assertEquals(20, coords.y(0), 0);
+	}
+}
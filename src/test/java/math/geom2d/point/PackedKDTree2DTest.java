@@ -0,0 +1,204 @@
+/**
+ * File: 	PackedKDTree2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import junit.framework.TestCase;
+
+
+/**
+ * @author dlegland
+ *
+ */
+public class PackedKDTree2DTest extends TestCase {
+
+	public void testSize() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(5, 5));
+		points.add(new Point2D(10, 10));
+		points.add(new Point2D(20, 20));
+
+		PackedKDTree2D tree = new PackedKDTree2D(points);
+		assertEquals(3, tree.size());
+	}
+
+	public void testEmpty() {
+		PackedKDTree2D tree = new PackedKDTree2D(new double[0], new double[0]);
+		assertEquals(0, tree.size());
+		assertEquals(-1, tree.nearest(0, 0));
+		assertEquals(0, tree.kNearest(0, 0, 3, new int[3], new double[3]));
+		assertEquals(0, tree.withinRadius(0, 0, 10, new int[3]));
+		assertEquals(0, tree.rangeSearch(new Box2D(0, 10, 0, 10), new int[3]));
+	}
+
+	public void testNearest() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(5, 5));
+		points.add(new Point2D(10, 10));
+		points.add(new Point2D(20, 20));
+		points.add(new Point2D(8, 12));
+		points.add(new Point2D(12, 8));
+
+		PackedKDTree2D tree = new PackedKDTree2D(points);
+
+		assertEquals(0, tree.nearest(0, 0));
+		assertEquals(1, tree.nearest(new Point2D(10, 10)));
+		assertEquals(2, tree.nearest(30, 30));
+		assertEquals(3, tree.nearest(7, 13));
+		assertEquals(4, tree.nearest(13, 7));
+	}
+
+	public void testNearest_Random() {
+		Random random = new Random(12);
+		int n = 2000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 100;
+			ys[i] = random.nextDouble() * 100;
+		}
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		for (int q = 0; q < 200; q++) {
+			double x = random.nextDouble() * 120 - 10;
+			double y = random.nextDouble() * 120 - 10;
+			int ind = tree.nearest(x, y);
+			assertEquals(bruteDist(xs, ys, x, y)[0],
+					Math.hypot(xs[ind] - x, ys[ind] - y), 1e-12);
+		}
+	}
+
+	public void testKNearest_Random() {
+		Random random = new Random(20);
+		int n = 1000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 100;
+			ys[i] = random.nextDouble() * 100;
+		}
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		int k = 10;
+		int[] inds = new int[k];
+		double[] dists = new double[k];
+		for (int q = 0; q < 100; q++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			assertEquals(k, tree.kNearest(x, y, k, inds, dists));
+
+			double[] expected = bruteDist(xs, ys, x, y);
+			for (int i = 0; i < k; i++) {
+				assertEquals(expected[i], dists[i], 1e-12);
+				assertEquals(dists[i],
+						Math.hypot(xs[inds[i]] - x, ys[inds[i]] - y), 1e-12);
+			}
+		}
+	}
+
+	public void testKNearest_MoreThanSize() {
+		double[] xs = new double[]{0, 10, 20};
+		double[] ys = new double[]{0, 0, 0};
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		int[] inds = new int[5];
+		double[] dists = new double[5];
+		assertEquals(3, tree.kNearest(12, 0, 5, inds, dists));
+		assertEquals(1, inds[0]);
+		assertEquals(2, inds[1]);
+		assertEquals(0, inds[2]);
+		assertEquals(2, dists[0], 1e-12);
+		assertEquals(12, dists[2], 1e-12);
+	}
+
+	public void testWithinRadius_Random() {
+		Random random = new Random(30);
+		int n = 1000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 100;
+			ys[i] = random.nextDouble() * 100;
+		}
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		int[] result = new int[n];
+		for (int q = 0; q < 50; q++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			double r = random.nextDouble() * 20;
+			int count = tree.withinRadius(x, y, r, result);
+
+			int expected = 0;
+			for (int i = 0; i < n; i++) {
+				if (Math.hypot(xs[i] - x, ys[i] - y) <= r)
+					expected++;
+			}
+			assertEquals(expected, count);
+			for (int i = 0; i < count; i++)
+				assertTrue(Math.hypot(xs[result[i]] - x, ys[result[i]] - y) <= r);
+		}
+	}
+
+	public void testWithinRadius_SmallBuffer() {
+		double[] xs = new double[]{0, 1, 2, 3, 4};
+		double[] ys = new double[]{0, 0, 0, 0, 0};
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		int[] result = new int[2];
+		assertEquals(5, tree.withinRadius(2, 0, 2, result));
+	}
+
+	public void testRangeSearch_Random() {
+		Random random = new Random(40);
+		int n = 1000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			// use integer coordinates to test points on box boundary
+			xs[i] = random.nextInt(50);
+			ys[i] = random.nextInt(50);
+		}
+		PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+
+		int[] result = new int[n];
+		for (int q = 0; q < 50; q++) {
+			int x0 = random.nextInt(40);
+			int y0 = random.nextInt(40);
+			Box2D box = new Box2D(x0, x0 + random.nextInt(20),
+					y0, y0 + random.nextInt(20));
+			int count = tree.rangeSearch(box, result);
+
+			ArrayList<Integer> expected = new ArrayList<Integer>();
+			for (int i = 0; i < n; i++) {
+				if (box.contains(xs[i], ys[i]))
+					expected.add(i);
+			}
+			assertEquals(expected.size(), count);
+			int[] sorted = Arrays.copyOf(result, count);
+			Arrays.sort(sorted);
+			for (int i = 0; i < count; i++)
+				assertEquals((int) expected.get(i), sorted[i]);
+		}
+	}
+
+	private static double[] bruteDist(double[] xs, double[] ys,
+			double x, double y) {
+		double[] dists = new double[xs.length];
+		for (int i = 0; i < xs.length; i++)
+			dists[i] = Math.hypot(xs[i] - x, ys[i] - y);
+		Arrays.sort(dists);
+		return dists;
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * File: 	PackedPointArray2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.domain.Boundary2D;
+import math.geom2d.domain.Domain2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PackedPointArray2DTest extends TestCase {
+
+	public void testAddGetRemove() {
+		PackedPointArray2D set = new PackedPointArray2D();
+		for (int i = 0; i < 10; i++)
+			set.add(i, 2 * i);
+		assertEquals(10, set.size());
+		assertEquals(new Point2D(3, 6), set.get(3));
+		assertEquals(3, set.x(3), 0);
+		assertEquals(6, set.y(3), 0);
+
+		set.add(0, new Point2D(-1, -1));
+		assertEquals(11, set.size());
+		assertEquals(new Point2D(-1, -1), set.get(0));
+		assertEquals(4, set.indexOf(new Point2D(3, 6)));
+
+		assertTrue(set.remove(new Point2D(3, 6)));
+		assertFalse(set.remove(new Point2D(3, 6)));
+		assertEquals(new Point2D(4, 8), set.remove(4));
+		assertEquals(9, set.size());
+
+		set.clear();
+		assertTrue(set.isEmpty());
+	}
+
+	public void testGetBuffer_Disjoint() {
+		PointSet2D set = PackedPointArray2D.create(new Point2D(10, 20),
+				new Point2D(20, 10), new Point2D(30, 20));
+
+		Domain2D buffer = set.buffer(5);
+		Boundary2D boundary = buffer.boundary();
+		assertEquals(3, boundary.continuousCurves().size());
+	}
+
+	public void testGetDistancePoint2D() {
+		PackedPointArray2D set = new PackedPointArray2D(
+				new double[] { 0, 10, 0, 10 }, new double[] { 0, 0, 10, 10 });
+
+		assertEquals(0, set.distance(new Point2D(10, 0)), 1e-14);
+		assertEquals(10, set.distance(new Point2D(20, 0)), 1e-14);
+		assertEquals(10 * Math.sqrt(2), set.distance(20, 20), 1e-14);
+		assertEquals(5 * Math.sqrt(2), set.distance(5, 5), 1e-14);
+		assertTrue(Double.isNaN(new PackedPointArray2D().distance(0, 0)));
+	}
+
+	public void testClip() {
+		PackedPointArray2D set = new PackedPointArray2D(
+				new double[] { 0, 10, 5, 20, 10 },
+				new double[] { 0, 10, 5, 20, 0 });
+
+		PackedPointArray2D clipped = set.clip(new Box2D(0, 10, 0, 10));
+		assertEquals(4, clipped.size());
+		assertFalse(clipped.contains(20, 20));
+		assertTrue(clipped.contains(new Point2D(10, 0)));
+	}
+
+	public void testGetBoundingBox() {
+		PackedPointArray2D set = new PackedPointArray2D(
+				new double[] { -5, 10, 5 }, new double[] { 3, -2, 8 });
+		assertTrue(set.boundingBox().almostEquals(new Box2D(-5, 10, -2, 8),
+				1e-14));
+	}
+
+	public void testTransform() {
+		Random random = new Random(1);
+		PackedPointArray2D set = new PackedPointArray2D();
+		PointArray2D array = new PointArray2D();
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(random.nextDouble() * 100,
+					random.nextDouble() * 100);
+			set.add(point);
+			array.add(point);
+		}
+
+		AffineTransform2D trans = AffineTransform2D.createRotation(
+				new Point2D(20, 30), Math.PI / 5).concatenate(
+				AffineTransform2D.createScaling(2, 3));
+		assertTrue(set.transform(trans).almostEquals(array.transform(trans),
+				1e-12));
+	}
+
+	public void testEquals() {
+		PointArray2D array = new PointArray2D(new Point2D(1, 2),
+				new Point2D(3, 4));
+		PackedPointArray2D set = new PackedPointArray2D(array);
+		assertTrue(set.equals(array));
+		assertTrue(array.equals(set));
+		assertEquals(array.hashCode(), set.hashCode());
+		assertEquals(set.hashCode(), new PackedPointArray2D(set).hashCode());
+
+		set.add(5, 6);
+		assertFalse(set.equals(array));
+	}
+
+	public void testIterator() {
+		PackedPointArray2D set = new PackedPointArray2D(
+				new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 });
+		int i = 0;
+		for (Point2D point : set) {
+			assertEquals(set.get(i), point);
+			i++;
+		}
+		assertEquals(3, i);
+		assertEquals(3, set.points().size());
+	}
+}
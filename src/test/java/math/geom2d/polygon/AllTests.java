@@ -41,6 +41,10 @@ public class AllTests {
         suite.addTest(new TestSuite(MultiPolygon2DTest.class));
 		suite.addTest(new TestSuite(Polyline2DTest.class));
 		suite.addTest(new TestSuite(Polygons2DTest.class));
+		suite.addTest(new TestSuite(PolygonTriangulation2DTest.class));
+		suite.addTest(new TestSuite(Polylines2DTest.class));
+		suite.addTest(new TestSuite(PolylineSimplifierTest.class));
+		suite.addTest(new TestSuite(PreparedPolygon2DTest.class));
 		suite.addTest(new TestSuite(Rectangle2DTest.class));
 		suite.addTest(new TestSuite(SimplePolygon2DTest.class));
         //$JUnit-END$
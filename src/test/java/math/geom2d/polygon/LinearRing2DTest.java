@@ -501,4 +501,14 @@ public class LinearRing2DTest extends TestCase {
         LinearRing2D copy = new LinearRing2D(ring);
         assertTrue(ring.equals(copy));
     }	
+
+	public void testLengthPosition_ClosingEdge() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10),
+				new Point2D(0, 10) });
+		assertEquals(40, ring.length(), 1e-14);
+		assertEquals(35, ring.length(3.5), 1e-14);
+		assertEquals(3.5, ring.position(35), 1e-14);
+		assertEquals(4, ring.position(40), 1e-14);
+	}
 }
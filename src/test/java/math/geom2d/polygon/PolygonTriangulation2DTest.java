@@ -0,0 +1,176 @@
+/**
+ * File: 	PolygonTriangulation2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import math.geom2d.UnboundedShape2DException;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PolygonTriangulation2DTest extends TestCase {
+
+	/**
+	 * Returns a square ring, oriented counter-clockwise if ccw is true.
+	 */
+	private static LinearRing2D square(double x0, double y0, double size,
+			boolean ccw) {
+		double x1 = x0 + size, y1 = y0 + size;
+		if (ccw)
+			return new LinearRing2D(new double[] { x0, x1, x1, x0 },
+					new double[] { y0, y0, y1, y1 });
+		return new LinearRing2D(new double[] { x0, x0, x1, x1 },
+				new double[] { y0, y1, y1, y0 });
+	}
+
+	/**
+	 * Checks vertex indices and orientation of each triangle.
+	 */
+	private static void assertValid(PolygonTriangulation2D tri) {
+		int[] triangles = tri.triangles();
+		assertEquals(0, triangles.length % 3);
+		for (int t = 0; t < triangles.length; t += 3) {
+			int a = triangles[t], b = triangles[t + 1], c = triangles[t + 2];
+			assertTrue(a >= 0 && a < tri.vertexNumber());
+			assertTrue(b >= 0 && b < tri.vertexNumber());
+			assertTrue(c >= 0 && c < tri.vertexNumber());
+			double det = (tri.x(b) - tri.x(a)) * (tri.y(c) - tri.y(a))
+					- (tri.y(b) - tri.y(a)) * (tri.x(c) - tri.x(a));
+			assertTrue(det >= 0);
+		}
+	}
+
+	public void testTriangulate_Square() {
+		SimplePolygon2D polygon = new SimplePolygon2D(square(0, 0, 10, true));
+		PolygonTriangulation2D tri = Polygons2D.triangulate(polygon);
+
+		assertValid(tri);
+		assertEquals(4, tri.vertexNumber());
+		assertEquals(2, tri.triangleNumber());
+		assertEquals(100, tri.area(), 1e-12);
+		assertEquals(50, tri.triangle(0).area(), 1e-12);
+	}
+
+	public void testTriangulate_SquareWithHole() {
+		MultiPolygon2D polygon = new MultiPolygon2D(square(0, 0, 10, true),
+				square(3, 3, 4, false));
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(polygon);
+
+		assertValid(tri);
+		assertEquals(8, tri.vertexNumber());
+		assertEquals(8, tri.triangleNumber());
+		assertEquals(84, tri.area(), 1e-12);
+	}
+
+	public void testTriangulate_CoordinateArray() {
+		// the orientation of the hole is the same as the outer ring
+		double[] coords = new double[] {
+				0, 0, 10, 0, 10, 10, 0, 10,
+				3, 3, 7, 3, 7, 7, 3, 7 };
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(coords,
+				new int[] { 4 });
+
+		assertValid(tri);
+		assertEquals(8, tri.triangleNumber());
+		assertEquals(84, tri.area(), 1e-12);
+
+		// without holes
+		tri = new PolygonTriangulation2D(Arrays.copyOf(coords, 8), new int[0]);
+		assertEquals(2, tri.triangleNumber());
+
+		try {
+			new PolygonTriangulation2D(coords, new int[] { 10 });
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+
+	public void testTriangulate_SeveralPolygons() {
+		MultiPolygon2D polygon = new MultiPolygon2D(square(0, 0, 10, true),
+				square(20, 0, 10, true), square(22, 2, 2, false),
+				square(2, 2, 2, false), square(6, 6, 2, false));
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(polygon);
+
+		assertValid(tri);
+		assertEquals(20, tri.vertexNumber());
+		assertEquals(polygon.area(), tri.area(), 1e-12);
+		assertEquals(188, tri.area(), 1e-12);
+	}
+
+	public void testTriangulate_ManyHoles() {
+		MultiPolygon2D polygon = new MultiPolygon2D(square(0, 0, 100, true));
+		for (int i = 0; i < 10; i++)
+			for (int j = 0; j < 10; j++)
+				polygon.addRing(square(i * 10 + 2, j * 10 + 2, 5, false));
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(polygon);
+
+		assertValid(tri);
+		// colinear vertices created by the bridges are removed
+		assertTrue(tri.triangleNumber() <= 404 + 200 - 2);
+		assertEquals(10000 - 2500, tri.area(), 1e-9);
+	}
+
+	public void testTriangulate_Star() {
+		int n = 1000;
+		Random random = new Random(1);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double theta = 2 * Math.PI * i / n;
+			double r = 50 + random.nextDouble() * 50;
+			xs[i] = r * Math.cos(theta);
+			ys[i] = r * Math.sin(theta);
+		}
+		SimplePolygon2D polygon = new SimplePolygon2D(xs, ys);
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(polygon);
+
+		assertValid(tri);
+		assertEquals(n - 2, tri.triangleNumber());
+		assertEquals(polygon.area(), tri.area(), polygon.area() * 1e-12);
+	}
+
+	public void testTriangulate_Degenerate() {
+		// duplicate vertices, and vertices in the middle of edges
+		SimplePolygon2D polygon = new SimplePolygon2D(
+				new double[] { 0, 5, 10, 10, 10, 10, 0 },
+				new double[] { 0, 0, 0, 0, 5, 10, 10 });
+		PolygonTriangulation2D tri = new PolygonTriangulation2D(polygon);
+		assertValid(tri);
+		assertEquals(100, tri.area(), 1e-12);
+
+		// rings with too few vertices, or null area
+		tri = new PolygonTriangulation2D(new double[] { 0, 0, 10, 10 },
+				new int[0]);
+		assertEquals(0, tri.triangleNumber());
+		tri = new PolygonTriangulation2D(
+				new double[] { 0, 0, 10, 10, 20, 20, 5, 5 }, new int[0]);
+		assertEquals(0, tri.triangleNumber());
+		tri = new PolygonTriangulation2D(new double[0], new int[0]);
+		assertEquals(0, tri.triangleNumber());
+
+		// degenerate holes
+		tri = new PolygonTriangulation2D(new double[] { 0, 0, 10, 0, 10, 10,
+				0, 10, 5, 5, 5, 5, 2, 2 }, new int[] { 4, 6, 7 });
+		assertValid(tri);
+		assertEquals(100, tri.area(), 1e-12);
+	}
+
+	public void testTriangulate_Unbounded() {
+		SimplePolygon2D polygon = new SimplePolygon2D(square(0, 0, 10, false));
+		try {
+			new PolygonTriangulation2D(polygon);
+			fail("Should throw an exception");
+		} catch (UnboundedShape2DException ex) {
+		}
+	}
+}
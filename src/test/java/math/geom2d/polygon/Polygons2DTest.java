@@ -8,7 +8,9 @@
  */
 package math.geom2d.polygon;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import math.geom2d.Point2D;
 import math.geom2d.domain.Boundary2D;
@@ -191,6 +193,66 @@ public class Polygons2DTest extends TestCase {
         assertEquals(4, union.contours().size());
     }
 
+    public void testUnionCollection_Grid() {
+        // a grid of overlapping squares, covering the square [0 ; 21]^2
+        ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+        for (int i = 0; i < 10; i++) 
+            for (int j = 0; j < 10; j++)
+                polygons.add(Polygons2D.createRectangle(
+                        2 * i, 2 * j, 2 * i + 3, 2 * j + 3));
+        
+        Polygon2D union = Polygons2D.union(polygons, new ForkJoinPool(4));
+        assertEquals(1, union.contours().size());
+        assertEquals(4, union.vertexNumber());
+        assertEquals(21 * 21, union.area(), 1e-10);
+    }
+
+    public void testUnionCollection_Disjoint() {
+        ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+        for (int i = 0; i < 20; i++) 
+            polygons.add(Polygons2D.createRectangle(3 * i, 0, 3 * i + 2, 2));
+        
+        Polygon2D union = Polygons2D.union(polygons);
+        assertEquals(20, union.contours().size());
+        assertEquals(80, union.area(), 1e-10);
+    }
+
+    public void testUnionCollection_SameAsBinaryUnion() {
+        ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+        for (int i = 0; i < 30; i++) {
+            double x = 10 * Math.cos(i * .7), y = 10 * Math.sin(i * 1.3);
+            polygons.add(Polygons2D.createCenteredRectangle(
+                    new Point2D(x, y), 4, 3));
+        }
+        
+        Polygon2D expected = polygons.get(0);
+        for (int i = 1; i < polygons.size(); i++)
+            expected = Polygons2D.union(expected, polygons.get(i));
+        
+        Polygon2D union = Polygons2D.union(polygons);
+        assertEquals(expected.area(), union.area(), 1e-8);
+        assertEquals(expected.contours().size(), union.contours().size());
+    }
+
+    public void testUnionCollection_SmallCollections() {
+        ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+        assertEquals(0, Polygons2D.union(polygons).vertexNumber());
+        
+        Polygon2D square = Polygons2D.createRectangle(0, 0, 1, 1);
+        polygons.add(square);
+        assertEquals(1, Polygons2D.union(polygons).area(), 1e-12);
+        
+        // a single clockwise polygon is copied and oriented counter-clockwise
+        polygons.clear();
+        Polygon2D cw = new SimplePolygon2D(
+        		new double[] { 0, 0, 2, 2 }, new double[] { 0, 2, 2, 0 });
+        polygons.add(cw);
+        Polygon2D union = Polygons2D.union(polygons);
+        assertNotSame(cw, union);
+        assertEquals(4, union.area(), 1e-12);
+        assertEquals(-4, cw.area(), 1e-12);
+    }
+
     /**
      * Test method for {@link math.geom2d.polygon.Polygons2D#union(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)}.
      */
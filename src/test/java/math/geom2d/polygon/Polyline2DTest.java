@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import junit.framework.TestCase;
+import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Vector2D;
 import math.geom2d.circulinear.CirculinearContinuousCurve2D;
@@ -40,6 +41,7 @@ import math.geom2d.conic.CircleArc2D;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PackedCoordinateSequence2D;
 
 /**
  * @author Legland
@@ -96,6 +98,48 @@ public class Polyline2DTest extends TestCase {
 		assertEquals(polyline.position(30), 3, 1e-14);
 	}
 
+	public void testGetPositionDouble_ModifiedVertices() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] { new Point2D(0, 0),
+				new Point2D(10, 0), new Point2D(10, 10), new Point2D(20, 10) });
+		assertEquals(30, polyline.length(), 1e-14);
+		assertEquals(2.5, polyline.position(25), 1e-14);
+
+		polyline.setVertex(3, new Point2D(30, 10));
+		assertEquals(40, polyline.length(), 1e-14);
+		assertEquals(30, polyline.length(2.5), 1e-14);
+		assertEquals(2.5, polyline.position(30), 1e-14);
+
+		polyline.addVertex(new Point2D(30, 20));
+		assertEquals(50, polyline.length(), 1e-14);
+		assertEquals(3.5, polyline.position(45), 1e-14);
+
+		polyline.removeVertex(0);
+		assertEquals(40, polyline.length(), 1e-14);
+		assertEquals(new Box2D(10, 30, 0, 20), polyline.boundingBox());
+
+		polyline.clearVertices();
+		assertEquals(0, polyline.length(), 1e-14);
+	}
+
+	public void testCoordinates() {
+		Polyline2D polyline = new Polyline2D(new PackedCoordinateSequence2D(
+				new double[] { 0, 10, 10, -20 }, new double[] { 0, 0, 10, 10 }));
+		assertEquals(4, polyline.vertexNumber());
+		assertEquals(new Point2D(-20, 10), polyline.lastPoint());
+		assertEquals(new Box2D(-20, 10, 0, 10), polyline.boundingBox());
+
+		assertEquals(5, polyline.distance(5, 5), 1e-12);
+		assertEquals(2, polyline.distance(12, 5), 1e-12);
+		assertTrue(polyline.contains(10, 4));
+		assertFalse(polyline.contains(5, 5));
+		assertEquals(1.4, polyline.project(new Point2D(12, 4)), 1e-12);
+		assertEquals(0.5, polyline.position(new Point2D(5, 0)), 1e-12);
+
+		polyline.setVertex(3, new Point2D(10, 20));
+		assertEquals(20, polyline.coordinates().y(3), 0);
+		assertEquals(30, polyline.length(), 1e-12);
+	}
+
 	public void testGetBufferDouble() {
 		Polyline2D polyline = new Polyline2D(new Point2D[] {
 				new Point2D(50, 50), new Point2D(100, 50),
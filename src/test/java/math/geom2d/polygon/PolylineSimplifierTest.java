@@ -0,0 +1,108 @@
+/**
+ * File: 	PolylineSimplifierTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.polygon.PolylineSimplifier.Method;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PolylineSimplifierTest extends TestCase {
+
+	public void testSimplify_DouglasPeucker() {
+		Polyline2D poly = new Polyline2D(
+				new double[] { 0, 10, 20, 30, 40, 50 },
+				new double[] { 0, 1, -1, 20, 21, 20 });
+		Polyline2D res = new PolylineSimplifier(5).simplify(poly);
+
+		assertEquals(4, res.vertexNumber());
+		assertEquals(new Point2D(20, -1), res.vertex(1));
+		assertEquals(new Point2D(30, 20), res.vertex(2));
+	}
+
+	public void testSimplify_LongRandomWalk() {
+		// a long polyline that would require deep recursion
+		Random random = new Random(1);
+		int n = 200000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 1; i < n; i++) {
+			xs[i] = xs[i - 1] + random.nextDouble();
+			ys[i] = ys[i - 1] + random.nextDouble() - .5;
+		}
+
+		double tol = 2;
+		int[] inds = new PolylineSimplifier(tol).simplify(xs, ys, false);
+		assertEquals(0, inds[0]);
+		assertEquals(n - 1, inds[inds.length - 1]);
+		assertTrue(inds.length < n / 10);
+
+		// each removed vertex is close to the edge replacing it
+		for (int k = 1; k < inds.length; k++) {
+			LineSegment2D edge = new LineSegment2D(xs[inds[k - 1]],
+					ys[inds[k - 1]], xs[inds[k]], ys[inds[k]]);
+			for (int i = inds[k - 1] + 1; i < inds[k]; i++)
+				assertTrue(edge.distance(xs[i], ys[i]) < tol);
+		}
+	}
+
+	public void testSimplify_Visvalingam() {
+		// a square with almost colinear vertices on each edge
+		LinearRing2D ring = new LinearRing2D(
+				new double[] { 0, 5, 10, 10.2, 10, 5, 0, -.2 }, 
+				new double[] { 0, .3, 0, 5, 10, 9.9, 10, 5 });
+		PolylineSimplifier simplifier = new PolylineSimplifier(
+				Method.VISVALINGAM_WHYATT, 2);
+		LinearRing2D res = simplifier.simplify(ring);
+		assertEquals(4, res.vertexNumber());
+		assertEquals(100, Math.abs(res.area()), 1e-12);
+
+		// a ring is never reduced to less than three vertices
+		res = new PolylineSimplifier(Method.VISVALINGAM_WHYATT, 1000)
+				.simplify(ring);
+		assertEquals(3, res.vertexNumber());
+	}
+
+	public void testSimplify_PreserveTopology() {
+		// the apex of the bump contains a hole crossing its base
+		LinearRing2D outer = new LinearRing2D(
+				new double[] { 0, 100, 100, 60, 50, 40, 0 },
+				new double[] { 0, 0, 100, 100, 105, 100, 100 });
+		LinearRing2D hole = new LinearRing2D(
+				new double[] { 45, 50, 55 }, new double[] { 98, 103, 98 });
+		MultiPolygon2D polygon = MultiPolygon2D.create(outer, hole);
+
+		// simple simplification removes the apex
+		MultiPolygon2D res = new PolylineSimplifier(10).simplify(polygon);
+		assertEquals(4, res.getRing(0).vertexNumber());
+
+		for (Method method : Method.values()) {
+			double tol = method == Method.DOUGLAS_PEUCKER ? 10 : 100;
+			res = new PolylineSimplifier(method, tol, true).simplify(polygon);
+			assertEquals(2, res.ringNumber());
+			assertTrue(res.getRing(0).vertices().contains(new Point2D(50, 105)));
+			assertEquals(3, res.getRing(1).vertexNumber());
+		}
+	}
+
+	public void testSimplify_PreserveTopology_SmallRing() {
+		// a ring within the tolerance keeps three vertices
+		LinearRing2D ring = new LinearRing2D(
+				new double[] { 0, 1, 2, 1 }, new double[] { 0, -.1, 0, .1 });
+		LinearRing2D res = new PolylineSimplifier(Method.DOUGLAS_PEUCKER, 5,
+				true).simplify(ring);
+		assertEquals(3, res.vertexNumber());
+	}
+}
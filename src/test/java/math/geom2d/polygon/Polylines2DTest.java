@@ -0,0 +1,81 @@
+/**
+ * File: 	Polylines2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class Polylines2DTest extends TestCase {
+
+	/**
+	 * Test method for {@link math.geom2d.polygon.Polylines2D#intersect(math.geom2d.polygon.LinearCurve2D, math.geom2d.polygon.LinearCurve2D)}.
+	 */
+	public void testIntersect() {
+		Polyline2D poly1 = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), 
+				new Point2D(10, 10), new Point2D(20, 10) });
+		Polyline2D poly2 = new Polyline2D(new Point2D[] {
+				new Point2D(5, -5), new Point2D(5, 5), 
+				new Point2D(15, 5), new Point2D(15, 15) });
+		
+		Collection<Point2D> points = Polylines2D.intersect(poly1, poly2);
+		assertEquals(3, points.size());
+		
+		// points are returned in the order of the edges of first polyline
+		Iterator<Point2D> iter = points.iterator();
+		assertEquals(new Point2D(5, 0), iter.next());
+		assertEquals(new Point2D(10, 5), iter.next());
+		assertEquals(new Point2D(15, 10), iter.next());
+	}
+
+	public void testIntersect_CommonVertex() {
+		Polyline2D poly1 = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 10), new Point2D(20, 0) });
+		Polyline2D poly2 = new Polyline2D(new Point2D[] {
+				new Point2D(0, 20), new Point2D(10, 10), new Point2D(20, 20) });
+		
+		Collection<Point2D> points = Polylines2D.intersect(poly1, poly2);
+		assertEquals(1, points.size());
+		assertEquals(new Point2D(10, 10), points.iterator().next());
+	}
+
+	public void testSelfIntersections_Polyline() {
+		// a polyline with a loop
+		Polyline2D poly = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(20, 0), new Point2D(20, 10), 
+				new Point2D(10, 10), new Point2D(10, -10) });
+		
+		Collection<Point2D> points = Polylines2D.selfIntersections(poly);
+		assertEquals(1, points.size());
+		assertEquals(new Point2D(10, 0), points.iterator().next());
+	}
+
+	public void testSelfIntersections_Ring() {
+		// a simple square has no self-intersection
+		LinearRing2D square = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), 
+				new Point2D(10, 10), new Point2D(0, 10) });
+		assertTrue(Polylines2D.selfIntersections(square).isEmpty());
+		
+		// a 'bow-tie' ring
+		LinearRing2D bowTie = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 10), 
+				new Point2D(10, 0), new Point2D(0, 10) });
+		Collection<Point2D> points = Polylines2D.selfIntersections(bowTie);
+		assertEquals(1, points.size());
+		assertTrue(points.iterator().next().almostEquals(new Point2D(5, 5), 1e-12));
+	}
+}
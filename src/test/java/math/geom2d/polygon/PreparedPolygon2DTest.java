@@ -0,0 +1,184 @@
+/**
+ * File: 	PreparedPolygon2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PreparedPolygon2DTest extends TestCase {
+
+	public void testContains_Square() {
+		PreparedPolygon2D prepared = new PreparedPolygon2D(
+				Polygons2D.createRectangle(0, 0, 10, 10));
+
+		assertTrue(prepared.contains(5, 5));
+		assertTrue(prepared.contains(new Point2D(1, 9)));
+		assertFalse(prepared.contains(15, 5));
+		assertFalse(prepared.contains(5, -1));
+
+		// points on the boundary are inside
+		assertTrue(prepared.contains(0, 5));
+		assertTrue(prepared.contains(10, 10));
+		assertTrue(prepared.contains(5, 10));
+	}
+
+	public void testContains_Complement() {
+		SimplePolygon2D square = Polygons2D.createRectangle(0, 0, 10, 10);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(square.complement());
+
+		assertFalse(prepared.contains(5, 5));
+		assertTrue(prepared.contains(15, 5));
+		assertTrue(prepared.contains(-100, 100));
+		assertTrue(prepared.contains(10, 5));
+	}
+
+	public void testContains_PolygonWithHole() {
+		MultiPolygon2D poly = MultiPolygon2D.create(
+				Polygons2D.createRectangle(0, 0, 10, 10).getRing(),
+				Polygons2D.createRectangle(2, 2, 8, 8).getRing().reverse());
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		assertTrue(prepared.contains(1, 1));
+		assertFalse(prepared.contains(5, 5));
+		assertTrue(prepared.contains(2, 5));
+		assertFalse(prepared.contains(12, 5));
+	}
+
+	public void testContains_RandomStar() {
+		Random random = new Random(1);
+		SimplePolygon2D poly = createRandomStar(random, 500);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		for (int i = 0; i < 2000; i++) {
+			double x = random.nextDouble() * 30 - 15;
+			double y = random.nextDouble() * 30 - 15;
+			assertEquals(poly.contains(x, y), prepared.contains(x, y));
+		}
+
+		// vertices are on the boundary
+		for (Point2D vertex : poly.vertices())
+			assertTrue(prepared.contains(vertex));
+	}
+
+	public void testContains_Arrays() {
+		Random random = new Random(2);
+		SimplePolygon2D poly = createRandomStar(random, 100);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		int n = 1000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextDouble() * 30 - 15;
+			ys[i] = random.nextDouble() * 30 - 15;
+		}
+		boolean[] inside = new boolean[n];
+		prepared.contains(xs, ys, inside);
+
+		for (int i = 0; i < n; i++)
+			assertEquals(poly.contains(xs[i], ys[i]), inside[i]);
+	}
+
+	public void testContains_Comb() {
+		// the teeth of the comb span most of the bands
+		Random random = new Random(4);
+		SimplePolygon2D poly = createComb(300, 0.3);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		for (int i = 0; i < 5000; i++) {
+			double x = random.nextDouble() * 640 - 20;
+			double y = random.nextDouble() * 140 - 20;
+			assertEquals(poly.contains(x, y), prepared.contains(x, y));
+		}
+
+		// vertices and edge middles are on the boundary
+		int n = poly.vertexNumber();
+		for (int i = 0; i < n; i++) {
+			Point2D p1 = poly.vertex(i);
+			Point2D p2 = poly.vertex((i + 1) % n);
+			assertTrue(prepared.contains(p1));
+			assertTrue(prepared.contains(Point2D.midPoint(p1, p2)));
+		}
+	}
+
+	public void testDistance_RandomStar() {
+		Random random = new Random(3);
+		SimplePolygon2D poly = createRandomStar(random, 200);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		for (int i = 0; i < 500; i++) {
+			double x = random.nextDouble() * 60 - 30;
+			double y = random.nextDouble() * 60 - 30;
+			assertEquals(poly.distance(x, y), prepared.distance(x, y), 1e-12);
+		}
+
+		// a point far from the polygon
+		assertEquals(poly.distance(1000, 50), prepared.distance(1000, 50),
+				1e-12);
+	}
+
+	public void testBoundingBoxAndArea() {
+		SimplePolygon2D poly = Polygons2D.createRectangle(1, 2, 4, 6);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		assertEquals(12, prepared.area(), 1e-12);
+		assertTrue(prepared.boundingBox().almostEquals(new Box2D(1, 4, 2, 6),
+				1e-12));
+		assertTrue(prepared.polygon() == poly);
+	}
+
+	public void testEmpty() {
+		PreparedPolygon2D prepared = new PreparedPolygon2D(
+				new SimplePolygon2D());
+		assertFalse(prepared.contains(0, 0));
+		assertEquals(Double.POSITIVE_INFINITY, prepared.boundaryDistance(0, 0));
+	}
+
+	/**
+	 * Creates a comb with teeth of length 100, slanted by the given factor.
+	 */
+	private static SimplePolygon2D createComb(int nTeeth, double slant) {
+		int n = 4 * nTeeth + 2;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		xs[0] = 0; ys[0] = -10;
+		xs[1] = 2 * nTeeth; ys[1] = -10;
+		int k = 2;
+		for (int i = nTeeth - 1; i >= 0; i--) {
+			double x0 = 2 * i;
+			xs[k] = x0 + 1; ys[k++] = 0;
+			xs[k] = x0 + 1 + 100 * slant; ys[k++] = 100;
+			xs[k] = x0 + 100 * slant; ys[k++] = 100;
+			xs[k] = x0; ys[k++] = 0;
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+
+	/**
+	 * Creates a star-shaped polygon with random radius for each vertex.
+	 */
+	private static SimplePolygon2D createRandomStar(Random random, int n) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = 2 + random.nextDouble() * 8;
+			xs[i] = r * Math.cos(angle);
+			ys[i] = r * Math.sin(angle);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+}
@@ -39,6 +39,8 @@ import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Contour2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.CoordinateSequence2D;
+import math.geom2d.point.PackedCoordinateSequence2D;
 import math.geom2d.transform.CircleInversion2D;
 import junit.framework.TestCase;
 
@@ -338,6 +340,49 @@ public class SimplePolygon2DTest extends TestCase {
 		Box2D bounds = poly.boundingBox();
 		assertTrue(box.equals(bounds));
 	}
+
+	public void testArea_ModifiedVertices(){
+		SimplePolygon2D poly = new SimplePolygon2D(new Point2D[]{
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10),
+				new Point2D(0, 10)});
+		assertEquals(100, poly.area(), 1e-12);
+		assertEquals(new Point2D(5, 5), poly.centroid());
+		assertFalse(poly.contains(5, 15));
+
+		poly.setVertex(2, new Point2D(10, 20));
+		poly.setVertex(3, new Point2D(0, 20));
+		assertEquals(200, poly.area(), 1e-12);
+		assertEquals(new Point2D(5, 10), poly.centroid());
+		assertEquals(new Box2D(0, 10, 0, 20), poly.boundingBox());
+		assertTrue(poly.contains(5, 15));
+
+		poly.insertVertex(2, new Point2D(20, 10));
+		assertEquals(300, poly.area(), 1e-12);
+		assertTrue(poly.contains(15, 10));
+
+		poly.removeVertex(2);
+		assertEquals(200, poly.area(), 1e-12);
+		assertFalse(poly.contains(15, 10));
+	}
+
+	public void testCoordinates(){
+		CoordinateSequence2D coords = new PackedCoordinateSequence2D(
+				new double[]{0, 10, 10, 0}, new double[]{0, 0, 10, 10});
+		SimplePolygon2D poly = new SimplePolygon2D(coords);
+		assertEquals(4, poly.vertexNumber());
+		assertSame(coords, poly.coordinates());
+		assertEquals(100, poly.area(), 1e-12);
+		assertEquals(1, Polygons2D.windingNumber(coords, 5, 5));
+		assertEquals(0, Polygons2D.windingNumber(coords, 15, 5));
+		assertEquals(5, poly.distance(15, 5), 1e-12);
+		assertEquals(0, poly.distance(5, 5), 1e-12);
+
+		// the sequence is updated after modification of the vertices
+		poly.setVertex(2, new Point2D(20, 10));
+		assertEquals(20, poly.coordinates().x(2), 0);
+		assertEquals(150, poly.area(), 1e-12);
+		assertTrue(poly.contains(15, 5));
+	}
     
     public void testGetBuffer_Square() {
     	SimplePolygon2D polygon =  new SimplePolygon2D(new Point2D[]{
@@ -0,0 +1,27 @@
+/**
+ * File: 	AllTests.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * @author dlegland
+ */
+public class AllTests {
+
+	public static Test suite() {
+		TestSuite suite = new TestSuite("Test for math.geom2d.polygon.clip");
+		//$JUnit-BEGIN$
+		suite.addTest(new TestSuite(SweepBooleanEngineTest.class));
+		suite.addTest(new TestSuite(BoxClipper2DTest.class));
+		//$JUnit-END$
+		return suite;
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * File: 	BoxClipper2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import java.util.Random;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class BoxClipper2DTest extends TestCase {
+
+	public void testClip_OverlappingSquare() {
+		BoxClipper2D clipper = new BoxClipper2D(new Box2D(0, 2, 0, 2));
+		Polygon2D clipped = clipper.clip(
+				Polygons2D.createRectangle(1, 1, 3, 3));
+
+		assertTrue(clipped instanceof SimplePolygon2D);
+		assertEquals(4, clipped.vertexNumber());
+		assertEquals(1, clipped.area(), 1e-12);
+		assertTrue(clipped.vertices().contains(new Point2D(1, 1)));
+		assertTrue(clipped.vertices().contains(new Point2D(2, 2)));
+	}
+
+	public void testClip_ConcavePolygon() {
+		// a U-shaped polygon, whose branches are separated by the box
+		SimplePolygon2D polygon = new SimplePolygon2D(
+				new double[] { 0, 30, 30, 20, 20, 10, 10, 0 },
+				new double[] { 0, 0, 30, 30, 10, 10, 30, 30 });
+		BoxClipper2D clipper = new BoxClipper2D(new Box2D(-5, 35, 20, 40));
+
+		Polygon2D clipped = clipper.clip(polygon);
+		assertEquals(2, clipped.contours().size());
+		assertEquals(200, clipped.area(), 1e-12);
+	}
+
+	public void testClip_Outside() {
+		BoxClipper2D clipper = new BoxClipper2D(new Box2D(0, 2, 0, 2));
+		Polygon2D clipped = clipper.clip(
+				Polygons2D.createRectangle(5, 5, 8, 8));
+		assertEquals(0, clipped.contours().size());
+	}
+
+	public void testClip_BoxInsidePolygon() {
+		LinearRing2D outer = new LinearRing2D(
+				new double[] { 0, 100, 100, 0 }, new double[] { 0, 0, 100, 100 });
+		LinearRing2D hole = new LinearRing2D(
+				new double[] { 40, 40, 60, 60 }, new double[] { 40, 60, 60, 40 });
+		MultiPolygon2D polygon = MultiPolygon2D.create(outer, hole);
+
+		// box between outer ring and hole
+		Polygon2D clipped = new BoxClipper2D(new Box2D(10, 20, 10, 20))
+				.clip(polygon);
+		assertEquals(1, clipped.contours().size());
+		assertEquals(100, clipped.area(), 1e-12);
+
+		// box within the hole
+		clipped = new BoxClipper2D(new Box2D(45, 55, 45, 55)).clip(polygon);
+		assertEquals(0, clipped.contours().size());
+
+		// box containing the hole
+		clipped = new BoxClipper2D(new Box2D(30, 70, 30, 70)).clip(polygon);
+		assertEquals(2, clipped.contours().size());
+		assertEquals(1200, clipped.area(), 1e-12);
+	}
+
+	public void testClip_Grid() {
+		Random random = new Random(1);
+		int n = 200;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = 20 + random.nextDouble() * 30;
+			xs[i] = 50 + r * Math.cos(angle);
+			ys[i] = 50 + r * Math.sin(angle);
+		}
+		SimplePolygon2D polygon = new SimplePolygon2D(xs, ys);
+
+		Box2D box = new Box2D(0, 100, 0, 100);
+		BoxClipper2D clipper = new BoxClipper2D(box);
+		Polygon2D[] tiles = clipper.clip(polygon, 7, 5);
+		assertEquals(35, tiles.length);
+
+		double tw = 100. / 7, th = 100. / 5;
+		double total = 0;
+		for (int j = 0; j < 5; j++) {
+			for (int i = 0; i < 7; i++) {
+				Polygon2D tile = tiles[j * 7 + i];
+				Box2D tileBox = new Box2D(i * tw, (i + 1) * tw, j * th,
+						(j + 1) * th);
+				Polygon2D expected = new BoxClipper2D(tileBox).clip(polygon);
+				assertEquals(expected.area(), tile.area(), 1e-8);
+				total += tile.area();
+			}
+		}
+		assertEquals(polygon.area(), total, 1e-8);
+
+		// the central tile is entirely inside the polygon
+		Polygon2D center = tiles[2 * 7 + 3];
+		assertEquals(tw * th, center.area(), 1e-8);
+	}
+
+	public void testClip_ZeroWidthSpike() {
+		// a spike going down from the upper edge, and back
+		SimplePolygon2D polygon = new SimplePolygon2D(
+				new double[] { 0, 10, 10, 6, 6, 6, 0 },
+				new double[] { 0, 0, 10, 10, 7, 10, 10 });
+
+		// spike ending within the box, or crossing the whole box
+		assertEquals(24, new BoxClipper2D(new Box2D(2, 8, 5, 9))
+				.clip(polygon).area(), 1e-12);
+		assertEquals(3, new BoxClipper2D(new Box2D(5, 7, 8, 9.5))
+				.clip(polygon).area(), 1e-12);
+
+		Polygon2D[] tiles = new BoxClipper2D(new Box2D(2, 8, 5, 9))
+				.clip(polygon, 3, 4);
+		for (Polygon2D tile : tiles)
+			assertEquals(2, tile.area(), 1e-12);
+		tiles = new BoxClipper2D(new Box2D(6, 8, 6, 9)).clip(polygon, 2, 3);
+		for (Polygon2D tile : tiles)
+			assertEquals(1, tile.area(), 1e-12);
+
+		// a spike going up from the upper edge is outside of the polygon
+		polygon = new SimplePolygon2D(
+				new double[] { 0, 10, 10, 6, 6, 6, 0 },
+				new double[] { 0, 0, 10, 10, 13, 10, 10 });
+		assertEquals(0, new BoxClipper2D(new Box2D(2, 8, 11, 12))
+				.clip(polygon).area(), 1e-12);
+		assertEquals(2, new BoxClipper2D(new Box2D(5, 7, 9, 12))
+				.clip(polygon).area(), 1e-12);
+	}
+
+	public void testClip_Polyline() {
+		Polyline2D polyline = new Polyline2D(
+				new double[] { -5, 5, 5, 15, 15 },
+				new double[] { 5, 5, 15, 15, 5 });
+		BoxClipper2D clipper = new BoxClipper2D(new Box2D(0, 10, 0, 10));
+
+		CurveArray2D<LinearCurve2D> clipped = clipper.clip(polyline);
+		assertEquals(1, clipped.size());
+		assertTrue(clipped.firstCurve().equals(new Polyline2D(
+				new double[] { 0, 5, 5 }, new double[] { 5, 5, 10 })));
+
+		clipped = clipper.clip(new Polyline2D(
+				new double[] { -5, 15, 15, -5 }, new double[] { 2, 2, 8, 8 }));
+		assertEquals(2, clipped.size());
+
+		clipped = clipper.clip(new Polyline2D(
+				new double[] { 2, 8, 8 }, new double[] { 2, 2, 8 }));
+		assertEquals(1, clipped.size());
+		assertEquals(3, clipped.firstCurve().vertexNumber());
+	}
+}
@@ -0,0 +1,378 @@
+/**
+ * File: 	SweepBooleanEngineTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.clip;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.MultiPolygon2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.polygon.clip.PolygonBooleanEngine.FillRule;
+import math.geom2d.polygon.clip.PolygonBooleanEngine.Operation;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class SweepBooleanEngineTest extends TestCase {
+
+	public void testUnion_OverlappingSquares() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D union = engine.union(
+				Polygons2D.createRectangle(0, 0, 2, 2),
+				Polygons2D.createRectangle(1, 1, 3, 3));
+
+		assertTrue(union instanceof SimplePolygon2D);
+		assertEquals(8, union.vertexNumber());
+		assertEquals(7, union.area(), 1e-12);
+	}
+
+	public void testIntersection_OverlappingSquares() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D inter = engine.intersection(
+				Polygons2D.createRectangle(0, 0, 2, 2),
+				Polygons2D.createRectangle(1, 1, 3, 3));
+
+		assertEquals(4, inter.vertexNumber());
+		assertEquals(1, inter.area(), 1e-12);
+		assertTrue(inter.vertices().contains(new Point2D(1, 1)));
+		assertTrue(inter.vertices().contains(new Point2D(2, 2)));
+	}
+
+	public void testDifference_OverlappingSquares() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D diff = engine.difference(
+				Polygons2D.createRectangle(0, 0, 2, 2),
+				Polygons2D.createRectangle(1, 1, 3, 3));
+
+		assertEquals(6, diff.vertexNumber());
+		assertEquals(3, diff.area(), 1e-12);
+	}
+
+	public void testExclusiveOr_OverlappingSquares() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D xor = engine.exclusiveOr(
+				Polygons2D.createRectangle(0, 0, 2, 2),
+				Polygons2D.createRectangle(1, 1, 3, 3));
+
+		// two L-shapes touching at two corners
+		assertEquals(2, xor.contours().size());
+		assertEquals(12, xor.vertexNumber());
+		assertEquals(6, xor.area(), 1e-12);
+	}
+
+	public void testUnion_SharedEdge() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D union = engine.union(
+				Polygons2D.createRectangle(0, 0, 1, 1),
+				Polygons2D.createRectangle(1, 0, 2, 1));
+
+		assertEquals(4, union.vertexNumber());
+		assertEquals(2, union.area(), 1e-12);
+	}
+
+	public void testUnion_PartiallySharedEdge() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D union = engine.union(
+				Polygons2D.createRectangle(0, 0, 2, 2),
+				Polygons2D.createRectangle(2, 1, 3, 3));
+
+		assertEquals(1, union.contours().size());
+		assertEquals(8, union.vertexNumber());
+		assertEquals(6, union.area(), 1e-12);
+	}
+
+	public void testUnion_TouchingCorners() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D union = engine.union(
+				Polygons2D.createRectangle(0, 0, 1, 1),
+				Polygons2D.createRectangle(1, 1, 2, 2));
+
+		// the two squares are kept as separated rings
+		assertEquals(2, union.contours().size());
+		assertEquals(8, union.vertexNumber());
+		assertEquals(2, union.area(), 1e-12);
+	}
+
+	public void testDifference_CreatesHole() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D diff = engine.difference(
+				Polygons2D.createRectangle(0, 0, 10, 10),
+				Polygons2D.createRectangle(2, 2, 8, 8));
+
+		assertTrue(diff instanceof MultiPolygon2D);
+		assertEquals(2, diff.contours().size());
+		assertEquals(64, diff.area(), 1e-12);
+
+		// outer ring counter-clockwise, inner ring clockwise
+		double sum = 0;
+		for (LinearRing2D ring : diff.contours()) {
+			assertEquals(4, ring.vertexNumber());
+			sum += Math.abs(ring.area());
+			if (ring.vertices().contains(new Point2D(0, 0)))
+				assertTrue(ring.area() > 0);
+			else
+				assertTrue(ring.area() < 0);
+		}
+		assertEquals(136, sum, 1e-12);
+	}
+
+	public void testIntersection_Disjoint() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D inter = engine.intersection(
+				Polygons2D.createRectangle(0, 0, 1, 1),
+				Polygons2D.createRectangle(2, 2, 3, 3));
+
+		assertEquals(0, inter.vertexNumber());
+	}
+
+	public void testIntersection_PolygonWithHole() {
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+		Polygon2D ring = engine.difference(
+				Polygons2D.createRectangle(0, 0, 10, 10),
+				Polygons2D.createRectangle(2, 2, 8, 8));
+		Polygon2D inter = engine.intersection(ring,
+				Polygons2D.createRectangle(5, -5, 15, 15));
+
+		assertEquals(1, inter.contours().size());
+		assertEquals(8, inter.vertexNumber());
+		assertEquals(32, inter.area(), 1e-12);
+	}
+
+	public void testFillRules() {
+		// two overlapping rings with same orientation
+		MultiPolygon2D poly = MultiPolygon2D.create(
+				Polygons2D.createRectangle(0, 0, 2, 2).getRing(),
+				Polygons2D.createRectangle(1, 1, 3, 3).getRing());
+		Polygon2D square = Polygons2D.createRectangle(-1, -1, 4, 4);
+
+		Polygon2D evenOdd = new SweepBooleanEngine(FillRule.EVEN_ODD)
+				.intersection(poly, square);
+		assertEquals(6, evenOdd.area(), 1e-12);
+
+		Polygon2D nonZero = new SweepBooleanEngine(FillRule.NON_ZERO)
+				.intersection(poly, square);
+		assertEquals(7, nonZero.area(), 1e-12);
+		assertEquals(1, nonZero.contours().size());
+	}
+
+	public void testSelfIntersectingPolygon() {
+		// a bow-tie polygon, made of two triangles with opposite orientations
+		SimplePolygon2D bowTie = new SimplePolygon2D(
+				new Point2D(0, 0), new Point2D(2, 2),
+				new Point2D(2, 0), new Point2D(0, 2));
+		Polygon2D square = Polygons2D.createRectangle(-1, -1, 3, 3);
+
+		Polygon2D inter = new SweepBooleanEngine().intersection(bowTie, square);
+		assertEquals(2, inter.contours().size());
+		assertEquals(2, inter.area(), 1e-12);
+	}
+
+	public void testFillRule_Positive() {
+		// a bow-tie polygon, whose left triangle is counter-clockwise
+		SimplePolygon2D bowTie = new SimplePolygon2D(
+				new Point2D(0, 0), new Point2D(2, 2),
+				new Point2D(2, 0), new Point2D(0, 2));
+
+		Polygon2D res = new SweepBooleanEngine(FillRule.POSITIVE).union(
+				bowTie, new MultiPolygon2D());
+		assertEquals(1, res.contours().size());
+		assertEquals(1, res.area(), 1e-12);
+		assertTrue(res.contains(new Point2D(.5, 1)));
+		assertFalse(res.contains(new Point2D(1.5, 1)));
+	}
+
+	public void testComputeArrays() {
+		double[][] rings1 = new double[][] { { 0, 0, 2, 0, 2, 2, 0, 2 } };
+		double[][] rings2 = new double[][] { { 1, -1, 3, -1, 3, 1, 1, 1 } };
+
+		double[][] res = new SweepBooleanEngine().compute(rings1, rings2,
+				Operation.INTERSECTION);
+		assertEquals(1, res.length);
+		assertEquals(8, res[0].length);
+	}
+
+	public void testRandomPolygons_CompareWithGpcj() {
+		Random random = new Random(1);
+		PolygonBooleanEngine sweep = new SweepBooleanEngine();
+		PolygonBooleanEngine gpcj = new GpcjBooleanEngine();
+
+		for (int k = 0; k < 20; k++) {
+			Polygon2D poly1 = createRandomStar(random, 0, 0, 30);
+			Polygon2D poly2 = createRandomStar(random, 3, 2, 25);
+
+			assertEquals(gpcj.union(poly1, poly2).area(),
+					sweep.union(poly1, poly2).area(), 1e-8);
+			assertEquals(gpcj.intersection(poly1, poly2).area(),
+					sweep.intersection(poly1, poly2).area(), 1e-8);
+			assertEquals(gpcj.difference(poly1, poly2).area(),
+					sweep.difference(poly1, poly2).area(), 1e-8);
+			assertEquals(gpcj.exclusiveOr(poly1, poly2).area(),
+					sweep.exclusiveOr(poly1, poly2).area(), 1e-8);
+		}
+	}
+
+	public void testRandomPolygons_AreaIdentities() {
+		Random random = new Random(2);
+		PolygonBooleanEngine sweep = new SweepBooleanEngine();
+
+		for (int k = 0; k < 20; k++) {
+			Polygon2D poly1 = createRandomStar(random, 0, 0, 100);
+			Polygon2D poly2 = createRandomStar(random, 2, -1, 80);
+			double area1 = poly1.area();
+			double area2 = poly2.area();
+
+			double union = sweep.union(poly1, poly2).area();
+			double inter = sweep.intersection(poly1, poly2).area();
+			double diff = sweep.difference(poly1, poly2).area();
+			double xor = sweep.exclusiveOr(poly1, poly2).area();
+
+			assertEquals(area1 + area2, union + inter, 1e-8);
+			assertEquals(area1, diff + inter, 1e-8);
+			assertEquals(union - inter, xor, 1e-8);
+		}
+	}
+
+	public void testNearlyTouchingPolygons() {
+		// the first vertex of the triangle is one ulp on the left of the
+		// right edge of the square, the other vertices are outside
+		SimplePolygon2D triangle = new SimplePolygon2D(
+				new double[] { 4.999999999999999, 6.652681575864502,
+						6.532115760836283 },
+				new double[] { 1.714683464990228, 3.0304107945492182,
+						4.729846653795885 });
+		Polygon2D square = Polygons2D.createRectangle(1, 0, 5, 3);
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+
+		double area = triangle.area();
+		assertEquals(1.4836, area, 1e-4);
+		assertEquals(0, engine.intersection(triangle, square).area(), 1e-12);
+		assertEquals(12 + area, engine.union(triangle, square).area(), 1e-12);
+		assertEquals(area, engine.difference(triangle, square).area(), 1e-12);
+		assertEquals(12, engine.difference(square, triangle).area(), 1e-12);
+	}
+
+	public void testNearlyColinearEdges() {
+		// the last edge of the polygon deviates from the right edge of the
+		// rectangle by one ulp along x
+		double x = 2.385139444837907;
+		double[][] rings1 = new double[][] { { x, 3.4413841413431276,
+				2.5546406282456413, 4.811407972494243, 0.8792067720457004,
+				5.512019498389837, -2.8701507743474957, 4.99306058008313,
+				-2.616646859233056, 3.965370220763937, -1.1392827861299029,
+				3.005511738125887, -1.4222256307582992, 0.654011216640662,
+				0.29936828111831837, 1.3050676922625746, 3.2374698563361295,
+				-0.5139405485404045, Math.nextUp(x), 0.646118597524086 } };
+		double[][] rings2 = new double[][] { { 0.8856792270767935,
+				2.373961121059814, x, 2.373961121059814, x, 3.965370220763936,
+				0.8856792270767935, 3.965370220763936 } };
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+
+		double area1 = area(rings1), area2 = area(rings2);
+		double inter = area(engine.compute(rings1, rings2,
+				Operation.INTERSECTION));
+		assertEquals(area2, inter, 1e-12);
+		assertEquals(area1 - inter, area(engine.compute(rings1, rings2,
+				Operation.DIFFERENCE)), 1e-12);
+		assertEquals(area1, area(engine.compute(rings1, rings2,
+				Operation.UNION)), 1e-12);
+	}
+
+	public void testRandomPolygons_NearlyDegenerate() {
+		// vertices of star polygons are moved onto the lines of the
+		// rectangle edges, and perturbed by a few ulps
+		Random random = new Random(3);
+		SweepBooleanEngine engine = new SweepBooleanEngine();
+
+		for (int k = 0; k < 1000; k++) {
+			double x0 = random.nextDouble() * 8, y0 = random.nextDouble() * 8;
+			double x1 = x0 + 1 + random.nextDouble() * 4;
+			double y1 = y0 + 1 + random.nextDouble() * 4;
+			double[] lines = new double[] { x0, x1, y0, y1 };
+			double[][] rings2 = new double[][] { { x0, y0, x1, y0, x1, y1,
+					x0, y1 } };
+
+			int n = 8;
+			double xc = 2 + random.nextDouble() * 8;
+			double yc = 2 + random.nextDouble() * 8;
+			double[] ring = new double[2 * n];
+			for (int i = 0; i < n; i++) {
+				double angle = 2 * Math.PI * (i + random.nextDouble() * .5) / n;
+				double cos = Math.cos(angle), sin = Math.sin(angle);
+				double r = 1 + random.nextDouble() * 4;
+				double x = xc + r * cos, y = yc + r * sin;
+
+				int line = random.nextInt(8);
+				if (line < 4) {
+					double r2 = line < 2 ? (lines[line] - xc) / cos
+							: (lines[line] - yc) / sin;
+					if (r2 > .5 && r2 < 6) {
+						x = line < 2 ? lines[line] : xc + r2 * cos;
+						y = line < 2 ? yc + r2 * sin : lines[line];
+						int ulps = random.nextInt(5) - 2;
+						for (int j = 0; j < Math.abs(ulps); j++) {
+							double dir = ulps * Double.POSITIVE_INFINITY;
+							if (line < 2)
+								x = Math.nextAfter(x, dir);
+							else
+								y = Math.nextAfter(y, dir);
+						}
+					}
+				}
+				ring[2 * i] = x;
+				ring[2 * i + 1] = y;
+			}
+			double[][] rings1 = new double[][] { ring };
+
+			double area1 = area(rings1), area2 = area(rings2);
+			double union = area(engine.compute(rings1, rings2, Operation.UNION));
+			double inter = area(engine.compute(rings1, rings2,
+					Operation.INTERSECTION));
+			double diff = area(engine.compute(rings1, rings2,
+					Operation.DIFFERENCE));
+			assertEquals(area1 + area2, union + inter, 1e-9);
+			assertEquals(area1, diff + inter, 1e-9);
+		}
+	}
+
+	/**
+	 * Computes the signed area of a set of rings given as arrays.
+	 */
+	private static double area(double[][] rings) {
+		double area = 0;
+		for (double[] ring : rings) {
+			int n = ring.length / 2;
+			for (int i = 0; i < n; i++) {
+				int j = (i + 1) % n;
+				area += ring[2 * i] * ring[2 * j + 1] - ring[2 * j] * ring[2 * i + 1];
+			}
+		}
+		return area / 2;
+	}
+
+	/**
+	 * Creates a star-shaped polygon with random radius for each vertex.
+	 */
+	private static SimplePolygon2D createRandomStar(Random random,
+			double xc, double yc, int n) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = 2 + random.nextDouble() * 8;
+			xs[i] = xc + r * Math.cos(angle);
+			ys[i] = yc + r * Math.sin(angle);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+}
@@ -39,6 +39,7 @@ public class AllTests {
 		//$JUnit-BEGIN$
 		suite.addTest(new TestSuite(GrahamScan2DTest.class));
 		suite.addTest(new TestSuite(JarvisMarch2DTest.class));
+		suite.addTest(new TestSuite(MonotoneChain2DTest.class));
         //$JUnit-END$
 		return suite;
 	}
@@ -0,0 +1,106 @@
+/**
+ * File: 	MonotoneChain2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.polygon.Polygon2D;
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class MonotoneChain2DTest extends TestCase {
+
+	public void testConvexHull_Lozenge() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(1, 0),
+				new Point2D(2, 1),
+				new Point2D(1, 2),
+				new Point2D(0, 1)});
+		
+		Polygon2D hull = new MonotoneChain2D().convexHull(pointSet.points());
+		
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(2, hull.area(), 1e-12);
+	}
+
+	public void testConvexHull_Square() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(1, 0),
+				new Point2D(.2, .2),
+				new Point2D(.5, 0),
+				new Point2D(.7, .7),
+				new Point2D(.2, .7),
+				new Point2D(1, .5),
+				new Point2D(.7, .2),
+				new Point2D(.5, .5),
+				new Point2D(1, 1),
+				new Point2D(1, 1),
+				new Point2D(0, 1)});
+		
+		Polygon2D hull = new MonotoneChain2D().convexHull(pointSet.points());
+		
+		// points on edges are removed, and the result is counter-clockwise
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(1, hull.area(), 1e-12);
+		assertEquals(new Point2D(0, 0), hull.vertex(0));
+	}
+
+	public void testConvexHull_Degenerate() {
+		MonotoneChain2D algo = new MonotoneChain2D();
+		assertEquals(0, algo.convexHull(new double[0], new double[0])
+				.vertexNumber());
+		assertEquals(1, algo.convexHull(new double[] { 2, 2, 2 },
+				new double[] { 3, 3, 3 }).vertexNumber());
+
+		// colinear points
+		Polygon2D hull = algo.convexHull(new double[] { 3, 1, 2, 0 },
+				new double[] { 3, 1, 2, 0 });
+		assertEquals(2, hull.vertexNumber());
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(5);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(1000);
+		for (int i = 0; i < 1000; i++)
+			points.add(new Point2D(random.nextGaussian(), random.nextGaussian()));
+		
+		Polygon2D hull = new MonotoneChain2D().convexHull(points);
+		Polygon2D hull2 = new JarvisMarch2D().convexHull(points);
+		assertEquals(hull2.vertexNumber(), hull.vertexNumber());
+		assertEquals(hull2.area(), hull.area(), 1e-12);
+		for (Point2D point : points)
+			assertTrue(hull.distance(point) < 1e-12);
+	}
+
+	public void testConvexHull_Parallel() {
+		Random random = new Random(10);
+		int n = 300000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double r = Math.sqrt(random.nextDouble());
+			double theta = random.nextDouble() * 2 * Math.PI;
+			xs[i] = r * Math.cos(theta);
+			ys[i] = r * Math.sin(theta);
+		}
+
+		double[][] hull = new MonotoneChain2D().hullCoordinates(xs, ys);
+		double[][] hull2 = new MonotoneChain2D(true).hullCoordinates(xs, ys);
+		assertTrue(Arrays.equals(hull[0], hull2[0]));
+		assertTrue(Arrays.equals(hull[1], hull2[1]));
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * File: 	Predicates2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.predicates;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * @author dlegland
+ *
+ */
+public class Predicates2DTest extends TestCase {
+
+	public void testOrient2d() {
+		assertTrue(Predicates2D.orient2d(0, 0, 10, 0, 0, 10) > 0);
+		assertTrue(Predicates2D.orient2d(0, 0, 0, 10, 10, 0) < 0);
+		assertEquals(0, Predicates2D.orient2d(0, 0, 10, 10, 20, 20), 0);
+		assertEquals(200, Predicates2D.orient2d(0, 0, 20, 0, 0, 10), 0);
+
+		assertEquals(1, Predicates2D.orientation(0, 0, 10, 0, 0, 10));
+		assertEquals(-1, Predicates2D.orientation(0, 0, 0, 10, 10, 0));
+		assertEquals(0, Predicates2D.orientation(0, 0, 10, 10, 20, 20));
+	}
+
+	/**
+	 * Points close to the line y = x, separated by a few ulps, for which
+	 * the naive determinant returns inconsistent signs.
+	 */
+	public void testOrient2d_NearlyColinear() {
+		double ulp = Math.ulp(0.5);
+		for (int i = 0; i < 64; i++) {
+			for (int j = 0; j < 64; j++) {
+				double x = 0.5 + i * ulp;
+				double y = 0.5 + j * ulp;
+				int expected = Integer.signum(j - i);
+				assertEquals(expected,
+						Predicates2D.orientation(x, y, 12, 12, 24, 24));
+				assertEquals(expected,
+						Predicates2D.orientation(12, 12, 24, 24, x, y));
+				assertEquals(-expected,
+						Predicates2D.orientation(24, 24, 12, 12, x, y));
+			}
+		}
+	}
+
+	public void testOrient2d_Random() {
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			double ax = random.nextDouble(), ay = random.nextDouble();
+			double bx = random.nextDouble(), by = random.nextDouble();
+			double cx = random.nextDouble(), cy = random.nextDouble();
+			double naive = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+			double det = Predicates2D.orient2d(ax, ay, bx, by, cx, cy);
+			assertEquals(naive, det, 1e-12);
+		}
+	}
+
+	public void testIncircle() {
+		// unit square is cocircular
+		assertEquals(0, Predicates2D.incircle(0, 0, 1, 0, 1, 1, 0, 1), 0);
+
+		// center of the circle
+		assertTrue(Predicates2D.incircle(0, 0, 1, 0, 1, 1, .5, .5) > 0);
+		assertTrue(Predicates2D.incircle(0, 0, 1, 0, 1, 1, 2, 2) < 0);
+
+		// clockwise triangle reverts the sign
+		assertTrue(Predicates2D.incircle(1, 1, 1, 0, 0, 0, .5, .5) < 0);
+	}
+
+	public void testIncircle_NearlyCocircular() {
+		// points of the unit circle, and fourth point close to (0,-1)
+		assertEquals(0, Predicates2D.incircle(1, 0, 0, 1, -1, 0, 0, -1), 0);
+		assertTrue(Predicates2D.incircle(1, 0, 0, 1, -1, 0, 0,
+				Math.nextUp(-1.0)) > 0);
+		assertTrue(Predicates2D.incircle(1, 0, 0, 1, -1, 0, 0,
+				Math.nextAfter(-1.0, Double.NEGATIVE_INFINITY)) < 0);
+
+		// cocircular points with large coordinates
+		double d = 1 << 26;
+		assertEquals(0, Predicates2D.incircle(d + 3, d + 4, d - 4, d + 3,
+				d - 5, d, d + 5, d), 0);
+		assertEquals(0, Predicates2D.incircle(d + 3, d + 4, d - 4, d + 3,
+				d - 5, d, d + 4, d - 3), 0);
+		assertTrue(Predicates2D.incircle(d + 3, d + 4, d - 4, d + 3,
+				d - 5, d, d + 4, d - 2.9999999) > 0);
+	}
+
+	public void testIncircle_Random() {
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			double ax = random.nextDouble(), ay = random.nextDouble();
+			double bx = random.nextDouble(), by = random.nextDouble();
+			double cx = random.nextDouble(), cy = random.nextDouble();
+			double dx = random.nextDouble(), dy = random.nextDouble();
+			double adx = ax - dx, ady = ay - dy;
+			double bdx = bx - dx, bdy = by - dy;
+			double cdx = cx - dx, cdy = cy - dy;
+			double naive = (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy)
+					+ (bdx * bdx + bdy * bdy) * (cdx * ady - adx * cdy)
+					+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
+			double det = Predicates2D.incircle(ax, ay, bx, by, cx, cy, dx, dy);
+			assertEquals(naive, det, 1e-12);
+		}
+	}
+}
@@ -28,6 +28,7 @@ package math.geom2d.spline;
 
 import math.geom2d.Point2D;
 import math.geom2d.Vector2D;
+import math.geom2d.curve.Curves2D;
 import math.geom2d.polygon.Polyline2D;
 import junit.framework.TestCase;
 
@@ -165,4 +166,49 @@ public class CubicBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p4), 0, 1e-10);
 	}
 
+
+	public void testAsPolyline_Deviation() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(100, 0), 
+				new Point2D(100, 0), new Point2D(100, 100));
+		double tol = .01;
+		Polyline2D poly = bezier.asPolyline(tol);
+		
+		assertTrue(poly.firstPoint().almostEquals(bezier.firstPoint(), 1e-12));
+		assertTrue(poly.lastPoint().almostEquals(bezier.lastPoint(), 1e-12));
+		for (int i = 0; i <= 1000; i++)
+			assertTrue(poly.distance(bezier.point(i / 1000.)) <= tol);
+		
+		// regular sampling with the same number of vertices is less precise
+		Polyline2D poly2 = bezier.asPolyline(poly.vertexNumber() - 1);
+		double maxDist = 0;
+		for (int i = 0; i <= 1000; i++)
+			maxDist = Math.max(maxDist, poly2.distance(bezier.point(i / 1000.)));
+		assertTrue(maxDist > tol);
+	}
+	
+
+	public void testAsPolyline_InvalidDeviation() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(100, 0), 
+				new Point2D(100, 0), new Point2D(100, 100));
+		double[] values = { 0, -1, Double.NaN };
+		for (double tol : values) {
+			try {
+				bezier.asPolyline(tol);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException ex) {
+			}
+		}
+	}
+
+	public void testAsPolyline_TinyDeviation() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(100, 0), 
+				new Point2D(100, 0), new Point2D(100, 100));
+		Polyline2D poly = bezier.asPolyline(1e-300);
+		// pending pieces of the subdivision still add their last point
+		assertTrue(poly.vertexNumber() < Curves2D.MAX_FLATTEN_VERTICES + 1000);
+		assertTrue(poly.lastPoint().almostEquals(bezier.lastPoint(), 1e-12));
+	}
 }
@@ -10,7 +10,11 @@ import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.curve.ContinuousCurve2D;
 import math.geom2d.curve.Curve2D;
+import math.geom2d.curve.CurveArray2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polyline2D;
 import junit.framework.TestCase;
 
 /**
@@ -168,4 +172,24 @@ public class GeneralPath2DTest extends TestCase {
 		
 		return path;
 	}
+
+	public void testAsPolyline() {
+		GeneralPath2D path = createDefaultPath();
+		path.moveTo(new Point2D(500, 200));
+		path.quadTo(new Point2D(600, 300), new Point2D(700, 200));
+		
+		double tol = .1;
+		CurveArray2D<LinearCurve2D> polys = path.asPolyline(tol);
+		assertEquals(2, polys.size());
+		assertTrue(polys.firstCurve() instanceof LinearRing2D);
+		assertTrue(polys.lastCurve() instanceof Polyline2D);
+		
+		for (ContinuousCurve2D curve : path.continuousCurves()) {
+			for (int i = 0; i <= 200; i++) {
+				double t = curve.t0() + (curve.t1() - curve.t0()) * i / 200;
+				assertTrue(polys.distance(curve.point(t)) <= tol + 1e-12);
+			}
+		}
+	}
+
 }
@@ -115,4 +115,39 @@ public class QuadBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p3), 0, 1e-10);
 	}
 
+
+	public void testAsPolyline_Deviation() {
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				new Point2D(0, 0), new Point2D(1000, 100), new Point2D(0, 10));
+		double tol = .01;
+		Polyline2D poly = bezier.asPolyline(tol);
+		
+		assertTrue(poly.firstPoint().almostEquals(bezier.firstPoint(), 1e-12));
+		assertTrue(poly.lastPoint().almostEquals(bezier.lastPoint(), 1e-12));
+		for (int i = 0; i <= 1000; i++)
+			assertTrue(poly.distance(bezier.point(i / 1000.)) <= tol);
+		
+		// regular sampling with the same number of vertices is less precise
+		Polyline2D poly2 = bezier.asPolyline(poly.vertexNumber() - 1);
+		double maxDist = 0;
+		for (int i = 0; i <= 1000; i++)
+			maxDist = Math.max(maxDist, poly2.distance(bezier.point(i / 1000.)));
+		assertTrue(maxDist > tol);
+	}
+
+	/**
+	 * A curve with a sharp turn between the points used for checking the
+	 * deviation.
+	 */
+	public void testAsPolyline_DeviationSharpTurn() {
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				new Point2D(6.2216, 0.7560), new Point2D(0.1977, 5.6261),
+				new Point2D(6.9877, 0.2215));
+		double tol = .01;
+		Polyline2D poly = bezier.asPolyline(tol);
+
+		for (int i = 0; i <= 10000; i++)
+			assertTrue(poly.distance(bezier.point(i / 10000.)) <= tol);
+	}
+
 }
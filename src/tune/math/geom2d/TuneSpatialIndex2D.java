@@ -0,0 +1,118 @@
+/* file : TuneSpatialIndex2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d;
+
+import java.util.ArrayList;
+
+import math.geom2d.line.LineSegment2D;
+
+/**
+ * Measures the time for building a spatial index over a layer of line
+ * segments, and compares the time of distance and window queries on an
+ * indexed and on a non indexed shape set. The number of shapes can be given
+ * as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneSpatialIndex2D {
+
+	private final static int nIter = 5;
+	private final static int nQueries = 10000;
+
+	public final static void main(String[] args){
+		int nShapes = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		System.out.println("Tune spatial index, " + nShapes + " segments, "
+				+ nQueries + " queries");
+
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>(nShapes);
+		for (int i = 0; i < nShapes; i++) {
+			double x = Math.random() * 10000;
+			double y = Math.random() * 10000;
+			shapes.add(new LineSegment2D(x, y, x + Math.random() * 10 - 5,
+					y + Math.random() * 10 - 5));
+		}
+		ShapeArray2D<Shape2D> set = new ShapeArray2D<Shape2D>(shapes);
+
+		double[] xs = new double[nQueries];
+		double[] ys = new double[nQueries];
+		for (int i = 0; i < nQueries; i++) {
+			xs[i] = Math.random() * 10000;
+			ys[i] = Math.random() * 10000;
+		}
+
+		// reference time of a linear scan, for a few queries
+		long t0 = System.currentTimeMillis();
+		for (int k = 0; k < 10; k++)
+			set.distance(xs[k], ys[k]);
+		long t1 = System.currentTimeMillis();
+		System.out.println("Linear scan: " + ((t1 - t0) / 10.) + "ms per query");
+
+		double totalBuild = 0;
+		double totalDistance = 0;
+		double totalWindow = 0;
+		double totalInsert = 0;
+
+		for (int i = 0; i < nIter; i++) {
+			t0 = System.currentTimeMillis();
+			set.setIndexed(false);
+			set.setIndexed(true);
+			t1 = System.currentTimeMillis();
+
+			double sum = 0;
+			for (int k = 0; k < nQueries; k++)
+				sum += set.distance(xs[k], ys[k]);
+			long t2 = System.currentTimeMillis();
+
+			int count = 0;
+			SpatialIndex2D<Shape2D> index = set.spatialIndex();
+			for (int k = 0; k < nQueries; k++)
+				count += index.query(new Box2D(xs[k], xs[k] + 50, ys[k],
+						ys[k] + 50)).size();
+			long t3 = System.currentTimeMillis();
+
+			// insert new shapes, including automatic rebuilds
+			for (int k = 0; k < nQueries; k++)
+				index.insert(new LineSegment2D(xs[k], ys[k], ys[k], xs[k]));
+			long t4 = System.currentTimeMillis();
+
+			totalBuild += t1 - t0;
+			totalDistance += t2 - t1;
+			totalWindow += t3 - t2;
+			totalInsert += t4 - t3;
+
+			System.out.println("Build: " + (t1 - t0) + "ms, distance: "
+					+ (t2 - t1) + "ms, window: " + (t3 - t2) + "ms, insert: "
+					+ (t4 - t3) + "ms (" + sum + ", " + count + ")");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time build: " + (totalBuild / nIter) + "ms");
+		System.out.println("Average time distance: " + (totalDistance / nIter) + "ms");
+		System.out.println("Average time window: " + (totalWindow / nIter) + "ms");
+		System.out.println("Average time insert: " + (totalInsert / nIter) + "ms");
+	}
+}
@@ -0,0 +1,77 @@
+/* file : TuneEllipse2DDistance.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.conic;
+
+/**
+ * Compares the computation time of the distance from points to an ellipse,
+ * using the analytic projection and using a polyline approximation of the
+ * ellipse. The number of points can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneEllipse2DDistance {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args){
+		int nPoints = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		System.out.println("Tune distance to ellipse, " + nPoints + " points");
+
+		Ellipse2D ellipse = new Ellipse2D(50, 50, 40, 20, Math.PI / 5);
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		for (int i = 0; i < nPoints; i++) {
+			xs[i] = Math.random() * 100;
+			ys[i] = Math.random() * 100;
+		}
+
+        double totalPolyline = 0;
+        double totalAnalytic = 0;
+
+		for (int i = 0; i < nIter; i++) {
+		    long t0 = System.currentTimeMillis();
+		    double err = 0;
+		    for (int k = 0; k < nPoints; k++)
+		    	err -= ellipse.asPolyline(180).distance(xs[k], ys[k]);
+            long t1 = System.currentTimeMillis();
+		    for (int k = 0; k < nPoints; k++)
+		    	err += ellipse.distance(xs[k], ys[k]);
+            long t2 = System.currentTimeMillis();
+
+		    totalPolyline += t1 - t0;
+		    totalAnalytic += t2 - t1;
+
+		    System.out.println("Polyline: " + (t1 - t0) + "ms, analytic: "
+		    		+ (t2 - t1) + "ms (mean difference " + (err / nPoints) + ")");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time polyline: " + (totalPolyline / nIter) + "ms");
+		System.out.println("Average time analytic: " + (totalAnalytic / nIter) + "ms");
+	}
+}
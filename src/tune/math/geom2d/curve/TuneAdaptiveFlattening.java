@@ -0,0 +1,100 @@
+/* file : TuneAdaptiveFlattening.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.curve;
+
+import math.geom2d.Point2D;
+import math.geom2d.conic.CircleArc2D;
+import math.geom2d.conic.Ellipse2D;
+import math.geom2d.conic.EllipseArc2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.spline.CubicBezierCurve2D;
+import math.geom2d.spline.QuadBezierCurve2D;
+
+/**
+ * Compares the number of vertices of the polylines obtained by adaptive
+ * flattening of curves, with the number of vertices required by regular
+ * sampling for the same deviation. Also measures the time needed for the
+ * adaptive flattening. The deviation can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneAdaptiveFlattening {
+
+	private final static int nIter = 5;
+
+	private final static int nRepeat = 2000;
+
+	public final static void main(String[] args){
+		double tol = args.length > 0 ? Double.parseDouble(args[0]) : .01;
+		System.out.println("Tune adaptive flattening, deviation " + tol);
+
+		ContinuousCurve2D[] curves = new ContinuousCurve2D[] {
+				new QuadBezierCurve2D(new Point2D(0, 0), 
+						new Point2D(1000, 100), new Point2D(0, 10)),
+				new CubicBezierCurve2D(new Point2D(0, 0), 
+						new Point2D(200, 50), new Point2D(-100, 50), 
+						new Point2D(100, 0)),
+				new CircleArc2D(new Point2D(10, 20), 100, Math.PI / 3, Math.PI),
+				new Ellipse2D(new Point2D(50, 50), 200, 20, Math.PI / 6),
+				new EllipseArc2D(new Ellipse2D(new Point2D(50, 50), 200, 20, 
+						Math.PI / 6), -Math.PI / 3, Math.PI) };
+
+		for (ContinuousCurve2D curve : curves) {
+			String name = curve.getClass().getSimpleName();
+			LinearCurve2D poly = curve.asPolyline(tol);
+
+			// smallest number of regular edges with the same deviation
+			int n = 2;
+			while (maxDistance(curve, curve.asPolyline(n)) > tol)
+				n = n < 50 ? n + 1 : n + n / 20;
+
+			double total = 0;
+			for (int i = 0; i < nIter; i++) {
+				long t0 = System.currentTimeMillis();
+				for (int k = 0; k < nRepeat; k++)
+					curve.asPolyline(tol);
+				total += System.currentTimeMillis() - t0;
+			}
+
+			System.out.println(name + ": " + poly.vertexNumber()
+					+ " adaptive vertices (deviation " + maxDistance(curve, poly)
+					+ "), " + n + " regular edges");
+			System.out.println("Average time " + name + ": " + (total / nIter)
+					+ "ms");
+		}
+	}
+
+	private static double maxDistance(ContinuousCurve2D curve, 
+			LinearCurve2D poly) {
+		double t0 = curve.t0();
+		double t1 = curve.t1();
+		double dist = 0;
+		for (int i = 0; i <= 2000; i++)
+			dist = Math.max(dist, poly.distance(curve.point(t0 + (t1 - t0) * i / 2000)));
+		return dist;
+	}
+}
@@ -0,0 +1,113 @@
+/* file : TuneWKBReader.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import math.geom2d.polygon.Polyline2D;
+
+/**
+ * Measures the time for encoding and decoding a layer of polylines in WKB
+ * format, and in WKT format. The number of polylines can be given as first
+ * argument.
+ * @author dlegland
+ *
+ */
+public class TuneWKBReader {
+
+	private final static int nIter = 5;
+	private final static int nVertices = 100;
+
+	public final static void main(String[] args) throws IOException {
+		int nShapes = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		System.out.println("Tune WKB and WKT codecs, " + nShapes
+				+ " polylines with " + nVertices + " vertices");
+
+		Polyline2D[] polylines = new Polyline2D[nShapes];
+		double[] xs = new double[nVertices];
+		double[] ys = new double[nVertices];
+		for (int i = 0; i < nShapes; i++) {
+			for (int k = 0; k < nVertices; k++) {
+				xs[k] = Math.random() * 1000;
+				ys[k] = Math.random() * 1000;
+			}
+			polylines[i] = new Polyline2D(xs, ys);
+		}
+
+		int size = nShapes * (9 + 16 * nVertices);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+		WKBWriter writer = new WKBWriter(ByteOrder.LITTLE_ENDIAN);
+		StringBuilder text = new StringBuilder();
+		WKTWriter textWriter = new WKTWriter();
+
+		double totalEncode = 0;
+		double totalDecode = 0;
+		double totalText = 0;
+
+		for (int i = 0; i < nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			buffer.clear();
+			for (Polyline2D polyline : polylines)
+				writer.write(polyline, buffer);
+			buffer.flip();
+			long t1 = System.currentTimeMillis();
+
+			WKBReader reader = new WKBReader(buffer);
+			int count = 0;
+			while (reader.hasNext())
+				count += ((Polyline2D) reader.read()).vertexNumber();
+			long t2 = System.currentTimeMillis();
+
+			text.setLength(0);
+			for (int k = 0; k < nShapes / 10; k++) {
+				textWriter.write(polylines[k], text);
+				text.append('\n');
+			}
+			WKTReader textReader = new WKTReader(
+					new java.io.StringReader(text.toString()));
+			int count2 = 0;
+			while (textReader.hasNext())
+				count2 += ((Polyline2D) textReader.read()).vertexNumber();
+			long t3 = System.currentTimeMillis();
+
+			totalEncode += t1 - t0;
+			totalDecode += t2 - t1;
+			totalText += t3 - t2;
+
+			System.out.println("WKB encode: " + (t1 - t0) + "ms, decode: "
+					+ (t2 - t1) + "ms, WKT round trip of 10%: " + (t3 - t2)
+					+ "ms (" + count + ", " + count2 + " vertices)");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time WKB encode: " + (totalEncode / nIter) + "ms");
+		System.out.println("Average time WKB decode: " + (totalDecode / nIter) + "ms");
+		System.out.println("Average time WKT round trip: " + (totalText / nIter) + "ms");
+	}
+}
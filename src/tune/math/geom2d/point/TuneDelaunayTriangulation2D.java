@@ -0,0 +1,79 @@
+/* file : TuneDelaunayTriangulation2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.point;
+
+import math.geom2d.Box2D;
+
+/**
+ * Measures the computation time of the Delaunay triangulation and of the
+ * Voronoi cells of uniformly distributed points. The number of points can
+ * be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneDelaunayTriangulation2D {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args){
+		int nPoints = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		System.out.println("Tune Delaunay triangulation, " + nPoints + " points");
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		for (int i = 0; i < nPoints; i++) {
+			xs[i] = Math.random() * 1000;
+			ys[i] = Math.random() * 1000;
+		}
+		Box2D box = new Box2D(0, 1000, 0, 1000);
+
+		double totalDelaunay = 0;
+		double totalVoronoi = 0;
+
+		for (int i = 0; i < nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			DelaunayTriangulation2D delaunay = new DelaunayTriangulation2D(xs, ys);
+			long t1 = System.currentTimeMillis();
+
+			VoronoiDiagram2D voronoi = delaunay.voronoi(box);
+			double area = 0;
+			for (int k = 0; k < nPoints; k++)
+				area += voronoi.cell(k).area();
+			long t2 = System.currentTimeMillis();
+
+			totalDelaunay += t1 - t0;
+			totalVoronoi += t2 - t1;
+
+			System.out.println("Delaunay: " + (t1 - t0) + "ms, "
+					+ delaunay.triangleNumber() + " triangles, Voronoi: "
+					+ (t2 - t1) + "ms, area: " + area);
+		}
+
+		System.out.println("Average time for Delaunay: " + totalDelaunay / nIter + "ms");
+		System.out.println("Average time for Voronoi: " + totalVoronoi / nIter + "ms");
+	}
+}
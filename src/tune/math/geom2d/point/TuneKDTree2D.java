@@ -70,5 +70,35 @@ public class TuneKDTree2D {
        
 		System.out.println("---");
 		System.out.println("Average time: " + (total/nIter) + "ms");
+
+		tunePacked(args.length > 0 ? Integer.parseInt(args[0]) : 1000000);
+	}
+
+	/**
+	 * Computes construction time of the packed tree, for a larger number of
+	 * points.
+	 */
+	private final static void tunePacked(int nPoints) {
+		System.out.println("Tune Packed KD Tree, " + nPoints + " points");
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		double total = 0;
+		for (int i=0; i<nIter; i++) {
+			for (int p=0; p<nPoints; p++) {
+				xs[p] = Math.random()*200+100;
+				ys[p] = Math.random()*200+100;
+			}
+
+			long t0 = System.currentTimeMillis();
+			new PackedKDTree2D(xs, ys);
+			long t1 = System.currentTimeMillis();
+
+			total += t1-t0;
+			System.out.println("Elapsed time: " + (t1-t0) + "ms");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time: " + (total/nIter) + "ms");
 	}
 }
@@ -27,6 +27,7 @@
 package math.geom2d.point;
 
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
 import math.geom2d.*;
 
@@ -74,5 +75,101 @@ public class TuneKDTree2DNearestNeigbor {
        
 		System.out.println("---");
 		System.out.println("Average time: " + (total/nIter) + "ms");
+
+		tunePacked(args.length > 0 ? Integer.parseInt(args[0]) : 1000000);
+		tuneBatch(args.length > 0 ? Integer.parseInt(args[0]) : 1000000);
+	}
+
+	/**
+	 * Compares the time for a batch of nearest neighbor queries computed
+	 * sequentially, and in parallel with increasing numbers of threads.
+	 */
+	private final static void tuneBatch(int nPoints) {
+		System.out.println("Tune batch queries, " + nPoints + " points");
+
+		int nQueries = 1000000;
+		ArrayList<Point2D> points = new ArrayList<Point2D>(nPoints);
+		for (int p=0; p<nPoints; p++)
+			points.add(new Point2D(
+					Math.random()*200+100,
+					Math.random()*200+100));
+		double[] coords = new double[2 * nQueries];
+		for (int q=0; q<2*nQueries; q++)
+			coords[q] = Math.random()*200+100;
+
+		KDTree2D tree = new KDTree2D(points);
+		int[] indices = new int[nQueries];
+		double[] distances = new double[nQueries];
+
+		int nCores = Runtime.getRuntime().availableProcessors();
+		for (int nThreads=1; nThreads<=nCores; nThreads*=2) {
+			ForkJoinPool pool = new ForkJoinPool(nThreads);
+			double total = 0;
+			for (int i=0; i<nIter; i++) {
+				long t0 = System.currentTimeMillis();
+				tree.nearestNeighbors(coords, indices, distances, pool);
+				long t1 = System.currentTimeMillis();
+				total += t1-t0;
+			}
+			pool.shutdown();
+			System.out.println("Average time for " + nQueries + " queries, "
+					+ nThreads + " threads: " + (total/nIter) + "ms");
+		}
+	}
+
+	/**
+	 * Computes the time for a batch of nearest neighbor queries on the packed
+	 * tree, and on the node-based tree built from the same points.
+	 */
+	private final static void tunePacked(int nPoints) {
+		System.out.println("Tune Packed KD Tree, " + nPoints + " points");
+
+		int nQueries = 100000;
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		ArrayList<Point2D> points = new ArrayList<Point2D>(nPoints);
+		for (int p=0; p<nPoints; p++) {
+			xs[p] = Math.random()*200+100;
+			ys[p] = Math.random()*200+100;
+			points.add(new Point2D(xs[p], ys[p]));
+		}
+		double[] qx = new double[nQueries];
+		double[] qy = new double[nQueries];
+		for (int q=0; q<nQueries; q++) {
+			qx[q] = Math.random()*200+100;
+			qy[q] = Math.random()*200+100;
+		}
+
+		PackedKDTree2D packed = new PackedKDTree2D(xs, ys);
+		KDTree2D tree = new KDTree2D(points);
+		int[] inds = new int[10];
+		double[] dists = new double[10];
+
+		double totalPacked = 0, totalKNearest = 0, totalTree = 0;
+		for (int i=0; i<nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			for (int q=0; q<nQueries; q++)
+				packed.nearest(qx[q], qy[q]);
+			long t1 = System.currentTimeMillis();
+			for (int q=0; q<nQueries; q++)
+				packed.kNearest(qx[q], qy[q], 10, inds, dists);
+			long t2 = System.currentTimeMillis();
+			for (int q=0; q<nQueries; q++)
+				tree.nearestNeighbor(new Point2D(qx[q], qy[q]));
+			long t3 = System.currentTimeMillis();
+
+			totalPacked += t1-t0;
+			totalKNearest += t2-t1;
+			totalTree += t3-t2;
+			System.out.println("Elapsed time: packed " + (t1-t0)
+					+ "ms, packed 10-nearest " + (t2-t1)
+					+ "ms, node-based " + (t3-t2) + "ms");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time for " + nQueries + " queries: packed "
+				+ (totalPacked/nIter) + "ms, packed 10-nearest "
+				+ (totalKNearest/nIter) + "ms, node-based "
+				+ (totalTree/nIter) + "ms");
 	}
 }
@@ -74,5 +74,52 @@ public class TuneKDTree2DRangeSearch {
        
 		System.out.println("---");
 		System.out.println("Average time: " + (total/nIter) + "ms");
+
+		tunePacked(args.length > 0 ? Integer.parseInt(args[0]) : 1000000);
+	}
+
+	/**
+	 * Computes range search and radius search times on the packed tree, and
+	 * range search time on the node-based tree built from the same points.
+	 */
+	private final static void tunePacked(int nPoints) {
+		System.out.println("Tune Packed KD Tree, " + nPoints + " points");
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		ArrayList<Point2D> points = new ArrayList<Point2D>(nPoints);
+		for (int p=0; p<nPoints; p++) {
+			xs[p] = Math.random()*200+100;
+			ys[p] = Math.random()*200+100;
+			points.add(new Point2D(xs[p], ys[p]));
+		}
+
+		PackedKDTree2D packed = new PackedKDTree2D(xs, ys);
+		KDTree2D tree = new KDTree2D(points);
+		Box2D range = new Box2D(150, 250, 150, 250);
+		int[] result = new int[nPoints];
+
+		double totalPacked = 0, totalRadius = 0, totalTree = 0;
+		for (int i=0; i<nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			packed.rangeSearch(range, result);
+			long t1 = System.currentTimeMillis();
+			packed.withinRadius(200, 200, 50, result);
+			long t2 = System.currentTimeMillis();
+			tree.rangeSearch(range);
+			long t3 = System.currentTimeMillis();
+
+			totalPacked += t1-t0;
+			totalRadius += t2-t1;
+			totalTree += t3-t2;
+			System.out.println("Elapsed time: packed " + (t1-t0)
+					+ "ms, packed radius " + (t2-t1)
+					+ "ms, node-based " + (t3-t2) + "ms");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time: packed " + (totalPacked/nIter)
+				+ "ms, packed radius " + (totalRadius/nIter)
+				+ "ms, node-based " + (totalTree/nIter) + "ms");
 	}
 }
@@ -0,0 +1,85 @@
+/* file : TunePackedPointArray2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.point;
+
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+
+/**
+ * Compares the computation time of global operations on point sets stored
+ * as a list of points and as arrays of coordinates. The number of points
+ * can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TunePackedPointArray2D {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args){
+		int nPoints = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		System.out.println("Tune point sets, " + nPoints + " points");
+
+		PointArray2D array = new PointArray2D(nPoints);
+		PackedPointArray2D packed = new PackedPointArray2D(nPoints);
+		for (int i = 0; i < nPoints; i++) {
+			double x = Math.random() * 100;
+			double y = Math.random() * 100;
+			array.add(new Point2D(x, y));
+			packed.add(x, y);
+		}
+
+		AffineTransform2D trans = AffineTransform2D.createRotation(
+				new Point2D(50, 50), .3);
+		Box2D box = new Box2D(20, 80, 20, 80);
+
+        double totalArray = 0;
+        double totalPacked = 0;
+
+		for (int i = 0; i < nIter; i++) {
+		    long t0 = System.currentTimeMillis();
+		    Box2D box1 = array.transform(trans).clip(box).boundingBox();
+		    double dist1 = array.distance(120, 50);
+            long t1 = System.currentTimeMillis();
+		    Box2D box2 = packed.transform(trans).clip(box).boundingBox();
+		    double dist2 = packed.distance(120, 50);
+            long t2 = System.currentTimeMillis();
+
+		    totalArray += t1 - t0;
+		    totalPacked += t2 - t1;
+
+		    System.out.println("Point list: " + (t1 - t0) + "ms, packed: "
+		    		+ (t2 - t1) + "ms (" + box1.almostEquals(box2, 1e-12)
+		    		+ ", " + (dist1 == dist2) + ")");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time point list: " + (totalArray / nIter) + "ms");
+		System.out.println("Average time packed: " + (totalPacked / nIter) + "ms");
+	}
+}
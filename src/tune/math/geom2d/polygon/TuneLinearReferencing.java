@@ -0,0 +1,72 @@
+/* file : TuneLinearReferencing.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+
+package math.geom2d.polygon;
+
+/**
+ * Measures the computation time of linear referencing along a long
+ * polyline, by converting curvilinear abscissas into positions and back.
+ * The number of polyline vertices can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneLinearReferencing {
+
+	private final static int nIter = 5;
+	private final static int nQueries = 100000;
+
+	public final static void main(String[] args){
+		int nVertices = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		System.out.println("Tune linear referencing, " + nVertices
+				+ " vertices, " + nQueries + " queries");
+
+		double[] vx = new double[nVertices];
+		double[] vy = new double[nVertices];
+		for (int i = 1; i < nVertices; i++) {
+			vx[i] = vx[i - 1] + Math.random();
+			vy[i] = vy[i - 1] + Math.random() - .5;
+		}
+		Polyline2D polyline = new Polyline2D(vx, vy);
+		double length = polyline.length();
+
+		double total = 0;
+		for (int i = 0; i < nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			double sum = 0;
+			for (int k = 0; k < nQueries; k++) {
+				double pos = polyline.position(Math.random() * length);
+				sum += polyline.length(pos);
+			}
+			long t1 = System.currentTimeMillis();
+			total += t1 - t0;
+			System.out.println("Elapsed time: " + (t1 - t0) + " ms (" + sum
+					/ nQueries + ")");
+		}
+
+		System.out.println("Average time: " + total / nIter + " ms");
+	}
+}
@@ -0,0 +1,87 @@
+/* file : TunePolygons2DUnion.java
+ * 
+ * Project : javaGeom
+ *
+ * ===========================================
+ * 
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ * 
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import math.geom2d.Point2D;
+
+/**
+ * Compares the computation time of the union of a collection of polygons,
+ * using cascaded union, and merging polygons one after the other. Polygons
+ * are slightly enlarged cells of a grid, processed in random order. The
+ * number of cells along each direction can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TunePolygons2DUnion {
+	
+	private final static int nIter = 5;
+	
+	public final static void main(String[] args){
+		int nCells = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+		System.out.println("Tune Polygons2D union, " + nCells * nCells 
+				+ " polygons");
+		
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < nCells; i++) {
+			for (int j = 0; j < nCells; j++) {
+				polygons.add(Polygons2D.createCenteredRectangle(
+						new Point2D(10 * i + Math.random(), 10 * j + Math.random()),
+						12, 11));
+			}
+		}
+		
+        double totalCascaded = 0;
+        double totalFold = 0;
+        
+		for (int i = 0; i < nIter; i++) {
+			Collections.shuffle(polygons);
+			
+		    long t0 = System.currentTimeMillis();
+		    Polygon2D res1 = Polygons2D.union(polygons);
+            long t1 = System.currentTimeMillis();
+            
+            Polygon2D res2 = polygons.get(0);
+            for (int k = 1; k < polygons.size(); k++)
+            	res2 = Polygons2D.union(res2, polygons.get(k));
+            long t2 = System.currentTimeMillis();
+            
+		    totalCascaded += t1 - t0;
+		    totalFold += t2 - t1;
+		    
+		    System.out.println("Cascaded: " + (t1 - t0) + "ms, one by one: " 
+		    		+ (t2 - t1) + "ms (areas " + res1.area() + "/" 
+		    		+ res2.area() + ")");
+		}
+       
+		System.out.println("---");
+		System.out.println("Average time cascaded: " + (totalCascaded / nIter) + "ms");
+		System.out.println("Average time one by one: " + (totalFold / nIter) + "ms");
+	}
+}
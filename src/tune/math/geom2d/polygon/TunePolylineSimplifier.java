@@ -0,0 +1,74 @@
+/* file : TunePolylineSimplifier.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon;
+
+import math.geom2d.polygon.PolylineSimplifier.Method;
+
+/**
+ * Compares the computation time of polyline simplification methods, on a
+ * random walk. The number of vertices can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TunePolylineSimplifier {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args){
+		int nPoints = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		System.out.println("Tune polyline simplification, " + nPoints
+				+ " vertices");
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		for (int i = 1; i < nPoints; i++) {
+			xs[i] = xs[i - 1] + Math.random();
+			ys[i] = ys[i - 1] + Math.random() - .5;
+		}
+
+		PolylineSimplifier[] simplifiers = new PolylineSimplifier[] {
+				new PolylineSimplifier(Method.DOUGLAS_PEUCKER, 2),
+				new PolylineSimplifier(Method.DOUGLAS_PEUCKER, 2, true),
+				new PolylineSimplifier(Method.VISVALINGAM_WHYATT, 4),
+				new PolylineSimplifier(Method.VISVALINGAM_WHYATT, 4, true) };
+
+		for (PolylineSimplifier simplifier : simplifiers) {
+			String name = simplifier.method()
+					+ (simplifier.preservesTopology() ? " (topology)" : "");
+			double total = 0;
+			int n = 0;
+			for (int i = 0; i < nIter; i++) {
+				long t0 = System.currentTimeMillis();
+				n = simplifier.simplify(xs, ys, false).length;
+				long t1 = System.currentTimeMillis();
+				total += t1 - t0;
+			}
+			System.out.println("Average time " + name + ": " + (total / nIter)
+					+ "ms (" + n + " vertices)");
+		}
+	}
+}
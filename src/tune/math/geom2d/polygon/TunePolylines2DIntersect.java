@@ -0,0 +1,110 @@
+/* file : TunePolylines2DIntersect.java
+ * 
+ * Project : javaGeom
+ *
+ * ===========================================
+ * 
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ * 
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+
+/**
+ * Compares the computation time of intersections between two polylines,
+ * using the sweep-line algorithm and the naive algorithm that tests all
+ * edge couples.
+ * @author dlegland
+ *
+ */
+public class TunePolylines2DIntersect {
+	
+	private final static int nVertices = 5000;
+	
+	private final static int nIter = 10;
+	
+	public final static void main(String[] args){
+		System.out.println("Tune Polylines2D intersect");
+		
+        double totalSweep = 0;
+        double totalNaive = 0;
+        
+		for (int i = 0; i < nIter; i++) {
+			// Generate two random walks
+			Polyline2D poly1 = randomWalk(nVertices);
+			Polyline2D poly2 = randomWalk(nVertices);
+
+		    // Compute time for the sweep-line algorithm
+		    long t0 = System.currentTimeMillis();
+		    Collection<Point2D> points1 = Polylines2D.intersect(poly1, poly2);
+            long t1 = System.currentTimeMillis();
+		    
+		    // Compute time for the naive algorithm
+            Collection<Point2D> points2 = naiveIntersect(poly1, poly2);
+            long t2 = System.currentTimeMillis();
+            
+		    totalSweep += t1 - t0;
+		    totalNaive += t2 - t1;
+		    
+		    System.out.println("Sweep: " + (t1 - t0) + "ms, naive: " 
+		    		+ (t2 - t1) + "ms (" + points1.size() + "/" 
+		    		+ points2.size() + " points)");
+		}
+       
+		System.out.println("---");
+		System.out.println("Average time sweep: " + (totalSweep / nIter) + "ms");
+		System.out.println("Average time naive: " + (totalNaive / nIter) + "ms");
+	}
+	
+	private static Polyline2D randomWalk(int n) {
+		Polyline2D poly = new Polyline2D(n);
+		double x = 500, y = 500;
+		for (int i = 0; i < n; i++) {
+			poly.addVertex(new Point2D(x, y));
+			x += Math.random() * 20 - 10;
+			y += Math.random() * 20 - 10;
+		}
+		return poly;
+	}
+	
+	/**
+	 * The former implementation of Polylines2D.intersect.
+	 */
+	private static Collection<Point2D> naiveIntersect(LinearCurve2D poly1,
+			LinearCurve2D poly2) {
+        ArrayList<Point2D> points = new ArrayList<Point2D>();
+        Point2D point;
+        for (LineSegment2D edge1 : poly1.edges()) {
+            for (LineSegment2D edge2 : poly2.edges()) {
+                point = edge1.intersection(edge2);
+                if (point != null) {
+                	if (!points.contains(point))
+                		points.add(point);
+                }
+            }
+        }
+        return points;
+	}
+}
@@ -0,0 +1,94 @@
+/* file : TunePreparedPolygon2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon;
+
+/**
+ * Compares the computation time of point in polygon tests, using a simple
+ * polygon and a prepared polygon. The number of polygon vertices can be
+ * given as first argument.
+ * @author dlegland
+ *
+ */
+public class TunePreparedPolygon2D {
+
+	private final static int nIter = 5;
+	private final static int nPoints = 100000;
+
+	public final static void main(String[] args){
+		int nVertices = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		System.out.println("Tune point in polygon, " + nVertices
+				+ " vertices, " + nPoints + " points");
+
+		double[] vx = new double[nVertices];
+		double[] vy = new double[nVertices];
+		for (int i = 0; i < nVertices; i++) {
+			double angle = 2 * Math.PI * i / nVertices;
+			double r = 50 + Math.random() * 50;
+			vx[i] = r * Math.cos(angle);
+			vy[i] = r * Math.sin(angle);
+		}
+		SimplePolygon2D polygon = new SimplePolygon2D(vx, vy);
+
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		for (int i = 0; i < nPoints; i++) {
+			xs[i] = Math.random() * 220 - 110;
+			ys[i] = Math.random() * 220 - 110;
+		}
+		boolean[] inside = new boolean[nPoints];
+
+        double totalSimple = 0;
+        double totalPrepared = 0;
+
+		for (int i = 0; i < nIter; i++) {
+		    long t0 = System.currentTimeMillis();
+		    int count1 = 0;
+		    for (int k = 0; k < nPoints; k++)
+		    	if (polygon.contains(xs[k], ys[k]))
+		    		count1++;
+            long t1 = System.currentTimeMillis();
+
+            PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+            prepared.contains(xs, ys, inside);
+            int count2 = 0;
+		    for (int k = 0; k < nPoints; k++)
+		    	if (inside[k])
+		    		count2++;
+            long t2 = System.currentTimeMillis();
+
+		    totalSimple += t1 - t0;
+		    totalPrepared += t2 - t1;
+
+		    System.out.println("Simple: " + (t1 - t0) + "ms, prepared: "
+		    		+ (t2 - t1) + "ms (inside " + count1 + "/" + count2 + ")");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time simple: " + (totalSimple / nIter) + "ms");
+		System.out.println("Average time prepared: " + (totalPrepared / nIter) + "ms");
+	}
+}
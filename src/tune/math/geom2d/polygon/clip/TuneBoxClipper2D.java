@@ -0,0 +1,113 @@
+/* file : TuneBoxClipper2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon.clip;
+
+import math.geom2d.Box2D;
+import math.geom2d.domain.Boundaries2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Compares the computation time of the clipping of a polygon by the tiles of
+ * a grid, using the generic boundary clipping, the box clipper for each tile,
+ * and the box clipper for the whole grid. The number of polygon vertices can
+ * be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneBoxClipper2D {
+
+	private final static int nIter = 5;
+	private final static int nTiles = 10;
+
+	public final static void main(String[] args){
+		int nVertices = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		System.out.println("Tune polygon clipping, " + nVertices
+				+ " vertices, " + nTiles + "x" + nTiles + " tiles");
+
+		double[] vx = new double[nVertices];
+		double[] vy = new double[nVertices];
+		for (int i = 0; i < nVertices; i++) {
+			double angle = 2 * Math.PI * i / nVertices;
+			double r = 50 + Math.random() * 50;
+			vx[i] = r * Math.cos(angle);
+			vy[i] = r * Math.sin(angle);
+		}
+		SimplePolygon2D polygon = new SimplePolygon2D(vx, vy);
+		Box2D box = new Box2D(-100, 100, -100, 100);
+		double size = 200. / nTiles;
+
+        double totalGeneric = 0;
+        double totalTiles = 0;
+        double totalGrid = 0;
+
+		for (int i = 0; i < nIter; i++) {
+		    long t0 = System.currentTimeMillis();
+		    int count1 = 0;
+		    int failures = 0;
+		    for (int j = 0; j < nTiles; j++)
+		    	for (int k = 0; k < nTiles; k++) {
+		    		Box2D tile = new Box2D(-100 + k * size, -100 + (k + 1) * size,
+		    				-100 + j * size, -100 + (j + 1) * size);
+		    		try {
+		    			count1 += Boundaries2D.clipBoundary(polygon.boundary(),
+		    					tile).size();
+		    		} catch (RuntimeException ex) {
+		    			// the generic algorithm may fail on some configurations
+		    			failures++;
+		    		}
+		    	}
+            long t1 = System.currentTimeMillis();
+		    int count2 = 0;
+		    for (int j = 0; j < nTiles; j++)
+		    	for (int k = 0; k < nTiles; k++) {
+		    		Box2D tile = new Box2D(-100 + k * size, -100 + (k + 1) * size,
+		    				-100 + j * size, -100 + (j + 1) * size);
+		    		count2 += new BoxClipper2D(tile).clip(polygon).contours().size();
+		    	}
+            long t2 = System.currentTimeMillis();
+		    int count3 = 0;
+		    for (Polygon2D tile : new BoxClipper2D(box).clip(polygon, nTiles, nTiles))
+		    	count3 += tile.contours().size();
+            long t3 = System.currentTimeMillis();
+
+		    totalGeneric += t1 - t0;
+		    totalTiles += t2 - t1;
+		    totalGrid += t3 - t2;
+
+		    System.out.println("Generic: " + (t1 - t0) + "ms, tiles: "
+		    		+ (t2 - t1) + "ms, grid: " + (t3 - t2) + "ms (rings "
+		    		+ count1 + "/" + count2 + "/" + count3 + ", generic failures "
+		    		+ failures + ")");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time generic: " + (totalGeneric / nIter) + "ms");
+		System.out.println("Average time tiles: " + (totalTiles / nIter) + "ms");
+		System.out.println("Average time grid: " + (totalGrid / nIter) + "ms");
+	}
+}
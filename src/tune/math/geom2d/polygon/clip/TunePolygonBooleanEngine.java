@@ -0,0 +1,108 @@
+/* file : TunePolygonBooleanEngine.java
+ * 
+ * Project : javaGeom
+ *
+ * ===========================================
+ * 
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ * 
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon.clip;
+
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import math.geom2d.polygon.clip.PolygonBooleanEngine.Operation;
+
+/**
+ * Compares the computation time of boolean operations between two random
+ * star-shaped polygons, using the GPCJ engine and the sweep engine. The
+ * number of vertices of each polygon can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TunePolygonBooleanEngine {
+	
+	private final static int nIter = 10;
+	
+	public final static void main(String[] args){
+		int nVertices = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		System.out.println("Tune polygon boolean engines, " + nVertices 
+				+ " vertices");
+		
+		PolygonBooleanEngine gpcj = new GpcjBooleanEngine();
+		PolygonBooleanEngine sweep = new SweepBooleanEngine();
+		
+		for (Operation op : Operation.values()) {
+	        double totalGpcj = 0;
+	        double totalSweep = 0;
+	        
+			for (int i = 0; i < nIter; i++) {
+				Polygon2D poly1 = randomStar(nVertices, 0, 0);
+				Polygon2D poly2 = randomStar(nVertices, 3, 2);
+
+			    long t0 = System.currentTimeMillis();
+			    Polygon2D res1 = compute(gpcj, poly1, poly2, op);
+	            long t1 = System.currentTimeMillis();
+			    Polygon2D res2 = compute(sweep, poly1, poly2, op);
+	            long t2 = System.currentTimeMillis();
+	            
+			    totalGpcj += t1 - t0;
+			    totalSweep += t2 - t1;
+			    
+			    System.out.println(op + ": GPCJ " + (t1 - t0) + "ms, sweep " 
+			    		+ (t2 - t1) + "ms (areas " + res1.area() + "/" 
+			    		+ res2.area() + ")");
+			}
+	       
+			System.out.println("---");
+			System.out.println(op + " average time GPCJ: " 
+					+ (totalGpcj / nIter) + "ms");
+			System.out.println(op + " average time sweep: " 
+					+ (totalSweep / nIter) + "ms");
+			System.out.println("---");
+		}
+	}
+	
+	private static Polygon2D compute(PolygonBooleanEngine engine, 
+			Polygon2D poly1, Polygon2D poly2, Operation op) {
+		switch (op) {
+		case UNION:
+			return engine.union(poly1, poly2);
+		case INTERSECTION:
+			return engine.intersection(poly1, poly2);
+		case DIFFERENCE:
+			return engine.difference(poly1, poly2);
+		default:
+			return engine.exclusiveOr(poly1, poly2);
+		}
+	}
+	
+	private static SimplePolygon2D randomStar(int n, double xc, double yc) {
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = 50 + Math.random() * 50;
+			xs[i] = xc + r * Math.cos(angle);
+			ys[i] = yc + r * Math.sin(angle);
+		}
+		return new SimplePolygon2D(xs, ys);
+	}
+}
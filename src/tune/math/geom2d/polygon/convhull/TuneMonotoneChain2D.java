@@ -0,0 +1,82 @@
+/* file : TuneMonotoneChain2D.java
+ *
+ * Project : javaGeom
+ *
+ * ===========================================
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ *
+ * Created on 17 oct. 2026
+ *
+ */
+
+package math.geom2d.polygon.convhull;
+
+/**
+ * Check computation of convex hull using monotone chain, on a random set of
+ * points uniformly distributed within a disc, in sequential and in parallel
+ * mode. The number of points can be given as first argument.
+ * @author dlegland
+ *
+ */
+public class TuneMonotoneChain2D {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args){
+		int nPoints = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+		System.out.println("Tune convex hull by monotone chain, " + nPoints
+				+ " points");
+
+		// Generate point coordinates
+		double[] xs = new double[nPoints];
+		double[] ys = new double[nPoints];
+		for (int i = 0; i < nPoints; i++) {
+			double r = Math.sqrt(Math.random()) * 100;
+			double theta = Math.random() * 2 * Math.PI;
+			xs[i] = 200 + r * Math.cos(theta);
+			ys[i] = 200 + r * Math.sin(theta);
+		}
+
+		MonotoneChain2D sequential = new MonotoneChain2D();
+		MonotoneChain2D parallel = new MonotoneChain2D(true);
+
+		double totalSequential = 0;
+		double totalParallel = 0;
+
+		for (int i = 0; i < nIter; i++) {
+			long t0 = System.currentTimeMillis();
+			int n1 = sequential.hullCoordinates(xs, ys)[0].length;
+			long t1 = System.currentTimeMillis();
+			int n2 = parallel.hullCoordinates(xs, ys)[0].length;
+			long t2 = System.currentTimeMillis();
+
+			totalSequential += t1 - t0;
+			totalParallel += t2 - t1;
+
+			System.out.println("Sequential: " + (t1 - t0) + "ms (" + n1
+					+ " vertices), parallel: " + (t2 - t1) + "ms (" + n2
+					+ " vertices)");
+		}
+
+		System.out.println("---");
+		System.out.println("Average time sequential: " 
+				+ (totalSequential / nIter) + "ms");
+		System.out.println("Average time parallel: " 
+				+ (totalParallel / nIter) + "ms");
+	}
+}